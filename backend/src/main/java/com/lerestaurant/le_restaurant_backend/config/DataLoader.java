@@ -1,9 +1,10 @@
 package com.lerestaurant.le_restaurant_backend.config;
 
-import com.lerestaurant.le_restaurant_backend.entity.MenuItem;
+import com.lerestaurant.le_restaurant_backend.dto.MenuItemCreateRequestDto;
 import com.lerestaurant.le_restaurant_backend.entity.User;
 import com.lerestaurant.le_restaurant_backend.repository.MenuItemRepository;
 import com.lerestaurant.le_restaurant_backend.repository.UserRepository;
+import com.lerestaurant.le_restaurant_backend.service.MenuBulkService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -19,14 +20,17 @@ public class DataLoader implements CommandLineRunner {
     private final MenuItemRepository menuItemRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MenuBulkService menuBulkService;
 
     @Autowired
     public DataLoader(MenuItemRepository menuItemRepository, 
                      UserRepository userRepository,
-                     PasswordEncoder passwordEncoder) {
+                     PasswordEncoder passwordEncoder,
+                     MenuBulkService menuBulkService) {
         this.menuItemRepository = menuItemRepository;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.menuBulkService = menuBulkService;
     }
 
     @Override
@@ -98,30 +102,39 @@ public class DataLoader implements CommandLineRunner {
     }
 
     private void loadSampleData() {
-        MenuItem[] menuItems = {
-                new MenuItem("Margherita Pizza", "Classic tomato sauce with mozzarella cheese",
+        MenuItemCreateRequestDto[] menuItems = {
+                sampleItem("Margherita Pizza", "Classic tomato sauce with mozzarella cheese",
                         new BigDecimal("18.99"), "Pizza"),
-                new MenuItem("Pepperoni Pizza", "Spicy pepperoni with melted cheese",
+                sampleItem("Pepperoni Pizza", "Spicy pepperoni with melted cheese",
                         new BigDecimal("20.99"), "Pizza"),
-                new MenuItem("Caesar Salad", "Fresh romaine lettuce with Caesar dressing",
+                sampleItem("Caesar Salad", "Fresh romaine lettuce with Caesar dressing",
                         new BigDecimal("12.99"), "Salad"),
-                new MenuItem("Greek Salad", "Mixed greens with feta cheese and olives",
+                sampleItem("Greek Salad", "Mixed greens with feta cheese and olives",
                         new BigDecimal("13.99"), "Salad"),
-                new MenuItem("Spaghetti Carbonara", "Pasta with eggs, cheese, and pancetta",
+                sampleItem("Spaghetti Carbonara", "Pasta with eggs, cheese, and pancetta",
                         new BigDecimal("16.99"), "Pasta"),
-                new MenuItem("Fettuccine Alfredo", "Creamy Alfredo sauce with parmesan",
+                sampleItem("Fettuccine Alfredo", "Creamy Alfredo sauce with parmesan",
                         new BigDecimal("17.99"), "Pasta"),
-                new MenuItem("Chicken Wings", "Crispy wings with your choice of sauce",
+                sampleItem("Chicken Wings", "Crispy wings with your choice of sauce",
                         new BigDecimal("14.99"), "Appetizer"),
-                new MenuItem("Garlic Bread", "Toasted bread with garlic butter",
+                sampleItem("Garlic Bread", "Toasted bread with garlic butter",
                         new BigDecimal("6.99"), "Appetizer"),
-                new MenuItem("Tiramisu", "Classic Italian dessert with coffee flavor",
+                sampleItem("Tiramisu", "Classic Italian dessert with coffee flavor",
                         new BigDecimal("8.99"), "Dessert"),
-                new MenuItem("Chocolate Cake", "Rich chocolate cake with ganache",
+                sampleItem("Chocolate Cake", "Rich chocolate cake with ganache",
                         new BigDecimal("7.99"), "Dessert")
         };
 
-        menuItemRepository.saveAll(Arrays.asList(menuItems));
+        menuBulkService.importMenuItems(Arrays.asList(menuItems));
         System.out.println("Sample menu data loaded successfully! 🍕");
     }
+
+    private MenuItemCreateRequestDto sampleItem(String name, String description, BigDecimal price, String category) {
+        MenuItemCreateRequestDto item = new MenuItemCreateRequestDto();
+        item.setName(name);
+        item.setDescription(description);
+        item.setPrice(price);
+        item.setCategory(category);
+        return item;
+    }
 }
@@ -0,0 +1,12 @@
+package com.lerestaurant.le_restaurant_backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled housekeeping jobs, such as purging expired idempotency keys
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
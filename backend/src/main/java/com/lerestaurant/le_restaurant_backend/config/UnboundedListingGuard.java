@@ -0,0 +1,69 @@
+package com.lerestaurant.le_restaurant_backend.config;
+
+import com.lerestaurant.le_restaurant_backend.dto.CursorPageDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Admin switch for unbounded "get all" listings
+ *
+ * List endpoints are cursor-paginated. The former unbounded responses
+ * ({@code ?all=true}) are only served when an operator sets
+ * {@code app.listing.allow-unbounded=true}; otherwise they are refused with 403.
+ *
+ * @author Le Restaurant Development Team
+ */
+@Component
+public class UnboundedListingGuard {
+
+    /** Response header carrying the next page's cursor on array list routes */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final boolean allowUnbounded;
+
+    public UnboundedListingGuard(@Value("${app.listing.allow-unbounded:false}") boolean allowUnbounded) {
+        this.allowUnbounded = allowUnbounded;
+    }
+
+    public boolean isAllowed() {
+        return allowUnbounded;
+    }
+
+    /**
+     * @throws AccessDeniedException if unbounded listings are disabled
+     */
+    public void requireAllowed() {
+        if (!allowUnbounded) {
+            throw new AccessDeniedException(
+                "Unbounded listing is disabled; use cursor and limit, or enable app.listing.allow-unbounded");
+        }
+    }
+
+    /**
+     * Answer a plain list route with a JSON array. By default the array is one
+     * cursor page and the next cursor, if any, is sent in {@link #NEXT_CURSOR_HEADER};
+     * with all=true it is the full list, when enabled.
+     * @param all Whether the caller asked for the full list
+     * @param full Full list query, only run when all=true is allowed
+     * @param page Page query
+     * @return Array response
+     * @throws AccessDeniedException if all=true and unbounded listings are disabled
+     */
+    public <T> ResponseEntity<List<T>> list(boolean all, Supplier<List<T>> full, Supplier<CursorPageDto<T>> page) {
+        if (all) {
+            requireAllowed();
+            return ResponseEntity.ok(full.get());
+        }
+        CursorPageDto<T> result = page.get();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (result.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, result.getNextCursor());
+        }
+        return response.body(result.getItems());
+    }
+}
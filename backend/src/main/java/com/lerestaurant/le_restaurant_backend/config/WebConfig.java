@@ -33,6 +33,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins(origins)
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(UnboundedListingGuard.NEXT_CURSOR_HEADER)
                 .allowCredentials(true)
                 .maxAge(3600);
         
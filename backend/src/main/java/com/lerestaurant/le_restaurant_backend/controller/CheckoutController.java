@@ -0,0 +1,46 @@
+package com.lerestaurant.le_restaurant_backend.controller;
+
+import com.lerestaurant.le_restaurant_backend.dto.CheckoutRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.CheckoutResponseDto;
+import com.lerestaurant.le_restaurant_backend.service.CheckoutService;
+import com.lerestaurant.le_restaurant_backend.service.IdempotencyService;
+
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Checkout REST Controller (F105)
+ *
+ * Order, payment and delivery in one request and one transaction.
+ * Base URL: /api/checkout
+ */
+@RestController
+@RequestMapping("/api/checkout")
+// CORS is handled globally in WebConfig
+public class CheckoutController {
+
+    private final CheckoutService checkoutService;
+    private final IdempotencyService idempotencyService;
+
+    @Autowired
+    public CheckoutController(CheckoutService checkoutService, IdempotencyService idempotencyService) {
+        this.checkoutService = checkoutService;
+        this.idempotencyService = idempotencyService;
+    }
+
+    /** Check out; with an Idempotency-Key header, retries replay the first response instead of charging again */
+    @PostMapping
+    public ResponseEntity<?> checkout(@Valid @RequestBody CheckoutRequestDto requestDto,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        // Exception handling is done by GlobalExceptionHandler
+        if (idempotencyKey != null) {
+            return idempotencyService.execute("checkout", idempotencyKey, requestDto, HttpStatus.CREATED,
+                () -> checkoutService.checkout(requestDto));
+        }
+        CheckoutResponseDto response = checkoutService.checkout(requestDto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
@@ -1,5 +1,6 @@
 package com.lerestaurant.le_restaurant_backend.controller;
 
+import com.lerestaurant.le_restaurant_backend.config.UnboundedListingGuard;
 import com.lerestaurant.le_restaurant_backend.dto.DeliveryCreateRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.DeliveryDto;
 import com.lerestaurant.le_restaurant_backend.dto.DeliveryUpdateRequestDto;
@@ -35,10 +36,12 @@ public class DeliveryController {
     private static final Logger logger = LoggerFactory.getLogger(DeliveryController.class);
     
     private final DeliveryService deliveryService;
+    private final UnboundedListingGuard unboundedListingGuard;
     
     @Autowired
-    public DeliveryController(DeliveryService deliveryService) {
+    public DeliveryController(DeliveryService deliveryService, UnboundedListingGuard unboundedListingGuard) {
         this.deliveryService = deliveryService;
+        this.unboundedListingGuard = unboundedListingGuard;
     }
     
     /**
@@ -72,17 +75,40 @@ public class DeliveryController {
     }
     
     /**
-     * Get all deliveries
-     * GET /api/deliveries
+     * Get deliveries, newest order first, as an array
+     * GET /api/deliveries?cursor=&limit=
      * 
-     * @return List of all deliveries
+     * @param cursor Cursor from the previous page, omitted for the first page
+     * @param limit Page size (default 20, max 100)
+     * @param all Return every delivery instead; requires app.listing.allow-unbounded
+     * @return One page of deliveries (next cursor in X-Next-Cursor), or all of them when all=true
      */
     @GetMapping
-    public ResponseEntity<?> getAllDeliveries() {
+    public ResponseEntity<List<DeliveryDto>> getAllDeliveries(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean all) {
         // Exception handling is done by GlobalExceptionHandler
-        logger.info("Fetching all deliveries");
-        List<DeliveryDto> deliveries = deliveryService.getAllDeliveries();
-        return ResponseEntity.ok(deliveries);
+        logger.info("Fetching deliveries (all={})", all);
+        return unboundedListingGuard.list(all, deliveryService::getAllDeliveries,
+            () -> deliveryService.getDeliveriesPage(cursor, limit));
+    }
+    
+    /**
+     * Get deliveries, newest order first, one cursor page at a time
+     * GET /api/deliveries/page?cursor=&limit=
+     * 
+     * @param cursor Cursor from the previous page, omitted for the first page
+     * @param limit Page size (default 20, max 100)
+     * @return Page of deliveries
+     */
+    @GetMapping("/page")
+    public ResponseEntity<?> getDeliveriesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        // Exception handling is done by GlobalExceptionHandler
+        logger.info("Fetching deliveries page");
+        return ResponseEntity.ok(deliveryService.getDeliveriesPage(cursor, limit));
     }
     
     /**
@@ -1,15 +1,30 @@
 package com.lerestaurant.le_restaurant_backend.controller;
 
+import com.lerestaurant.le_restaurant_backend.dto.CursorPageDto;
+import com.lerestaurant.le_restaurant_backend.dto.MenuImportResultDto;
 import com.lerestaurant.le_restaurant_backend.dto.MenuItemDto;
+import com.lerestaurant.le_restaurant_backend.dto.MenuItemFilterRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.MenuItemCreateRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.MenuItemUpdateRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.MenuSearchResponseDto;
+import com.lerestaurant.le_restaurant_backend.service.MenuBulkService;
+import com.lerestaurant.le_restaurant_backend.service.MenuCatalogSnapshot;
 import com.lerestaurant.le_restaurant_backend.service.MenuService;
+import com.lerestaurant.le_restaurant_backend.util.ExportFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -25,45 +40,100 @@ import java.util.Map;
 public class MenuController {
     
     private final MenuService menuService;
+    private final MenuResponseCache responseCache;
+    private final MenuBulkService menuBulkService;
     
     @Autowired
-    public MenuController(MenuService menuService) {
+    public MenuController(MenuService menuService,
+                          MenuResponseCache responseCache,
+                          MenuBulkService menuBulkService) {
         this.menuService = menuService;
+        this.responseCache = responseCache;
+        this.menuBulkService = menuBulkService;
     }
 
     
     /**
      * GET ALL MENU ITEMS (F103 - Public)
-     * Supports filtering by category, search, and availability
+     * Supports combined filtering by category, search (name), availability,
+     * minPrice and maxPrice
+     * Answers 304 Not Modified when If-None-Match matches the catalog ETag
+     * The full menu and category slices are written from pre-serialized
+     * (optionally gzip-encoded) payloads cached per catalog version
      */
     @GetMapping
-    public ResponseEntity<List<MenuItemDto>> getAllMenuItems(
-            @RequestParam(required = false) String category,
-            @RequestParam(required = false) String search,
-            @RequestParam(required = false) Boolean available
+    public ResponseEntity<?> getAllMenuItems(
+            MenuItemFilterRequestDto filter,
+            WebRequest webRequest,
+            HttpServletResponse response
     ) {
         // Exception handling is done by GlobalExceptionHandler
-        List<MenuItemDto> items;
+        boolean byCategory = filter.isCategoryOnly();
         
-        if (category != null && !category.isEmpty()) {
-            items = menuService.findByCategory(category);
-        } else if (search != null && !search.isEmpty()) {
-            items = menuService.searchByName(search);
-        } else if (available != null) {
-            items = menuService.findByAvailability(available);
-        } else {
-            items = menuService.findAllMenuItems();
+        if (byCategory || filter.isEmpty()) {
+            boolean gzip = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (webRequest.checkNotModified(gzip ? catalogETag("-gzip") : catalogETag())) {
+                return null;
+            }
+            
+            MenuCatalogSnapshot snapshot = menuService.getCatalogSnapshot();
+            MenuResponseCache.Payload payload = byCategory
+                ? responseCache.getCategory(snapshot, filter.getCategory())
+                : responseCache.getFullMenu(snapshot);
+            return cachedJson(payload, gzip);
         }
         
-        return ResponseEntity.ok(items);
+        if (webRequest.checkNotModified(catalogETag())) {
+            return null;
+        }
+        return ResponseEntity.ok(menuService.findMenuItems(filter));
+    }
+    
+    /**
+     * BROWSE MENU ITEMS (F103 - Public)
+     * Same combined filters as GET /api/menu-items, paginated by keyset on
+     * (category, name, id) with limit and an opaque cursor
+     */
+    @GetMapping("/browse")
+    public ResponseEntity<CursorPageDto<MenuItemDto>> browseMenuItems(
+            MenuItemFilterRequestDto filter,
+            WebRequest webRequest
+    ) {
+        // Exception handling is done by GlobalExceptionHandler
+        if (webRequest.checkNotModified(catalogETag())) {
+            return null;
+        }
+        return ResponseEntity.ok(menuService.browseMenuItems(filter));
+    }
+    
+    /**
+     * SEARCH MENU ITEMS (F103 - Public)
+     * Ranked, typo-tolerant search over name, description and category
+     */
+    @GetMapping("/search")
+    public ResponseEntity<MenuSearchResponseDto> searchMenuItems(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "0") int offset,
+            WebRequest webRequest
+    ) {
+        // Exception handling is done by GlobalExceptionHandler
+        if (webRequest.checkNotModified(catalogETag())) {
+            return null;
+        }
+        return ResponseEntity.ok(menuService.searchMenuItems(q, limit, offset));
     }
     
     /**
      * GET MENU ITEM BY ID (F103 - Public)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<?> getMenuItemById(@PathVariable Long id) {
+    public ResponseEntity<?> getMenuItemById(@PathVariable Long id, WebRequest webRequest) {
         // Exception handling is done by GlobalExceptionHandler
+        if (webRequest.checkNotModified(catalogETag())) {
+            return null;
+        }
         MenuItemDto item = menuService.findMenuItemById(id);
         return ResponseEntity.ok(item);
     }
@@ -78,6 +148,41 @@ public class MenuController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdItem);
     }
     
+    /**
+     * BULK IMPORT MENU ITEMS (F104 - Manager only)
+     * Request body is CSV with a header row (format=csv) or one JSON object per
+     * line (format=jsonl); it is read as a stream, not bound as a whole
+     */
+    @PostMapping("/import")
+    public ResponseEntity<MenuImportResultDto> importMenuItems(
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletRequest request
+    ) throws IOException {
+        // Exception handling is done by GlobalExceptionHandler
+        ExportFormat importFormat = ExportFormat.from(format);
+        MenuImportResultDto result = menuBulkService.importMenuItems(request.getInputStream(), importFormat);
+        return ResponseEntity.ok(result);
+    }
+    
+    /**
+     * BULK EXPORT MENU ITEMS (F104 - Manager only)
+     * Streams the catalog as CSV or JSON lines
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMenuItems(@RequestParam(defaultValue = "csv") String format) {
+        // Exception handling is done by GlobalExceptionHandler
+        ExportFormat exportFormat = ExportFormat.from(format);
+        MediaType contentType = exportFormat == ExportFormat.CSV
+            ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+            : MediaType.parseMediaType("application/x-ndjson");
+        String filename = exportFormat == ExportFormat.CSV ? "menu-items.csv" : "menu-items.jsonl";
+        StreamingResponseBody body = out -> menuBulkService.exportMenuItems(out, exportFormat);
+        return ResponseEntity.ok()
+            .contentType(contentType)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+            .body(body);
+    }
+    
     /**
      * UPDATE MENU ITEM (F104 - Manager only)
      */
@@ -105,9 +210,69 @@ public class MenuController {
      * GET CATEGORIES (F103 - Public)
      */
     @GetMapping("/categories")
-    public ResponseEntity<List<String>> getAllCategories() {
+    public ResponseEntity<List<String>> getAllCategories(WebRequest webRequest) {
         // Exception handling is done by GlobalExceptionHandler
+        if (webRequest.checkNotModified(catalogETag())) {
+            return null;
+        }
         List<String> categories = menuService.getAllCategories();
         return ResponseEntity.ok(categories);
     }
+    
+    /**
+     * Strong ETag for the current menu catalog version.
+     * checkNotModified sets it on the response and, when If-None-Match matches,
+     * turns the response into a 304 without a body.
+     */
+    private String catalogETag() {
+        return catalogETag("");
+    }
+    
+    /**
+     * Each content encoding of a representation needs its own strong ETag
+     */
+    private String catalogETag(String suffix) {
+        return "\"menu-" + menuService.getCatalogVersion() + suffix + "\"";
+    }
+    
+    private ResponseEntity<byte[]> cachedJson(MenuResponseCache.Payload payload, boolean gzip) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.getGzip());
+        }
+        return builder.body(payload.getIdentity());
+    }
+    
+    /**
+     * True when Accept-Encoding allows gzip with a non-zero q-value.
+     * An explicit gzip entry takes precedence over "*".
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean gzip = null;
+        Boolean wildcard = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            boolean accepted = true;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        accepted = Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        accepted = false;
+                    }
+                }
+            }
+            if (coding.equalsIgnoreCase("gzip")) {
+                gzip = accepted;
+            } else if (coding.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return gzip != null ? gzip : Boolean.TRUE.equals(wildcard);
+    }
 }
@@ -0,0 +1,127 @@
+package com.lerestaurant.le_restaurant_backend.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lerestaurant.le_restaurant_backend.dto.MenuItemDto;
+import com.lerestaurant.le_restaurant_backend.service.MenuCatalogSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-serialized menu responses (F103)
+ *
+ * Holds the JSON for the full menu and for each category slice as ready-to-write
+ * byte arrays, both raw and gzip-encoded. Payloads are produced at most once per
+ * catalog version; the whole cache is dropped when a newer snapshot is seen.
+ *
+ * @author Le Restaurant Development Team
+ * @module F103-MenuDisplay
+ */
+@Component
+public class MenuResponseCache {
+
+    private static final String FULL_MENU_KEY = "all";
+    private static final String CATEGORY_KEY_PREFIX = "category:";
+    private static final String UNKNOWN_CATEGORY_KEY = "unknown-category";
+
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<VersionedPayloads> current = new AtomicReference<>();
+
+    @Autowired
+    public MenuResponseCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Payload for GET /api/menu-items without filters
+     * @param snapshot Catalog snapshot to serialize
+     * @return Cached payload
+     */
+    public Payload getFullMenu(MenuCatalogSnapshot snapshot) {
+        return payloadsFor(snapshot).payloads
+            .computeIfAbsent(FULL_MENU_KEY, key -> serialize(snapshot.getItems()));
+    }
+
+    /**
+     * Payload for GET /api/menu-items?category=...
+     * Unknown categories share one empty payload so arbitrary input cannot grow the cache.
+     * @param snapshot Catalog snapshot to serialize
+     * @param category Category name
+     * @return Cached payload
+     */
+    public Payload getCategory(MenuCatalogSnapshot snapshot, String category) {
+        String key = snapshot.hasCategory(category) ? CATEGORY_KEY_PREFIX + category : UNKNOWN_CATEGORY_KEY;
+        return payloadsFor(snapshot).payloads
+            .computeIfAbsent(key, k -> serialize(snapshot.findByCategory(category)));
+    }
+
+    private VersionedPayloads payloadsFor(MenuCatalogSnapshot snapshot) {
+        VersionedPayloads payloads = current.get();
+        if (payloads != null && payloads.version == snapshot.getVersion()) {
+            return payloads;
+        }
+        VersionedPayloads fresh = new VersionedPayloads(snapshot.getVersion());
+        VersionedPayloads installed = current.accumulateAndGet(fresh,
+            (existing, candidate) -> existing == null || candidate.version > existing.version ? candidate : existing);
+        // An older snapshot (a reader that raced a rebuild) gets a throwaway cache
+        return installed.version == snapshot.getVersion() ? installed : fresh;
+    }
+
+    private Payload serialize(List<MenuItemDto> items) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(items);
+            return new Payload(identity, gzip(identity));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize menu items", e);
+        }
+    }
+
+    static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static final class VersionedPayloads {
+        private final long version;
+        private final Map<String, Payload> payloads = new ConcurrentHashMap<>();
+
+        private VersionedPayloads(long version) {
+            this.version = version;
+        }
+    }
+
+    /**
+     * Serialized JSON in both encodings. The arrays are shared and must not be modified.
+     */
+    public static final class Payload {
+        private final byte[] identity;
+        private final byte[] gzip;
+
+        Payload(byte[] identity, byte[] gzip) {
+            this.identity = identity;
+            this.gzip = gzip;
+        }
+
+        public byte[] getIdentity() {
+            return identity;
+        }
+
+        public byte[] getGzip() {
+            return gzip;
+        }
+    }
+}
@@ -1,17 +1,38 @@
 package com.lerestaurant.le_restaurant_backend.controller;
 
+import com.lerestaurant.le_restaurant_backend.config.UnboundedListingGuard;
+import com.lerestaurant.le_restaurant_backend.dto.CursorPageDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderBatchRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderBatchResultDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderBulkStatusRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderBulkStatusResultDto;
 import com.lerestaurant.le_restaurant_backend.dto.OrderCreateRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.OrderDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderStatusEventDto;
 import com.lerestaurant.le_restaurant_backend.dto.OrderUpdateRequestDto;
 import com.lerestaurant.le_restaurant_backend.entity.Order;
+import com.lerestaurant.le_restaurant_backend.dto.KitchenTicketDto;
+import com.lerestaurant.le_restaurant_backend.service.IdempotencyService;
+import com.lerestaurant.le_restaurant_backend.service.KitchenQueue;
+import com.lerestaurant.le_restaurant_backend.service.OrderBatchService;
+import com.lerestaurant.le_restaurant_backend.service.OrderExportService;
 import com.lerestaurant.le_restaurant_backend.service.OrderService;
+import com.lerestaurant.le_restaurant_backend.service.OrderStatusHistoryService;
+import com.lerestaurant.le_restaurant_backend.util.ExportFormat;
 
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -27,20 +48,82 @@ import java.util.Map;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final OrderBatchService orderBatchService;
+    private final OrderStatusHistoryService orderStatusHistoryService;
+    private final KitchenQueue kitchenQueue;
+    private final IdempotencyService idempotencyService;
+    private final UnboundedListingGuard unboundedListingGuard;
 
     @Autowired
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService,
+                           OrderExportService orderExportService,
+                           OrderBatchService orderBatchService,
+                           OrderStatusHistoryService orderStatusHistoryService,
+                           KitchenQueue kitchenQueue,
+                           IdempotencyService idempotencyService,
+                           UnboundedListingGuard unboundedListingGuard) {
         this.orderService = orderService;
+        this.orderExportService = orderExportService;
+        this.orderBatchService = orderBatchService;
+        this.orderStatusHistoryService = orderStatusHistoryService;
+        this.kitchenQueue = kitchenQueue;
+        this.idempotencyService = idempotencyService;
+        this.unboundedListingGuard = unboundedListingGuard;
     }
 
-    /** Create a new order */
+    /** Create a new order; with an Idempotency-Key header, retries replay the first response */
     @PostMapping
-    public ResponseEntity<?> createOrder(@Valid @RequestBody OrderCreateRequestDto requestDto) {
+    public ResponseEntity<?> createOrder(@Valid @RequestBody OrderCreateRequestDto requestDto,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
         // Exception handling is done by GlobalExceptionHandler
+        if (idempotencyKey != null) {
+            return idempotencyService.execute("orders", idempotencyKey, requestDto, HttpStatus.CREATED,
+                () -> orderService.createOrder(requestDto));
+        }
         OrderDto order = orderService.createOrder(requestDto);
         return ResponseEntity.status(HttpStatus.CREATED).body(order);
     }
 
+    /** Submit orders queued offline (e.g. by a POS terminal); each carries a client token and gets its own result */
+    @PostMapping("/batch")
+    public ResponseEntity<OrderBatchResultDto> submitOrderBatch(@Valid @RequestBody OrderBatchRequestDto requestDto) {
+        // Exception handling is done by GlobalExceptionHandler
+        return ResponseEntity.ok(orderBatchService.submitOrders(requestDto));
+    }
+
+    /** Active kitchen tickets (PENDING through READY), served from memory */
+    @GetMapping("/kitchen")
+    public ResponseEntity<List<KitchenTicketDto>> getKitchenQueue() {
+        return ResponseEntity.ok(kitchenQueue.getTickets());
+    }
+
+    /** Live kitchen queue over Server-Sent Events: a snapshot on connect, then upsert/remove events */
+    @GetMapping(path = "/kitchen/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamKitchenQueue() {
+        return kitchenQueue.subscribe();
+    }
+
+    /** Stream orders placed in [from, to) as CSV or JSON lines (format=csv|ndjson) */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(defaultValue = "csv") String format) {
+        // Exception handling is done by GlobalExceptionHandler
+        ExportFormat exportFormat = ExportFormat.from(format);
+        orderExportService.validateRange(from, to);
+        MediaType contentType = exportFormat == ExportFormat.CSV
+            ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+            : MediaType.parseMediaType("application/x-ndjson");
+        String filename = exportFormat == ExportFormat.CSV ? "orders.csv" : "orders.jsonl";
+        StreamingResponseBody body = out -> orderExportService.exportOrders(out, from, to, exportFormat);
+        return ResponseEntity.ok()
+            .contentType(contentType)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+            .body(body);
+    }
+
     /** Get order by ID */
     @GetMapping("/{id}")
     public ResponseEntity<?> getOrderById(@PathVariable Long id) {
@@ -49,32 +132,92 @@ public class OrderController {
         return ResponseEntity.ok(order);
     }
 
-    /** Get all orders */
+    /** Get the status changes of an order, oldest first */
+    @GetMapping("/{id}/status-history")
+    public ResponseEntity<List<OrderStatusEventDto>> getOrderStatusHistory(@PathVariable Long id) {
+        // Exception handling is done by GlobalExceptionHandler
+        return ResponseEntity.ok(orderStatusHistoryService.getOrderHistory(id));
+    }
+
+    /** Get orders, newest first, one page as an array (next cursor in X-Next-Cursor; ?all=true when enabled) */
     @GetMapping
-    public ResponseEntity<List<OrderDto>> getAllOrders() {
-        return ResponseEntity.ok(orderService.getAllOrders());
+    public ResponseEntity<List<OrderDto>> getAllOrders(@RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean all) {
+        return unboundedListingGuard.list(all, orderService::getAllOrders,
+            () -> orderService.getOrdersPage(cursor, limit));
+    }
+
+    /** Get orders, newest first, one cursor page at a time */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDto<OrderDto>> getOrdersPage(@RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(orderService.getOrdersPage(cursor, limit));
     }
 
-    /** Get orders by customer ID */
+    /** Get orders by customer ID, one page as an array like GET /api/orders */
     @GetMapping("/customer/{customerId}")
-    public ResponseEntity<List<OrderDto>> getOrdersByCustomerId(@PathVariable Long customerId) {
-        return ResponseEntity.ok(orderService.getOrdersByCustomerId(customerId));
+    public ResponseEntity<List<OrderDto>> getOrdersByCustomerId(@PathVariable Long customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean all) {
+        return unboundedListingGuard.list(all, () -> orderService.getOrdersByCustomerId(customerId),
+            () -> orderService.getOrdersByCustomerIdPage(customerId, cursor, limit));
+    }
+
+    /** Get orders by customer ID, paginated like GET /api/orders/page */
+    @GetMapping("/customer/{customerId}/page")
+    public ResponseEntity<CursorPageDto<OrderDto>> getOrdersByCustomerIdPage(@PathVariable Long customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(orderService.getOrdersByCustomerIdPage(customerId, cursor, limit));
     }
 
-    /** Get orders by status */
+    /**
+     * Get orders by status. The kitchen view polls this for active statuses and
+     * needs every open order, so those are looked up from the kitchen queue;
+     * other statuses are paged like GET /api/orders.
+     */
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<OrderDto>> getOrdersByStatus(@PathVariable Order.OrderStatus status) {
-        return ResponseEntity.ok(orderService.getOrdersByStatus(status));
+    public ResponseEntity<List<OrderDto>> getOrdersByStatus(@PathVariable Order.OrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean all) {
+        if (KitchenQueue.isActive(status)) {
+            return ResponseEntity.ok(orderService.getOrdersByIds(kitchenQueue.getOrderIds(status), status));
+        }
+        return unboundedListingGuard.list(all, () -> orderService.getOrdersByStatus(status),
+            () -> orderService.getOrdersByStatusPage(status, cursor, limit));
+    }
+
+    /** Get orders by status, paginated like GET /api/orders/page */
+    @GetMapping("/status/{status}/page")
+    public ResponseEntity<CursorPageDto<OrderDto>> getOrdersByStatusPage(@PathVariable Order.OrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(orderService.getOrdersByStatusPage(status, cursor, limit));
     }
 
     /** Update order status */
     @PutMapping("/{id}/status")
     public ResponseEntity<?> updateOrderStatus(@PathVariable Long id, @RequestBody Map<String, String> statusUpdate) {
         // Exception handling is done by GlobalExceptionHandler
-        Order.OrderStatus status = Order.OrderStatus.valueOf(statusUpdate.get("status"));
+        String value = statusUpdate.get("status");
+        if (value == null) {
+            throw new IllegalArgumentException("status is required");
+        }
+        Order.OrderStatus status = Order.OrderStatus.valueOf(value);
         return ResponseEntity.ok(orderService.updateOrderStatus(id, status));
     }
 
+    /** Move a set of orders to one status; returns the outcome per order ID */
+    @PutMapping("/status")
+    public ResponseEntity<OrderBulkStatusResultDto> updateOrderStatuses(
+            @Valid @RequestBody OrderBulkStatusRequestDto requestDto) {
+        // Exception handling is done by GlobalExceptionHandler
+        return ResponseEntity.ok(orderService.updateOrderStatuses(requestDto));
+    }
+
     /** Update order details */
     @PutMapping("/{id}")
     public ResponseEntity<?> updateOrder(@PathVariable Long id, @Valid @RequestBody OrderUpdateRequestDto requestDto) {
@@ -18,6 +18,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.lerestaurant.le_restaurant_backend.config.UnboundedListingGuard;
+import com.lerestaurant.le_restaurant_backend.dto.CursorPageDto;
 import com.lerestaurant.le_restaurant_backend.dto.PaymentDto;
 import com.lerestaurant.le_restaurant_backend.dto.PaymentRequestDto;
 import com.lerestaurant.le_restaurant_backend.entity.Payment;
@@ -32,10 +34,12 @@ import org.springframework.web.bind.annotation.*;
 public class PaymentController {
     
     private final PaymentService paymentService;
+    private final UnboundedListingGuard unboundedListingGuard;
     
     @Autowired
-    public PaymentController(PaymentService paymentService) {
+    public PaymentController(PaymentService paymentService, UnboundedListingGuard unboundedListingGuard) {
         this.paymentService = paymentService;
+        this.unboundedListingGuard = unboundedListingGuard;
     }
     
     @PostMapping
@@ -53,9 +57,19 @@ public class PaymentController {
     }
     
     @GetMapping
-    public ResponseEntity<List<PaymentDto>> getAllPayments() {
-        List<PaymentDto> payments = paymentService.getAllPayments();
-        return ResponseEntity.ok(payments);
+    public ResponseEntity<List<PaymentDto>> getAllPayments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean all) {
+        return unboundedListingGuard.list(all, paymentService::getAllPayments,
+            () -> paymentService.getPaymentsPage(cursor, limit));
+    }
+    
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDto<PaymentDto>> getPaymentsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(paymentService.getPaymentsPage(cursor, limit));
     }
     
     @GetMapping("/order/{orderId}")
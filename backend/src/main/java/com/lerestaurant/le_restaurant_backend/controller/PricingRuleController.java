@@ -0,0 +1,63 @@
+package com.lerestaurant.le_restaurant_backend.controller;
+
+import com.lerestaurant.le_restaurant_backend.dto.PricingRuleDto;
+import com.lerestaurant.le_restaurant_backend.dto.PricingRuleRequestDto;
+import com.lerestaurant.le_restaurant_backend.service.PricingService;
+
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Pricing Rule REST Controller (F105)
+ *
+ * Tax, happy-hour and combo rules. Changes apply to orders placed after the
+ * change commits.
+ * Base URL: /api/pricing-rules
+ */
+@RestController
+@RequestMapping("/api/pricing-rules")
+// CORS is handled globally in WebConfig
+public class PricingRuleController {
+
+    private final PricingService pricingService;
+
+    @Autowired
+    public PricingRuleController(PricingService pricingService) {
+        this.pricingService = pricingService;
+    }
+
+    /** All rules, active or not (Manager only) */
+    @GetMapping
+    public ResponseEntity<List<PricingRuleDto>> getAllRules() {
+        // Exception handling is done by GlobalExceptionHandler
+        return ResponseEntity.ok(pricingService.getAllRules());
+    }
+
+    /** Create a rule (Manager only) */
+    @PostMapping
+    public ResponseEntity<PricingRuleDto> createRule(@Valid @RequestBody PricingRuleRequestDto requestDto) {
+        // Exception handling is done by GlobalExceptionHandler
+        return ResponseEntity.status(HttpStatus.CREATED).body(pricingService.createRule(requestDto));
+    }
+
+    /** Replace a rule (Manager only) */
+    @PutMapping("/{id}")
+    public ResponseEntity<PricingRuleDto> updateRule(@PathVariable Long id,
+                                                     @Valid @RequestBody PricingRuleRequestDto requestDto) {
+        // Exception handling is done by GlobalExceptionHandler
+        return ResponseEntity.ok(pricingService.updateRule(id, requestDto));
+    }
+
+    /** Delete a rule (Manager only) */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteRule(@PathVariable Long id) {
+        // Exception handling is done by GlobalExceptionHandler
+        pricingService.deleteRule(id);
+        return ResponseEntity.noContent().build();
+    }
+}
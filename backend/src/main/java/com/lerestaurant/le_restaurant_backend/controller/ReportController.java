@@ -0,0 +1,58 @@
+package com.lerestaurant.le_restaurant_backend.controller;
+
+import com.lerestaurant.le_restaurant_backend.dto.OrderStageLatencyReportDto;
+import com.lerestaurant.le_restaurant_backend.dto.SalesReportDto;
+import com.lerestaurant.le_restaurant_backend.entity.SalesRollup;
+import com.lerestaurant.le_restaurant_backend.service.OrderStatusHistoryService;
+import com.lerestaurant.le_restaurant_backend.service.SalesRollupService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Sales Reporting REST Controller (F105)
+ * 
+ * Reports are read from incremental rollups, so their cost depends on the
+ * number of hours in the range, not the number of orders. Stage latencies
+ * are computed from the order status event log.
+ * Base URL: /api/reports
+ */
+@RestController
+@RequestMapping("/api/reports")
+// CORS is handled globally in WebConfig
+public class ReportController {
+
+    private final SalesRollupService salesRollupService;
+    private final OrderStatusHistoryService orderStatusHistoryService;
+
+    @Autowired
+    public ReportController(SalesRollupService salesRollupService,
+                            OrderStatusHistoryService orderStatusHistoryService) {
+        this.salesRollupService = salesRollupService;
+        this.orderStatusHistoryService = orderStatusHistoryService;
+    }
+
+    /** Sales for orders placed in [from, to), grouped by hour, menu-item, order-type or table */
+    @GetMapping("/sales")
+    public ResponseEntity<SalesReportDto> getSalesReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(defaultValue = "hour") String groupBy) {
+        // Exception handling is done by GlobalExceptionHandler
+        SalesRollup.Dimension dimension = SalesRollup.Dimension.from(groupBy);
+        return ResponseEntity.ok(salesRollupService.getReport(from, to, dimension));
+    }
+
+    /** Time orders spent in each status (p50/p90/p95/p99/max), for stages that ended in [from, to) */
+    @GetMapping("/order-stages")
+    public ResponseEntity<OrderStageLatencyReportDto> getOrderStageLatencies(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to) {
+        // Exception handling is done by GlobalExceptionHandler
+        return ResponseEntity.ok(orderStatusHistoryService.getStageLatencies(from, to));
+    }
+}
@@ -1,8 +1,10 @@
 package com.lerestaurant.le_restaurant_backend.controller;
 
+import com.lerestaurant.le_restaurant_backend.config.UnboundedListingGuard;
 import com.lerestaurant.le_restaurant_backend.dto.ReservationApprovalRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.ReservationCreateRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.ReservationDto;
+import com.lerestaurant.le_restaurant_backend.dto.TableAssignmentResultDto;
 import com.lerestaurant.le_restaurant_backend.entity.Reservation;
 import com.lerestaurant.le_restaurant_backend.service.ReservationService;
 import jakarta.validation.Valid;
@@ -37,10 +39,12 @@ public class ReservationController {
     private static final Logger logger = LoggerFactory.getLogger(ReservationController.class);
 
     private final ReservationService reservationService;
+    private final UnboundedListingGuard unboundedListingGuard;
 
     @Autowired
-    public ReservationController(ReservationService reservationService) {
+    public ReservationController(ReservationService reservationService, UnboundedListingGuard unboundedListingGuard) {
         this.reservationService = reservationService;
+        this.unboundedListingGuard = unboundedListingGuard;
     }
 
     /**
@@ -74,17 +78,40 @@ public class ReservationController {
     }
 
     /**
-     * Get all reservations
-     * GET /api/reservations
+     * Get reservations, newest first, as an array
+     * GET /api/reservations?cursor=&limit=
      * 
-     * @return List of all reservations
+     * @param cursor Cursor from the previous page, omitted for the first page
+     * @param limit Page size (default 20, max 100)
+     * @param all Return every reservation instead; requires app.listing.allow-unbounded
+     * @return One page of reservations (next cursor in X-Next-Cursor), or all of them when all=true
      */
     @GetMapping
-    public ResponseEntity<?> getAllReservations() {
+    public ResponseEntity<List<ReservationDto>> getAllReservations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean all) {
         // Exception handling is done by GlobalExceptionHandler
-        logger.info("Fetching all reservations");
-        List<ReservationDto> reservations = reservationService.getAllReservations();
-        return ResponseEntity.ok(reservations);
+        logger.info("Fetching reservations (all={})", all);
+        return unboundedListingGuard.list(all, reservationService::getAllReservations,
+            () -> reservationService.getReservationsPage(cursor, limit));
+    }
+
+    /**
+     * Get reservations, newest first, one cursor page at a time
+     * GET /api/reservations/page?cursor=&limit=
+     * 
+     * @param cursor Cursor from the previous page, omitted for the first page
+     * @param limit Page size (default 20, max 100)
+     * @return Page of reservations
+     */
+    @GetMapping("/page")
+    public ResponseEntity<?> getReservationsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        // Exception handling is done by GlobalExceptionHandler
+        logger.info("Fetching reservations page");
+        return ResponseEntity.ok(reservationService.getReservationsPage(cursor, limit));
     }
 
     /**
@@ -235,28 +262,65 @@ public class ReservationController {
         return ResponseEntity.ok(timeSlots);
     }
 
+    /**
+     * Get available time slots for every date in a range (F108)
+     * GET /api/reservations/calendar?start={date}&end={date}&partySize={partySize}
+     * 
+     * @param start     First date (yyyy-MM-dd format)
+     * @param end       Last date, inclusive (yyyy-MM-dd format); the range spans at most 62 days
+     * @param partySize Number of guests
+     * @return One entry per date with its time slots
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<?> getAvailabilityCalendar(
+            @RequestParam String start,
+            @RequestParam String end,
+            @RequestParam Integer partySize) {
+        // Exception handling is done by GlobalExceptionHandler
+        logger.info("Fetching availability calendar from {} to {} for party size: {}", start, end, partySize);
+        List<?> calendar = reservationService.getAvailabilityCalendar(start, end, partySize);
+        return ResponseEntity.ok(calendar);
+    }
+
     /**
      * Get available tables for a date, time, and party size (F108)
      * GET
-     * /api/reservations/availability?date={date}&time={time}&partySize={partySize}
+     * /api/reservations/availability?date={date}&time={time}&partySize={partySize}[&duration={minutes}]
      * 
      * @param date      Reservation date (yyyy-MM-dd format)
      * @param time      Reservation time (HH:mm format)
      * @param partySize Number of guests
-     * @return List of available tables
+     * @param duration  Length of the seating in minutes (optional, default 90)
+     * @return List of tables with no reservation overlapping the seating
      */
     @GetMapping("/availability")
     public ResponseEntity<?> getAvailableTables(
             @RequestParam String date,
             @RequestParam String time,
-            @RequestParam Integer partySize) {
+            @RequestParam Integer partySize,
+            @RequestParam(required = false) Integer duration) {
         // Exception handling is done by GlobalExceptionHandler
         logger.info("Fetching available tables for date: {}, time: {}, party size: {}",
                 date, time, partySize);
-        List<?> tables = reservationService.getAvailableTables(date, time, partySize);
+        List<?> tables = reservationService.getAvailableTables(date, time, partySize, duration);
         return ResponseEntity.ok(tables);
     }
 
+    /**
+     * Assign tables to the pending reservations of a date (F109)
+     * POST /api/reservations/assign-tables?date={date}
+     * 
+     * @param date Reservation date (yyyy-MM-dd format)
+     * @return Assigned and moved counts, and the reservations no table fits
+     */
+    @PostMapping("/assign-tables")
+    public ResponseEntity<?> assignTables(@RequestParam String date) {
+        // Exception handling is done by GlobalExceptionHandler
+        logger.info("Assigning tables for date: {}", date);
+        TableAssignmentResultDto result = reservationService.assignTables(date);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Health check endpoint for frontend connection test
      * GET /api/reservations/test
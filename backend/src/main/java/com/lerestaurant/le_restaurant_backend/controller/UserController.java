@@ -15,8 +15,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.lerestaurant.le_restaurant_backend.config.UnboundedListingGuard;
+import com.lerestaurant.le_restaurant_backend.dto.CursorPageDto;
 import com.lerestaurant.le_restaurant_backend.dto.UserCreateRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.UserDto;
 import com.lerestaurant.le_restaurant_backend.dto.UserUpdateRequestDto;
@@ -30,10 +33,12 @@ import jakarta.validation.Valid;
 public class UserController {
     
     private final UserService userService;
+    private final UnboundedListingGuard unboundedListingGuard;
     
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UnboundedListingGuard unboundedListingGuard) {
         this.userService = userService;
+        this.unboundedListingGuard = unboundedListingGuard;
     }
     
     @PostMapping
@@ -58,9 +63,19 @@ public class UserController {
     }
     
     @GetMapping
-    public ResponseEntity<List<UserDto>> getAllUsers() {
-        List<UserDto> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<List<UserDto>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean all) {
+        return unboundedListingGuard.list(all, userService::getAllUsers,
+            () -> userService.getUsersPage(cursor, limit));
+    }
+    
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDto<UserDto>> getUsersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(userService.getUsersPage(cursor, limit));
     }
     
     @GetMapping("/role/{role}")
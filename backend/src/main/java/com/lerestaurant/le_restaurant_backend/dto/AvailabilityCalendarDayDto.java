@@ -0,0 +1,53 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import java.util.List;
+
+/**
+ * One day of the availability calendar (F108)
+ *
+ * @author Le Restaurant Development Team
+ * @module F108-F109-ReservationManagement
+ */
+public class AvailabilityCalendarDayDto {
+
+    private String date;
+    private Boolean isAvailable;
+    private List<TimeSlotDto> timeSlots;
+
+    public AvailabilityCalendarDayDto() {
+    }
+
+    public AvailabilityCalendarDayDto(String date, Boolean isAvailable, List<TimeSlotDto> timeSlots) {
+        this.date = date;
+        this.isAvailable = isAvailable;
+        this.timeSlots = timeSlots;
+    }
+
+    // Getters and Setters
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    /**
+     * True if at least one time slot of the day has a free table
+     */
+    public Boolean getIsAvailable() {
+        return isAvailable;
+    }
+
+    public void setIsAvailable(Boolean isAvailable) {
+        this.isAvailable = isAvailable;
+    }
+
+    public List<TimeSlotDto> getTimeSlots() {
+        return timeSlots;
+    }
+
+    public void setTimeSlots(List<TimeSlotDto> timeSlots) {
+        this.timeSlots = timeSlots;
+    }
+}
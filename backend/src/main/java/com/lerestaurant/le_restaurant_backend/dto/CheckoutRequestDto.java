@@ -0,0 +1,130 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import com.lerestaurant.le_restaurant_backend.entity.Payment;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+/**
+ * Checkout Request DTO (F105)
+ *
+ * Order, payment and (for delivery orders) delivery details submitted in one
+ * request. payment.amount is optional; when given it must match the order
+ * total computed by the server.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+public class CheckoutRequestDto {
+
+    @NotNull(message = "Order is required")
+    @Valid
+    private OrderCreateRequestDto order;
+
+    @NotNull(message = "Payment is required")
+    @Valid
+    private PaymentDetails payment;
+
+    @Valid
+    private DeliveryDetails delivery;
+
+    public static class PaymentDetails {
+
+        @DecimalMin(value = "0.01", message = "Amount must be greater than 0")
+        private BigDecimal amount;
+
+        @NotNull(message = "Payment method is required")
+        private Payment.PaymentMethod paymentMethod;
+
+        private String paymentDetails;
+
+        public PaymentDetails() {}
+
+        public PaymentDetails(BigDecimal amount, Payment.PaymentMethod paymentMethod, String paymentDetails) {
+            this.amount = amount;
+            this.paymentMethod = paymentMethod;
+            this.paymentDetails = paymentDetails;
+        }
+
+        public BigDecimal getAmount() { return amount; }
+        public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+        public Payment.PaymentMethod getPaymentMethod() { return paymentMethod; }
+        public void setPaymentMethod(Payment.PaymentMethod paymentMethod) { this.paymentMethod = paymentMethod; }
+
+        public String getPaymentDetails() { return paymentDetails; }
+        public void setPaymentDetails(String paymentDetails) { this.paymentDetails = paymentDetails; }
+    }
+
+    public static class DeliveryDetails {
+
+        @NotNull(message = "Delivery address ID is required")
+        private Long deliveryAddressId;
+
+        @DecimalMin(value = "0.0", message = "Delivery fee cannot be negative")
+        private BigDecimal deliveryFee;
+
+        @Min(value = 1, message = "Estimated delivery time must be at least 1 minute")
+        private Integer estimatedDeliveryTimeMinutes;
+
+        private String deliveryInstructions;
+
+        public DeliveryDetails() {}
+
+        public DeliveryDetails(Long deliveryAddressId, BigDecimal deliveryFee) {
+            this.deliveryAddressId = deliveryAddressId;
+            this.deliveryFee = deliveryFee;
+        }
+
+        public Long getDeliveryAddressId() { return deliveryAddressId; }
+        public void setDeliveryAddressId(Long deliveryAddressId) { this.deliveryAddressId = deliveryAddressId; }
+
+        public BigDecimal getDeliveryFee() { return deliveryFee; }
+        public void setDeliveryFee(BigDecimal deliveryFee) { this.deliveryFee = deliveryFee; }
+
+        public Integer getEstimatedDeliveryTimeMinutes() { return estimatedDeliveryTimeMinutes; }
+        public void setEstimatedDeliveryTimeMinutes(Integer estimatedDeliveryTimeMinutes) {
+            this.estimatedDeliveryTimeMinutes = estimatedDeliveryTimeMinutes;
+        }
+
+        public String getDeliveryInstructions() { return deliveryInstructions; }
+        public void setDeliveryInstructions(String deliveryInstructions) { this.deliveryInstructions = deliveryInstructions; }
+    }
+
+    // Constructors
+    public CheckoutRequestDto() {}
+
+    public CheckoutRequestDto(OrderCreateRequestDto order, PaymentDetails payment, DeliveryDetails delivery) {
+        this.order = order;
+        this.payment = payment;
+        this.delivery = delivery;
+    }
+
+    // Getters and Setters
+    public OrderCreateRequestDto getOrder() {
+        return order;
+    }
+
+    public void setOrder(OrderCreateRequestDto order) {
+        this.order = order;
+    }
+
+    public PaymentDetails getPayment() {
+        return payment;
+    }
+
+    public void setPayment(PaymentDetails payment) {
+        this.payment = payment;
+    }
+
+    public DeliveryDetails getDelivery() {
+        return delivery;
+    }
+
+    public void setDelivery(DeliveryDetails delivery) {
+        this.delivery = delivery;
+    }
+}
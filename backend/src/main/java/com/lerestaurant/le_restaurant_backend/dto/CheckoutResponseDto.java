@@ -0,0 +1,51 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+/**
+ * Checkout Response DTO (F105)
+ *
+ * The created order, its captured payment and, for delivery orders, the
+ * delivery; delivery is null otherwise.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+public class CheckoutResponseDto {
+
+    private OrderDto order;
+    private PaymentDto payment;
+    private DeliveryDto delivery;
+
+    // Constructors
+    public CheckoutResponseDto() {}
+
+    public CheckoutResponseDto(OrderDto order, PaymentDto payment, DeliveryDto delivery) {
+        this.order = order;
+        this.payment = payment;
+        this.delivery = delivery;
+    }
+
+    // Getters and Setters
+    public OrderDto getOrder() {
+        return order;
+    }
+
+    public void setOrder(OrderDto order) {
+        this.order = order;
+    }
+
+    public PaymentDto getPayment() {
+        return payment;
+    }
+
+    public void setPayment(PaymentDto payment) {
+        this.payment = payment;
+    }
+
+    public DeliveryDto getDelivery() {
+        return delivery;
+    }
+
+    public void setDelivery(DeliveryDto delivery) {
+        this.delivery = delivery;
+    }
+}
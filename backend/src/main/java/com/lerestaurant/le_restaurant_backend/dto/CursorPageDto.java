@@ -0,0 +1,57 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing
+ * 
+ * nextCursor is opaque to clients; pass it back unchanged to fetch the next
+ * page. It is null on the last page.
+ * 
+ * @param <T> Item type
+ * @author Le Restaurant Development Team
+ */
+public class CursorPageDto<T> {
+    
+    private List<T> items;
+    private int limit;
+    private String nextCursor;
+    
+    // Constructors
+    public CursorPageDto() {}
+    
+    public CursorPageDto(List<T> items, int limit, String nextCursor) {
+        this.items = items;
+        this.limit = limit;
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isHasMore() {
+        return nextCursor != null;
+    }
+    
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+    
+    public int getLimit() {
+        return limit;
+    }
+    
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
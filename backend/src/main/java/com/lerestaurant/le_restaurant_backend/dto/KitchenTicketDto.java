@@ -0,0 +1,72 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Kitchen Ticket Data Transfer Object (F105)
+ *
+ * What a kitchen display needs to show for one active order: where it goes,
+ * its status and the dishes to prepare. Prices and customer details are left out.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+public class KitchenTicketDto {
+
+    private Long orderId;
+    private Long version;
+    private String tableNumber;
+    private Order.OrderType orderType;
+    private Order.OrderStatus status;
+    private String specialInstructions;
+    private OffsetDateTime orderTime;
+    private OffsetDateTime estimatedCompletion;
+    private List<Line> lines;
+
+    /**
+     * One dish on a ticket
+     */
+    public static class Line {
+
+        private String menuItemName;
+        private Integer quantity;
+        private String specialInstructions;
+
+        public Line() {}
+
+        public Line(String menuItemName, Integer quantity, String specialInstructions) {
+            this.menuItemName = menuItemName;
+            this.quantity = quantity;
+            this.specialInstructions = specialInstructions;
+        }
+
+        public String getMenuItemName() { return menuItemName; }
+        public void setMenuItemName(String menuItemName) { this.menuItemName = menuItemName; }
+        public Integer getQuantity() { return quantity; }
+        public void setQuantity(Integer quantity) { this.quantity = quantity; }
+        public String getSpecialInstructions() { return specialInstructions; }
+        public void setSpecialInstructions(String specialInstructions) { this.specialInstructions = specialInstructions; }
+    }
+
+    // Getters and Setters
+    public Long getOrderId() { return orderId; }
+    public void setOrderId(Long orderId) { this.orderId = orderId; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    public String getTableNumber() { return tableNumber; }
+    public void setTableNumber(String tableNumber) { this.tableNumber = tableNumber; }
+    public Order.OrderType getOrderType() { return orderType; }
+    public void setOrderType(Order.OrderType orderType) { this.orderType = orderType; }
+    public Order.OrderStatus getStatus() { return status; }
+    public void setStatus(Order.OrderStatus status) { this.status = status; }
+    public String getSpecialInstructions() { return specialInstructions; }
+    public void setSpecialInstructions(String specialInstructions) { this.specialInstructions = specialInstructions; }
+    public OffsetDateTime getOrderTime() { return orderTime; }
+    public void setOrderTime(OffsetDateTime orderTime) { this.orderTime = orderTime; }
+    public OffsetDateTime getEstimatedCompletion() { return estimatedCompletion; }
+    public void setEstimatedCompletion(OffsetDateTime estimatedCompletion) { this.estimatedCompletion = estimatedCompletion; }
+    public List<Line> getLines() { return lines; }
+    public void setLines(List<Line> lines) { this.lines = lines; }
+}
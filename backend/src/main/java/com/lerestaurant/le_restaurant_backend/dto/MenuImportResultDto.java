@@ -0,0 +1,98 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk menu import (F104)
+ * 
+ * Valid rows are inserted; every rejected row is reported with its line number.
+ * 
+ * @author Le Restaurant Development Team
+ * @module F104-MenuManagement
+ */
+public class MenuImportResultDto {
+    
+    private int totalRows;
+    private int importedCount;
+    private int failedCount;
+    private List<RowError> errors = new ArrayList<>();
+    
+    // Constructors
+    public MenuImportResultDto() {}
+    
+    // Getters and Setters
+    public int getTotalRows() {
+        return totalRows;
+    }
+    
+    public void setTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+    
+    public int getImportedCount() {
+        return importedCount;
+    }
+    
+    public void setImportedCount(int importedCount) {
+        this.importedCount = importedCount;
+    }
+    
+    public int getFailedCount() {
+        return failedCount;
+    }
+    
+    public void setFailedCount(int failedCount) {
+        this.failedCount = failedCount;
+    }
+    
+    public List<RowError> getErrors() {
+        return errors;
+    }
+    
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+    
+    /**
+     * A rejected input row
+     */
+    public static class RowError {
+        
+        private int line;
+        private String name;
+        private String message;
+        
+        public RowError() {}
+        
+        public RowError(int line, String name, String message) {
+            this.line = line;
+            this.name = name;
+            this.message = message;
+        }
+        
+        public int getLine() {
+            return line;
+        }
+        
+        public void setLine(int line) {
+            this.line = line;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public String getMessage() {
+            return message;
+        }
+        
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Combined menu filter bound from query parameters (F103)
+ * 
+ * All criteria are optional and combined with AND. Results are ordered by
+ * (category, name, id); cursor continues after the last item of the previous page.
+ * 
+ * @author Le Restaurant Development Team
+ * @module F103-MenuDisplay
+ */
+public class MenuItemFilterRequestDto {
+    
+    private String category;
+    private Boolean available;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private String search;
+    private Integer limit;
+    private String cursor;
+    
+    // Constructors
+    public MenuItemFilterRequestDto() {}
+    
+    /**
+     * @return true when no criterion is set (paging fields are ignored)
+     */
+    public boolean isEmpty() {
+        return (category == null || category.isEmpty())
+            && available == null
+            && minPrice == null
+            && maxPrice == null
+            && (search == null || search.isEmpty());
+    }
+    
+    /**
+     * @return true when the category is the only criterion
+     */
+    public boolean isCategoryOnly() {
+        return category != null && !category.isEmpty()
+            && available == null
+            && minPrice == null
+            && maxPrice == null
+            && (search == null || search.isEmpty());
+    }
+    
+    // Getters and Setters
+    public String getCategory() {
+        return category;
+    }
+    
+    public void setCategory(String category) {
+        this.category = category;
+    }
+    
+    public Boolean getAvailable() {
+        return available;
+    }
+    
+    public void setAvailable(Boolean available) {
+        this.available = available;
+    }
+    
+    public BigDecimal getMinPrice() {
+        return minPrice;
+    }
+    
+    public void setMinPrice(BigDecimal minPrice) {
+        this.minPrice = minPrice;
+    }
+    
+    public BigDecimal getMaxPrice() {
+        return maxPrice;
+    }
+    
+    public void setMaxPrice(BigDecimal maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+    
+    public String getSearch() {
+        return search;
+    }
+    
+    public void setSearch(String search) {
+        this.search = search;
+    }
+    
+    public Integer getLimit() {
+        return limit;
+    }
+    
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+    
+    public String getCursor() {
+        return cursor;
+    }
+    
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+}
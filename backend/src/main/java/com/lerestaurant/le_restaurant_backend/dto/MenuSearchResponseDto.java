@@ -0,0 +1,70 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import java.util.List;
+
+/**
+ * Paged, ranked menu search result (F103)
+ *
+ * @author Le Restaurant Development Team
+ * @module F103-MenuDisplay
+ */
+public class MenuSearchResponseDto {
+
+    private String query;
+    private int total;
+    private int limit;
+    private int offset;
+    private List<MenuItemDto> items;
+
+    // Constructors
+    public MenuSearchResponseDto() {}
+
+    public MenuSearchResponseDto(String query, int total, int limit, int offset, List<MenuItemDto> items) {
+        this.query = query;
+        this.total = total;
+        this.limit = limit;
+        this.offset = offset;
+        this.items = items;
+    }
+
+    // Getters and Setters
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+
+    public List<MenuItemDto> getItems() {
+        return items;
+    }
+
+    public void setItems(List<MenuItemDto> items) {
+        this.items = items;
+    }
+}
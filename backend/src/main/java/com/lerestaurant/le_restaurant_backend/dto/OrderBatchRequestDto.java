@@ -0,0 +1,67 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Batch Order Submission Request DTO (F105)
+ *
+ * Orders queued by a POS terminal while offline, replayed in one request.
+ * Every order carries the client's idempotency token, so resubmitting a
+ * batch after a lost response does not create the orders twice.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+public class OrderBatchRequestDto {
+
+    @NotEmpty(message = "At least one order is required")
+    @Size(max = 500, message = "At most 500 orders can be submitted at once")
+    @Valid
+    private List<Entry> orders;
+
+    public static class Entry {
+
+        @NotBlank(message = "Client token is required")
+        @Size(max = 200, message = "Client token must be at most 200 characters")
+        private String clientToken;
+
+        @NotNull(message = "Order is required")
+        @Valid
+        private OrderCreateRequestDto order;
+
+        public Entry() {}
+
+        public Entry(String clientToken, OrderCreateRequestDto order) {
+            this.clientToken = clientToken;
+            this.order = order;
+        }
+
+        public String getClientToken() { return clientToken; }
+        public void setClientToken(String clientToken) { this.clientToken = clientToken; }
+
+        public OrderCreateRequestDto getOrder() { return order; }
+        public void setOrder(OrderCreateRequestDto order) { this.order = order; }
+    }
+
+    // Constructors
+    public OrderBatchRequestDto() {}
+
+    public OrderBatchRequestDto(List<Entry> orders) {
+        this.orders = orders;
+    }
+
+    // Getters and Setters
+    public List<Entry> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(List<Entry> orders) {
+        this.orders = orders;
+    }
+}
@@ -0,0 +1,100 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a batch order submission (F105)
+ *
+ * One result per submitted order, in submission order. REPLAYED means the
+ * token was already used for the same order, which is returned as first
+ * created; REJECTED orders carry the reason and were not created.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+public class OrderBatchResultDto {
+
+    public enum Outcome { CREATED, REPLAYED, REJECTED }
+
+    private int createdCount;
+    private int replayedCount;
+    private int rejectedCount;
+    private List<Result> results = new ArrayList<>();
+
+    public static class Result {
+        private String clientToken;
+        private Outcome outcome;
+        private OrderDto order;
+        private String error;
+
+        public Result() {}
+
+        public Result(String clientToken, Outcome outcome, OrderDto order, String error) {
+            this.clientToken = clientToken;
+            this.outcome = outcome;
+            this.order = order;
+            this.error = error;
+        }
+
+        public String getClientToken() { return clientToken; }
+        public void setClientToken(String clientToken) { this.clientToken = clientToken; }
+
+        public Outcome getOutcome() { return outcome; }
+        public void setOutcome(Outcome outcome) { this.outcome = outcome; }
+
+        public OrderDto getOrder() { return order; }
+        public void setOrder(OrderDto order) { this.order = order; }
+
+        public String getError() { return error; }
+        public void setError(String error) { this.error = error; }
+    }
+
+    // Constructors
+    public OrderBatchResultDto() {}
+
+    /**
+     * Add a result and count its outcome
+     */
+    public void add(Result result) {
+        results.add(result);
+        switch (result.getOutcome()) {
+            case CREATED -> createdCount++;
+            case REPLAYED -> replayedCount++;
+            case REJECTED -> rejectedCount++;
+        }
+    }
+
+    // Getters and Setters
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public void setCreatedCount(int createdCount) {
+        this.createdCount = createdCount;
+    }
+
+    public int getReplayedCount() {
+        return replayedCount;
+    }
+
+    public void setReplayedCount(int replayedCount) {
+        this.replayedCount = replayedCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public void setRejectedCount(int rejectedCount) {
+        this.rejectedCount = rejectedCount;
+    }
+
+    public List<Result> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Result> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,52 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+/**
+ * Bulk Order Status Request DTO (F105)
+ *
+ * Moves a set of orders to one target status, e.g. bumping a batch of
+ * PREPARING orders to READY.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+public class OrderBulkStatusRequestDto {
+
+    @NotEmpty(message = "At least one order ID is required")
+    @Size(max = 500, message = "At most 500 orders can be updated at once")
+    private Set<Long> orderIds;
+
+    @NotNull(message = "Target status is required")
+    private Order.OrderStatus status;
+
+    // Constructors
+    public OrderBulkStatusRequestDto() {}
+
+    public OrderBulkStatusRequestDto(Set<Long> orderIds, Order.OrderStatus status) {
+        this.orderIds = orderIds;
+        this.status = status;
+    }
+
+    // Getters and Setters
+    public Set<Long> getOrderIds() {
+        return orderIds;
+    }
+
+    public void setOrderIds(Set<Long> orderIds) {
+        this.orderIds = orderIds;
+    }
+
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Order.OrderStatus status) {
+        this.status = status;
+    }
+}
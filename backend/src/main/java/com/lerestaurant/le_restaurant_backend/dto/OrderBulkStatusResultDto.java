@@ -0,0 +1,97 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk order status transition (F105)
+ *
+ * Every requested order ID is reported once, in ascending ID order.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+public class OrderBulkStatusResultDto {
+
+    public enum Outcome { UPDATED, UNCHANGED, NOT_FOUND, INVALID_TRANSITION, CONFLICT }
+
+    private Order.OrderStatus status;
+    private int updatedCount;
+    private List<Result> results = new ArrayList<>();
+
+    // Constructors
+    public OrderBulkStatusResultDto() {}
+
+    public OrderBulkStatusResultDto(Order.OrderStatus status) {
+        this.status = status;
+    }
+
+    // Getters and Setters
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Order.OrderStatus status) {
+        this.status = status;
+    }
+
+    public int getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public void setUpdatedCount(int updatedCount) {
+        this.updatedCount = updatedCount;
+    }
+
+    public List<Result> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Result> results) {
+        this.results = results;
+    }
+
+    /**
+     * Outcome for one order
+     */
+    public static class Result {
+
+        private Long orderId;
+        private Outcome outcome;
+        private Order.OrderStatus previousStatus;
+
+        public Result() {}
+
+        public Result(Long orderId, Outcome outcome, Order.OrderStatus previousStatus) {
+            this.orderId = orderId;
+            this.outcome = outcome;
+            this.previousStatus = previousStatus;
+        }
+
+        public Long getOrderId() {
+            return orderId;
+        }
+
+        public void setOrderId(Long orderId) {
+            this.orderId = orderId;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public void setOutcome(Outcome outcome) {
+            this.outcome = outcome;
+        }
+
+        public Order.OrderStatus getPreviousStatus() {
+            return previousStatus;
+        }
+
+        public void setPreviousStatus(Order.OrderStatus previousStatus) {
+            this.previousStatus = previousStatus;
+        }
+    }
+}
@@ -26,6 +26,7 @@ public class OrderDto {
     private String tableNumber;
     private Order.OrderType orderType;
     private BigDecimal subtotal;
+    private BigDecimal discountAmount;
     private BigDecimal taxAmount;
     private BigDecimal tipAmount;
     private BigDecimal totalAmount;
@@ -35,6 +36,7 @@ public class OrderDto {
     private OffsetDateTime estimatedCompletion;
     private OffsetDateTime completedAt;
     private List<OrderItemDto> items;
+    private Long version;
     
     // Constructors
     public OrderDto() {}
@@ -129,6 +131,14 @@ public class OrderDto {
         this.subtotal = subtotal;
     }
     
+    public BigDecimal getDiscountAmount() {
+        return discountAmount;
+    }
+    
+    public void setDiscountAmount(BigDecimal discountAmount) {
+        this.discountAmount = discountAmount;
+    }
+    
     public BigDecimal getTaxAmount() {
         return taxAmount;
     }
@@ -200,4 +210,12 @@ public class OrderDto {
     public void setItems(List<OrderItemDto> items) {
         this.items = items;
     }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
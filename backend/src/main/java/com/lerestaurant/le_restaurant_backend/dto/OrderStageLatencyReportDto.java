@@ -0,0 +1,133 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Time orders spent in each status, for stages that ended in [from, to) (F105)
+ *
+ * A stage runs from the event entering a status to the order's next event.
+ * Durations are in milliseconds; percentiles use the nearest-rank method.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+public class OrderStageLatencyReportDto {
+
+    private OffsetDateTime from;
+    private OffsetDateTime to;
+    private List<Stage> stages = new ArrayList<>();
+
+    // Constructors
+    public OrderStageLatencyReportDto() {}
+
+    public OrderStageLatencyReportDto(OffsetDateTime from, OffsetDateTime to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    // Getters and Setters
+    public OffsetDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(OffsetDateTime from) {
+        this.from = from;
+    }
+
+    public OffsetDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(OffsetDateTime to) {
+        this.to = to;
+    }
+
+    public List<Stage> getStages() {
+        return stages;
+    }
+
+    public void setStages(List<Stage> stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * Latency of one status
+     */
+    public static class Stage {
+
+        private Order.OrderStatus status;
+        private int count;
+        private long p50Millis;
+        private long p90Millis;
+        private long p95Millis;
+        private long p99Millis;
+        private long maxMillis;
+
+        public Stage() {}
+
+        public Stage(Order.OrderStatus status, int count) {
+            this.status = status;
+            this.count = count;
+        }
+
+        public Order.OrderStatus getStatus() {
+            return status;
+        }
+
+        public void setStatus(Order.OrderStatus status) {
+            this.status = status;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public long getP50Millis() {
+            return p50Millis;
+        }
+
+        public void setP50Millis(long p50Millis) {
+            this.p50Millis = p50Millis;
+        }
+
+        public long getP90Millis() {
+            return p90Millis;
+        }
+
+        public void setP90Millis(long p90Millis) {
+            this.p90Millis = p90Millis;
+        }
+
+        public long getP95Millis() {
+            return p95Millis;
+        }
+
+        public void setP95Millis(long p95Millis) {
+            this.p95Millis = p95Millis;
+        }
+
+        public long getP99Millis() {
+            return p99Millis;
+        }
+
+        public void setP99Millis(long p99Millis) {
+            this.p99Millis = p99Millis;
+        }
+
+        public long getMaxMillis() {
+            return maxMillis;
+        }
+
+        public void setMaxMillis(long maxMillis) {
+            this.maxMillis = maxMillis;
+        }
+    }
+}
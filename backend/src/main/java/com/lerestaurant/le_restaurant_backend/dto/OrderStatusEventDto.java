@@ -0,0 +1,63 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+
+import java.time.OffsetDateTime;
+
+/**
+ * DTO for one entry of an order's status history (F105)
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+public class OrderStatusEventDto {
+
+    private Long orderId;
+    private Order.OrderStatus fromStatus;
+    private Order.OrderStatus toStatus;
+    private OffsetDateTime occurredAt;
+
+    // Constructors
+    public OrderStatusEventDto() {}
+
+    public OrderStatusEventDto(Long orderId, Order.OrderStatus fromStatus, Order.OrderStatus toStatus,
+                               OffsetDateTime occurredAt) {
+        this.orderId = orderId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.occurredAt = occurredAt;
+    }
+
+    // Getters and Setters
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public Order.OrderStatus getFromStatus() {
+        return fromStatus;
+    }
+
+    public void setFromStatus(Order.OrderStatus fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+
+    public Order.OrderStatus getToStatus() {
+        return toStatus;
+    }
+
+    public void setToStatus(Order.OrderStatus toStatus) {
+        this.toStatus = toStatus;
+    }
+
+    public OffsetDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(OffsetDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
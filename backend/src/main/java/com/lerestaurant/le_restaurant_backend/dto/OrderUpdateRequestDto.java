@@ -19,6 +19,8 @@ public class OrderUpdateRequestDto {
     private Order.OrderStatus status;
     private String specialInstructions;
     private OffsetDateTime estimatedCompletion;
+    // Version the client last read; when set, the update fails with 409 if the order changed since
+    private Long version;
     
     // Constructors
     public OrderUpdateRequestDto() {}
@@ -54,4 +56,12 @@ public class OrderUpdateRequestDto {
     public void setEstimatedCompletion(OffsetDateTime estimatedCompletion) {
         this.estimatedCompletion = estimatedCompletion;
     }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
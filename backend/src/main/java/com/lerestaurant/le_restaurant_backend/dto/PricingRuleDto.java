@@ -0,0 +1,135 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import com.lerestaurant.le_restaurant_backend.entity.PricingRule;
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.Set;
+
+/**
+ * DTO for a pricing rule
+ *
+ * @author Le Restaurant Development Team
+ */
+public class PricingRuleDto {
+
+    private Long id;
+    private String name;
+    private PricingRule.RuleType type;
+    private String category;
+    private Long menuItemId;
+    private BigDecimal rate;
+    private BigDecimal amount;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private Set<Long> comboMenuItemIds;
+    private boolean active;
+    private OffsetDateTime createdAt;
+    private OffsetDateTime updatedAt;
+
+    public PricingRuleDto() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public PricingRule.RuleType getType() {
+        return type;
+    }
+
+    public void setType(PricingRule.RuleType type) {
+        this.type = type;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public Long getMenuItemId() {
+        return menuItemId;
+    }
+
+    public void setMenuItemId(Long menuItemId) {
+        this.menuItemId = menuItemId;
+    }
+
+    public BigDecimal getRate() {
+        return rate;
+    }
+
+    public void setRate(BigDecimal rate) {
+        this.rate = rate;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public Set<Long> getComboMenuItemIds() {
+        return comboMenuItemIds;
+    }
+
+    public void setComboMenuItemIds(Set<Long> comboMenuItemIds) {
+        this.comboMenuItemIds = comboMenuItemIds;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(OffsetDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public OffsetDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(OffsetDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
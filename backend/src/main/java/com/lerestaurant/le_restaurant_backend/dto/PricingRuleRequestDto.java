@@ -0,0 +1,128 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import com.lerestaurant.le_restaurant_backend.entity.PricingRule;
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * DTO for creating or replacing a pricing rule
+ *
+ * TAX and HAPPY_HOUR rules need a rate and may target a category or a menu
+ * item; HAPPY_HOUR also needs start and end times. COMBO rules need an amount
+ * and at least two menu items.
+ *
+ * @author Le Restaurant Development Team
+ */
+public class PricingRuleRequestDto {
+
+    @NotBlank(message = "Rule name is required")
+    private String name;
+
+    @NotNull(message = "Rule type is required")
+    private PricingRule.RuleType type;
+
+    private String category;
+
+    private Long menuItemId;
+
+    @DecimalMin(value = "0", message = "Rate must be between 0 and 1")
+    @DecimalMax(value = "1", message = "Rate must be between 0 and 1")
+    @Digits(integer = 1, fraction = 4, message = "Rate must have at most 4 decimal places")
+    private BigDecimal rate;
+
+    @DecimalMin(value = "0.01", message = "Amount must be greater than 0")
+    private BigDecimal amount;
+
+    private LocalTime startTime;
+
+    private LocalTime endTime;
+
+    private Set<Long> comboMenuItemIds = new LinkedHashSet<>();
+
+    private Boolean active = true;
+
+    public PricingRuleRequestDto() {}
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public PricingRule.RuleType getType() {
+        return type;
+    }
+
+    public void setType(PricingRule.RuleType type) {
+        this.type = type;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public Long getMenuItemId() {
+        return menuItemId;
+    }
+
+    public void setMenuItemId(Long menuItemId) {
+        this.menuItemId = menuItemId;
+    }
+
+    public BigDecimal getRate() {
+        return rate;
+    }
+
+    public void setRate(BigDecimal rate) {
+        this.rate = rate;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public Set<Long> getComboMenuItemIds() {
+        return comboMenuItemIds;
+    }
+
+    public void setComboMenuItemIds(Set<Long> comboMenuItemIds) {
+        this.comboMenuItemIds = comboMenuItemIds;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+}
@@ -25,6 +25,11 @@ public class ReservationCreateRequestDto {
     
     @NotNull(message = "Reservation date and time is required")
     private OffsetDateTime reservationDateTime;
+
+    // Optional - defaults to Reservation.DEFAULT_DURATION_MINUTES
+    @Min(value = 15, message = "Duration must be at least 15 minutes")
+    @Max(value = 360, message = "Duration must be at most 360 minutes")
+    private Integer durationMinutes;
     
     private String specialRequests;
 
@@ -73,6 +78,14 @@ public class ReservationCreateRequestDto {
         this.reservationDateTime = reservationDateTime;
     }
 
+    public Integer getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public void setDurationMinutes(Integer durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+
     public String getSpecialRequests() {
         return specialRequests;
     }
@@ -22,8 +22,11 @@ public class ReservationDto {
     private Long tableId;
     private String tableNumber;
     private String tableLocation;
+    private Long joinedTableId;
+    private String joinedTableNumber;
     private Integer numberOfGuests;
     private OffsetDateTime reservationDateTime;
+    private Integer durationMinutes;
     private String specialRequests;
     private String status; // PENDING, CONFIRMED, CANCELLED, COMPLETED
     private OffsetDateTime createdAt;
@@ -59,12 +62,21 @@ public class ReservationDto {
     public String getTableLocation() { return tableLocation; }
     public void setTableLocation(String tableLocation) { this.tableLocation = tableLocation; }
     
+    public Long getJoinedTableId() { return joinedTableId; }
+    public void setJoinedTableId(Long joinedTableId) { this.joinedTableId = joinedTableId; }
+    
+    public String getJoinedTableNumber() { return joinedTableNumber; }
+    public void setJoinedTableNumber(String joinedTableNumber) { this.joinedTableNumber = joinedTableNumber; }
+    
     public Integer getNumberOfGuests() { return numberOfGuests; }
     public void setNumberOfGuests(Integer numberOfGuests) { this.numberOfGuests = numberOfGuests; }
     
     public OffsetDateTime getReservationDateTime() { return reservationDateTime; }
     public void setReservationDateTime(OffsetDateTime reservationDateTime) { this.reservationDateTime = reservationDateTime; }
     
+    public Integer getDurationMinutes() { return durationMinutes; }
+    public void setDurationMinutes(Integer durationMinutes) { this.durationMinutes = durationMinutes; }
+    
     public String getSpecialRequests() { return specialRequests; }
     public void setSpecialRequests(String specialRequests) { this.specialRequests = specialRequests; }
     
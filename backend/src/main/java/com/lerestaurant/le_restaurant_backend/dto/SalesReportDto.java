@@ -0,0 +1,73 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import com.lerestaurant.le_restaurant_backend.entity.SalesRollup;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sales report over [from, to), grouped by hour, menu item, order type or table
+ *
+ * totals always covers every order in the range, whatever the grouping.
+ *
+ * @author Le Restaurant Development Team
+ */
+public class SalesReportDto {
+
+    private SalesRollup.Dimension groupBy;
+    private OffsetDateTime from;
+    private OffsetDateTime to;
+    private SalesReportRowDto totals = new SalesReportRowDto();
+    private List<SalesReportRowDto> rows = new ArrayList<>();
+
+    // Constructors
+    public SalesReportDto() {}
+
+    public SalesReportDto(SalesRollup.Dimension groupBy, OffsetDateTime from, OffsetDateTime to) {
+        this.groupBy = groupBy;
+        this.from = from;
+        this.to = to;
+    }
+
+    // Getters and Setters
+    public SalesRollup.Dimension getGroupBy() {
+        return groupBy;
+    }
+
+    public void setGroupBy(SalesRollup.Dimension groupBy) {
+        this.groupBy = groupBy;
+    }
+
+    public OffsetDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(OffsetDateTime from) {
+        this.from = from;
+    }
+
+    public OffsetDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(OffsetDateTime to) {
+        this.to = to;
+    }
+
+    public SalesReportRowDto getTotals() {
+        return totals;
+    }
+
+    public void setTotals(SalesReportRowDto totals) {
+        this.totals = totals;
+    }
+
+    public List<SalesReportRowDto> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<SalesReportRowDto> rows) {
+        this.rows = rows;
+    }
+}
@@ -0,0 +1,164 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * One row of a sales report: the summed rollups of an hour, or of one menu
+ * item, order type or table over the report range
+ *
+ * For menu items, salesAmount and totalAmount are line totals and orderCount
+ * is the number of completed orders containing the item.
+ *
+ * @author Le Restaurant Development Team
+ */
+public class SalesReportRowDto {
+
+    private String key;
+    private String label;
+    private OffsetDateTime bucketStart;
+    private long orderCount;
+    private long cancelledCount;
+    private long itemQuantity;
+    private BigDecimal salesAmount = BigDecimal.ZERO;
+    private BigDecimal taxAmount = BigDecimal.ZERO;
+    private BigDecimal tipAmount = BigDecimal.ZERO;
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+    private BigDecimal refundedAmount = BigDecimal.ZERO;
+
+    // Constructors
+    public SalesReportRowDto() {}
+
+    // Used by the hourly report query
+    public SalesReportRowDto(OffsetDateTime bucketStart, Long orderCount, Long cancelledCount, Long itemQuantity,
+                             BigDecimal salesAmount, BigDecimal taxAmount, BigDecimal tipAmount,
+                             BigDecimal totalAmount, BigDecimal refundedAmount) {
+        this.bucketStart = bucketStart;
+        setSums(orderCount, cancelledCount, itemQuantity, salesAmount, taxAmount, tipAmount, totalAmount, refundedAmount);
+    }
+
+    // Used by the per menu item / order type / table report query
+    public SalesReportRowDto(String key, String label, Long orderCount, Long cancelledCount, Long itemQuantity,
+                             BigDecimal salesAmount, BigDecimal taxAmount, BigDecimal tipAmount,
+                             BigDecimal totalAmount, BigDecimal refundedAmount) {
+        this.key = key;
+        this.label = label;
+        setSums(orderCount, cancelledCount, itemQuantity, salesAmount, taxAmount, tipAmount, totalAmount, refundedAmount);
+    }
+
+    private void setSums(Long orderCount, Long cancelledCount, Long itemQuantity,
+                         BigDecimal salesAmount, BigDecimal taxAmount, BigDecimal tipAmount,
+                         BigDecimal totalAmount, BigDecimal refundedAmount) {
+        this.orderCount = orderCount != null ? orderCount : 0;
+        this.cancelledCount = cancelledCount != null ? cancelledCount : 0;
+        this.itemQuantity = itemQuantity != null ? itemQuantity : 0;
+        this.salesAmount = salesAmount != null ? salesAmount : BigDecimal.ZERO;
+        this.taxAmount = taxAmount != null ? taxAmount : BigDecimal.ZERO;
+        this.tipAmount = tipAmount != null ? tipAmount : BigDecimal.ZERO;
+        this.totalAmount = totalAmount != null ? totalAmount : BigDecimal.ZERO;
+        this.refundedAmount = refundedAmount != null ? refundedAmount : BigDecimal.ZERO;
+    }
+
+    /**
+     * Add another row's sums to this one
+     */
+    public void add(SalesReportRowDto other) {
+        orderCount += other.orderCount;
+        cancelledCount += other.cancelledCount;
+        itemQuantity += other.itemQuantity;
+        salesAmount = salesAmount.add(other.salesAmount);
+        taxAmount = taxAmount.add(other.taxAmount);
+        tipAmount = tipAmount.add(other.tipAmount);
+        totalAmount = totalAmount.add(other.totalAmount);
+        refundedAmount = refundedAmount.add(other.refundedAmount);
+    }
+
+    // Getters and Setters
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public OffsetDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(OffsetDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public long getCancelledCount() {
+        return cancelledCount;
+    }
+
+    public void setCancelledCount(long cancelledCount) {
+        this.cancelledCount = cancelledCount;
+    }
+
+    public long getItemQuantity() {
+        return itemQuantity;
+    }
+
+    public void setItemQuantity(long itemQuantity) {
+        this.itemQuantity = itemQuantity;
+    }
+
+    public BigDecimal getSalesAmount() {
+        return salesAmount;
+    }
+
+    public void setSalesAmount(BigDecimal salesAmount) {
+        this.salesAmount = salesAmount;
+    }
+
+    public BigDecimal getTaxAmount() {
+        return taxAmount;
+    }
+
+    public void setTaxAmount(BigDecimal taxAmount) {
+        this.taxAmount = taxAmount;
+    }
+
+    public BigDecimal getTipAmount() {
+        return tipAmount;
+    }
+
+    public void setTipAmount(BigDecimal tipAmount) {
+        this.tipAmount = tipAmount;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public BigDecimal getRefundedAmount() {
+        return refundedAmount;
+    }
+
+    public void setRefundedAmount(BigDecimal refundedAmount) {
+        this.refundedAmount = refundedAmount;
+    }
+}
@@ -0,0 +1,68 @@
+package com.lerestaurant.le_restaurant_backend.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of automatic table assignment for one date (F109)
+ *
+ * @author Le Restaurant Development Team
+ * @module F108-F109-ReservationManagement
+ */
+public class TableAssignmentResultDto {
+
+    private LocalDate date;
+    private int assignedCount;
+    private int movedCount;
+    private List<Long> unassignedReservationIds = new ArrayList<>();
+
+    // Constructors
+    public TableAssignmentResultDto() {}
+
+    public TableAssignmentResultDto(LocalDate date) {
+        this.date = date;
+    }
+
+    // Getters and Setters
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    /**
+     * Pending reservations that hold automatically assigned tables after the run
+     */
+    public int getAssignedCount() {
+        return assignedCount;
+    }
+
+    public void setAssignedCount(int assignedCount) {
+        this.assignedCount = assignedCount;
+    }
+
+    /**
+     * Reservations whose tables changed in the run, including newly assigned ones
+     */
+    public int getMovedCount() {
+        return movedCount;
+    }
+
+    public void setMovedCount(int movedCount) {
+        this.movedCount = movedCount;
+    }
+
+    /**
+     * Pending reservations no table or pair of joined tables could seat
+     */
+    public List<Long> getUnassignedReservationIds() {
+        return unassignedReservationIds;
+    }
+
+    public void setUnassignedReservationIds(List<Long> unassignedReservationIds) {
+        this.unassignedReservationIds = unassignedReservationIds;
+    }
+}
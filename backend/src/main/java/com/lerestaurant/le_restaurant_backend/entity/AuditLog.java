@@ -10,7 +10,8 @@ public class AuditLog {
     public enum ActionType { CREATE, UPDATE, DELETE, VIEW }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_logs_seq")
+    @SequenceGenerator(name = "audit_logs_seq", sequenceName = "audit_logs_seq", allocationSize = 50)
     @Column(name = "log_id")
     private Long id;
 
@@ -8,7 +8,8 @@ import java.time.OffsetDateTime;
 public class CustomerPreference {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_preferences_seq")
+    @SequenceGenerator(name = "customer_preferences_seq", sequenceName = "customer_preferences_seq", allocationSize = 50)
     @Column(name = "preference_id")
     private Long id;
 
@@ -1,5 +1,7 @@
 package com.lerestaurant.le_restaurant_backend.entity;
 
+import com.lerestaurant.le_restaurant_backend.util.Money;
+import com.lerestaurant.le_restaurant_backend.util.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.Data;
 
@@ -15,7 +17,8 @@ public class Delivery {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "delivery_seq")
+    @SequenceGenerator(name = "delivery_seq", sequenceName = "delivery_seq", allocationSize = 50)
     @Column(name = "delivery_id")
     private Long id;
 
@@ -32,7 +35,8 @@ public class Delivery {
     private DeliveryDriver driver;
 
     @Column(name = "delivery_fee", precision = 10, scale = 2)
-    private BigDecimal deliveryFee = BigDecimal.ZERO;
+    @Convert(converter = MoneyConverter.class)
+    private Money deliveryFee = Money.ZERO;
 
     @Column(name = "estimated_delivery_time_minutes")
     private Integer estimatedDeliveryTimeMinutes;
@@ -72,4 +76,10 @@ public class Delivery {
 
     @ElementCollection
     private List<String> orderedItems;
+
+    // Fee is held in cents; these replace the generated accessors to keep the BigDecimal view
+    public BigDecimal getDeliveryFee() { return deliveryFee != null ? deliveryFee.toBigDecimal() : null; }
+    public void setDeliveryFee(BigDecimal deliveryFee) { this.deliveryFee = deliveryFee != null ? Money.of(deliveryFee) : null; }
+    public Money getDeliveryFeeMoney() { return deliveryFee; }
+    public void setDeliveryFeeMoney(Money deliveryFee) { this.deliveryFee = deliveryFee; }
 }
@@ -11,7 +11,8 @@ public class DeliveryAddress {
     public enum AddressType { HOME, WORK, OTHER }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "delivery_addresses_seq")
+    @SequenceGenerator(name = "delivery_addresses_seq", sequenceName = "delivery_addresses_seq", allocationSize = 50)
     @Column(name = "address_id")
     private Long id;
 
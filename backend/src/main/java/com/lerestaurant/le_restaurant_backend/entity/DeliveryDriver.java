@@ -11,7 +11,8 @@ public class DeliveryDriver {
     public enum DriverStatus { AVAILABLE, BUSY, OFFLINE }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "delivery_drivers_seq")
+    @SequenceGenerator(name = "delivery_drivers_seq", sequenceName = "delivery_drivers_seq", allocationSize = 50)
     @Column(name = "driver_id")
     private Long id;
 
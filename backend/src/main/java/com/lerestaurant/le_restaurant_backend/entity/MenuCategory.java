@@ -10,7 +10,8 @@ public class MenuCategory {
     public enum CategoryStatus { ACTIVE, INACTIVE }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "menu_categories_seq")
+    @SequenceGenerator(name = "menu_categories_seq", sequenceName = "menu_categories_seq", allocationSize = 50)
     @Column(name = "category_id")
     private Long id;
 
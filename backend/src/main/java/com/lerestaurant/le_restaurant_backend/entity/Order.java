@@ -1,23 +1,34 @@
 package com.lerestaurant.le_restaurant_backend.entity;
 
 import jakarta.persistence.*;
+import com.lerestaurant.le_restaurant_backend.util.Money;
+import com.lerestaurant.le_restaurant_backend.util.MoneyConverter;
+import org.hibernate.annotations.BatchSize;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_order_time_id", columnList = "order_time, order_id")
+})
 public class Order {
 
     public enum OrderType { DINE_IN, TAKEOUT, DELIVERY }
     public enum OrderStatus { PENDING, CONFIRMED, PREPARING, READY, COMPLETED, CANCELLED }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     @Column(name = "order_id")
     private Long id;
 
+    // Optimistic lock: concurrent updates of the same order fail instead of overwriting each other
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne
     @JoinColumn(name = "customer_id")
     private User customer;
@@ -30,17 +41,27 @@ public class Order {
     @Column(name = "order_type", nullable = false)
     private OrderType orderType = OrderType.DINE_IN;
 
+    // Amounts are held in cents; the BigDecimal accessors keep the numeric(10,2) view
     @Column(precision = 10, scale = 2)
-    private BigDecimal subtotal = BigDecimal.ZERO;
+    @Convert(converter = MoneyConverter.class)
+    private Money subtotal = Money.ZERO;
+
+    // Combo discounts; total = subtotal - discount + tax + tip
+    @Column(name = "discount_amount", precision = 10, scale = 2)
+    @Convert(converter = MoneyConverter.class)
+    private Money discountAmount = Money.ZERO;
 
     @Column(name = "tax_amount", precision = 10, scale = 2)
-    private BigDecimal taxAmount = BigDecimal.ZERO;
+    @Convert(converter = MoneyConverter.class)
+    private Money taxAmount = Money.ZERO;
 
     @Column(name = "tip_amount", precision = 10, scale = 2)
-    private BigDecimal tipAmount = BigDecimal.ZERO;
+    @Convert(converter = MoneyConverter.class)
+    private Money tipAmount = Money.ZERO;
 
     @Column(name = "total_amount", precision = 10, scale = 2)
-    private BigDecimal totalAmount = BigDecimal.ZERO;
+    @Convert(converter = MoneyConverter.class)
+    private Money totalAmount = Money.ZERO;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -58,25 +79,41 @@ public class Order {
     @Column(name = "completed_at")
     private OffsetDateTime completedAt;
 
+    // Fallback for read paths without a fetch join: lazy items load in batches
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     private List<OrderItem> items = new ArrayList<>();
 
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
     public User getCustomer() { return customer; }
     public void setCustomer(User customer) { this.customer = customer; }
     public RestaurantTable getTable() { return table; }
     public void setTable(RestaurantTable table) { this.table = table; }
     public OrderType getOrderType() { return orderType; }
     public void setOrderType(OrderType orderType) { this.orderType = orderType; }
-    public BigDecimal getSubtotal() { return subtotal; }
-    public void setSubtotal(BigDecimal subtotal) { this.subtotal = subtotal; }
-    public BigDecimal getTaxAmount() { return taxAmount; }
-    public void setTaxAmount(BigDecimal taxAmount) { this.taxAmount = taxAmount; }
-    public BigDecimal getTipAmount() { return tipAmount; }
-    public void setTipAmount(BigDecimal tipAmount) { this.tipAmount = tipAmount; }
-    public BigDecimal getTotalAmount() { return totalAmount; }
-    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
+    public BigDecimal getSubtotal() { return subtotal != null ? subtotal.toBigDecimal() : null; }
+    public void setSubtotal(BigDecimal subtotal) { this.subtotal = subtotal != null ? Money.of(subtotal) : null; }
+    public Money getSubtotalMoney() { return subtotal; }
+    public void setSubtotalMoney(Money subtotal) { this.subtotal = subtotal; }
+    public BigDecimal getDiscountAmount() { return discountAmount != null ? discountAmount.toBigDecimal() : null; }
+    public void setDiscountAmount(BigDecimal discountAmount) { this.discountAmount = discountAmount != null ? Money.of(discountAmount) : null; }
+    public Money getDiscountAmountMoney() { return discountAmount; }
+    public void setDiscountAmountMoney(Money discountAmount) { this.discountAmount = discountAmount; }
+    public BigDecimal getTaxAmount() { return taxAmount != null ? taxAmount.toBigDecimal() : null; }
+    public void setTaxAmount(BigDecimal taxAmount) { this.taxAmount = taxAmount != null ? Money.of(taxAmount) : null; }
+    public Money getTaxAmountMoney() { return taxAmount; }
+    public void setTaxAmountMoney(Money taxAmount) { this.taxAmount = taxAmount; }
+    public BigDecimal getTipAmount() { return tipAmount != null ? tipAmount.toBigDecimal() : null; }
+    public void setTipAmount(BigDecimal tipAmount) { this.tipAmount = tipAmount != null ? Money.of(tipAmount) : null; }
+    public Money getTipAmountMoney() { return tipAmount; }
+    public void setTipAmountMoney(Money tipAmount) { this.tipAmount = tipAmount; }
+    public BigDecimal getTotalAmount() { return totalAmount != null ? totalAmount.toBigDecimal() : null; }
+    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount != null ? Money.of(totalAmount) : null; }
+    public Money getTotalAmountMoney() { return totalAmount; }
+    public void setTotalAmountMoney(Money totalAmount) { this.totalAmount = totalAmount; }
     public OrderStatus getStatus() { return status; }
     public void setStatus(OrderStatus status) { this.status = status; }
     public String getSpecialInstructions() { return specialInstructions; }
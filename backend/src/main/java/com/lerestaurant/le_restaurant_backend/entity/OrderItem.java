@@ -1,5 +1,7 @@
 package com.lerestaurant.le_restaurant_backend.entity;
 
+import com.lerestaurant.le_restaurant_backend.util.Money;
+import com.lerestaurant.le_restaurant_backend.util.MoneyConverter;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -9,7 +11,8 @@ import java.time.OffsetDateTime;
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = 50)
     @Column(name = "order_item_id")
     private Long id;
 
@@ -25,7 +28,8 @@ public class OrderItem {
     private Integer quantity;
 
     @Column(name = "unit_price", precision = 10, scale = 2, nullable = false)
-    private BigDecimal unitPrice;
+    @Convert(converter = MoneyConverter.class)
+    private Money unitPrice;
 
     @Column(columnDefinition = "TEXT")
     private String customizations;
@@ -44,15 +48,21 @@ public class OrderItem {
     public void setMenuItem(MenuItem menuItem) { this.menuItem = menuItem; }
     public Integer getQuantity() { return quantity; }
     public void setQuantity(Integer quantity) { this.quantity = quantity; }
-    public BigDecimal getUnitPrice() { return unitPrice; }
-    public void setUnitPrice(BigDecimal unitPrice) { this.unitPrice = unitPrice; }
+    public BigDecimal getUnitPrice() { return unitPrice != null ? unitPrice.toBigDecimal() : null; }
+    public void setUnitPrice(BigDecimal unitPrice) { this.unitPrice = unitPrice != null ? Money.of(unitPrice) : null; }
+    public Money getUnitPriceMoney() { return unitPrice; }
+    public void setUnitPriceMoney(Money unitPrice) { this.unitPrice = unitPrice; }
     
     // Calculate subtotal (unitPrice * quantity)
     public BigDecimal getSubtotal() {
+        return getSubtotalMoney().toBigDecimal();
+    }
+    
+    public Money getSubtotalMoney() {
         if (unitPrice == null || quantity == null) {
-            return BigDecimal.ZERO;
+            return Money.ZERO;
         }
-        return unitPrice.multiply(new BigDecimal(quantity));
+        return unitPrice.times(quantity);
     }
     
     public String getCustomizations() { return customizations; }
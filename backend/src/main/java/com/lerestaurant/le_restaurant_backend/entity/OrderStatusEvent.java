@@ -0,0 +1,59 @@
+package com.lerestaurant.le_restaurant_backend.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+
+/**
+ * One status change of an order. Rows are only ever inserted, in the same
+ * transaction as the change itself, so the history of an order is the ordered
+ * list of its events and the time spent in a status is the gap between the
+ * event entering it and the next one.
+ */
+@Entity
+@Immutable
+@Table(name = "order_status_events", indexes = {
+        @Index(name = "idx_order_status_events_order", columnList = "order_id, occurred_at"),
+        @Index(name = "idx_order_status_events_occurred_at", columnList = "occurred_at")
+})
+public class OrderStatusEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_status_events_seq")
+    @SequenceGenerator(name = "order_status_events_seq", sequenceName = "order_status_events_seq", allocationSize = 50)
+    @Column(name = "event_id")
+    private Long id;
+
+    // Plain id rather than a relation: writing an event never loads the order
+    @Column(name = "order_id", nullable = false, updatable = false)
+    private Long orderId;
+
+    // Null for the event that created the order
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", length = 20, updatable = false)
+    private Order.OrderStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false, length = 20, updatable = false)
+    private Order.OrderStatus toStatus;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private OffsetDateTime occurredAt;
+
+    protected OrderStatusEvent() {}
+
+    public OrderStatusEvent(Long orderId, Order.OrderStatus fromStatus, Order.OrderStatus toStatus,
+                            OffsetDateTime occurredAt) {
+        this.orderId = orderId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getId() { return id; }
+    public Long getOrderId() { return orderId; }
+    public Order.OrderStatus getFromStatus() { return fromStatus; }
+    public Order.OrderStatus getToStatus() { return toStatus; }
+    public OffsetDateTime getOccurredAt() { return occurredAt; }
+}
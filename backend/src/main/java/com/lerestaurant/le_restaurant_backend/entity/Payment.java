@@ -1,18 +1,23 @@
 package com.lerestaurant.le_restaurant_backend.entity;
 
+import com.lerestaurant.le_restaurant_backend.util.Money;
+import com.lerestaurant.le_restaurant_backend.util.MoneyConverter;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_payment_time_id", columnList = "payment_time, payment_id")
+})
 public class Payment {
 
     public enum PaymentMethod { CREDIT_CARD, DEBIT_CARD, CASH, DIGITAL_WALLET }
     public enum PaymentStatus { PENDING, COMPLETED, FAILED, REFUNDED }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = 50)
     @Column(name = "payment_id")
     private Long id;
 
@@ -21,7 +26,8 @@ public class Payment {
     private Order order;
 
     @Column(precision = 10, scale = 2, nullable = false)
-    private BigDecimal amount;
+    @Convert(converter = MoneyConverter.class)
+    private Money amount;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "payment_method", nullable = false)
@@ -38,7 +44,7 @@ public class Payment {
     private String paymentDetails; // store encrypted or masked details
 
     @Column(name = "payment_time")
-    private OffsetDateTime paymentTime;
+    private OffsetDateTime paymentTime = OffsetDateTime.now();
 
     @Column(name = "processed_at")
     private OffsetDateTime processedAt;
@@ -50,8 +56,10 @@ public class Payment {
     public void setId(Long id) { this.id = id; }
     public Order getOrder() { return order; }
     public void setOrder(Order order) { this.order = order; }
-    public BigDecimal getAmount() { return amount; }
-    public void setAmount(BigDecimal amount) { this.amount = amount; }
+    public BigDecimal getAmount() { return amount != null ? amount.toBigDecimal() : null; }
+    public void setAmount(BigDecimal amount) { this.amount = amount != null ? Money.of(amount) : null; }
+    public Money getAmountMoney() { return amount; }
+    public void setAmountMoney(Money amount) { this.amount = amount; }
     public PaymentMethod getPaymentMethod() { return paymentMethod; }
     public void setPaymentMethod(PaymentMethod paymentMethod) { this.paymentMethod = paymentMethod; }
     public String getTransactionId() { return transactionId; }
@@ -11,7 +11,8 @@ public class PaymentRefund {
     public enum RefundStatus { PENDING, COMPLETED, FAILED }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_refunds_seq")
+    @SequenceGenerator(name = "payment_refunds_seq", sequenceName = "payment_refunds_seq", allocationSize = 50)
     @Column(name = "refund_id")
     private Long id;
 
@@ -0,0 +1,117 @@
+package com.lerestaurant.le_restaurant_backend.entity;
+
+import com.lerestaurant.le_restaurant_backend.util.Money;
+import com.lerestaurant.le_restaurant_backend.util.MoneyConverter;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * One tax or pricing rule. Active rules are compiled by PricingService into a
+ * per-menu-item price and tax table; orders never evaluate rules directly.
+ *
+ * TAX: rate is the tax rate (0.08 = 8%) for a menu item, a category, or the
+ * whole menu when neither is set. The most specific rule wins.
+ * HAPPY_HOUR: rate is the discount (0.25 = 25% off) between startTime and
+ * endTime (restaurant local time; may wrap past midnight) for a menu item, a
+ * category or the whole menu. Overlapping rules do not stack; the largest
+ * discount applies.
+ * COMBO: amount is taken off once for every complete set of comboMenuItemIds
+ * on the same order.
+ */
+@Entity
+@Table(name = "pricing_rules")
+public class PricingRule {
+
+    public enum RuleType { TAX, HAPPY_HOUR, COMBO }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pricing_rules_seq")
+    @SequenceGenerator(name = "pricing_rules_seq", sequenceName = "pricing_rules_seq", allocationSize = 50)
+    @Column(name = "pricing_rule_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rule_type", nullable = false, length = 20)
+    private RuleType type;
+
+    @Column
+    private String category;
+
+    @Column(name = "menu_item_id")
+    private Long menuItemId;
+
+    @Column(precision = 5, scale = 4)
+    private BigDecimal rate;
+
+    @Column(precision = 10, scale = 2)
+    @Convert(converter = MoneyConverter.class)
+    private Money amount;
+
+    @Column(name = "start_time")
+    private LocalTime startTime;
+
+    @Column(name = "end_time")
+    private LocalTime endTime;
+
+    @ElementCollection
+    @CollectionTable(name = "pricing_rule_combo_items", joinColumns = @JoinColumn(name = "pricing_rule_id"))
+    @Column(name = "menu_item_id", nullable = false)
+    private Set<Long> comboMenuItemIds = new LinkedHashSet<>();
+
+    @Column(nullable = false)
+    private boolean active = true;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = OffsetDateTime.now();
+        updatedAt = OffsetDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = OffsetDateTime.now();
+    }
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public RuleType getType() { return type; }
+    public void setType(RuleType type) { this.type = type; }
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+    public Long getMenuItemId() { return menuItemId; }
+    public void setMenuItemId(Long menuItemId) { this.menuItemId = menuItemId; }
+    public BigDecimal getRate() { return rate; }
+    public void setRate(BigDecimal rate) { this.rate = rate; }
+    public BigDecimal getAmount() { return amount != null ? amount.toBigDecimal() : null; }
+    public void setAmount(BigDecimal amount) { this.amount = amount != null ? Money.of(amount) : null; }
+    public Money getAmountMoney() { return amount; }
+    public void setAmountMoney(Money amount) { this.amount = amount; }
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+    public Set<Long> getComboMenuItemIds() { return comboMenuItemIds; }
+    public void setComboMenuItemIds(Set<Long> comboMenuItemIds) { this.comboMenuItemIds = comboMenuItemIds; }
+    public boolean isActive() { return active; }
+    public void setActive(boolean active) { this.active = active; }
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(OffsetDateTime createdAt) { this.createdAt = createdAt; }
+    public OffsetDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(OffsetDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
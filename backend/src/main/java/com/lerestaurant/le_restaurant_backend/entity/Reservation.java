@@ -6,13 +6,24 @@ import java.time.LocalTime;
 import java.time.OffsetDateTime;
 
 @Entity
-@Table(name = "reservations")
+@Table(name = "reservations", indexes = {
+        @Index(name = "idx_reservations_created_at_id", columnList = "created_at, reservation_id"),
+        @Index(name = "idx_reservations_date_time", columnList = "reservation_date, reservation_time"),
+        @Index(name = "idx_reservations_table_date_time", columnList = "table_id, reservation_date, reservation_time"),
+        @Index(name = "idx_reservations_joined_table_date_time",
+                columnList = "joined_table_id, reservation_date, reservation_time")
+})
 public class Reservation {
 
     public enum ReservationStatus { PENDING, CONFIRMED, SEATED, COMPLETED, CANCELLED, NO_SHOW }
 
+    // How long a table is held when the request does not say; seatings are capped at MAX
+    public static final int DEFAULT_DURATION_MINUTES = 90;
+    public static final int MAX_DURATION_MINUTES = 360;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservations_seq")
+    @SequenceGenerator(name = "reservations_seq", sequenceName = "reservations_seq", allocationSize = 50)
     @Column(name = "reservation_id")
     private Long id;
 
@@ -24,12 +35,24 @@ public class Reservation {
     @JoinColumn(name = "table_id")
     private RestaurantTable table; // nullable until assigned
 
+    // Second table pushed together with the first for a large party
+    @ManyToOne
+    @JoinColumn(name = "joined_table_id")
+    private RestaurantTable joinedTable;
+
+    // Set by TableAssignmentService; such tables may be moved while the reservation is PENDING
+    @Column(name = "table_auto_assigned", nullable = false)
+    private boolean tableAutoAssigned;
+
     @Column(name = "reservation_date", nullable = false)
     private LocalDate reservationDate;
 
     @Column(name = "reservation_time", nullable = false)
     private LocalTime reservationTime;
 
+    @Column(name = "duration_minutes", nullable = false)
+    private Integer durationMinutes = DEFAULT_DURATION_MINUTES;
+
     @Column(name = "party_size", nullable = false)
     private Integer partySize;
 
@@ -65,10 +88,16 @@ public class Reservation {
     public void setCustomer(User customer) { this.customer = customer; }
     public RestaurantTable getTable() { return table; }
     public void setTable(RestaurantTable table) { this.table = table; }
+    public RestaurantTable getJoinedTable() { return joinedTable; }
+    public void setJoinedTable(RestaurantTable joinedTable) { this.joinedTable = joinedTable; }
+    public boolean isTableAutoAssigned() { return tableAutoAssigned; }
+    public void setTableAutoAssigned(boolean tableAutoAssigned) { this.tableAutoAssigned = tableAutoAssigned; }
     public LocalDate getReservationDate() { return reservationDate; }
     public void setReservationDate(LocalDate reservationDate) { this.reservationDate = reservationDate; }
     public LocalTime getReservationTime() { return reservationTime; }
     public void setReservationTime(LocalTime reservationTime) { this.reservationTime = reservationTime; }
+    public Integer getDurationMinutes() { return durationMinutes; }
+    public void setDurationMinutes(Integer durationMinutes) { this.durationMinutes = durationMinutes; }
     public Integer getPartySize() { return partySize; }
     public void setPartySize(Integer partySize) { this.partySize = partySize; }
     public String getSpecialRequests() { return specialRequests; }
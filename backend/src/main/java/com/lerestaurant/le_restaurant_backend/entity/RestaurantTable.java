@@ -11,7 +11,8 @@ public class RestaurantTable {
     public enum TableStatus { AVAILABLE, OCCUPIED, RESERVED, MAINTENANCE }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "restaurant_tables_seq")
+    @SequenceGenerator(name = "restaurant_tables_seq", sequenceName = "restaurant_tables_seq", allocationSize = 50)
     @Column(name = "table_id")
     private Long id;
 
@@ -31,6 +32,10 @@ public class RestaurantTable {
     @Column(name = "location_description", columnDefinition = "TEXT")
     private String locationDescription;
 
+    // Neighbouring table this one can be pushed together with for a large party
+    @Column(name = "joinable_table_id")
+    private Long joinableTableId;
+
     @Column(name = "created_at", nullable = false)
     private OffsetDateTime createdAt = OffsetDateTime.now();
 
@@ -49,6 +54,8 @@ public class RestaurantTable {
     public void setStatus(TableStatus status) { this.status = status; }
     public String getLocationDescription() { return locationDescription; }
     public void setLocationDescription(String locationDescription) { this.locationDescription = locationDescription; }
+    public Long getJoinableTableId() { return joinableTableId; }
+    public void setJoinableTableId(Long joinableTableId) { this.joinableTableId = joinableTableId; }
     public OffsetDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(OffsetDateTime createdAt) { this.createdAt = createdAt; }
     public OffsetDateTime getUpdatedAt() { return updatedAt; }
@@ -0,0 +1,126 @@
+package com.lerestaurant.le_restaurant_backend.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Locale;
+
+/**
+ * Pre-aggregated sales figures for one hour of order time and one reporting
+ * dimension value (a menu item, an order type, a table, or the whole hour).
+ * Rows are incremented when orders complete, are cancelled or are refunded,
+ * so reports read buckets instead of orders.
+ */
+@Entity
+@Table(name = "sales_rollups",
+       uniqueConstraints = @UniqueConstraint(name = "uk_sales_rollups_bucket",
+               columnNames = {"dimension", "dimension_key", "bucket_start"}),
+       indexes = @Index(name = "idx_sales_rollups_dimension_bucket", columnList = "dimension, bucket_start"))
+public class SalesRollup {
+
+    public enum Dimension {
+        HOUR, MENU_ITEM, ORDER_TYPE, TABLE;
+
+        public static Dimension from(String value) {
+            if (value == null) {
+                return HOUR;
+            }
+            switch (value.trim().toLowerCase(Locale.ROOT).replace('-', '_')) {
+                case "hour":
+                    return HOUR;
+                case "menu_item":
+                case "item":
+                    return MENU_ITEM;
+                case "order_type":
+                case "type":
+                    return ORDER_TYPE;
+                case "table":
+                    return TABLE;
+                default:
+                    throw new IllegalArgumentException("Unsupported groupBy: " + value
+                            + " (expected hour, menu-item, order-type or table)");
+            }
+        }
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sales_rollups_seq")
+    @SequenceGenerator(name = "sales_rollups_seq", sequenceName = "sales_rollups_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Dimension dimension;
+
+    // Menu item id, order type name or table id; empty for HOUR
+    @Column(name = "dimension_key", nullable = false, length = 64)
+    private String dimensionKey;
+
+    // Display name when the bucket was created, e.g. the menu item name
+    @Column
+    private String label;
+
+    // Start of the UTC hour the orders were placed in
+    @Column(name = "bucket_start", nullable = false)
+    private OffsetDateTime bucketStart;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "cancelled_count", nullable = false)
+    private long cancelledCount;
+
+    @Column(name = "item_quantity", nullable = false)
+    private long itemQuantity;
+
+    @Column(name = "sales_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal salesAmount = BigDecimal.ZERO;
+
+    @Column(name = "tax_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal taxAmount = BigDecimal.ZERO;
+
+    @Column(name = "tip_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal tipAmount = BigDecimal.ZERO;
+
+    @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    @Column(name = "refunded_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal refundedAmount = BigDecimal.ZERO;
+
+    public SalesRollup() {}
+
+    public SalesRollup(Dimension dimension, String dimensionKey, String label, OffsetDateTime bucketStart) {
+        this.dimension = dimension;
+        this.dimensionKey = dimensionKey;
+        this.label = label;
+        this.bucketStart = bucketStart;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Dimension getDimension() { return dimension; }
+    public void setDimension(Dimension dimension) { this.dimension = dimension; }
+    public String getDimensionKey() { return dimensionKey; }
+    public void setDimensionKey(String dimensionKey) { this.dimensionKey = dimensionKey; }
+    public String getLabel() { return label; }
+    public void setLabel(String label) { this.label = label; }
+    public OffsetDateTime getBucketStart() { return bucketStart; }
+    public void setBucketStart(OffsetDateTime bucketStart) { this.bucketStart = bucketStart; }
+    public long getOrderCount() { return orderCount; }
+    public void setOrderCount(long orderCount) { this.orderCount = orderCount; }
+    public long getCancelledCount() { return cancelledCount; }
+    public void setCancelledCount(long cancelledCount) { this.cancelledCount = cancelledCount; }
+    public long getItemQuantity() { return itemQuantity; }
+    public void setItemQuantity(long itemQuantity) { this.itemQuantity = itemQuantity; }
+    public BigDecimal getSalesAmount() { return salesAmount; }
+    public void setSalesAmount(BigDecimal salesAmount) { this.salesAmount = salesAmount; }
+    public BigDecimal getTaxAmount() { return taxAmount; }
+    public void setTaxAmount(BigDecimal taxAmount) { this.taxAmount = taxAmount; }
+    public BigDecimal getTipAmount() { return tipAmount; }
+    public void setTipAmount(BigDecimal tipAmount) { this.tipAmount = tipAmount; }
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
+    public BigDecimal getRefundedAmount() { return refundedAmount; }
+    public void setRefundedAmount(BigDecimal refundedAmount) { this.refundedAmount = refundedAmount; }
+}
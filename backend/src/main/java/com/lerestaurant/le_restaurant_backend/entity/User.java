@@ -7,7 +7,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "users", indexes = {
-        @Index(name = "uk_users_email", columnList = "email", unique = true)
+        @Index(name = "uk_users_email", columnList = "email", unique = true),
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, user_id")
 })
 
 public class User {
@@ -21,7 +22,8 @@ public class User {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     @Column(name = "user_id")
     private Long id;
 
@@ -12,7 +12,8 @@ public class UserSession {
     public enum SessionStatus { ACTIVE, EXPIRED, REVOKED }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_sessions_seq")
+    @SequenceGenerator(name = "user_sessions_seq", sequenceName = "user_sessions_seq", allocationSize = 50)
     @Column(name = "session_id")
     private Long id;
 
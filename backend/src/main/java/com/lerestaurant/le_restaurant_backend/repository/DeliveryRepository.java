@@ -1,9 +1,13 @@
 package com.lerestaurant.le_restaurant_backend.repository;
 
 import com.lerestaurant.le_restaurant_backend.entity.Delivery;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
 @Repository
@@ -15,6 +19,13 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
     List<Delivery> findByOrderId(Long orderId);
     
     List<Delivery> findByStatusAndDriverId(Delivery.DeliveryStatus status, Long driverId);
+    
+    // Keyset page, newest first by (order time, id): deliveries have no creation
+    // timestamp of their own and assignedAt changes after creation
+    @Query("SELECT d FROM Delivery d JOIN d.order o "
+            + "WHERE o.orderTime < :time OR (o.orderTime = :time AND d.id < :id) "
+            + "ORDER BY o.orderTime DESC, d.id DESC")
+    List<Delivery> findPageAfter(@Param("time") OffsetDateTime time, @Param("id") Long id, Pageable window);
 }
 
 
@@ -3,8 +3,10 @@ package com.lerestaurant.le_restaurant_backend.repository;
 import com.lerestaurant.le_restaurant_backend.entity.MenuItem;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,13 +27,6 @@ public interface MenuRepository extends JpaRepository<MenuItem, Long> {
      */
     Optional<MenuItem> findByName(String name);
     
-    /**
-     * Search menu items by name (case-insensitive, partial match)
-     * @param name The name to search for
-     * @return List of matching menu items
-     */
-    List<MenuItem> findByNameContainingIgnoreCase(String name);
-    
     /**
      * Find menu items by category
      * @param category The category to filter by
@@ -53,6 +48,14 @@ public interface MenuRepository extends JpaRepository<MenuItem, Long> {
     @Query("SELECT DISTINCT m.category FROM MenuItem m ORDER BY m.category")
     List<String> findDistinctCategories();
     
+    /**
+     * Find which of the given names are already taken (bulk import duplicate check)
+     * @param names Candidate menu item names
+     * @return Names that already exist
+     */
+    @Query("SELECT m.name FROM MenuItem m WHERE m.name IN :names")
+    List<String> findExistingNames(@Param("names") Collection<String> names);
+    
     /**
      * Find menu items by category and availability
      * @param category The category to filter by
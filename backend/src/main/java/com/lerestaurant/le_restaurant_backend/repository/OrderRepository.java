@@ -1,11 +1,23 @@
 package com.lerestaurant.le_restaurant_backend.repository;
 
 import com.lerestaurant.le_restaurant_backend.entity.Order;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -18,5 +30,94 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     
     List<Order> findByCustomerIdAndStatus(Long customerId, Order.OrderStatus status);
     
-    List<Order> findByOrderTimeBetween(OffsetDateTime start, OffsetDateTime end);
+    /**
+     * Stream orders placed in [start, end) oldest first, with customer and table
+     * joined in. Rows are pulled from a server-side cursor in fetch-size chunks;
+     * callers must consume the stream inside a transaction and close it.
+     */
+    @EntityGraph(attributePaths = {"customer", "table"})
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT o FROM Order o WHERE o.orderTime >= :start AND o.orderTime < :end ORDER BY o.orderTime, o.id")
+    Stream<Order> findByOrderTimeBetween(@Param("start") OffsetDateTime start, @Param("end") OffsetDateTime end);
+    
+    // List read paths: customer and table are joined into the order query;
+    // items are loaded afterwards with fetchItemsWithMenuItems
+    
+    @EntityGraph(attributePaths = {"customer", "table"})
+    @Query("SELECT o FROM Order o ORDER BY o.id")
+    List<Order> findAllWithCustomerAndTable();
+    
+    @EntityGraph(attributePaths = {"customer", "table"})
+    @Query("SELECT o FROM Order o WHERE o.customer.id = :customerId ORDER BY o.id")
+    List<Order> findByCustomerIdWithCustomerAndTable(@Param("customerId") Long customerId);
+    
+    @EntityGraph(attributePaths = {"customer", "table"})
+    @Query("SELECT o FROM Order o WHERE o.status = :status ORDER BY o.id")
+    List<Order> findByStatusWithCustomerAndTable(@Param("status") Order.OrderStatus status);
+    
+    @EntityGraph(attributePaths = {"customer", "table"})
+    @Query("SELECT o FROM Order o WHERE o.id IN :ids AND o.status = :status ORDER BY o.id")
+    List<Order> findByIdInAndStatusWithCustomerAndTable(@Param("ids") Collection<Long> ids,
+                                                        @Param("status") Order.OrderStatus status);
+    
+    @EntityGraph(attributePaths = {"table"})
+    @Query("SELECT o FROM Order o WHERE o.status IN :statuses ORDER BY o.id")
+    List<Order> findByStatusInWithTable(@Param("statuses") Collection<Order.OrderStatus> statuses);
+
+    @EntityGraph(attributePaths = {"table"})
+    @Query("SELECT o FROM Order o WHERE o.id IN :ids ORDER BY o.id")
+    List<Order> findByIdInWithTable(@Param("ids") Collection<Long> ids);
+    
+    // Keyset pages, newest first by (orderTime, id); see KeysetCursor
+    
+    @EntityGraph(attributePaths = {"customer", "table"})
+    @Query("SELECT o FROM Order o WHERE o.orderTime < :time OR (o.orderTime = :time AND o.id < :id) "
+            + "ORDER BY o.orderTime DESC, o.id DESC")
+    List<Order> findPageAfter(@Param("time") OffsetDateTime time, @Param("id") Long id, Pageable window);
+    
+    @EntityGraph(attributePaths = {"customer", "table"})
+    @Query("SELECT o FROM Order o WHERE o.customer.id = :customerId "
+            + "AND (o.orderTime < :time OR (o.orderTime = :time AND o.id < :id)) "
+            + "ORDER BY o.orderTime DESC, o.id DESC")
+    List<Order> findPageByCustomerIdAfter(@Param("customerId") Long customerId,
+                                          @Param("time") OffsetDateTime time, @Param("id") Long id,
+                                          Pageable window);
+    
+    @EntityGraph(attributePaths = {"customer", "table"})
+    @Query("SELECT o FROM Order o WHERE o.status = :status "
+            + "AND (o.orderTime < :time OR (o.orderTime = :time AND o.id < :id)) "
+            + "ORDER BY o.orderTime DESC, o.id DESC")
+    List<Order> findPageByStatusAfter(@Param("status") Order.OrderStatus status,
+                                      @Param("time") OffsetDateTime time, @Param("id") Long id,
+                                      Pageable window);
+    
+    // Bulk status transitions: lock the orders and read their current statuses and versions
+    // without loading entities, then move every eligible order with one UPDATE
+    // guarded on its source status
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o.id, o.status, o.version FROM Order o WHERE o.id IN :ids ORDER BY o.id")
+    List<Object[]> findStatusesByIdInForUpdate(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Set status (and completedAt, when given) on orders still in one of the source statuses
+     * @return Number of orders updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :target, o.completedAt = COALESCE(:completedAt, o.completedAt), "
+            + "o.version = o.version + 1 "
+            + "WHERE o.id IN :ids AND o.status IN :sources")
+    int updateStatusWhereStatusIn(@Param("ids") Collection<Long> ids,
+                                  @Param("sources") Collection<Order.OrderStatus> sources,
+                                  @Param("target") Order.OrderStatus target,
+                                  @Param("completedAt") OffsetDateTime completedAt);
+    
+    /**
+     * Initialize items and their menu items for orders already in the persistence context
+     */
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items i LEFT JOIN FETCH i.menuItem WHERE o IN :orders")
+    List<Order> fetchItemsWithMenuItems(@Param("orders") Collection<Order> orders);
 }
@@ -0,0 +1,37 @@
+package com.lerestaurant.le_restaurant_backend.repository;
+
+import com.lerestaurant.le_restaurant_backend.entity.OrderStatusEvent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface OrderStatusEventRepository extends JpaRepository<OrderStatusEvent, Long> {
+
+    List<OrderStatusEvent> findByOrderIdOrderByOccurredAtAscIdAsc(Long orderId);
+
+    /**
+     * Every event up to end of the orders that changed status in [start, end),
+     * as (orderId, toStatus, occurredAt) rows grouped by order, oldest first.
+     * Earlier events are included so a stage that began before start can
+     * still be measured when it ends inside the window.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e.orderId, e.toStatus, e.occurredAt FROM OrderStatusEvent e "
+            + "WHERE e.occurredAt < :end AND e.orderId IN ("
+            + "SELECT w.orderId FROM OrderStatusEvent w "
+            + "WHERE w.occurredAt >= :start AND w.occurredAt < :end AND w.fromStatus IS NOT NULL) "
+            + "ORDER BY e.orderId, e.occurredAt, e.id")
+    List<Object[]> findTimelinesChangedBetween(@Param("start") OffsetDateTime start,
+                                               @Param("end") OffsetDateTime end);
+}
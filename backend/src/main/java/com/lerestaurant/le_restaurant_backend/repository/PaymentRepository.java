@@ -1,9 +1,13 @@
 package com.lerestaurant.le_restaurant_backend.repository;
 
 import com.lerestaurant.le_restaurant_backend.entity.Payment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +20,11 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     List<Payment> findByOrderIdAndStatus(Long orderId, Payment.PaymentStatus status);
     
     Optional<Payment> findByTransactionId(String transactionId);
+    
+    // Keyset page, newest first by (paymentTime, id); see KeysetCursor
+    @Query("SELECT p FROM Payment p WHERE p.paymentTime < :time OR (p.paymentTime = :time AND p.id < :id) "
+            + "ORDER BY p.paymentTime DESC, p.id DESC")
+    List<Payment> findPageAfter(@Param("time") OffsetDateTime time, @Param("id") Long id, Pageable window);
 }
 
 
@@ -0,0 +1,21 @@
+package com.lerestaurant.le_restaurant_backend.repository;
+
+import com.lerestaurant.le_restaurant_backend.entity.PricingRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PricingRuleRepository extends JpaRepository<PricingRule, Long> {
+
+    /**
+     * Active rules with their combo items, in one query
+     */
+    @Query("SELECT DISTINCT r FROM PricingRule r LEFT JOIN FETCH r.comboMenuItemIds WHERE r.active = true ORDER BY r.id")
+    List<PricingRule> findActiveWithComboItems();
+
+    @Query("SELECT DISTINCT r FROM PricingRule r LEFT JOIN FETCH r.comboMenuItemIds ORDER BY r.id")
+    List<PricingRule> findAllWithComboItems();
+}
@@ -1,7 +1,10 @@
 package com.lerestaurant.le_restaurant_backend.repository;
 
 import com.lerestaurant.le_restaurant_backend.entity.Reservation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -15,17 +18,28 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
 
     List<Reservation> findByStatus(Reservation.ReservationStatus status);
 
-    List<Reservation> findByTableIdAndReservationDateAndReservationTime(Long tableId, LocalDate date, LocalTime time);
-
     List<Reservation> findByReservationDate(LocalDate date);
 
     List<Reservation> findByReservationDateAndReservationTime(LocalDate date, LocalTime time);
 
-    // For conflict checking
-    default List<Reservation> findByTableIdAndReservationDateTime(Long tableId, OffsetDateTime dateTime) {
-        return findByTableIdAndReservationDateAndReservationTime(
-                tableId,
-                dateTime.toLocalDate(),
-                dateTime.toLocalTime());
-    }
+    // Every reservation on the dates in [start, end], with the eagerly loaded associations
+    // fetched in the same statement; range scan on idx_reservations_date_time
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.customer LEFT JOIN FETCH r.table "
+            + "LEFT JOIN FETCH r.joinedTable LEFT JOIN FETCH r.confirmedBy "
+            + "WHERE r.reservationDate BETWEEN :start AND :end")
+    List<Reservation> findByReservationDateBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
+    
+    // Keyset page, newest first by (createdAt, id); see KeysetCursor
+    @Query("SELECT r FROM Reservation r WHERE r.createdAt < :time OR (r.createdAt = :time AND r.id < :id) "
+            + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Reservation> findPageAfter(@Param("time") OffsetDateTime time, @Param("id") Long id, Pageable window);
+
+    // For conflict checking: reservations holding a table, alone or joined to another, that start
+    // in [from, to) on a date; range scans on idx_reservations_table_date_time and
+    // idx_reservations_joined_table_date_time
+    @Query("SELECT r FROM Reservation r LEFT JOIN r.joinedTable j "
+            + "WHERE (r.table.id = :tableId OR j.id = :tableId) AND r.reservationDate = :date "
+            + "AND r.reservationTime >= :from AND r.reservationTime < :to ORDER BY r.reservationTime")
+    List<Reservation> findByTableIdStartingBetween(@Param("tableId") Long tableId, @Param("date") LocalDate date,
+            @Param("from") LocalTime from, @Param("to") LocalTime to);
 }
@@ -0,0 +1,67 @@
+package com.lerestaurant.le_restaurant_backend.repository;
+
+import com.lerestaurant.le_restaurant_backend.dto.SalesReportRowDto;
+import com.lerestaurant.le_restaurant_backend.entity.SalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, Long> {
+
+    Optional<SalesRollup> findByDimensionAndDimensionKeyAndBucketStart(SalesRollup.Dimension dimension,
+                                                                       String dimensionKey,
+                                                                       OffsetDateTime bucketStart);
+
+    /**
+     * Add deltas to one bucket in place; concurrent increments queue on the row lock
+     * @return 1, or 0 if the bucket does not exist yet
+     */
+    @Modifying
+    @Query("UPDATE SalesRollup r SET r.orderCount = r.orderCount + :orders, "
+            + "r.cancelledCount = r.cancelledCount + :cancelled, r.itemQuantity = r.itemQuantity + :quantity, "
+            + "r.salesAmount = r.salesAmount + :sales, r.taxAmount = r.taxAmount + :tax, "
+            + "r.tipAmount = r.tipAmount + :tip, r.totalAmount = r.totalAmount + :total, "
+            + "r.refundedAmount = r.refundedAmount + :refunded "
+            + "WHERE r.dimension = :dimension AND r.dimensionKey = :key AND r.bucketStart = :bucket")
+    int increment(@Param("dimension") SalesRollup.Dimension dimension,
+                  @Param("key") String key,
+                  @Param("bucket") OffsetDateTime bucket,
+                  @Param("orders") long orders,
+                  @Param("cancelled") long cancelled,
+                  @Param("quantity") long quantity,
+                  @Param("sales") BigDecimal sales,
+                  @Param("tax") BigDecimal tax,
+                  @Param("tip") BigDecimal tip,
+                  @Param("total") BigDecimal total,
+                  @Param("refunded") BigDecimal refunded);
+
+    // Reports: one row per bucket or per key, read through idx_sales_rollups_dimension_bucket
+
+    @Query("SELECT new com.lerestaurant.le_restaurant_backend.dto.SalesReportRowDto(r.bucketStart, "
+            + "SUM(r.orderCount), SUM(r.cancelledCount), SUM(r.itemQuantity), SUM(r.salesAmount), "
+            + "SUM(r.taxAmount), SUM(r.tipAmount), SUM(r.totalAmount), SUM(r.refundedAmount)) "
+            + "FROM SalesRollup r WHERE r.dimension = :dimension "
+            + "AND r.bucketStart >= :start AND r.bucketStart < :end "
+            + "GROUP BY r.bucketStart ORDER BY r.bucketStart")
+    List<SalesReportRowDto> sumByBucket(@Param("dimension") SalesRollup.Dimension dimension,
+                                        @Param("start") OffsetDateTime start,
+                                        @Param("end") OffsetDateTime end);
+
+    @Query("SELECT new com.lerestaurant.le_restaurant_backend.dto.SalesReportRowDto(r.dimensionKey, MAX(r.label), "
+            + "SUM(r.orderCount), SUM(r.cancelledCount), SUM(r.itemQuantity), SUM(r.salesAmount), "
+            + "SUM(r.taxAmount), SUM(r.tipAmount), SUM(r.totalAmount), SUM(r.refundedAmount)) "
+            + "FROM SalesRollup r WHERE r.dimension = :dimension "
+            + "AND r.bucketStart >= :start AND r.bucketStart < :end "
+            + "GROUP BY r.dimensionKey ORDER BY SUM(r.totalAmount) DESC, r.dimensionKey")
+    List<SalesReportRowDto> sumByKey(@Param("dimension") SalesRollup.Dimension dimension,
+                                     @Param("start") OffsetDateTime start,
+                                     @Param("end") OffsetDateTime end);
+}
@@ -1,9 +1,13 @@
 package com.lerestaurant.le_restaurant_backend.repository;
 
 import com.lerestaurant.le_restaurant_backend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +22,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findByRoleAndStatus(User.UserRole role, User.UserStatus status);
     
     boolean existsByEmail(String email);
+    
+    // Keyset page, newest first by (createdAt, id); see KeysetCursor
+    @Query("SELECT u FROM User u WHERE u.createdAt < :time OR (u.createdAt = :time AND u.id < :id) "
+            + "ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findPageAfter(@Param("time") OffsetDateTime time, @Param("id") Long id, Pageable window);
 }
 
 
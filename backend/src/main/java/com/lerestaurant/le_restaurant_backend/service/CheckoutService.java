@@ -0,0 +1,94 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.dto.CheckoutRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.CheckoutResponseDto;
+import com.lerestaurant.le_restaurant_backend.dto.DeliveryCreateRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.DeliveryDto;
+import com.lerestaurant.le_restaurant_backend.entity.Delivery;
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+import com.lerestaurant.le_restaurant_backend.entity.Payment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Checkout Service (F105)
+ *
+ * Creates an order, takes its payment and, for delivery orders, schedules
+ * the delivery in one transaction, replacing three client round trips. The
+ * entities are passed along instead of being re-loaded by id, and nothing is
+ * written until the transaction flushes, so the order, its items, the payment
+ * and the delivery go out as batched inserts at commit. Any failure rolls
+ * back all of them; there is no state where an order exists without its
+ * payment.
+ *
+ * The payment is taken last, after every other check has passed.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+@Service
+@Transactional
+public class CheckoutService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CheckoutService.class);
+
+    private final OrderService orderService;
+    private final PaymentService paymentService;
+    private final DeliveryService deliveryService;
+
+    @Autowired
+    public CheckoutService(OrderService orderService,
+                           PaymentService paymentService,
+                           DeliveryService deliveryService) {
+        this.orderService = orderService;
+        this.paymentService = paymentService;
+        this.deliveryService = deliveryService;
+    }
+
+    /**
+     * Check out an order
+     *
+     * @param requestDto Order, payment and delivery details
+     * @return CheckoutResponseDto Created order, payment and delivery
+     * @throws IllegalArgumentException if delivery details do not match the order type,
+     *         the address belongs to someone else, or the amount does not match the total
+     * @throws RuntimeException if the customer, table, a menu item or the address is not found
+     */
+    public CheckoutResponseDto checkout(CheckoutRequestDto requestDto) {
+        Order.OrderType orderType = requestDto.getOrder().getOrderType();
+        boolean isDelivery = orderType == Order.OrderType.DELIVERY;
+        if (isDelivery && requestDto.getDelivery() == null) {
+            throw new IllegalArgumentException("Delivery details are required for delivery orders");
+        }
+        if (!isDelivery && requestDto.getDelivery() != null) {
+            throw new IllegalArgumentException("Delivery details are only valid for delivery orders");
+        }
+
+        Order order = orderService.placeOrder(requestDto.getOrder());
+
+        Delivery delivery = null;
+        if (isDelivery) {
+            CheckoutRequestDto.DeliveryDetails details = requestDto.getDelivery();
+            DeliveryCreateRequestDto deliveryRequest = new DeliveryCreateRequestDto();
+            deliveryRequest.setDeliveryAddressId(details.getDeliveryAddressId());
+            deliveryRequest.setDeliveryFee(details.getDeliveryFee());
+            deliveryRequest.setEstimatedDeliveryTimeMinutes(details.getEstimatedDeliveryTimeMinutes());
+            deliveryRequest.setDeliveryInstructions(details.getDeliveryInstructions());
+            delivery = deliveryService.scheduleDelivery(order, deliveryRequest);
+            if (!delivery.getDeliveryAddress().getUser().getId().equals(order.getCustomer().getId())) {
+                throw new IllegalArgumentException("Delivery address does not belong to the customer");
+            }
+        }
+
+        CheckoutRequestDto.PaymentDetails paymentDetails = requestDto.getPayment();
+        Payment payment = paymentService.capturePayment(order, paymentDetails.getAmount(),
+                paymentDetails.getPaymentMethod(), paymentDetails.getPaymentDetails());
+
+        DeliveryDto deliveryDto = delivery != null ? deliveryService.convertToDto(delivery) : null;
+        logger.info("Checkout completed for order {} ({})", order.getId(), order.getOrderType());
+        return new CheckoutResponseDto(orderService.convertToDto(order), paymentService.convertToDto(payment), deliveryDto);
+    }
+}
@@ -1,5 +1,6 @@
 package com.lerestaurant.le_restaurant_backend.service;
 
+import com.lerestaurant.le_restaurant_backend.dto.CursorPageDto;
 import com.lerestaurant.le_restaurant_backend.dto.DeliveryCreateRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.DeliveryDto;
 import com.lerestaurant.le_restaurant_backend.dto.DeliveryUpdateRequestDto;
@@ -12,6 +13,7 @@ import com.lerestaurant.le_restaurant_backend.repository.DeliveryAddressReposito
 import com.lerestaurant.le_restaurant_backend.repository.DeliveryDriverRepository;
 import com.lerestaurant.le_restaurant_backend.repository.DeliveryRepository;
 import com.lerestaurant.le_restaurant_backend.repository.OrderRepository;
+import com.lerestaurant.le_restaurant_backend.util.KeysetCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -68,6 +70,19 @@ public class DeliveryService {
         Order order = orderRepository.findById(requestDto.getOrderId())
             .orElseThrow(() -> new RuntimeException("Order not found with ID: " + requestDto.getOrderId()));
         
+        return convertToDto(scheduleDelivery(order, requestDto));
+    }
+    
+    /**
+     * Create the delivery for an order that is already loaded (or was just
+     * created by checkout); requestDto.orderId is not used
+     * 
+     * @param order Delivery order
+     * @param requestDto Address, fee and instructions
+     * @return Delivery Saved delivery
+     * @throws RuntimeException if the order is not a delivery order or the address is not found
+     */
+    Delivery scheduleDelivery(Order order, DeliveryCreateRequestDto requestDto) {
         // Validate order type is DELIVERY
         if (order.getOrderType() != Order.OrderType.DELIVERY) {
             throw new RuntimeException("Order type must be DELIVERY to create delivery");
@@ -89,7 +104,7 @@ public class DeliveryService {
         Delivery savedDelivery = deliveryRepository.save(delivery);
         logger.info("Created delivery with ID: {}", savedDelivery.getId());
         
-        return convertToDto(savedDelivery);
+        return savedDelivery;
     }
     
     /**
@@ -108,6 +123,23 @@ public class DeliveryService {
         return convertToDto(delivery);
     }
     
+    /**
+     * Get one page of deliveries, newest order first
+     * 
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param limit Page size (default 20, capped at 100)
+     * @return Page of deliveries as DTOs
+     */
+    public CursorPageDto<DeliveryDto> getDeliveriesPage(String cursor, Integer limit) {
+        int size = KeysetCursor.resolveLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Delivery> rows = deliveryRepository.findPageAfter(
+            after.getTimestamp(), after.getId(), KeysetCursor.window(size));
+        return KeysetCursor.toPage(rows, size,
+            page -> page.stream().map(this::convertToDto).collect(Collectors.toList()),
+            delivery -> new KeysetCursor(delivery.getOrder().getOrderTime(), delivery.getId()));
+    }
+    
     /**
      * Get all deliveries
      * 
@@ -275,7 +307,7 @@ public class DeliveryService {
      * @param delivery Delivery entity
      * @return Delivery DTO
      */
-    private DeliveryDto convertToDto(Delivery delivery) {
+    DeliveryDto convertToDto(Delivery delivery) {
         DeliveryDto dto = new DeliveryDto();
         dto.setId(delivery.getId());
         
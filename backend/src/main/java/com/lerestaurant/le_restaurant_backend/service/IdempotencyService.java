@@ -0,0 +1,199 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lerestaurant.le_restaurant_backend.entity.IdempotencyRecord;
+import com.lerestaurant.le_restaurant_backend.repository.IdempotencyRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key handling for retried POST requests
+ *
+ * The first request with a key claims it by inserting a row in the same
+ * transaction as the write it protects, and stores the response JSON there.
+ * Retries with the same key and body get the stored response back without
+ * running the write again; a concurrent duplicate blocks on the key's primary
+ * key and then replays the winner's response. Failed requests store nothing,
+ * so they can be retried normally. Recently used keys are also kept in a
+ * bounded in-memory cache.
+ *
+ * Keys are kept for app.idempotency.retention (default 24 hours) and then
+ * purged from the table and the cache every app.idempotency.purge-interval
+ * (default 1 hour). A retry that arrives after its key was purged runs as a
+ * new request.
+ *
+ * @author Le Restaurant Development Team
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final int MAX_KEY_LENGTH = 200;
+
+    private final IdempotencyRecordRepository repository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final Map<String, IdempotencyRecord> recent;
+
+    @Autowired
+    public IdempotencyService(IdempotencyRecordRepository repository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.idempotency.cache-size:10000}") int cacheSize,
+                              @Value("${app.idempotency.retention:PT24H}") Duration retention) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Run a write once per key
+     * @param scope Endpoint the key belongs to, e.g. "orders"
+     * @param key Client-supplied Idempotency-Key
+     * @param request Request body; a reused key must come with the same body
+     * @param status Status of a successful response
+     * @param action The write; runs inside the transaction that stores the key
+     * @return The new response, or the stored one for a retry
+     * @throws IllegalArgumentException if the key is malformed or was used with a different body
+     */
+    public ResponseEntity<String> execute(String scope, String key, Object request,
+                                          HttpStatus status, Supplier<?> action) {
+        validateKey(key);
+        String storageKey = storageKey(scope, key);
+        String requestHash = requestHash(request);
+
+        IdempotencyRecord existing = lookup(storageKey);
+        if (existing != null) {
+            return replay(existing, requestHash);
+        }
+        try {
+            IdempotencyRecord record = transactionTemplate.execute(tx -> {
+                IdempotencyRecord claimed = repository.saveAndFlush(new IdempotencyRecord(storageKey, requestHash));
+                Object body = action.get();
+                claimed.setResponseStatus(status.value());
+                claimed.setResponseBody(toJson(body));
+                return claimed;
+            });
+            remember(record);
+            return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(record.getResponseBody());
+        } catch (DataIntegrityViolationException e) {
+            // Either a concurrent request with this key committed first, or the write itself failed
+            IdempotencyRecord winner = repository.findById(storageKey).orElseThrow(() -> e);
+            logger.info("Replaying response for concurrent duplicate of idempotency key {}", storageKey);
+            remember(winner);
+            return replay(winner, requestHash);
+        }
+    }
+
+    /**
+     * Delete keys older than the retention window from the table and the cache
+     * @return Number of stored keys deleted
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:PT1H}",
+               initialDelayString = "${app.idempotency.purge-interval:PT1H}")
+    public int purgeExpired() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(retention);
+        Integer deleted = transactionTemplate.execute(tx -> repository.deleteCreatedBefore(cutoff));
+        synchronized (recent) {
+            recent.values().removeIf(record -> record.getCreatedAt().isBefore(cutoff));
+        }
+        logger.info("Purged {} idempotency keys created before {}", deleted, cutoff);
+        return deleted != null ? deleted : 0;
+    }
+
+    /**
+     * Row key of a client key; batch writers use it to share keys with single requests
+     */
+    static String storageKey(String scope, String key) {
+        return scope + ":" + key;
+    }
+
+    static void validateKey(String key) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    String requestHash(Object request) {
+        return hash(toJson(request));
+    }
+
+    private ResponseEntity<String> replay(IdempotencyRecord record, String requestHash) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new IllegalArgumentException(HEADER + " was already used with a different request");
+        }
+        return ResponseEntity.status(record.getResponseStatus())
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(REPLAYED_HEADER, "true")
+            .body(record.getResponseBody());
+    }
+
+    private IdempotencyRecord lookup(String storageKey) {
+        synchronized (recent) {
+            IdempotencyRecord cached = recent.get(storageKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        IdempotencyRecord stored = repository.findById(storageKey).orElse(null);
+        if (stored != null) {
+            remember(stored);
+        }
+        return stored;
+    }
+
+    private void remember(IdempotencyRecord record) {
+        synchronized (recent) {
+            recent.put(record.getKey(), record);
+        }
+    }
+
+    String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize idempotent request or response", e);
+        }
+    }
+
+    private static String hash(String json) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(json.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
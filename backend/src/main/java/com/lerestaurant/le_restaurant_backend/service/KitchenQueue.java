@@ -0,0 +1,305 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.dto.KitchenTicketDto;
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+import com.lerestaurant.le_restaurant_backend.entity.OrderItem;
+import com.lerestaurant.le_restaurant_backend.repository.OrderRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Live Kitchen Display Queue (F105)
+ *
+ * Keeps every active order (PENDING through READY) in memory as a kitchen
+ * ticket and pushes changes to connected screens over Server-Sent Events.
+ * The queue is loaded from the database once at startup; afterwards it is fed
+ * by the order and payment services when their transactions commit, so
+ * connecting screens get a snapshot without touching the database.
+ *
+ * Events: "snapshot" (all tickets, sent on connect), "upsert" (one ticket)
+ * and "remove" (order id). Event ids are a sequence number that increases
+ * with every change. Tickets carry the order's version; transactions on the
+ * same order may commit in one order and reach the queue in the other, so a
+ * change older than what the queue already holds for that order is dropped. Events are sent from a single dispatcher thread in
+ * sequence order, outside the queue lock, so a slow screen delays only the
+ * screens and never the order commits that feed the queue.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+@Service
+public class KitchenQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(KitchenQueue.class);
+
+    // How many removed orders to remember, so a late older change cannot bring them back
+    private static final int REMOVED_HISTORY = 1024;
+
+    static final Set<Order.OrderStatus> ACTIVE_STATUSES = EnumSet.of(
+        Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED,
+        Order.OrderStatus.PREPARING, Order.OrderStatus.READY);
+
+    private final OrderRepository orderRepository;
+    private final long emitterTimeoutMillis;
+
+    // Guarded by this: tickets, removedVersions, sequence and the snapshot/subscribe handoff
+    private final Map<Long, KitchenTicketDto> tickets = new TreeMap<>();
+    private final Map<Long, Long> removedVersions = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            return size() > REMOVED_HISTORY;
+        }
+    };
+    private long sequence;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "kitchen-queue-sse");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public KitchenQueue(OrderRepository orderRepository,
+                        @Value("${app.kitchen.emitter-timeout-ms:1800000}") long emitterTimeoutMillis) {
+        this.orderRepository = orderRepository;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    /**
+     * Load the active orders once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        List<Order> active = orderRepository.findByStatusInWithTable(ACTIVE_STATUSES);
+        if (!active.isEmpty()) {
+            orderRepository.fetchItemsWithMenuItems(active);
+        }
+        List<KitchenTicketDto> loaded = active.stream().map(KitchenQueue::toTicket).collect(Collectors.toList());
+        synchronized (this) {
+            tickets.clear();
+            removedVersions.clear();
+            for (KitchenTicketDto ticket : loaded) {
+                tickets.put(ticket.getOrderId(), ticket);
+            }
+            sequence++;
+        }
+        logger.info("Kitchen queue loaded with {} active orders", loaded.size());
+    }
+
+    /**
+     * Record an order change. The ticket is built now, while the order is still
+     * attached, and applied after the current transaction commits; rolled-back
+     * changes are never shown. Its version is taken at commit, once the flush
+     * has bumped it.
+     * @param order Order after the change
+     */
+    public void publish(Order order) {
+        KitchenTicketDto ticket = toTicket(order);
+        afterCommit(() -> {
+            ticket.setVersion(order.getVersion());
+            apply(ticket);
+        });
+    }
+
+    /**
+     * Record a status change made without loading the orders (bulk updates).
+     * Orders that are not on the queue are ignored.
+     * @param versions Orders that moved to the status, with their version after the change
+     * @param status New status
+     */
+    public void publishStatusChange(Map<Long, Long> versions, Order.OrderStatus status) {
+        Map<Long, Long> changed = new LinkedHashMap<>(versions);
+        afterCommit(() -> {
+            synchronized (this) {
+                for (Map.Entry<Long, Long> entry : changed.entrySet()) {
+                    KitchenTicketDto current = tickets.get(entry.getKey());
+                    if (current != null) {
+                        apply(withStatus(current, status, entry.getValue()));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Whether orders in the status are kept on the queue
+     */
+    public static boolean isActive(Order.OrderStatus status) {
+        return ACTIVE_STATUSES.contains(status);
+    }
+
+    /**
+     * IDs of the queued orders in one status, oldest order first
+     */
+    public synchronized List<Long> getOrderIds(Order.OrderStatus status) {
+        return tickets.values().stream()
+            .filter(ticket -> ticket.getStatus() == status)
+            .map(KitchenTicketDto::getOrderId)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Current tickets, oldest order first
+     */
+    public synchronized List<KitchenTicketDto> getTickets() {
+        return new ArrayList<>(tickets.values());
+    }
+
+    /**
+     * Connect a kitchen screen: it receives a snapshot, then every change
+     * @return Emitter that stays open until the client disconnects or it times out
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        attach(emitter);
+        return emitter;
+    }
+
+    /**
+     * Queue the snapshot for a new screen and register it for later changes.
+     * Both happen on the dispatcher, after every change already taken, so the
+     * screen sees no change twice and misses none.
+     */
+    void attach(SseEmitter emitter) {
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        synchronized (this) {
+            SseEmitter.SseEventBuilder snapshot = SseEmitter.event()
+                .id(Long.toString(sequence))
+                .name("snapshot")
+                .data(new ArrayList<>(tickets.values()));
+            dispatcher.execute(() -> {
+                try {
+                    emitter.send(snapshot);
+                } catch (IOException | IllegalStateException e) {
+                    emitter.completeWithError(e);
+                    return;
+                }
+                emitters.add(emitter);
+                logger.info("Kitchen screen connected ({} open)", emitters.size());
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private synchronized void apply(KitchenTicketDto ticket) {
+        Long orderId = ticket.getOrderId();
+        KitchenTicketDto stored = tickets.get(orderId);
+        if (isOlder(ticket, stored != null ? stored.getVersion() : removedVersions.get(orderId))) {
+            logger.debug("Dropping stale kitchen change for order {} (version {})", orderId, ticket.getVersion());
+            return;
+        }
+        SseEmitter.SseEventBuilder event;
+        if (ACTIVE_STATUSES.contains(ticket.getStatus())) {
+            sequence++;
+            tickets.put(orderId, ticket);
+            removedVersions.remove(orderId);
+            event = SseEmitter.event().id(Long.toString(sequence)).name("upsert").data(ticket);
+        } else {
+            if (ticket.getVersion() != null) {
+                removedVersions.put(orderId, ticket.getVersion());
+            }
+            if (tickets.remove(orderId) == null) {
+                return;
+            }
+            sequence++;
+            event = SseEmitter.event().id(Long.toString(sequence)).name("remove").data(orderId);
+        }
+        // Queued under the lock so events keep sequence order; sent outside it
+        dispatcher.execute(() -> broadcast(event));
+    }
+
+    private void broadcast(SseEmitter.SseEventBuilder event) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; drop it and keep serving the others
+                emitters.remove(emitter);
+            }
+        }
+    }
+
+    private static boolean isOlder(KitchenTicketDto ticket, Long knownVersion) {
+        return ticket.getVersion() != null && knownVersion != null && ticket.getVersion() < knownVersion;
+    }
+
+    private static KitchenTicketDto withStatus(KitchenTicketDto current, Order.OrderStatus status, Long version) {
+        KitchenTicketDto ticket = new KitchenTicketDto();
+        ticket.setOrderId(current.getOrderId());
+        ticket.setVersion(version);
+        ticket.setTableNumber(current.getTableNumber());
+        ticket.setOrderType(current.getOrderType());
+        ticket.setStatus(status);
+        ticket.setSpecialInstructions(current.getSpecialInstructions());
+        ticket.setOrderTime(current.getOrderTime());
+        ticket.setEstimatedCompletion(current.getEstimatedCompletion());
+        ticket.setLines(current.getLines());
+        return ticket;
+    }
+
+    private static KitchenTicketDto toTicket(Order order) {
+        KitchenTicketDto ticket = new KitchenTicketDto();
+        ticket.setOrderId(order.getId());
+        ticket.setVersion(order.getVersion());
+        ticket.setTableNumber(order.getTable() != null ? order.getTable().getTableNumber() : null);
+        ticket.setOrderType(order.getOrderType());
+        ticket.setStatus(order.getStatus());
+        ticket.setSpecialInstructions(order.getSpecialInstructions());
+        ticket.setOrderTime(order.getOrderTime());
+        ticket.setEstimatedCompletion(order.getEstimatedCompletion());
+        if (ACTIVE_STATUSES.contains(order.getStatus())) {
+            List<KitchenTicketDto.Line> lines = new ArrayList<>(order.getItems().size());
+            for (OrderItem item : order.getItems()) {
+                lines.add(new KitchenTicketDto.Line(
+                    item.getMenuItem() != null ? item.getMenuItem().getName() : null,
+                    item.getQuantity(),
+                    item.getSpecialRequests()));
+            }
+            ticket.setLines(lines);
+        }
+        return ticket;
+    }
+}
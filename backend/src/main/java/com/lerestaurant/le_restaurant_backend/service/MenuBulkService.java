@@ -0,0 +1,344 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lerestaurant.le_restaurant_backend.dto.MenuImportResultDto;
+import com.lerestaurant.le_restaurant_backend.dto.MenuItemCreateRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.MenuItemDto;
+import com.lerestaurant.le_restaurant_backend.repository.MenuRepository;
+import com.lerestaurant.le_restaurant_backend.util.CsvWriter;
+import com.lerestaurant.le_restaurant_backend.util.ExportFormat;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk Menu Import / Export Service (F104)
+ *
+ * Imports CSV or JSON lines as a stream: each row is validated on its own
+ * while the upload is read, outside any transaction. Only once the upload is
+ * fully parsed does one short transaction check duplicate names with one query
+ * per chunk and insert the valid rows with JDBC batch statements, so a slow
+ * upload never holds a connection. Rejected rows are reported, not fatal.
+ * Exports stream the current catalog snapshot in the same formats.
+ *
+ * @author Le Restaurant Development Team
+ * @module F104-MenuManagement
+ */
+@Service
+public class MenuBulkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MenuBulkService.class);
+
+    /** Rows per duplicate-check query and per JDBC batch */
+    static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int MAX_DESCRIPTION_LENGTH = 500;
+
+    private static final String INSERT_SQL =
+        "INSERT INTO menu_items (id, name, description, price, category, image_url, available, created_at, updated_at) "
+        + "VALUES (nextval('menu_items_seq'), ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String[] CSV_COLUMNS = {"id", "name", "description", "price", "category", "available", "imageUrl"};
+
+    private final MenuRepository menuRepository;
+    private final MenuService menuService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate writeTransaction;
+
+    @Autowired
+    public MenuBulkService(MenuRepository menuRepository,
+                           MenuService menuService,
+                           JdbcTemplate jdbcTemplate,
+                           ObjectMapper objectMapper,
+                           Validator validator,
+                           PlatformTransactionManager transactionManager) {
+        this.menuRepository = menuRepository;
+        this.menuService = menuService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Import menu items from a CSV (with header row) or JSON lines stream
+     * @param in Input stream, read line by line to the end before anything is written
+     * @param format Input format
+     * @return Import outcome with per-row errors
+     */
+    public MenuImportResultDto importMenuItems(InputStream in, ExportFormat format) {
+        logger.info("Starting bulk menu import ({})", format);
+        Importer importer = new Importer();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            Map<String, Integer> csvHeader = null;
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == ExportFormat.CSV && csvHeader == null) {
+                    csvHeader = parseCsvHeader(line);
+                    continue;
+                }
+                try {
+                    MenuItemCreateRequestDto row = format == ExportFormat.CSV
+                        ? parseCsvRow(line, csvHeader)
+                        : objectMapper.readValue(line, MenuItemCreateRequestDto.class);
+                    importer.accept(lineNumber, row);
+                } catch (IOException | IllegalArgumentException e) {
+                    importer.unreadable(lineNumber, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return importer.finish();
+    }
+
+    /**
+     * Import already parsed menu items through the same validation and batching path
+     * @param items Menu items to create; line numbers in errors are 1-based positions
+     * @return Import outcome with per-row errors
+     */
+    public MenuImportResultDto importMenuItems(List<MenuItemCreateRequestDto> items) {
+        Importer importer = new Importer();
+        for (int i = 0; i < items.size(); i++) {
+            importer.accept(i + 1, items.get(i));
+        }
+        return importer.finish();
+    }
+
+    /**
+     * Stream the current menu catalog as CSV or JSON lines
+     * @param out Output stream; flushed but not closed
+     * @param format Output format
+     */
+    @Transactional(readOnly = true)
+    public void exportMenuItems(OutputStream out, ExportFormat format) throws IOException {
+        List<MenuItemDto> items = menuService.getCatalogSnapshot().getItems();
+        if (format == ExportFormat.JSONL) {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.setRootValueSeparator(null);
+            for (MenuItemDto item : items) {
+                objectMapper.writeValue(generator, item);
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+            return;
+        }
+
+        CsvWriter writer = new CsvWriter(out);
+        writer.writeRow(CSV_COLUMNS);
+        for (MenuItemDto item : items) {
+            writer.writeRow(
+                item.getId() != null ? item.getId().toString() : null,
+                item.getName(),
+                item.getDescription(),
+                item.getPrice() != null ? item.getPrice().toPlainString() : null,
+                item.getCategory(),
+                Boolean.toString(item.isAvailable()),
+                item.getImageUrl());
+        }
+        writer.flush();
+    }
+
+    /**
+     * Collects the valid rows while the input is read; finish() then writes
+     * them in one transaction, with one duplicate query and one JDBC batch
+     * insert per chunk.
+     */
+    private class Importer {
+
+        private final MenuImportResultDto result = new MenuImportResultDto();
+        private final List<MenuItemCreateRequestDto> rows = new ArrayList<>();
+        private final List<Integer> rowLines = new ArrayList<>();
+        private final Set<String> namesInInput = new HashSet<>();
+        private final OffsetDateTime now = OffsetDateTime.now();
+
+        void accept(int line, MenuItemCreateRequestDto row) {
+            result.setTotalRows(result.getTotalRows() + 1);
+            Set<ConstraintViolation<MenuItemCreateRequestDto>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                reject(line, row.getName(), violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+                return;
+            }
+            if (row.getDescription() != null && row.getDescription().length() > MAX_DESCRIPTION_LENGTH) {
+                reject(line, row.getName(), "Description must be at most " + MAX_DESCRIPTION_LENGTH + " characters");
+                return;
+            }
+            if (!namesInInput.add(row.getName())) {
+                reject(line, row.getName(), "Duplicate name in import: " + row.getName());
+                return;
+            }
+            rows.add(row);
+            rowLines.add(line);
+        }
+
+        void unreadable(int line, String reason) {
+            result.setTotalRows(result.getTotalRows() + 1);
+            reject(line, null, "Unreadable row: " + reason);
+        }
+
+        void reject(int line, String name, String message) {
+            result.setFailedCount(result.getFailedCount() + 1);
+            if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                result.getErrors().add(new MenuImportResultDto.RowError(line, name, message));
+            }
+        }
+
+        MenuImportResultDto finish() {
+            if (!rows.isEmpty()) {
+                writeTransaction.executeWithoutResult(status -> write());
+                // Rows rejected as existing names were reported after the parse errors
+                result.getErrors().sort(Comparator.comparingInt(MenuImportResultDto.RowError::getLine));
+            }
+            logger.info("Bulk menu import finished: {} imported, {} rejected",
+                result.getImportedCount(), result.getFailedCount());
+            return result;
+        }
+
+        private void write() {
+            for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+                int to = Math.min(from + CHUNK_SIZE, rows.size());
+                insert(rows.subList(from, to), rowLines.subList(from, to));
+            }
+            if (result.getImportedCount() > 0) {
+                menuService.invalidateCatalogOnCompletion();
+            }
+        }
+
+        private void insert(List<MenuItemCreateRequestDto> chunk, List<Integer> chunkLines) {
+            Set<String> existing = new HashSet<>(menuRepository.findExistingNames(
+                chunk.stream().map(MenuItemCreateRequestDto::getName).collect(Collectors.toList())));
+
+            List<Object[]> batch = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                MenuItemCreateRequestDto row = chunk.get(i);
+                if (existing.contains(row.getName())) {
+                    reject(chunkLines.get(i), row.getName(), "Menu item with name already exists: " + row.getName());
+                    continue;
+                }
+                batch.add(new Object[] {
+                    row.getName(),
+                    row.getDescription(),
+                    row.getPrice(),
+                    row.getCategory(),
+                    row.getImageUrl(),
+                    row.getAvailable() != null ? row.getAvailable() : Boolean.TRUE,
+                    now,
+                    now
+                });
+            }
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                result.setImportedCount(result.getImportedCount() + batch.size());
+            }
+        }
+    }
+
+    private static Map<String, Integer> parseCsvHeader(String line) {
+        List<String> columns = parseCsvLine(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+        }
+        if (!header.containsKey("name") || !header.containsKey("price") || !header.containsKey("category")) {
+            throw new IllegalArgumentException("CSV header must contain name, price and category columns");
+        }
+        return header;
+    }
+
+    private static MenuItemCreateRequestDto parseCsvRow(String line, Map<String, Integer> header) {
+        List<String> fields = parseCsvLine(line);
+        MenuItemCreateRequestDto row = new MenuItemCreateRequestDto();
+        row.setName(column(fields, header, "name"));
+        row.setDescription(column(fields, header, "description"));
+        String price = column(fields, header, "price");
+        if (price != null) {
+            try {
+                row.setPrice(new BigDecimal(price.trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("invalid price '" + price + "'");
+            }
+        }
+        row.setCategory(column(fields, header, "category"));
+        String available = column(fields, header, "available");
+        row.setAvailable(available == null || available.isBlank() ? Boolean.TRUE : Boolean.valueOf(available.trim()));
+        row.setImageUrl(column(fields, header, "imageurl"));
+        return row;
+    }
+
+    private static String column(List<String> fields, Map<String, Integer> header, String name) {
+        Integer index = header.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Split one CSV record; supports quoted fields with "" escapes (no embedded line breaks)
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,209 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.dto.MenuItemDto;
+import com.lerestaurant.le_restaurant_backend.dto.MenuItemFilterRequestDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Immutable, versioned view of the whole menu catalog (F103)
+ *
+ * Built once from the database by MenuService and shared by every reader until
+ * the next menu mutation commits. All lookups are answered from pre-computed
+ * indexes, so read paths never touch the database.
+ *
+ * The contained DTOs are shared between callers and must be treated as read-only.
+ *
+ * @author Le Restaurant Development Team
+ * @module F103-MenuDisplay
+ */
+public final class MenuCatalogSnapshot {
+
+    /**
+     * Keyset order used by filter(): (category, name, id)
+     */
+    public static final Comparator<MenuItemDto> BROWSE_ORDER = Comparator
+        .comparing(MenuItemDto::getCategory, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+        .thenComparing(MenuItemDto::getName, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+        .thenComparing(MenuItemDto::getId, Comparator.nullsFirst(Comparator.<Long>naturalOrder()));
+
+    private final long version;
+    private final List<MenuItemDto> items;
+    private final Map<String, List<MenuItemDto>> itemsByCategory;
+    private final List<MenuItemDto> availableItems;
+    private final List<MenuItemDto> unavailableItems;
+    private final List<String> categories;
+    private final String[] lowerCaseNames;
+    private final MenuSearchIndex searchIndex;
+    private final List<MenuItemDto> browseOrder;
+    private final String[] browseLowerCaseNames;
+
+    private MenuCatalogSnapshot(long version, List<MenuItemDto> items) {
+        this.version = version;
+        this.items = Collections.unmodifiableList(new ArrayList<>(items));
+
+        Map<String, List<MenuItemDto>> byCategory = new LinkedHashMap<>();
+        List<MenuItemDto> available = new ArrayList<>();
+        List<MenuItemDto> unavailable = new ArrayList<>();
+        TreeSet<String> categoryNames = new TreeSet<>();
+        this.lowerCaseNames = new String[this.items.size()];
+
+        for (int i = 0; i < this.items.size(); i++) {
+            MenuItemDto item = this.items.get(i);
+            byCategory.computeIfAbsent(item.getCategory(), key -> new ArrayList<>()).add(item);
+            if (item.isAvailable()) {
+                available.add(item);
+            } else {
+                unavailable.add(item);
+            }
+            if (item.getCategory() != null) {
+                categoryNames.add(item.getCategory());
+            }
+            lowerCaseNames[i] = item.getName() != null ? item.getName().toLowerCase(Locale.ROOT) : "";
+        }
+
+        byCategory.replaceAll((key, list) -> Collections.unmodifiableList(list));
+        this.itemsByCategory = Collections.unmodifiableMap(byCategory);
+        this.availableItems = Collections.unmodifiableList(available);
+        this.unavailableItems = Collections.unmodifiableList(unavailable);
+        this.categories = Collections.unmodifiableList(new ArrayList<>(categoryNames));
+        this.searchIndex = MenuSearchIndex.of(this.items);
+
+        List<MenuItemDto> sorted = new ArrayList<>(this.items);
+        sorted.sort(BROWSE_ORDER);
+        this.browseOrder = Collections.unmodifiableList(sorted);
+        this.browseLowerCaseNames = new String[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            String itemName = sorted.get(i).getName();
+            browseLowerCaseNames[i] = itemName != null ? itemName.toLowerCase(Locale.ROOT) : "";
+        }
+    }
+
+    /**
+     * Build a snapshot from already converted menu item DTOs
+     * @param version Catalog version the items were loaded at
+     * @param items All menu items
+     * @return New snapshot
+     */
+    public static MenuCatalogSnapshot of(long version, List<MenuItemDto> items) {
+        return new MenuCatalogSnapshot(version, items);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<MenuItemDto> getItems() {
+        return items;
+    }
+
+    public List<MenuItemDto> findByCategory(String category) {
+        return itemsByCategory.getOrDefault(category, Collections.emptyList());
+    }
+
+    public boolean hasCategory(String category) {
+        return itemsByCategory.containsKey(category);
+    }
+
+    public List<MenuItemDto> findByAvailability(boolean available) {
+        return available ? availableItems : unavailableItems;
+    }
+
+    /**
+     * Case-insensitive partial match on the item name
+     * @param name Search term
+     * @return Matching items in catalog order
+     */
+    public List<MenuItemDto> searchByName(String name) {
+        String term = name.toLowerCase(Locale.ROOT);
+        List<MenuItemDto> result = new ArrayList<>();
+        for (int i = 0; i < lowerCaseNames.length; i++) {
+            if (lowerCaseNames[i].contains(term)) {
+                result.add(items.get(i));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Ranked, typo-tolerant search over name, category and description
+     * @param query Free-text query
+     * @return Matching items, best match first
+     */
+    public List<MenuItemDto> search(String query) {
+        return searchIndex.search(query);
+    }
+
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    /**
+     * Combined filter in (category, name, id) order, resuming after a keyset position.
+     * A category criterion narrows the scan to that category's range by binary search.
+     * @param filter Criteria; null or empty fields are ignored
+     * @param after Keyset position to continue after, or null for the first page
+     * @param max Maximum number of items to return
+     * @return Matching items in browse order
+     */
+    public List<MenuItemDto> filter(MenuItemFilterRequestDto filter, MenuItemDto after, int max) {
+        int from = 0;
+        int to = browseOrder.size();
+        String category = filter.getCategory();
+        if (category != null && !category.isEmpty()) {
+            from = firstIndexWhere(item -> item.getCategory() != null && item.getCategory().compareTo(category) >= 0);
+            to = firstIndexWhere(item -> item.getCategory() != null && item.getCategory().compareTo(category) > 0);
+        }
+        if (after != null) {
+            from = Math.max(from, firstIndexWhere(item -> BROWSE_ORDER.compare(item, after) > 0));
+        }
+
+        String term = filter.getSearch() != null && !filter.getSearch().isEmpty()
+            ? filter.getSearch().toLowerCase(Locale.ROOT) : null;
+        List<MenuItemDto> result = new ArrayList<>();
+        for (int i = from; i < to && result.size() < max; i++) {
+            MenuItemDto item = browseOrder.get(i);
+            if (filter.getAvailable() != null && item.isAvailable() != filter.getAvailable()) {
+                continue;
+            }
+            if (filter.getMinPrice() != null
+                && (item.getPrice() == null || item.getPrice().compareTo(filter.getMinPrice()) < 0)) {
+                continue;
+            }
+            if (filter.getMaxPrice() != null
+                && (item.getPrice() == null || item.getPrice().compareTo(filter.getMaxPrice()) > 0)) {
+                continue;
+            }
+            if (term != null && !browseLowerCaseNames[i].contains(term)) {
+                continue;
+            }
+            result.add(item);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Binary search over browseOrder for the first item matching a monotone predicate
+     */
+    private int firstIndexWhere(Predicate<MenuItemDto> predicate) {
+        int low = 0;
+        int high = browseOrder.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (predicate.test(browseOrder.get(mid))) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,249 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.dto.MenuItemDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable inverted index for ranked menu search (F103)
+ *
+ * Built together with each MenuCatalogSnapshot, so it is always in sync with
+ * the catalog. Name, category and description are tokenized; every query term
+ * is matched against the vocabulary as an exact token, a prefix (sorted
+ * vocabulary + binary search) or, for longer terms, a token within a small edit
+ * distance found through a trigram index. All terms must match for an item to
+ * be returned; results are ordered by score, then name.
+ *
+ * @author Le Restaurant Development Team
+ * @module F103-MenuDisplay
+ */
+public final class MenuSearchIndex {
+
+    private static final float NAME_WEIGHT = 3.0f;
+    private static final float CATEGORY_WEIGHT = 2.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private static final float EXACT_MATCH = 1.0f;
+    private static final float PREFIX_MATCH = 0.6f;
+    private static final float ONE_EDIT_MATCH = 0.4f;
+    private static final float TWO_EDIT_MATCH = 0.25f;
+
+    private final List<MenuItemDto> items;
+    private final String[] vocabulary;
+    private final int[][] postingDocs;
+    private final float[][] postingWeights;
+    private final Map<String, int[]> trigramToTokens;
+
+    private MenuSearchIndex(List<MenuItemDto> items) {
+        this.items = items;
+
+        // token -> (doc -> summed field weight), in insertion order per token
+        Map<String, Map<Integer, Float>> postings = new HashMap<>();
+        for (int doc = 0; doc < items.size(); doc++) {
+            MenuItemDto item = items.get(doc);
+            addField(postings, doc, item.getName(), NAME_WEIGHT);
+            addField(postings, doc, item.getCategory(), CATEGORY_WEIGHT);
+            addField(postings, doc, item.getDescription(), DESCRIPTION_WEIGHT);
+        }
+
+        this.vocabulary = postings.keySet().toArray(new String[0]);
+        Arrays.sort(vocabulary);
+        this.postingDocs = new int[vocabulary.length][];
+        this.postingWeights = new float[vocabulary.length][];
+
+        Map<String, List<Integer>> trigrams = new HashMap<>();
+        for (int t = 0; t < vocabulary.length; t++) {
+            Map<Integer, Float> docs = postings.get(vocabulary[t]);
+            postingDocs[t] = new int[docs.size()];
+            postingWeights[t] = new float[docs.size()];
+            int i = 0;
+            for (Map.Entry<Integer, Float> entry : docs.entrySet()) {
+                postingDocs[t][i] = entry.getKey();
+                postingWeights[t][i] = entry.getValue();
+                i++;
+            }
+            for (String trigram : trigrams(vocabulary[t])) {
+                trigrams.computeIfAbsent(trigram, key -> new ArrayList<>()).add(t);
+            }
+        }
+
+        this.trigramToTokens = new HashMap<>();
+        trigrams.forEach((trigram, tokens) ->
+            trigramToTokens.put(trigram, tokens.stream().mapToInt(Integer::intValue).distinct().toArray()));
+    }
+
+    /**
+     * Build an index over the given items; positions in the list are document ids
+     * @param items Menu items in catalog order
+     * @return New index
+     */
+    public static MenuSearchIndex of(List<MenuItemDto> items) {
+        return new MenuSearchIndex(items);
+    }
+
+    /**
+     * Ranked search over name, category and description
+     * @param query Free-text query
+     * @return Matching items, best match first
+     */
+    public List<MenuItemDto> search(String query) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || items.isEmpty()) {
+            return List.of();
+        }
+
+        float[] total = new float[items.size()];
+        int[] matchedTerms = new int[items.size()];
+        float[] termScore = new float[items.size()];
+
+        for (String term : terms) {
+            Arrays.fill(termScore, 0f);
+            scoreTerm(term, termScore);
+            for (int doc = 0; doc < termScore.length; doc++) {
+                if (termScore[doc] > 0f) {
+                    total[doc] += termScore[doc];
+                    matchedTerms[doc]++;
+                }
+            }
+        }
+
+        List<Integer> hits = new ArrayList<>();
+        for (int doc = 0; doc < total.length; doc++) {
+            if (matchedTerms[doc] == terms.size()) {
+                hits.add(doc);
+            }
+        }
+        hits.sort(Comparator.<Integer>comparingDouble(doc -> -total[doc])
+            .thenComparing(doc -> items.get(doc).getName(), Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+
+        List<MenuItemDto> result = new ArrayList<>(hits.size());
+        for (int doc : hits) {
+            result.add(items.get(doc));
+        }
+        return result;
+    }
+
+    /**
+     * Record, per document, the best score any vocabulary token gives this term
+     */
+    private void scoreTerm(String term, float[] termScore) {
+        // Exact and prefix matches: contiguous range of the sorted vocabulary
+        int start = Arrays.binarySearch(vocabulary, term);
+        if (start < 0) {
+            start = -start - 1;
+        }
+        for (int t = start; t < vocabulary.length && vocabulary[t].startsWith(term); t++) {
+            applyPosting(t, vocabulary[t].length() == term.length() ? EXACT_MATCH : PREFIX_MATCH, termScore);
+        }
+
+        // Typo tolerance: candidates share a trigram and are verified by edit distance
+        int maxEdits = term.length() >= 8 ? 2 : term.length() >= 4 ? 1 : 0;
+        if (maxEdits == 0) {
+            return;
+        }
+        boolean[] seen = new boolean[vocabulary.length];
+        for (String trigram : trigrams(term)) {
+            int[] candidates = trigramToTokens.get(trigram);
+            if (candidates == null) {
+                continue;
+            }
+            for (int t : candidates) {
+                if (seen[t]) {
+                    continue;
+                }
+                seen[t] = true;
+                String token = vocabulary[t];
+                if (token.startsWith(term) || Math.abs(token.length() - term.length()) > maxEdits) {
+                    continue;
+                }
+                int distance = boundedEditDistance(term, token, maxEdits);
+                if (distance > maxEdits) {
+                    continue;
+                }
+                applyPosting(t, distance == 1 ? ONE_EDIT_MATCH : TWO_EDIT_MATCH, termScore);
+            }
+        }
+    }
+
+    private void applyPosting(int token, float matchFactor, float[] termScore) {
+        int[] docs = postingDocs[token];
+        float[] weights = postingWeights[token];
+        for (int i = 0; i < docs.length; i++) {
+            float score = weights[i] * matchFactor;
+            if (score > termScore[docs[i]]) {
+                termScore[docs[i]] = score;
+            }
+        }
+    }
+
+    private static void addField(Map<String, Map<Integer, Float>> postings, int doc, String text, float weight) {
+        for (String token : tokenize(text)) {
+            postings.computeIfAbsent(token, key -> new LinkedHashMap<>()).merge(doc, weight, Float::sum);
+        }
+    }
+
+    /**
+     * Lower-case and split on anything that is not a letter or digit
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> trigrams(String token) {
+        String padded = "^" + token + "$";
+        List<String> result = new ArrayList<>(padded.length());
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            result.add(padded.substring(i, i + 3));
+        }
+        return result;
+    }
+
+    /**
+     * Levenshtein distance, or maxEdits + 1 as soon as it is known to exceed maxEdits
+     */
+    static int boundedEditDistance(String a, String b, int maxEdits) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], maxEdits + 1);
+    }
+}
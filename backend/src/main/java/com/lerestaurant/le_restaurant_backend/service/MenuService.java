@@ -1,30 +1,56 @@
 package com.lerestaurant.le_restaurant_backend.service;
 
+import com.lerestaurant.le_restaurant_backend.dto.CursorPageDto;
 import com.lerestaurant.le_restaurant_backend.dto.MenuItemDto;
+import com.lerestaurant.le_restaurant_backend.dto.MenuItemFilterRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.MenuItemCreateRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.MenuItemUpdateRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.MenuSearchResponseDto;
 import com.lerestaurant.le_restaurant_backend.entity.MenuItem;
 import com.lerestaurant.le_restaurant_backend.repository.MenuRepository;
+import com.lerestaurant.le_restaurant_backend.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.time.OffsetDateTime;
+import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
  * Service layer for Menu Management (F103, F104)
  * Handles business logic for menu operations
  * 
+ * Catalog reads are served from an in-memory MenuCatalogSnapshot. Every mutation
+ * bumps the catalog version once its transaction completes, and the next read
+ * rebuilds the snapshot from the database.
+ * 
  * @author Le Restaurant Development Team
  */
 @Service
 @Transactional
 public class MenuService {
     
+    private static final int MAX_SEARCH_LIMIT = 100;
+    
     private final MenuRepository menuRepository;
     
+    // Seeded from the start time so versions (and the ETags derived from them)
+    // are not reused after a restart
+    private final AtomicLong catalogVersion = new AtomicLong(System.currentTimeMillis());
+    private final AtomicReference<MenuCatalogSnapshot> catalog = new AtomicReference<>();
+    
     @Autowired
     public MenuService(MenuRepository menuRepository) {
         this.menuRepository = menuRepository;
@@ -35,10 +61,42 @@ public class MenuService {
      * Get all menu items (F103)
      * @return List of all menu items
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<MenuItemDto> findAllMenuItems() {
-        return menuRepository.findAll().stream()
+        return getCatalogSnapshot().getItems();
+    }
+    
+    /**
+     * Get the current catalog version (F103)
+     * Read it before loading data so a response is never tagged newer than its content.
+     * @return Version that changes after every committed menu mutation
+     */
+    public long getCatalogVersion() {
+        return catalogVersion.get();
+    }
+    
+    /**
+     * Get the current catalog snapshot, rebuilding it if a mutation has
+     * completed since it was loaded (F103)
+     * @return Current menu catalog snapshot
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public MenuCatalogSnapshot getCatalogSnapshot() {
+        MenuCatalogSnapshot current = catalog.get();
+        long version = catalogVersion.get();
+        if (current != null && current.getVersion() == version) {
+            return current;
+        }
+        
+        List<MenuItemDto> items = menuRepository.findAll().stream()
             .map(this::convertToDto)
             .collect(Collectors.toList());
+        MenuCatalogSnapshot rebuilt = MenuCatalogSnapshot.of(version, items);
+        // Never replace a snapshot with one loaded at an older version
+        catalog.accumulateAndGet(rebuilt,
+            (existing, candidate) -> existing == null || candidate.getVersion() >= existing.getVersion()
+                ? candidate : existing);
+        return rebuilt;
     }
     
     /**
@@ -76,6 +134,7 @@ public class MenuService {
         item.setUpdatedAt(OffsetDateTime.now());
         
         MenuItem savedItem = menuRepository.save(item);
+        invalidateCatalogOnCompletion();
         return convertToDto(savedItem);
     }
     
@@ -112,6 +171,7 @@ public class MenuService {
         item.setUpdatedAt(OffsetDateTime.now());
         
         MenuItem updatedItem = menuRepository.save(item);
+        invalidateCatalogOnCompletion();
         return convertToDto(updatedItem);
     }
     
@@ -125,6 +185,7 @@ public class MenuService {
             throw new RuntimeException("Menu item not found with id: " + id);
         }
         menuRepository.deleteById(id);
+        invalidateCatalogOnCompletion();
     }
     
     /**
@@ -132,10 +193,66 @@ public class MenuService {
      * @param name Search term
      * @return List of matching menu items
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<MenuItemDto> searchByName(String name) {
-        return menuRepository.findByNameContainingIgnoreCase(name).stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+        return getCatalogSnapshot().searchByName(name);
+    }
+    
+    /**
+     * Ranked full-text search over name, description and category (F103)
+     * @param query Free-text query; matching is prefix and typo tolerant
+     * @param limit Maximum number of items to return (capped at 100)
+     * @param offset Number of ranked items to skip
+     * @return Page of matching menu items, best match first
+     * @throws IllegalArgumentException if the query is blank or paging is invalid
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public MenuSearchResponseDto searchMenuItems(String query, int limit, int offset) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        if (limit < 1 || offset < 0) {
+            throw new IllegalArgumentException("Limit must be positive and offset must not be negative");
+        }
+        int pageSize = Math.min(limit, MAX_SEARCH_LIMIT);
+        
+        List<MenuItemDto> matches = getCatalogSnapshot().search(query);
+        int from = Math.min(offset, matches.size());
+        int to = Math.min(from + pageSize, matches.size());
+        return new MenuSearchResponseDto(query, matches.size(), pageSize, offset, matches.subList(from, to));
+    }
+    
+    /**
+     * Find menu items matching every given criterion, unpaged (F103)
+     * @param filter Category, availability, price range and name match; all optional
+     * @return Matching items ordered by category, name and id
+     * @throws IllegalArgumentException if the price range is inverted
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<MenuItemDto> findMenuItems(MenuItemFilterRequestDto filter) {
+        validatePriceRange(filter);
+        return getCatalogSnapshot().filter(filter, null, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Browse menu items matching every given criterion with keyset pagination (F103)
+     * @param filter Criteria plus limit (default 20, capped at 100) and cursor
+     * @return Page of items ordered by category, name and id
+     * @throws IllegalArgumentException if the price range, limit or cursor is invalid
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CursorPageDto<MenuItemDto> browseMenuItems(MenuItemFilterRequestDto filter) {
+        validatePriceRange(filter);
+        int limit = KeysetCursor.resolveLimit(filter.getLimit());
+        
+        MenuItemDto after = decodeCursor(filter.getCursor());
+        // Fetch one extra item to learn whether another page exists
+        List<MenuItemDto> items = getCatalogSnapshot().filter(filter, after, limit + 1);
+        if (items.size() <= limit) {
+            return new CursorPageDto<>(items, limit, null);
+        }
+        List<MenuItemDto> page = items.subList(0, limit);
+        return new CursorPageDto<>(page, limit, encodeCursor(page.get(limit - 1)));
     }
     
     /**
@@ -143,10 +260,9 @@ public class MenuService {
      * @param category Category name
      * @return List of menu items in category
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<MenuItemDto> findByCategory(String category) {
-        return menuRepository.findByCategory(category).stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+        return getCatalogSnapshot().findByCategory(category);
     }
     
     /**
@@ -154,18 +270,95 @@ public class MenuService {
      * @param available Availability status
      * @return List of menu items with matching availability
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<MenuItemDto> findByAvailability(boolean available) {
-        return menuRepository.findByAvailable(available).stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+        return getCatalogSnapshot().findByAvailability(available);
     }
     
     /**
      * Get all unique categories (F103)
      * @return List of category names
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<String> getAllCategories() {
-        return menuRepository.findDistinctCategories();
+        return getCatalogSnapshot().getCategories();
+    }
+    
+    private void validatePriceRange(MenuItemFilterRequestDto filter) {
+        if (filter.getMinPrice() != null && filter.getMaxPrice() != null
+            && filter.getMinPrice().compareTo(filter.getMaxPrice()) > 0) {
+            throw new IllegalArgumentException("Minimum price must not be greater than maximum price");
+        }
+    }
+    
+    /**
+     * Opaque keyset cursor: (category, name, id) of the last item on the page.
+     * Null fields are kept null, since they sort before every value.
+     */
+    private static String encodeCursor(MenuItemDto last) {
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(buffer);
+            writeNullable(out, last.getCategory());
+            writeNullable(out, last.getName());
+            out.writeLong(last.getId() != null ? last.getId() : 0L);
+            out.flush();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode cursor", e);
+        }
+    }
+    
+    /**
+     * Decode a client-supplied cursor; null or blank means the first page, as in KeysetCursor
+     */
+    private static MenuItemDto decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)));
+            MenuItemDto position = new MenuItemDto();
+            position.setCategory(readNullable(in));
+            position.setName(readNullable(in));
+            position.setId(in.readLong());
+            if (in.available() > 0) {
+                throw new IllegalArgumentException("Trailing bytes");
+            }
+            return position;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+    
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+    
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+    
+    /**
+     * Bump the catalog version once the current transaction completes.
+     * Rolled-back transactions invalidate as well, so a snapshot that was built
+     * from uncommitted rows inside the transaction is never kept.
+     */
+    void invalidateCatalogOnCompletion() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            catalogVersion.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                catalogVersion.incrementAndGet();
+            }
+        });
     }
     
     /**
@@ -0,0 +1,229 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lerestaurant.le_restaurant_backend.dto.OrderBatchRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderBatchResultDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderCreateRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderItemRequestDto;
+import com.lerestaurant.le_restaurant_backend.entity.IdempotencyRecord;
+import com.lerestaurant.le_restaurant_backend.entity.MenuItem;
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+import com.lerestaurant.le_restaurant_backend.entity.RestaurantTable;
+import com.lerestaurant.le_restaurant_backend.entity.User;
+import com.lerestaurant.le_restaurant_backend.repository.IdempotencyRecordRepository;
+import com.lerestaurant.le_restaurant_backend.repository.MenuItemRepository;
+import com.lerestaurant.le_restaurant_backend.repository.OrderRepository;
+import com.lerestaurant.le_restaurant_backend.repository.RestaurantTableRepository;
+import com.lerestaurant.le_restaurant_backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Batch Order Submission (F105)
+ *
+ * Accepts the orders a POS terminal queued while offline in one request.
+ * Client tokens, customers, tables and menu items of the whole batch are
+ * loaded with one query each, and every order is priced from the same pricing
+ * table. Orders that fail validation are rejected individually, and the rest
+ * are inserted in one transaction with JDBC batching, together with their
+ * tokens and their initial status events.
+ *
+ * Tokens share the idempotency key store of POST /api/orders, so an order
+ * first sent on its own and later replayed in a batch is not created twice.
+ * If two batches carrying the same new token commit at the same time, the
+ * later one fails on the key's primary key and can simply be resubmitted;
+ * its orders are then replayed.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+@Service
+@Transactional
+public class OrderBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderBatchService.class);
+
+    // Same scope as POST /api/orders with an Idempotency-Key header
+    static final String SCOPE = "orders";
+
+    private final OrderService orderService;
+    private final PricingService pricingService;
+    private final OrderRepository orderRepository;
+    private final UserRepository userRepository;
+    private final RestaurantTableRepository tableRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotencyService idempotencyService;
+    private final KitchenQueue kitchenQueue;
+    private final OrderStatusHistoryService statusHistoryService;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public OrderBatchService(OrderService orderService,
+                             PricingService pricingService,
+                             OrderRepository orderRepository,
+                             UserRepository userRepository,
+                             RestaurantTableRepository tableRepository,
+                             MenuItemRepository menuItemRepository,
+                             IdempotencyRecordRepository idempotencyRecordRepository,
+                             IdempotencyService idempotencyService,
+                             KitchenQueue kitchenQueue,
+                             OrderStatusHistoryService statusHistoryService,
+                             ObjectMapper objectMapper) {
+        this.orderService = orderService;
+        this.pricingService = pricingService;
+        this.orderRepository = orderRepository;
+        this.userRepository = userRepository;
+        this.tableRepository = tableRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.idempotencyService = idempotencyService;
+        this.kitchenQueue = kitchenQueue;
+        this.statusHistoryService = statusHistoryService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Submit a batch of orders
+     *
+     * @param requestDto Orders with their client tokens
+     * @return OrderBatchResultDto One result per order, in submission order
+     */
+    public OrderBatchResultDto submitOrders(OrderBatchRequestDto requestDto) {
+        List<OrderBatchRequestDto.Entry> entries = requestDto.getOrders();
+        logger.info("Submitting batch of {} orders", entries.size());
+
+        // Everything the batch refers to, one query per table
+        Set<String> keys = new LinkedHashSet<>();
+        Set<Long> customerIds = new HashSet<>();
+        Set<Long> tableIds = new HashSet<>();
+        Set<Long> menuItemIds = new HashSet<>();
+        for (OrderBatchRequestDto.Entry entry : entries) {
+            keys.add(IdempotencyService.storageKey(SCOPE, entry.getClientToken()));
+            OrderCreateRequestDto order = entry.getOrder();
+            customerIds.add(order.getCustomerId());
+            if (order.getTableId() != null) {
+                tableIds.add(order.getTableId());
+            }
+            for (OrderItemRequestDto item : order.getItems()) {
+                menuItemIds.add(item.getMenuItemId());
+            }
+        }
+        Map<String, IdempotencyRecord> stored = byKey(idempotencyRecordRepository.findAllById(keys), IdempotencyRecord::getKey);
+        Map<Long, User> customers = byKey(userRepository.findAllById(customerIds), User::getId);
+        Map<Long, RestaurantTable> tables = tableIds.isEmpty()
+            ? Map.of()
+            : byKey(tableRepository.findAllById(tableIds), RestaurantTable::getId);
+        Map<Long, MenuItem> menuItems = byKey(menuItemRepository.findAllById(menuItemIds), MenuItem::getId);
+        PricingTable pricing = pricingService.pricingFor(menuItems.values());
+
+        OrderBatchResultDto.Result[] results = new OrderBatchResultDto.Result[entries.size()];
+        List<Order> orders = new ArrayList<>();
+        List<IdempotencyRecord> claims = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < entries.size(); i++) {
+            OrderBatchRequestDto.Entry entry = entries.get(i);
+            String token = entry.getClientToken();
+            String key = IdempotencyService.storageKey(SCOPE, token);
+            String requestHash = idempotencyService.requestHash(entry.getOrder());
+            if (!seen.add(key)) {
+                results[i] = rejected(token, "Client token appears more than once in the batch");
+                continue;
+            }
+            IdempotencyRecord existing = stored.get(key);
+            if (existing != null) {
+                results[i] = replay(token, existing, requestHash);
+                continue;
+            }
+            try {
+                orders.add(buildOrder(entry.getOrder(), customers, tables, menuItems, pricing));
+                claims.add(new IdempotencyRecord(key, requestHash));
+                positions.add(i);
+            } catch (RuntimeException e) {
+                results[i] = rejected(token, e.getMessage());
+            }
+        }
+
+        // Pooled sequence ids let Hibernate batch these inserts, and the status events, at flush
+        orderRepository.saveAll(orders);
+        statusHistoryService.recordCreated(orders);
+        for (int j = 0; j < orders.size(); j++) {
+            Order order = orders.get(j);
+            OrderDto dto = orderService.convertToDto(order);
+            IdempotencyRecord claim = claims.get(j);
+            claim.setResponseStatus(HttpStatus.CREATED.value());
+            claim.setResponseBody(idempotencyService.toJson(dto));
+            int position = positions.get(j);
+            results[position] = new OrderBatchResultDto.Result(
+                entries.get(position).getClientToken(), OrderBatchResultDto.Outcome.CREATED, dto, null);
+            kitchenQueue.publish(order);
+        }
+        idempotencyRecordRepository.saveAll(claims);
+
+        OrderBatchResultDto result = new OrderBatchResultDto();
+        for (OrderBatchResultDto.Result entryResult : results) {
+            result.add(entryResult);
+        }
+        logger.info("Order batch finished: {} created, {} replayed, {} rejected",
+                   result.getCreatedCount(), result.getReplayedCount(), result.getRejectedCount());
+        return result;
+    }
+
+    private Order buildOrder(OrderCreateRequestDto requestDto, Map<Long, User> customers,
+                             Map<Long, RestaurantTable> tables, Map<Long, MenuItem> menuItems,
+                             PricingTable pricing) {
+        User customer = customers.get(requestDto.getCustomerId());
+        if (customer == null) {
+            throw new RuntimeException("Customer not found with id: " + requestDto.getCustomerId());
+        }
+        RestaurantTable table = null;
+        if (requestDto.getTableId() != null) {
+            table = tables.get(requestDto.getTableId());
+            if (table == null) {
+                throw new RuntimeException("Table not found with id: " + requestDto.getTableId());
+            }
+        }
+        OrderService.checkOrderable(requestDto.getItems(), menuItems);
+        return orderService.buildOrder(requestDto, customer, table, menuItems, pricing);
+    }
+
+    private OrderBatchResultDto.Result replay(String token, IdempotencyRecord record, String requestHash) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            return rejected(token, "Client token was already used with a different order");
+        }
+        try {
+            OrderDto order = objectMapper.readValue(record.getResponseBody(), OrderDto.class);
+            return new OrderBatchResultDto.Result(token, OrderBatchResultDto.Outcome.REPLAYED, order, null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored order for client token " + token, e);
+        }
+    }
+
+    private static OrderBatchResultDto.Result rejected(String token, String error) {
+        return new OrderBatchResultDto.Result(token, OrderBatchResultDto.Outcome.REJECTED, null, error);
+    }
+
+    private static <K, V> Map<K, V> byKey(Iterable<V> values, Function<V, K> key) {
+        Map<K, V> map = new HashMap<>();
+        for (V value : values) {
+            map.put(key.apply(value), value);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,204 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+import com.lerestaurant.le_restaurant_backend.entity.User;
+import com.lerestaurant.le_restaurant_backend.repository.OrderRepository;
+import com.lerestaurant.le_restaurant_backend.util.CsvWriter;
+import com.lerestaurant.le_restaurant_backend.util.ExportFormat;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Order Export Service (F105)
+ *
+ * Streams every order placed in a time range as CSV or JSON lines. Orders are
+ * read through a JPA stream backed by a server-side cursor and written one row
+ * at a time; the persistence context is cleared after each chunk, so memory
+ * use does not grow with the size of the range.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+@Service
+@Transactional(readOnly = true)
+public class OrderExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderExportService.class);
+
+    /** Rows between persistence context clears and output flushes; matches the query fetch size */
+    static final int CHUNK_SIZE = 500;
+
+    private static final String[] CSV_COLUMNS = {
+        "id", "orderTime", "customerId", "customerName", "customerEmail", "tableNumber", "orderType",
+        "status", "subtotal", "taxAmount", "tipAmount", "totalAmount", "completedAt"
+    };
+
+    private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public OrderExportService(OrderRepository orderRepository,
+                              EntityManager entityManager,
+                              ObjectMapper objectMapper) {
+        this.orderRepository = orderRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Stream orders placed in [from, to), oldest first
+     * @param out Output stream; flushed but not closed
+     * @param from Start of the range, inclusive
+     * @param to End of the range, exclusive
+     * @param format Output format
+     * @return Number of orders written
+     * @throws IllegalArgumentException if the range is empty or inverted
+     */
+    public long exportOrders(OutputStream out, OffsetDateTime from, OffsetDateTime to,
+                             ExportFormat format) throws IOException {
+        validateRange(from, to);
+        logger.info("Starting order export {} to {} ({})", from, to, format);
+        RowWriter writer = format == ExportFormat.JSONL ? new JsonLinesWriter(out) : new CsvRowWriter(out);
+        long count = 0;
+        try (Stream<Order> orders = orderRepository.findByOrderTimeBetween(from, to)) {
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                if (++count % CHUNK_SIZE == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        logger.info("Order export finished: {} orders", count);
+        return count;
+    }
+
+    /**
+     * Check an export range before the response is committed
+     * @throws IllegalArgumentException if the range is missing, empty or inverted
+     */
+    public void validateRange(OffsetDateTime from, OffsetDateTime to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to are required");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+    }
+
+    private interface RowWriter {
+        void write(Order order) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private class JsonLinesWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        JsonLinesWriter(OutputStream out) throws IOException {
+            generator = objectMapper.getFactory().createGenerator(out);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(Order order) throws IOException {
+            User customer = order.getCustomer();
+            generator.writeStartObject();
+            generator.writeNumberField("id", order.getId());
+            generator.writeStringField("orderTime", text(order.getOrderTime()));
+            if (customer != null) {
+                generator.writeNumberField("customerId", customer.getId());
+            } else {
+                generator.writeNullField("customerId");
+            }
+            generator.writeStringField("customerName", customer != null ? customerName(customer) : null);
+            generator.writeStringField("customerEmail", customer != null ? customer.getEmail() : null);
+            generator.writeStringField("tableNumber", order.getTable() != null ? order.getTable().getTableNumber() : null);
+            generator.writeStringField("orderType", text(order.getOrderType()));
+            generator.writeStringField("status", text(order.getStatus()));
+            writeAmount("subtotal", order.getSubtotal());
+            writeAmount("taxAmount", order.getTaxAmount());
+            writeAmount("tipAmount", order.getTipAmount());
+            writeAmount("totalAmount", order.getTotalAmount());
+            generator.writeStringField("completedAt", text(order.getCompletedAt()));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeAmount(String field, BigDecimal amount) throws IOException {
+            if (amount != null) {
+                generator.writeNumberField(field, amount);
+            } else {
+                generator.writeNullField(field);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+
+        private final CsvWriter writer;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            writer = new CsvWriter(out);
+            writer.writeRow(CSV_COLUMNS);
+        }
+
+        @Override
+        public void write(Order order) throws IOException {
+            User customer = order.getCustomer();
+            writer.writeRow(
+                text(order.getId()),
+                text(order.getOrderTime()),
+                customer != null ? text(customer.getId()) : null,
+                customer != null ? customerName(customer) : null,
+                customer != null ? customer.getEmail() : null,
+                order.getTable() != null ? order.getTable().getTableNumber() : null,
+                text(order.getOrderType()),
+                text(order.getStatus()),
+                amount(order.getSubtotal()),
+                amount(order.getTaxAmount()),
+                amount(order.getTipAmount()),
+                amount(order.getTotalAmount()),
+                text(order.getCompletedAt()));
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static String customerName(User customer) {
+        return customer.getFirstName() + " " + customer.getLastName();
+    }
+
+    private static String amount(BigDecimal value) {
+        return value != null ? value.toPlainString() : null;
+    }
+
+    private static String text(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -3,16 +3,25 @@ package com.lerestaurant.le_restaurant_backend.service;
 import com.lerestaurant.le_restaurant_backend.dto.*;
 import com.lerestaurant.le_restaurant_backend.entity.*;
 import com.lerestaurant.le_restaurant_backend.repository.*;
+import com.lerestaurant.le_restaurant_backend.util.KeysetCursor;
+import com.lerestaurant.le_restaurant_backend.util.Money;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
@@ -41,25 +50,36 @@ import java.util.stream.Collectors;
 public class OrderService {
     
     private static final Logger logger = LoggerFactory.getLogger(OrderService.class);
-    private static final BigDecimal TAX_RATE = new BigDecimal("0.10"); // 10% tax
     
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final MenuItemRepository menuItemRepository;
     private final UserRepository userRepository;
     private final RestaurantTableRepository tableRepository;
+    private final KitchenQueue kitchenQueue;
+    private final SalesRollupService salesRollupService;
+    private final PricingService pricingService;
+    private final OrderStatusHistoryService statusHistoryService;
     
     @Autowired
     public OrderService(OrderRepository orderRepository,
                        OrderItemRepository orderItemRepository,
                        MenuItemRepository menuItemRepository,
                        UserRepository userRepository,
-                       RestaurantTableRepository tableRepository) {
+                       RestaurantTableRepository tableRepository,
+                       KitchenQueue kitchenQueue,
+                       SalesRollupService salesRollupService,
+                       PricingService pricingService,
+                       OrderStatusHistoryService statusHistoryService) {
         this.orderRepository = orderRepository;
         this.orderItemRepository = orderItemRepository;
         this.menuItemRepository = menuItemRepository;
         this.userRepository = userRepository;
         this.tableRepository = tableRepository;
+        this.kitchenQueue = kitchenQueue;
+        this.salesRollupService = salesRollupService;
+        this.pricingService = pricingService;
+        this.statusHistoryService = statusHistoryService;
     }
     
     /**
@@ -73,6 +93,17 @@ public class OrderService {
      * @throws RuntimeException if customer not found or menu items invalid
      */
     public OrderDto createOrder(OrderCreateRequestDto requestDto) {
+        return convertToDto(placeOrder(requestDto));
+    }
+    
+    /**
+     * Validate, price and save a new order without converting it, so
+     * checkout can keep working with the entity in the same transaction
+     * 
+     * @param requestDto Order creation request data
+     * @return Order Saved order with its items
+     */
+    Order placeOrder(OrderCreateRequestDto requestDto) {
         logger.info("Creating new order for customer ID: {}", requestDto.getCustomerId());
         
         // Validate customer existence
@@ -99,6 +130,32 @@ public class OrderService {
             throw new IllegalArgumentException("Order must have at least one item");
         }
         
+        // Resolve and validate all menu items with a single query
+        Map<Long, MenuItem> menuItems = resolveOrderableMenuItems(requestDto.getItems());
+        Order order = buildOrder(requestDto, customer, table, menuItems, pricingService.pricingFor(menuItems.values()));
+        
+        // Save order (cascade will save items)
+        Order savedOrder = orderRepository.save(order);
+        statusHistoryService.recordCreated(List.of(savedOrder));
+        logger.info("Order created successfully with ID: {}", savedOrder.getId());
+        kitchenQueue.publish(savedOrder);
+        
+        return savedOrder;
+    }
+    
+    /**
+     * Build an unsaved order with its items and totals from already resolved
+     * customer, table and menu items
+     * 
+     * @param requestDto Order creation request data
+     * @param customer Ordering customer
+     * @param table Table, or null
+     * @param menuItems Orderable menu items by id, covering every line of the request
+     * @param pricing Pricing table covering those menu items
+     * @return Order New order, not yet persisted
+     */
+    Order buildOrder(OrderCreateRequestDto requestDto, User customer, RestaurantTable table,
+                     Map<Long, MenuItem> menuItems, PricingTable pricing) {
         // Create order entity
         Order order = new Order();
         order.setCustomer(customer);
@@ -107,51 +164,33 @@ public class OrderService {
         order.setStatus(Order.OrderStatus.PENDING);
         order.setOrderTime(OffsetDateTime.now());
         order.setSpecialInstructions(requestDto.getSpecialInstructions());
-        order.setTipAmount(requestDto.getTipAmount() != null ? requestDto.getTipAmount() : BigDecimal.ZERO);
-        
-        // Create order items
-        BigDecimal subtotal = BigDecimal.ZERO;
+        Money tip = requestDto.getTipAmount() != null ? Money.of(requestDto.getTipAmount()) : Money.ZERO;
+        order.setTipAmountMoney(tip);
+
+        // Create order items; unit prices, tax and combo discounts come from the compiled pricing table
+        PricingTable.Bill bill = pricing.newBill(order.getOrderTime().toLocalTime());
         for (OrderItemRequestDto itemRequest : requestDto.getItems()) {
-            MenuItem menuItem = menuItemRepository.findById(itemRequest.getMenuItemId())
-                    .orElseThrow(() -> {
-                        logger.error("Order creation failed: menu item not found - {}", itemRequest.getMenuItemId());
-                        return new RuntimeException("Menu item not found with id: " + itemRequest.getMenuItemId());
-                    });
-            
-            // Check menu item availability
-            if (!menuItem.isAvailable()) {
-                logger.error("Order creation failed: menu item not available - {}", menuItem.getName());
-                throw new RuntimeException("Menu item not available: " + menuItem.getName());
-            }
-            
+            MenuItem menuItem = menuItems.get(itemRequest.getMenuItemId());
+
             OrderItem orderItem = new OrderItem();
             orderItem.setOrder(order);
             orderItem.setMenuItem(menuItem);
             orderItem.setQuantity(itemRequest.getQuantity());
-            orderItem.setUnitPrice(menuItem.getPrice());
-            
-            // Calculate item subtotal (getter calculates it automatically)
-            BigDecimal itemSubtotal = orderItem.getSubtotal();
-            subtotal = subtotal.add(itemSubtotal);
+            orderItem.setUnitPriceMoney(bill.addLine(menuItem.getId(), itemRequest.getQuantity()));
             
             order.getItems().add(orderItem);
         }
         
         // Calculate totals
-        order.setSubtotal(subtotal);
-        BigDecimal taxAmount = subtotal.multiply(TAX_RATE).setScale(2, RoundingMode.HALF_UP);
-        order.setTaxAmount(taxAmount);
-        BigDecimal totalAmount = subtotal.add(taxAmount).add(order.getTipAmount());
-        order.setTotalAmount(totalAmount);
+        order.setSubtotalMoney(bill.getSubtotal());
+        order.setDiscountAmountMoney(bill.getDiscount());
+        order.setTaxAmountMoney(bill.getTax());
+        order.setTotalAmountMoney(bill.getTotal().plus(tip));
         
         // Set estimated completion (30 minutes from now)
         order.setEstimatedCompletion(OffsetDateTime.now().plusMinutes(30));
         
-        // Save order (cascade will save items)
-        Order savedOrder = orderRepository.save(order);
-        logger.info("Order created successfully with ID: {}", savedOrder.getId());
-        
-        return convertToDto(savedOrder);
+        return order;
     }
     
     /**
@@ -178,9 +217,51 @@ public class OrderService {
      */
     public List<OrderDto> getAllOrders() {
         logger.info("Retrieving all orders");
-        return orderRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return toDtoList(orderRepository.findAllWithCustomerAndTable());
+    }
+    
+    /**
+     * Get one page of orders, newest first
+     * 
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param limit Page size (default 20, capped at 100)
+     * @return CursorPageDto<OrderDto> Page of orders
+     * @throws IllegalArgumentException if the cursor or limit is invalid
+     */
+    public CursorPageDto<OrderDto> getOrdersPage(String cursor, Integer limit) {
+        int size = KeysetCursor.resolveLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return toDtoPage(orderRepository.findPageAfter(after.getTimestamp(), after.getId(), KeysetCursor.window(size)), size);
+    }
+    
+    /**
+     * Get one page of a customer's orders, newest first
+     * 
+     * @param customerId Customer ID
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param limit Page size (default 20, capped at 100)
+     * @return CursorPageDto<OrderDto> Page of the customer's orders
+     */
+    public CursorPageDto<OrderDto> getOrdersByCustomerIdPage(Long customerId, String cursor, Integer limit) {
+        int size = KeysetCursor.resolveLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return toDtoPage(orderRepository.findPageByCustomerIdAfter(
+                customerId, after.getTimestamp(), after.getId(), KeysetCursor.window(size)), size);
+    }
+    
+    /**
+     * Get one page of orders with a status, newest first
+     * 
+     * @param status Order status
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param limit Page size (default 20, capped at 100)
+     * @return CursorPageDto<OrderDto> Page of orders with the status
+     */
+    public CursorPageDto<OrderDto> getOrdersByStatusPage(Order.OrderStatus status, String cursor, Integer limit) {
+        int size = KeysetCursor.resolveLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return toDtoPage(orderRepository.findPageByStatusAfter(
+                status, after.getTimestamp(), after.getId(), KeysetCursor.window(size)), size);
     }
     
     /**
@@ -191,9 +272,7 @@ public class OrderService {
      */
     public List<OrderDto> getOrdersByCustomerId(Long customerId) {
         logger.info("Retrieving orders for customer ID: {}", customerId);
-        return orderRepository.findByCustomerId(customerId).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return toDtoList(orderRepository.findByCustomerIdWithCustomerAndTable(customerId));
     }
     
     /**
@@ -204,21 +283,38 @@ public class OrderService {
      */
     public List<OrderDto> getOrdersByStatus(Order.OrderStatus status) {
         logger.info("Retrieving orders with status: {}", status);
-        return orderRepository.findByStatus(status).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return toDtoList(orderRepository.findByStatusWithCustomerAndTable(status));
+    }
+    
+    /**
+     * Get the given orders that are (still) in a status
+     * 
+     * @param ids Order IDs, e.g. from the kitchen queue
+     * @param status Order status
+     * @return List<OrderDto> Matching orders, by ID
+     */
+    public List<OrderDto> getOrdersByIds(Collection<Long> ids, Order.OrderStatus status) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return toDtoList(orderRepository.findByIdInAndStatusWithCustomerAndTable(ids, status));
     }
     
     /**
      * Update order status
      * 
      * @param id Order ID
-     * @param status New status
+     * @param status New status; the current status is accepted as a no-op
      * @return OrderDto Updated order data
+     * @throws IllegalArgumentException if status is missing
+     * @throws IllegalStateException if the order may not move to status
      * @throws RuntimeException if order not found
      */
     public OrderDto updateOrderStatus(Long id, Order.OrderStatus status) {
         logger.info("Updating order {} status to: {}", id, status);
+        if (status == null) {
+            throw new IllegalArgumentException("Order status is required");
+        }
         
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> {
@@ -226,6 +322,8 @@ public class OrderService {
                     return new RuntimeException("Order not found with id: " + id);
                 });
         
+        Order.OrderStatus previous = order.getStatus();
+        requireTransition(order, status);
         order.setStatus(status);
         
         // Set completed timestamp if status is COMPLETED
@@ -235,17 +333,93 @@ public class OrderService {
         }
         
         Order updatedOrder = orderRepository.save(order);
+        salesRollupService.recordStatusChange(updatedOrder, previous);
+        statusHistoryService.recordStatusChange(updatedOrder, previous);
         logger.info("Order {} status updated successfully", id);
+        kitchenQueue.publish(updatedOrder);
         
         return convertToDto(updatedOrder);
     }
     
+    /**
+     * Move a set of orders to one status
+     * 
+     * Current statuses are read in one query that locks the orders until the
+     * transaction ends, and checked against {@link OrderStatusTransitions};
+     * every eligible order is then updated with a single UPDATE guarded on its
+     * source status. Since nothing else can change the locked orders in
+     * between, the statuses read are the ones replaced, and each order is
+     * recorded in the sales rollups and status history exactly once.
+     * 
+     * @param requestDto Order IDs and target status
+     * @return OrderBulkStatusResultDto Outcome per order ID
+     * @throws IllegalStateException if the UPDATE missed an eligible order; nothing is changed
+     */
+    public OrderBulkStatusResultDto updateOrderStatuses(OrderBulkStatusRequestDto requestDto) {
+        Order.OrderStatus target = requestDto.getStatus();
+        Set<Long> ids = new TreeSet<>(requestDto.getOrderIds());
+        logger.info("Bulk updating {} orders to status: {}", ids.size(), target);
+        
+        Map<Long, Order.OrderStatus> current = new HashMap<>();
+        Map<Long, Long> versions = new HashMap<>();
+        for (Object[] row : orderRepository.findStatusesByIdInForUpdate(ids)) {
+            current.put((Long) row[0], (Order.OrderStatus) row[1]);
+            versions.put((Long) row[0], (Long) row[2]);
+        }
+        
+        Map<Long, OrderBulkStatusResultDto.Outcome> outcomes = new LinkedHashMap<>();
+        List<Long> eligible = new ArrayList<>();
+        for (Long id : ids) {
+            Order.OrderStatus status = current.get(id);
+            if (status == null) {
+                outcomes.put(id, OrderBulkStatusResultDto.Outcome.NOT_FOUND);
+            } else if (status == target) {
+                outcomes.put(id, OrderBulkStatusResultDto.Outcome.UNCHANGED);
+            } else if (!OrderStatusTransitions.isAllowed(status, target)) {
+                outcomes.put(id, OrderBulkStatusResultDto.Outcome.INVALID_TRANSITION);
+            } else {
+                outcomes.put(id, OrderBulkStatusResultDto.Outcome.UPDATED);
+                eligible.add(id);
+            }
+        }
+        
+        if (!eligible.isEmpty()) {
+            OffsetDateTime now = OffsetDateTime.now();
+            OffsetDateTime completedAt = target == Order.OrderStatus.COMPLETED ? now : null;
+            int count = orderRepository.updateStatusWhereStatusIn(
+                    eligible, OrderStatusTransitions.sourcesOf(target), target, completedAt);
+            if (count != eligible.size()) {
+                // Cannot tell which orders this UPDATE changed; roll back rather than record any twice
+                throw new IllegalStateException("Orders changed status during the bulk update; please retry");
+            }
+            salesRollupService.recordStatusChanges(eligible, target);
+            statusHistoryService.recordStatusChanges(eligible, current, target, now);
+            // The UPDATE bumps each version by one
+            Map<Long, Long> bumped = new LinkedHashMap<>();
+            for (Long id : eligible) {
+                Long version = versions.get(id);
+                bumped.put(id, version != null ? version + 1 : null);
+            }
+            kitchenQueue.publishStatusChange(bumped, target);
+        }
+        
+        OrderBulkStatusResultDto result = new OrderBulkStatusResultDto(target);
+        result.setUpdatedCount(eligible.size());
+        for (Map.Entry<Long, OrderBulkStatusResultDto.Outcome> entry : outcomes.entrySet()) {
+            result.getResults().add(new OrderBulkStatusResultDto.Result(
+                    entry.getKey(), entry.getValue(), current.get(entry.getKey())));
+        }
+        logger.info("Bulk status update to {} finished: {} of {} orders updated", target, eligible.size(), ids.size());
+        return result;
+    }
+    
     /**
      * Update order
      * 
      * @param id Order ID
      * @param requestDto Update request data
      * @return OrderDto Updated order data
+     * @throws IllegalStateException if the order may not move to the requested status
      * @throws RuntimeException if order not found
      */
     public OrderDto updateOrder(Long id, OrderUpdateRequestDto requestDto) {
@@ -257,7 +431,15 @@ public class OrderService {
                     return new RuntimeException("Order not found with id: " + id);
                 });
         
+        if (requestDto.getVersion() != null && !requestDto.getVersion().equals(order.getVersion())) {
+            logger.warn("Order update failed: order {} is at version {}, client sent {}",
+                       id, order.getVersion(), requestDto.getVersion());
+            throw new ObjectOptimisticLockingFailureException(Order.class, id);
+        }
+        
+        Order.OrderStatus previous = order.getStatus();
         if (requestDto.getStatus() != null) {
+            requireTransition(order, requestDto.getStatus());
             order.setStatus(requestDto.getStatus());
             if (requestDto.getStatus() == Order.OrderStatus.COMPLETED) {
                 order.setCompletedAt(OffsetDateTime.now());
@@ -273,11 +455,27 @@ public class OrderService {
         }
         
         Order updatedOrder = orderRepository.save(order);
+        salesRollupService.recordStatusChange(updatedOrder, previous);
+        statusHistoryService.recordStatusChange(updatedOrder, previous);
         logger.info("Order {} updated successfully", id);
+        kitchenQueue.publish(updatedOrder);
         
         return convertToDto(updatedOrder);
     }
     
+    /**
+     * Reject a status change the order state machine does not allow, with the
+     * same rules the bulk update applies per order
+     * @throws IllegalStateException if the order may not move to target
+     */
+    private static void requireTransition(Order order, Order.OrderStatus target) {
+        Order.OrderStatus current = order.getStatus();
+        if (current != target && !OrderStatusTransitions.isAllowed(current, target)) {
+            logger.warn("Order {} status change rejected: {} -> {}", order.getId(), current, target);
+            throw new IllegalStateException("Cannot change order status from " + current + " to " + target);
+        }
+    }
+    
     /**
      * Delete/cancel order
      * 
@@ -301,18 +499,90 @@ public class OrderService {
             throw new RuntimeException("Cannot cancel order in status: " + order.getStatus());
         }
         
+        Order.OrderStatus previous = order.getStatus();
         order.setStatus(Order.OrderStatus.CANCELLED);
         orderRepository.save(order);
+        salesRollupService.recordStatusChange(order, previous);
+        statusHistoryService.recordStatusChange(order, previous);
         logger.info("Order {} cancelled successfully", id);
+        kitchenQueue.publish(order);
     }
     
+    /**
+     * Convert a list of orders with one extra query for all their items,
+     * instead of lazily loading items per order
+     *
+     * @param orders Orders with customer and table already loaded
+     * @return List<OrderDto> Order DTOs in the same order
+     */
+    private List<OrderDto> toDtoList(List<Order> orders) {
+        if (!orders.isEmpty()) {
+            orderRepository.fetchItemsWithMenuItems(orders);
+        }
+        return orders.stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    private CursorPageDto<OrderDto> toDtoPage(List<Order> rows, int limit) {
+        return KeysetCursor.toPage(rows, limit, this::toDtoList,
+                order -> new KeysetCursor(order.getOrderTime(), order.getId()));
+    }
+
+    /**
+     * Load every menu item referenced by the order in one query and check that
+     * all of them exist and are available
+     *
+     * @param itemRequests Requested order lines
+     * @return Menu items by id
+     * @throws RuntimeException if a menu item is missing or unavailable
+     */
+    private Map<Long, MenuItem> resolveOrderableMenuItems(List<OrderItemRequestDto> itemRequests) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (OrderItemRequestDto itemRequest : itemRequests) {
+            ids.add(itemRequest.getMenuItemId());
+        }
+
+        Map<Long, MenuItem> menuItems = new HashMap<>();
+        for (MenuItem menuItem : menuItemRepository.findAllById(ids)) {
+            menuItems.put(menuItem.getId(), menuItem);
+        }
+        checkOrderable(itemRequests, menuItems);
+        return menuItems;
+    }
+
+    /**
+     * Check that every menu item of an order was found and is available
+     *
+     * @param itemRequests Requested order lines
+     * @param menuItems Loaded menu items by id; may hold items of other orders too
+     * @throws RuntimeException if a menu item is missing or unavailable
+     */
+    static void checkOrderable(List<OrderItemRequestDto> itemRequests, Map<Long, MenuItem> menuItems) {
+        Set<String> unavailable = new LinkedHashSet<>();
+        for (OrderItemRequestDto itemRequest : itemRequests) {
+            MenuItem menuItem = menuItems.get(itemRequest.getMenuItemId());
+            if (menuItem == null) {
+                logger.error("Order creation failed: menu item not found - {}", itemRequest.getMenuItemId());
+                throw new RuntimeException("Menu item not found with id: " + itemRequest.getMenuItemId());
+            }
+            if (!menuItem.isAvailable()) {
+                unavailable.add(menuItem.getName());
+            }
+        }
+        if (!unavailable.isEmpty()) {
+            logger.error("Order creation failed: menu items not available - {}", unavailable);
+            throw new RuntimeException("Menu item not available: " + String.join(", ", unavailable));
+        }
+    }
+
     /**
      * Convert Order entity to DTO
-     * 
+     *
      * @param order Order entity
      * @return OrderDto Order DTO
      */
-    private OrderDto convertToDto(Order order) {
+    OrderDto convertToDto(Order order) {
         OrderDto dto = new OrderDto();
         dto.setId(order.getId());
         dto.setCustomerId(order.getCustomer().getId());
@@ -326,6 +596,7 @@ public class OrderService {
         
         dto.setOrderType(order.getOrderType());
         dto.setSubtotal(order.getSubtotal());
+        dto.setDiscountAmount(order.getDiscountAmount());
         dto.setTaxAmount(order.getTaxAmount());
         dto.setTipAmount(order.getTipAmount());
         dto.setTotalAmount(order.getTotalAmount());
@@ -334,6 +605,7 @@ public class OrderService {
         dto.setOrderTime(order.getOrderTime());
         dto.setEstimatedCompletion(order.getEstimatedCompletion());
         dto.setCompletedAt(order.getCompletedAt());
+        dto.setVersion(order.getVersion());
         
         // Convert order items
         List<OrderItemDto> itemDtos = order.getItems().stream()
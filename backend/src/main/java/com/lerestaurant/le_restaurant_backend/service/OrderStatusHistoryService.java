@@ -0,0 +1,193 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.dto.OrderStageLatencyReportDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderStatusEventDto;
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+import com.lerestaurant.le_restaurant_backend.entity.OrderStatusEvent;
+import com.lerestaurant.le_restaurant_backend.repository.OrderRepository;
+import com.lerestaurant.le_restaurant_backend.repository.OrderStatusEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Order Status History (F105)
+ *
+ * Appends an OrderStatusEvent for every order status change. The order and
+ * payment services call in here inside their own transactions, so an event
+ * commits or rolls back together with the change it records. Events are only
+ * persisted, never updated; Hibernate writes them at flush, and changes to
+ * many orders at once (batch submission, bulk transitions) go out as one
+ * batched insert.
+ *
+ * The stage latency report reads the events of the orders that changed status
+ * in a window in one query and measures the time spent in each status in memory.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+@Service
+@Transactional
+public class OrderStatusHistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderStatusHistoryService.class);
+
+    private final OrderStatusEventRepository eventRepository;
+    private final OrderRepository orderRepository;
+
+    @Autowired
+    public OrderStatusHistoryService(OrderStatusEventRepository eventRepository,
+                                     OrderRepository orderRepository) {
+        this.eventRepository = eventRepository;
+        this.orderRepository = orderRepository;
+    }
+
+    /**
+     * Record the initial status of newly saved orders, at their order time
+     * @param orders Saved orders
+     */
+    public void recordCreated(Collection<Order> orders) {
+        List<OrderStatusEvent> events = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            events.add(new OrderStatusEvent(order.getId(), null, order.getStatus(), order.getOrderTime()));
+        }
+        eventRepository.saveAll(events);
+    }
+
+    /**
+     * Record a status change of one order; nothing is written if the status
+     * did not change
+     * @param order Order after the change
+     * @param previous Status before the change
+     */
+    public void recordStatusChange(Order order, Order.OrderStatus previous) {
+        if (order.getStatus() == previous) {
+            return;
+        }
+        eventRepository.save(new OrderStatusEvent(order.getId(), previous, order.getStatus(), OffsetDateTime.now()));
+    }
+
+    /**
+     * Record orders moved to a status by a bulk UPDATE
+     * @param orderIds Orders that were updated
+     * @param previous Status of each order before the update
+     * @param status Their new status
+     * @param occurredAt Time of the update
+     */
+    public void recordStatusChanges(Collection<Long> orderIds, Map<Long, Order.OrderStatus> previous,
+                                    Order.OrderStatus status, OffsetDateTime occurredAt) {
+        List<OrderStatusEvent> events = new ArrayList<>(orderIds.size());
+        for (Long orderId : orderIds) {
+            events.add(new OrderStatusEvent(orderId, previous.get(orderId), status, occurredAt));
+        }
+        eventRepository.saveAll(events);
+    }
+
+    /**
+     * Get the status history of an order, oldest first
+     *
+     * Orders placed before the history was kept have no events.
+     *
+     * @param orderId Order ID
+     * @return List<OrderStatusEventDto> Status changes of the order
+     * @throws RuntimeException if the order is not found
+     */
+    @Transactional(readOnly = true)
+    public List<OrderStatusEventDto> getOrderHistory(Long orderId) {
+        List<OrderStatusEvent> events = eventRepository.findByOrderIdOrderByOccurredAtAscIdAsc(orderId);
+        if (events.isEmpty() && !orderRepository.existsById(orderId)) {
+            throw new RuntimeException("Order not found with id: " + orderId);
+        }
+        return events.stream()
+            .map(e -> new OrderStatusEventDto(e.getOrderId(), e.getFromStatus(), e.getToStatus(), e.getOccurredAt()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Build per-status latency percentiles for stages that ended in [from, to)
+     *
+     * @param from Start of the window (inclusive)
+     * @param to End of the window (exclusive)
+     * @return OrderStageLatencyReportDto One entry per status with at least one measured stage
+     * @throws IllegalArgumentException if the range is empty or reversed
+     */
+    @Transactional(readOnly = true)
+    public OrderStageLatencyReportDto getStageLatencies(OffsetDateTime from, OffsetDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Report range is invalid: 'from' must be before 'to'");
+        }
+        Map<Order.OrderStatus, Durations> durations = new EnumMap<>(Order.OrderStatus.class);
+        Long orderId = null;
+        Order.OrderStatus status = null;
+        OffsetDateTime enteredAt = null;
+        List<Object[]> rows = eventRepository.findTimelinesChangedBetween(from, to);
+        for (Object[] row : rows) {
+            Long rowOrderId = (Long) row[0];
+            OffsetDateTime occurredAt = (OffsetDateTime) row[2];
+            if (rowOrderId.equals(orderId) && !occurredAt.isBefore(from)) {
+                durations.computeIfAbsent(status, s -> new Durations())
+                    .add(Duration.between(enteredAt, occurredAt).toMillis());
+            }
+            orderId = rowOrderId;
+            status = (Order.OrderStatus) row[1];
+            enteredAt = occurredAt;
+        }
+
+        OrderStageLatencyReportDto report = new OrderStageLatencyReportDto(from, to);
+        for (Map.Entry<Order.OrderStatus, Durations> entry : durations.entrySet()) {
+            report.getStages().add(entry.getValue().toStage(entry.getKey()));
+        }
+        logger.debug("Stage latencies for [{}, {}): {} events read", from, to, rows.size());
+        return report;
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values
+     * @param sorted Values in ascending order, at least one
+     * @param percentile Percentile in (0, 100]
+     */
+    static long percentile(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Growable list of stage durations in milliseconds
+     */
+    private static final class Durations {
+
+        private long[] values = new long[16];
+        private int size;
+
+        void add(long millis) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = millis;
+        }
+
+        OrderStageLatencyReportDto.Stage toStage(Order.OrderStatus status) {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            OrderStageLatencyReportDto.Stage stage = new OrderStageLatencyReportDto.Stage(status, size);
+            stage.setP50Millis(percentile(sorted, 50));
+            stage.setP90Millis(percentile(sorted, 90));
+            stage.setP95Millis(percentile(sorted, 95));
+            stage.setP99Millis(percentile(sorted, 99));
+            stage.setMaxMillis(sorted[size - 1]);
+            return stage;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.entity.Order.OrderStatus;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Order status state machine (F105)
+ *
+ * PENDING -> CONFIRMED -> PREPARING -> READY -> COMPLETED. Payment may be
+ * skipped (PENDING -> PREPARING), and an order can be cancelled until the
+ * kitchen starts on it. COMPLETED and CANCELLED are final.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+public final class OrderStatusTransitions {
+
+    private static final Map<OrderStatus, Set<OrderStatus>> ALLOWED = new EnumMap<>(OrderStatus.class);
+
+    static {
+        ALLOWED.put(OrderStatus.PENDING, EnumSet.of(OrderStatus.CONFIRMED, OrderStatus.PREPARING, OrderStatus.CANCELLED));
+        ALLOWED.put(OrderStatus.CONFIRMED, EnumSet.of(OrderStatus.PREPARING, OrderStatus.CANCELLED));
+        ALLOWED.put(OrderStatus.PREPARING, EnumSet.of(OrderStatus.READY));
+        ALLOWED.put(OrderStatus.READY, EnumSet.of(OrderStatus.COMPLETED));
+        ALLOWED.put(OrderStatus.COMPLETED, EnumSet.noneOf(OrderStatus.class));
+        ALLOWED.put(OrderStatus.CANCELLED, EnumSet.noneOf(OrderStatus.class));
+    }
+
+    private OrderStatusTransitions() {
+    }
+
+    /**
+     * @return true if an order in status from may move to status to
+     */
+    public static boolean isAllowed(OrderStatus from, OrderStatus to) {
+        return ALLOWED.get(from).contains(to);
+    }
+
+    /**
+     * Statuses an order may move to target from
+     * @param target Target status
+     * @return Source statuses, empty for PENDING
+     */
+    public static Set<OrderStatus> sourcesOf(OrderStatus target) {
+        Set<OrderStatus> sources = EnumSet.noneOf(OrderStatus.class);
+        for (Map.Entry<OrderStatus, Set<OrderStatus>> entry : ALLOWED.entrySet()) {
+            if (entry.getValue().contains(target)) {
+                sources.add(entry.getKey());
+            }
+        }
+        return Collections.unmodifiableSet(sources);
+    }
+}
@@ -1,5 +1,6 @@
 package com.lerestaurant.le_restaurant_backend.service;
 
+import com.lerestaurant.le_restaurant_backend.dto.CursorPageDto;
 import com.lerestaurant.le_restaurant_backend.dto.PaymentDto;
 import com.lerestaurant.le_restaurant_backend.dto.PaymentRequestDto;
 import com.lerestaurant.le_restaurant_backend.entity.Payment;
@@ -7,6 +8,8 @@ import com.lerestaurant.le_restaurant_backend.entity.Order;
 import com.lerestaurant.le_restaurant_backend.entity.User;
 import com.lerestaurant.le_restaurant_backend.repository.PaymentRepository;
 import com.lerestaurant.le_restaurant_backend.repository.OrderRepository;
+import com.lerestaurant.le_restaurant_backend.util.KeysetCursor;
+import com.lerestaurant.le_restaurant_backend.util.Money;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -47,11 +50,19 @@ public class PaymentService {
     
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
+    private final KitchenQueue kitchenQueue;
+    private final SalesRollupService salesRollupService;
+    private final OrderStatusHistoryService statusHistoryService;
     
     @Autowired
-    public PaymentService(PaymentRepository paymentRepository, OrderRepository orderRepository) {
+    public PaymentService(PaymentRepository paymentRepository, OrderRepository orderRepository,
+                          KitchenQueue kitchenQueue, SalesRollupService salesRollupService,
+                          OrderStatusHistoryService statusHistoryService) {
         this.paymentRepository = paymentRepository;
         this.orderRepository = orderRepository;
+        this.kitchenQueue = kitchenQueue;
+        this.salesRollupService = salesRollupService;
+        this.statusHistoryService = statusHistoryService;
     }
     
     /**
@@ -75,14 +86,7 @@ public class PaymentService {
                 });
         
         // Validate payment amount matches order total
-        BigDecimal orderTotal = order.getTotalAmount();
-        if (requestDto.getAmount().compareTo(orderTotal) != 0) {
-            logger.error("Payment amount mismatch: expected {}, got {}", 
-                        orderTotal, requestDto.getAmount());
-            throw new IllegalArgumentException(
-                String.format("Payment amount (%.2f) does not match order total (%.2f)", 
-                             requestDto.getAmount(), orderTotal));
-        }
+        requireOrderTotal(requestDto.getAmount(), order);
         
         // Check for existing completed payments (prevent duplicate payments)
         List<Payment> existingPayments = paymentRepository.findByOrderId(requestDto.getOrderId());
@@ -97,7 +101,7 @@ public class PaymentService {
         // Create payment entity
         Payment payment = new Payment();
         payment.setOrder(order);
-        payment.setAmount(requestDto.getAmount());
+        payment.setAmountMoney(order.getTotalAmountMoney());
         payment.setPaymentMethod(requestDto.getPaymentMethod());
         payment.setTransactionId(UUID.randomUUID().toString());
         payment.setStatus(Payment.PaymentStatus.PENDING);
@@ -118,6 +122,15 @@ public class PaymentService {
         return convertToDto(payment);
     }
     
+    public CursorPageDto<PaymentDto> getPaymentsPage(String cursor, Integer limit) {
+        int size = KeysetCursor.resolveLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Payment> rows = paymentRepository.findPageAfter(after.getTimestamp(), after.getId(), KeysetCursor.window(size));
+        return KeysetCursor.toPage(rows, size,
+                page -> page.stream().map(this::convertToDto).collect(Collectors.toList()),
+                payment -> new KeysetCursor(payment.getPaymentTime(), payment.getId()));
+    }
+    
     public List<PaymentDto> getAllPayments() {
         return paymentRepository.findAll()
                 .stream()
@@ -163,15 +176,66 @@ public class PaymentService {
         Payment updatedPayment = paymentRepository.save(payment);
         
         // 결제 완료 후 주문 상태 자동 업데이트
-        // PENDING -> CONFIRMED (결제 완료 후)
-        Order order = payment.getOrder();
+        confirmOrder(payment.getOrder());
+        
+        return convertToDto(updatedPayment);
+    }
+    
+    /**
+     * Take payment for an order created in the same transaction (checkout)
+     * 
+     * The order is new, so there is nothing to re-load and no earlier payment
+     * to look for. The payment is recorded as COMPLETED straight away, as
+     * createPayment followed by processPayment would, and the order confirmed.
+     * 
+     * @param order Order to pay for, still attached
+     * @param amount Amount the client expects to pay; null to charge the order total
+     * @param paymentMethod Payment method
+     * @param paymentDetails Optional payment details
+     * @return Payment Saved payment
+     * @throws IllegalArgumentException if the amount does not match the order total
+     */
+    Payment capturePayment(Order order, BigDecimal amount, Payment.PaymentMethod paymentMethod, String paymentDetails) {
+        if (amount != null) {
+            requireOrderTotal(amount, order);
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        Payment payment = new Payment();
+        payment.setOrder(order);
+        payment.setAmountMoney(order.getTotalAmountMoney());
+        payment.setPaymentMethod(paymentMethod);
+        payment.setTransactionId(UUID.randomUUID().toString());
+        payment.setStatus(Payment.PaymentStatus.COMPLETED);
+        payment.setPaymentDetails(paymentDetails);
+        payment.setPaymentTime(now);
+        payment.setProcessedAt(now);
+        payment.setGatewayResponse("Payment processed successfully");
+        
+        Payment savedPayment = paymentRepository.save(payment);
+        logger.info("Payment captured for order {} with transaction ID: {}", order.getId(), savedPayment.getTransactionId());
+        confirmOrder(order);
+        return savedPayment;
+    }
+    
+    // PENDING -> CONFIRMED (결제 완료 후)
+    private void confirmOrder(Order order) {
         if (order.getStatus() == Order.OrderStatus.PENDING) {
             order.setStatus(Order.OrderStatus.CONFIRMED);
             orderRepository.save(order);
+            statusHistoryService.recordStatusChange(order, Order.OrderStatus.PENDING);
+            kitchenQueue.publish(order);
             logger.info("Order {} status automatically updated to CONFIRMED after payment completion", order.getId());
         }
-        
-        return convertToDto(updatedPayment);
+    }
+    
+    // Exact match in cents: an amount with a fraction of a cent never matches
+    private void requireOrderTotal(BigDecimal amount, Order order) {
+        Money orderTotal = order.getTotalAmountMoney();
+        if (!orderTotal.isEqualTo(amount)) {
+            logger.error("Payment amount mismatch: expected {}, got {}", orderTotal, amount);
+            throw new IllegalArgumentException(
+                String.format("Payment amount (%.2f) does not match order total (%.2f)", amount, orderTotal.toBigDecimal()));
+        }
     }
     
     public PaymentDto refundPayment(Long id) {
@@ -195,6 +259,7 @@ public class PaymentService {
         payment.setGatewayResponse("Payment refunded successfully");
         
         Payment refundedPayment = paymentRepository.save(payment);
+        salesRollupService.recordRefund(refundedPayment.getOrder(), refundedPayment.getAmount());
         logger.info("Payment {} refunded successfully", id);
         
         return convertToDto(refundedPayment);
@@ -207,7 +272,7 @@ public class PaymentService {
         paymentRepository.delete(payment);
     }
     
-    private PaymentDto convertToDto(Payment payment) {
+    PaymentDto convertToDto(Payment payment) {
         User customer = payment.getOrder().getCustomer();
         String customerName = customer != null 
             ? customer.getFirstName() + " " + customer.getLastName() 
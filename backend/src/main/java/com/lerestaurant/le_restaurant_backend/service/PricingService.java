@@ -0,0 +1,270 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.dto.PricingRuleDto;
+import com.lerestaurant.le_restaurant_backend.dto.PricingRuleRequestDto;
+import com.lerestaurant.le_restaurant_backend.entity.MenuItem;
+import com.lerestaurant.le_restaurant_backend.entity.PricingRule;
+import com.lerestaurant.le_restaurant_backend.repository.MenuItemRepository;
+import com.lerestaurant.le_restaurant_backend.repository.PricingRuleRepository;
+import com.lerestaurant.le_restaurant_backend.util.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Pricing Service (F105)
+ *
+ * Manages tax, happy-hour and combo rules and compiles the active ones, together
+ * with the menu, into a PricingTable. The table is rebuilt on the first order
+ * after a rule change or a menu change (tracked by the menu catalog version),
+ * with one query for the menu and one for the rules, and shared by all orders
+ * until then.
+ *
+ * Orders also check that every item they price is in the table at its current
+ * price and category. That covers the moment between a menu change committing
+ * and its catalog version moving, and menu edits made outside MenuService.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+@Service
+@Transactional
+public class PricingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PricingService.class);
+
+    // Applies to every item no TAX rule covers
+    static final BigDecimal DEFAULT_TAX_RATE = new BigDecimal("0.10");
+
+    private final PricingRuleRepository pricingRuleRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final MenuService menuService;
+
+    // Seeded from the start time like the menu catalog version
+    private final AtomicLong rulesVersion = new AtomicLong(System.currentTimeMillis());
+    private final AtomicReference<PricingTable> table = new AtomicReference<>();
+
+    @Autowired
+    public PricingService(PricingRuleRepository pricingRuleRepository,
+                          MenuItemRepository menuItemRepository,
+                          MenuService menuService) {
+        this.pricingRuleRepository = pricingRuleRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.menuService = menuService;
+    }
+
+    /**
+     * Get the current pricing table, compiling it if the menu or the rules
+     * changed since it was built
+     *
+     * @return PricingTable Current table
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public PricingTable getPricingTable() {
+        PricingTable current = table.get();
+        long menuVersion = menuService.getCatalogVersion();
+        long rules = rulesVersion.get();
+        if (current != null && current.isCompiledAt(menuVersion, rules)) {
+            return current;
+        }
+        return compile(menuVersion, rules);
+    }
+
+    /**
+     * Get a pricing table that covers the given menu items as loaded
+     *
+     * @param menuItems Menu items about to be ordered
+     * @return PricingTable Current table, recompiled if it is behind any of the items
+     */
+    PricingTable pricingFor(Collection<MenuItem> menuItems) {
+        PricingTable current = getPricingTable();
+        for (MenuItem menuItem : menuItems) {
+            if (!current.isCurrentFor(menuItem)) {
+                logger.debug("Pricing table is behind menu item {}, recompiling", menuItem.getId());
+                return compile(current.getMenuVersion(), current.getRulesVersion());
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Get all pricing rules
+     *
+     * @return List<PricingRuleDto> Rules in id order, active or not
+     */
+    @Transactional(readOnly = true)
+    public List<PricingRuleDto> getAllRules() {
+        return pricingRuleRepository.findAllWithComboItems().stream()
+            .map(this::convertToDto)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Create a pricing rule
+     *
+     * @param requestDto Rule data
+     * @return PricingRuleDto Created rule
+     * @throws IllegalArgumentException if the rule is missing fields its type needs
+     * @throws RuntimeException if a referenced menu item is not found
+     */
+    public PricingRuleDto createRule(PricingRuleRequestDto requestDto) {
+        PricingRule rule = new PricingRule();
+        apply(rule, requestDto);
+        PricingRule saved = pricingRuleRepository.save(rule);
+        logger.info("Pricing rule {} created: {} {}", saved.getId(), saved.getType(), saved.getName());
+        invalidateTableOnCompletion();
+        return convertToDto(saved);
+    }
+
+    /**
+     * Replace a pricing rule
+     *
+     * @param id Rule ID
+     * @param requestDto Rule data
+     * @return PricingRuleDto Updated rule
+     * @throws IllegalArgumentException if the rule is missing fields its type needs
+     * @throws RuntimeException if the rule or a referenced menu item is not found
+     */
+    public PricingRuleDto updateRule(Long id, PricingRuleRequestDto requestDto) {
+        PricingRule rule = pricingRuleRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Pricing rule not found with id: " + id));
+        apply(rule, requestDto);
+        PricingRule saved = pricingRuleRepository.save(rule);
+        logger.info("Pricing rule {} updated", id);
+        invalidateTableOnCompletion();
+        return convertToDto(saved);
+    }
+
+    /**
+     * Delete a pricing rule
+     *
+     * @param id Rule ID
+     * @throws RuntimeException if the rule is not found
+     */
+    public void deleteRule(Long id) {
+        PricingRule rule = pricingRuleRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Pricing rule not found with id: " + id));
+        pricingRuleRepository.delete(rule);
+        logger.info("Pricing rule {} deleted", id);
+        invalidateTableOnCompletion();
+    }
+
+    private PricingTable compile(long menuVersion, long rules) {
+        List<MenuItem> menuItems = menuItemRepository.findAll();
+        List<PricingRule> activeRules = pricingRuleRepository.findActiveWithComboItems();
+        PricingTable compiled = PricingTable.compile(menuVersion, rules, menuItems, activeRules, DEFAULT_TAX_RATE);
+        logger.debug("Compiled pricing table: {} menu items, {} rules", menuItems.size(), activeRules.size());
+        // Never replace a table with one compiled from older versions
+        table.accumulateAndGet(compiled,
+            (existing, candidate) -> existing == null || !candidate.isOlderThan(existing) ? candidate : existing);
+        return compiled;
+    }
+
+    private void apply(PricingRule rule, PricingRuleRequestDto requestDto) {
+        PricingRule.RuleType type = requestDto.getType();
+        Set<Long> comboItems = requestDto.getComboMenuItemIds() != null
+            ? new LinkedHashSet<>(requestDto.getComboMenuItemIds())
+            : new LinkedHashSet<>();
+        switch (type) {
+            case TAX:
+            case HAPPY_HOUR:
+                if (requestDto.getRate() == null) {
+                    throw new IllegalArgumentException("Rate is required for " + type + " rules");
+                }
+                if (requestDto.getCategory() != null && requestDto.getMenuItemId() != null) {
+                    throw new IllegalArgumentException("Set either a category or a menu item, not both");
+                }
+                if (type == PricingRule.RuleType.HAPPY_HOUR
+                    && (requestDto.getStartTime() == null || requestDto.getEndTime() == null
+                        || requestDto.getStartTime().equals(requestDto.getEndTime()))) {
+                    throw new IllegalArgumentException("Happy hour rules require different start and end times");
+                }
+                if (requestDto.getMenuItemId() != null) {
+                    requireMenuItems(Set.of(requestDto.getMenuItemId()));
+                }
+                comboItems.clear();
+                break;
+            case COMBO:
+                if (requestDto.getAmount() == null) {
+                    throw new IllegalArgumentException("Amount is required for combo rules");
+                }
+                if (comboItems.size() < 2) {
+                    throw new IllegalArgumentException("Combo rules require at least two menu items");
+                }
+                requireMenuItems(comboItems);
+                break;
+        }
+
+        rule.setName(requestDto.getName());
+        rule.setType(type);
+        rule.setCategory(type != PricingRule.RuleType.COMBO ? requestDto.getCategory() : null);
+        rule.setMenuItemId(type != PricingRule.RuleType.COMBO ? requestDto.getMenuItemId() : null);
+        rule.setRate(type != PricingRule.RuleType.COMBO ? requestDto.getRate() : null);
+        rule.setAmountMoney(type == PricingRule.RuleType.COMBO ? Money.of(requestDto.getAmount()) : null);
+        rule.setStartTime(type == PricingRule.RuleType.HAPPY_HOUR ? requestDto.getStartTime() : null);
+        rule.setEndTime(type == PricingRule.RuleType.HAPPY_HOUR ? requestDto.getEndTime() : null);
+        rule.getComboMenuItemIds().clear();
+        rule.getComboMenuItemIds().addAll(comboItems);
+        rule.setActive(requestDto.getActive() == null || requestDto.getActive());
+    }
+
+    private void requireMenuItems(Set<Long> ids) {
+        Set<Long> found = menuItemRepository.findAllById(ids).stream()
+            .map(MenuItem::getId)
+            .collect(Collectors.toSet());
+        for (Long id : ids) {
+            if (!found.contains(id)) {
+                throw new RuntimeException("Menu item not found with id: " + id);
+            }
+        }
+    }
+
+    /**
+     * Bump the rules version once the current transaction completes, as
+     * MenuService does for the catalog
+     */
+    private void invalidateTableOnCompletion() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rulesVersion.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                rulesVersion.incrementAndGet();
+            }
+        });
+    }
+
+    private PricingRuleDto convertToDto(PricingRule rule) {
+        PricingRuleDto dto = new PricingRuleDto();
+        dto.setId(rule.getId());
+        dto.setName(rule.getName());
+        dto.setType(rule.getType());
+        dto.setCategory(rule.getCategory());
+        dto.setMenuItemId(rule.getMenuItemId());
+        dto.setRate(rule.getRate());
+        dto.setAmount(rule.getAmount());
+        dto.setStartTime(rule.getStartTime());
+        dto.setEndTime(rule.getEndTime());
+        dto.setComboMenuItemIds(new LinkedHashSet<>(rule.getComboMenuItemIds()));
+        dto.setActive(rule.isActive());
+        dto.setCreatedAt(rule.getCreatedAt());
+        dto.setUpdatedAt(rule.getUpdatedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,378 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.entity.MenuItem;
+import com.lerestaurant.le_restaurant_backend.entity.PricingRule;
+import com.lerestaurant.le_restaurant_backend.util.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Immutable price and tax table compiled from the menu and the active pricing
+ * rules (F105)
+ *
+ * Built by PricingService whenever the menu or the rules change and shared by
+ * every order until the next change. Menu items get a dense slot (their
+ * position by id) and everything an order needs is precomputed per slot: the
+ * tax rate, and the unit price for every happy-hour segment of the day. Combo
+ * discounts are precomputed per segment as well. Pricing an order is a binary
+ * search for each line's slot followed by array reads and long arithmetic; no
+ * rule is evaluated.
+ *
+ * Rates are held in basis points (1/100 of a percent). Tax is summed unrounded
+ * over the order and rounded to the cent half up once, so a single 10% rate
+ * gives exactly the former subtotal * 0.10 result.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+public final class PricingTable {
+
+    static final int RATE_SCALE = 10_000;
+
+    private final long menuVersion;
+    private final long rulesVersion;
+
+    // By slot; menuItemIds is sorted ascending
+    private final long[] menuItemIds;
+    private final long[] basePrices;
+    private final String[] categories;
+    private final int[] taxRates;
+
+    // Minute of the day each happy-hour segment starts at, ascending from 0
+    private final int[] segmentStarts;
+    // [segment][slot] unit price in cents
+    private final long[][] prices;
+
+    // Combos, largest discount first: component slots, and per segment the
+    // discount (cents) and tax base reduction (cent-basis-points) of one complete set
+    private final int[][] comboSlots;
+    private final long[][] comboDiscounts;
+    private final long[][] comboTaxReductions;
+    // Position of a slot among combo components, or -1
+    private final int[] comboPositions;
+    private final int comboComponentCount;
+
+    private PricingTable(long menuVersion, long rulesVersion, long[] menuItemIds, long[] basePrices,
+                         String[] categories, int[] taxRates, int[] segmentStarts, long[][] prices,
+                         int[][] comboSlots, long[][] comboDiscounts, long[][] comboTaxReductions) {
+        this.menuVersion = menuVersion;
+        this.rulesVersion = rulesVersion;
+        this.menuItemIds = menuItemIds;
+        this.basePrices = basePrices;
+        this.categories = categories;
+        this.taxRates = taxRates;
+        this.segmentStarts = segmentStarts;
+        this.prices = prices;
+        this.comboSlots = comboSlots;
+        this.comboDiscounts = comboDiscounts;
+        this.comboTaxReductions = comboTaxReductions;
+
+        this.comboPositions = new int[menuItemIds.length];
+        Arrays.fill(comboPositions, -1);
+        int components = 0;
+        for (int[] slots : comboSlots) {
+            for (int slot : slots) {
+                if (comboPositions[slot] < 0) {
+                    comboPositions[slot] = components++;
+                }
+            }
+        }
+        this.comboComponentCount = components;
+    }
+
+    /**
+     * Compile the table
+     * @param menuVersion Menu catalog version the items were loaded at
+     * @param rulesVersion Rules version the rules were loaded at
+     * @param menuItems Every menu item
+     * @param rules Active rules, in id order; a later rule overrides an earlier tax rule of the same scope
+     * @param defaultTaxRate Tax rate for items no TAX rule covers
+     * @return New table
+     */
+    public static PricingTable compile(long menuVersion, long rulesVersion, List<MenuItem> menuItems,
+                                       List<PricingRule> rules, BigDecimal defaultTaxRate) {
+        List<MenuItem> items = new ArrayList<>(menuItems);
+        items.sort(Comparator.comparing(MenuItem::getId));
+        int size = items.size();
+        long[] ids = new long[size];
+        long[] basePrices = new long[size];
+        String[] categories = new String[size];
+        for (int slot = 0; slot < size; slot++) {
+            MenuItem item = items.get(slot);
+            ids[slot] = item.getId();
+            basePrices[slot] = item.getPrice() != null ? Money.of(item.getPrice()).getCents() : 0;
+            categories[slot] = item.getCategory();
+        }
+
+        List<PricingRule> happyHours = new ArrayList<>();
+        List<PricingRule> combos = new ArrayList<>();
+        int defaultTax = basisPoints(defaultTaxRate);
+        Map<String, Integer> categoryTax = new HashMap<>();
+        Map<Long, Integer> itemTax = new HashMap<>();
+        for (PricingRule rule : rules) {
+            switch (rule.getType()) {
+                case TAX:
+                    if (rule.getMenuItemId() != null) {
+                        itemTax.put(rule.getMenuItemId(), basisPoints(rule.getRate()));
+                    } else if (rule.getCategory() != null) {
+                        categoryTax.put(rule.getCategory(), basisPoints(rule.getRate()));
+                    } else {
+                        defaultTax = basisPoints(rule.getRate());
+                    }
+                    break;
+                case HAPPY_HOUR:
+                    happyHours.add(rule);
+                    break;
+                case COMBO:
+                    combos.add(rule);
+                    break;
+            }
+        }
+
+        int[] taxRates = new int[size];
+        for (int slot = 0; slot < size; slot++) {
+            Integer rate = itemTax.get(ids[slot]);
+            if (rate == null) {
+                rate = categoryTax.get(categories[slot]);
+            }
+            taxRates[slot] = rate != null ? rate : defaultTax;
+        }
+
+        // Split the day at every happy-hour boundary; prices are constant within a segment
+        TreeSet<Integer> boundaries = new TreeSet<>();
+        boundaries.add(0);
+        for (PricingRule rule : happyHours) {
+            boundaries.add(minuteOfDay(rule.getStartTime()));
+            boundaries.add(minuteOfDay(rule.getEndTime()));
+        }
+        int[] segmentStarts = boundaries.stream().mapToInt(Integer::intValue).toArray();
+        long[][] prices = new long[segmentStarts.length][];
+        for (int segment = 0; segment < segmentStarts.length; segment++) {
+            int minute = segmentStarts[segment];
+            List<PricingRule> running = happyHours.stream()
+                .filter(rule -> runsAt(rule, minute))
+                .toList();
+            if (running.isEmpty()) {
+                prices[segment] = basePrices;
+                continue;
+            }
+            long[] segmentPrices = new long[size];
+            for (int slot = 0; slot < size; slot++) {
+                int discount = 0;
+                for (PricingRule rule : running) {
+                    if (appliesTo(rule, ids[slot], categories[slot])) {
+                        discount = Math.max(discount, basisPoints(rule.getRate()));
+                    }
+                }
+                segmentPrices[slot] = basePrices[slot] - divideHalfUp(basePrices[slot] * discount, RATE_SCALE);
+            }
+            prices[segment] = segmentPrices;
+        }
+
+        // Combos whose items are all on the menu, largest discount first so greedy matching favours the guest
+        combos.sort(Comparator.comparing(PricingRule::getAmountMoney).reversed());
+        List<int[]> comboSlots = new ArrayList<>();
+        List<Long> comboAmounts = new ArrayList<>();
+        for (PricingRule rule : combos) {
+            int[] slots = rule.getComboMenuItemIds().stream()
+                .mapToInt(id -> Arrays.binarySearch(ids, id))
+                .toArray();
+            if (slots.length > 0 && Arrays.stream(slots).allMatch(slot -> slot >= 0)) {
+                comboSlots.add(slots);
+                comboAmounts.add(rule.getAmountMoney().getCents());
+            }
+        }
+        long[][] comboDiscounts = new long[segmentStarts.length][comboSlots.size()];
+        long[][] comboTaxReductions = new long[segmentStarts.length][comboSlots.size()];
+        for (int segment = 0; segment < segmentStarts.length; segment++) {
+            for (int combo = 0; combo < comboSlots.size(); combo++) {
+                long setPrice = 0;
+                long setTaxBase = 0;
+                for (int slot : comboSlots.get(combo)) {
+                    setPrice += prices[segment][slot];
+                    setTaxBase += prices[segment][slot] * taxRates[slot];
+                }
+                // Never more than the set costs; the discount lowers each item's taxable amount in proportion to its price
+                long discount = Math.min(comboAmounts.get(combo), setPrice);
+                comboDiscounts[segment][combo] = discount;
+                comboTaxReductions[segment][combo] = setPrice > 0 ? divideHalfUp(discount * setTaxBase, setPrice) : 0;
+            }
+        }
+
+        return new PricingTable(menuVersion, rulesVersion, ids, basePrices, categories, taxRates, segmentStarts,
+            prices, comboSlots.toArray(new int[0][]), comboDiscounts, comboTaxReductions);
+    }
+
+    public long getMenuVersion() {
+        return menuVersion;
+    }
+
+    public long getRulesVersion() {
+        return rulesVersion;
+    }
+
+    /**
+     * True if the table was compiled from exactly these versions
+     */
+    public boolean isCompiledAt(long menuVersion, long rulesVersion) {
+        return this.menuVersion == menuVersion && this.rulesVersion == rulesVersion;
+    }
+
+    /**
+     * True if the table was compiled from an earlier menu or rules version than the other one
+     */
+    public boolean isOlderThan(PricingTable other) {
+        return menuVersion < other.menuVersion || rulesVersion < other.rulesVersion;
+    }
+
+    /**
+     * True if the table has the item with its current price and category
+     */
+    public boolean isCurrentFor(MenuItem item) {
+        int slot = Arrays.binarySearch(menuItemIds, item.getId());
+        return slot >= 0
+            && basePrices[slot] == (item.getPrice() != null ? Money.of(item.getPrice()).getCents() : 0)
+            && Objects.equals(categories[slot], item.getCategory());
+    }
+
+    /**
+     * Start pricing an order placed at the given local time
+     */
+    public Bill newBill(LocalTime time) {
+        int segment = Arrays.binarySearch(segmentStarts, time.getHour() * 60 + time.getMinute());
+        return new Bill(segment >= 0 ? segment : -segment - 2);
+    }
+
+    /**
+     * Running totals of one order
+     */
+    public final class Bill {
+
+        private final int segment;
+        private final long[] segmentPrices;
+        // Quantities of combo components only, by combo position
+        private final int[] comboQuantities;
+        private long subtotal;
+        // Sum of line amount * tax rate, in cent-basis-points
+        private long taxBase;
+        private long discount;
+        private long taxReduction;
+        private boolean combosApplied;
+
+        private Bill(int segment) {
+            this.segment = segment;
+            this.segmentPrices = prices[segment];
+            this.comboQuantities = comboComponentCount > 0 ? new int[comboComponentCount] : null;
+        }
+
+        /**
+         * Add an order line
+         * @return Unit price for the line
+         * @throws IllegalStateException if the menu item is not in the table
+         */
+        public Money addLine(long menuItemId, int quantity) {
+            int slot = Arrays.binarySearch(menuItemIds, menuItemId);
+            if (slot < 0) {
+                throw new IllegalStateException("Menu item " + menuItemId + " is not in the pricing table");
+            }
+            long unitPrice = segmentPrices[slot];
+            long line = Math.multiplyExact(unitPrice, (long) quantity);
+            subtotal = Math.addExact(subtotal, line);
+            taxBase = Math.addExact(taxBase, Math.multiplyExact(line, (long) taxRates[slot]));
+            if (comboQuantities != null && comboPositions[slot] >= 0) {
+                comboQuantities[comboPositions[slot]] += quantity;
+                combosApplied = false;
+            }
+            return Money.ofCents(unitPrice);
+        }
+
+        public Money getSubtotal() {
+            return Money.ofCents(subtotal);
+        }
+
+        public Money getDiscount() {
+            applyCombos();
+            return Money.ofCents(discount);
+        }
+
+        public Money getTax() {
+            applyCombos();
+            return Money.ofCents(divideHalfUp(taxBase - taxReduction, RATE_SCALE));
+        }
+
+        /**
+         * Subtotal less combo discounts plus tax
+         */
+        public Money getTotal() {
+            applyCombos();
+            return getSubtotal().minus(getDiscount()).plus(getTax());
+        }
+
+        private void applyCombos() {
+            if (combosApplied) {
+                return;
+            }
+            discount = 0;
+            taxReduction = 0;
+            if (comboQuantities != null) {
+                int[] remaining = comboQuantities.clone();
+                for (int combo = 0; combo < comboSlots.length; combo++) {
+                    int sets = Integer.MAX_VALUE;
+                    for (int slot : comboSlots[combo]) {
+                        sets = Math.min(sets, remaining[comboPositions[slot]]);
+                    }
+                    if (sets == 0) {
+                        continue;
+                    }
+                    for (int slot : comboSlots[combo]) {
+                        remaining[comboPositions[slot]] -= sets;
+                    }
+                    discount += sets * comboDiscounts[segment][combo];
+                    taxReduction += sets * comboTaxReductions[segment][combo];
+                }
+            }
+            combosApplied = true;
+        }
+    }
+
+    static int basisPoints(BigDecimal rate) {
+        return rate.movePointRight(4).intValueExact();
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static boolean runsAt(PricingRule rule, int minute) {
+        int start = minuteOfDay(rule.getStartTime());
+        int end = minuteOfDay(rule.getEndTime());
+        if (start < end) {
+            return minute >= start && minute < end;
+        }
+        // Wraps past midnight
+        return minute >= start || minute < end;
+    }
+
+    private static boolean appliesTo(PricingRule rule, long menuItemId, String category) {
+        if (rule.getMenuItemId() != null) {
+            return rule.getMenuItemId() == menuItemId;
+        }
+        return rule.getCategory() == null || rule.getCategory().equals(category);
+    }
+
+    /**
+     * Non-negative numerator divided by a positive denominator, rounded half up
+     */
+    private static long divideHalfUp(long numerator, long denominator) {
+        return (2 * numerator + denominator) / (2 * denominator);
+    }
+}
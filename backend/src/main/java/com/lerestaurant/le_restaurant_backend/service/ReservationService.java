@@ -1,22 +1,28 @@
 package com.lerestaurant.le_restaurant_backend.service;
 
+import com.lerestaurant.le_restaurant_backend.dto.AvailabilityCalendarDayDto;
+import com.lerestaurant.le_restaurant_backend.dto.CursorPageDto;
 import com.lerestaurant.le_restaurant_backend.dto.ReservationApprovalRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.ReservationCreateRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.ReservationDto;
+import com.lerestaurant.le_restaurant_backend.dto.TableAssignmentResultDto;
 import com.lerestaurant.le_restaurant_backend.entity.Reservation;
 import com.lerestaurant.le_restaurant_backend.entity.RestaurantTable;
 import com.lerestaurant.le_restaurant_backend.entity.User;
 import com.lerestaurant.le_restaurant_backend.repository.ReservationRepository;
 import com.lerestaurant.le_restaurant_backend.repository.RestaurantTableRepository;
 import com.lerestaurant.le_restaurant_backend.repository.UserRepository;
+import com.lerestaurant.le_restaurant_backend.util.KeysetCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -37,17 +43,29 @@ public class ReservationService {
 
     private static final Logger logger = LoggerFactory.getLogger(ReservationService.class);
 
+    // Longest range the availability calendar answers in one request
+    static final int MAX_CALENDAR_DAYS = 62;
+
     private final ReservationRepository reservationRepository;
     private final RestaurantTableRepository restaurantTableRepository;
     private final UserRepository userRepository;
+    private final TableAvailabilityIndex availabilityIndex;
+    private final TableBookingLocks bookingLocks;
+    private final TableAssignmentService tableAssignmentService;
 
     @Autowired
     public ReservationService(ReservationRepository reservationRepository,
             RestaurantTableRepository restaurantTableRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            TableAvailabilityIndex availabilityIndex,
+            TableBookingLocks bookingLocks,
+            TableAssignmentService tableAssignmentService) {
         this.reservationRepository = reservationRepository;
         this.restaurantTableRepository = restaurantTableRepository;
         this.userRepository = userRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.bookingLocks = bookingLocks;
+        this.tableAssignmentService = tableAssignmentService;
     }
 
     /**
@@ -57,6 +75,7 @@ public class ReservationService {
      * @param requestDto Reservation creation request
      * @return Created reservation as DTO (status = PENDING)
      * @throws RuntimeException if validation fails
+     * @throws IllegalStateException if the table is already reserved for an overlapping seating
      */
     public ReservationDto createReservation(ReservationCreateRequestDto requestDto) {
         logger.info("Creating new reservation - Customer ID: {}, Guest: {}",
@@ -99,9 +118,13 @@ public class ReservationService {
                             () -> new RuntimeException("Customer not found with ID: " + requestDto.getCustomerId()));
         }
 
+        int durationMinutes = requestDto.getDurationMinutes() != null
+                ? requestDto.getDurationMinutes()
+                : Reservation.DEFAULT_DURATION_MINUTES;
+
         RestaurantTable table = null;
 
-        // Handle table assignment (optional - can be auto-assigned later)
+        // Handle table assignment (optional - assigned automatically below if not chosen)
         if (requestDto.getTableId() != null) {
             table = restaurantTableRepository.findById(requestDto.getTableId())
                     .orElseThrow(() -> new RuntimeException("Table not found with ID: " + requestDto.getTableId()));
@@ -112,16 +135,12 @@ public class ReservationService {
                         ") exceeds table capacity (" + table.getCapacity() + ")");
             }
 
-            // Check for existing reservations at same time
-            List<Reservation> existingReservations = reservationRepository.findByTableIdAndReservationDateTime(
-                    requestDto.getTableId(),
-                    requestDto.getReservationDateTime());
-            if (!existingReservations.isEmpty()) {
-                boolean hasActiveReservation = existingReservations.stream()
-                        .anyMatch(r -> r.getStatus() != Reservation.ReservationStatus.CANCELLED);
-                if (hasActiveReservation) {
-                    throw new RuntimeException("Table is already reserved for this time");
-                }
+            // Check for existing reservations overlapping the seating; the lock keeps other
+            // bookings for this table and date out until this one has committed
+            bookingLocks.lockUntilCompletion(table.getId(), requestDto.getReservationDateTime().toLocalDate());
+            if (hasOverlappingReservation(requestDto.getTableId(), requestDto.getReservationDateTime(),
+                    durationMinutes)) {
+                throw new IllegalStateException("Table is already reserved for this time");
             }
         }
 
@@ -133,14 +152,28 @@ public class ReservationService {
         // Create new reservation
         Reservation reservation = new Reservation();
         reservation.setCustomer(customer);
-        reservation.setTable(table); // Can be null - will be assigned by manager
+        reservation.setTable(table); // Can be null - assigned automatically after save
         reservation.setNumberOfGuests(requestDto.getNumberOfGuests());
         reservation.setReservationDateTime(requestDto.getReservationDateTime());
+        reservation.setDurationMinutes(durationMinutes);
         reservation.setSpecialRequests(requestDto.getSpecialRequests());
         reservation.setStatus(Reservation.ReservationStatus.PENDING);
         reservation.setCreatedAt(OffsetDateTime.now());
 
         Reservation savedReservation = reservationRepository.save(reservation);
+        if (table != null) {
+            // Insert now so the no-overlap constraint is checked while the lock is held
+            try {
+                reservationRepository.flush();
+            } catch (DataIntegrityViolationException e) {
+                throw new IllegalStateException("Table is already reserved for this time", e);
+            }
+        }
+        availabilityIndex.recordChange(savedReservation);
+        if (table == null) {
+            // Seats the new reservation, managed in this transaction, at the tightest free fit
+            tableAssignmentService.assignTables(savedReservation.getReservationDate());
+        }
         logger.info("Created reservation with ID: {}", savedReservation.getId());
 
         return convertToDto(savedReservation);
@@ -162,6 +195,23 @@ public class ReservationService {
         return convertToDto(reservation);
     }
 
+    /**
+     * Get one page of reservations, newest first
+     * 
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param limit Page size (default 20, capped at 100)
+     * @return Page of reservations
+     */
+    public CursorPageDto<ReservationDto> getReservationsPage(String cursor, Integer limit) {
+        int size = KeysetCursor.resolveLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Reservation> rows = reservationRepository.findPageAfter(
+                after.getTimestamp(), after.getId(), KeysetCursor.window(size));
+        return KeysetCursor.toPage(rows, size,
+                page -> page.stream().map(this::convertToDto).collect(Collectors.toList()),
+                reservation -> new KeysetCursor(reservation.getCreatedAt(), reservation.getId()));
+    }
+
     /**
      * Get all reservations
      * 
@@ -232,6 +282,7 @@ public class ReservationService {
         reservation.setUpdatedAt(OffsetDateTime.now());
 
         Reservation updatedReservation = reservationRepository.save(reservation);
+        availabilityIndex.recordChange(updatedReservation);
         logger.info("Approved reservation with ID: {}", id);
 
         return convertToDto(updatedReservation);
@@ -265,6 +316,8 @@ public class ReservationService {
         reservation.setUpdatedAt(OffsetDateTime.now());
 
         Reservation updatedReservation = reservationRepository.save(reservation);
+        availabilityIndex.recordChange(updatedReservation);
+        reassignFreedTables(updatedReservation);
         logger.info("Rejected reservation with ID: {}", id);
 
         return convertToDto(updatedReservation);
@@ -291,6 +344,8 @@ public class ReservationService {
         reservation.setUpdatedAt(OffsetDateTime.now());
 
         Reservation updatedReservation = reservationRepository.save(reservation);
+        availabilityIndex.recordChange(updatedReservation);
+        reassignFreedTables(updatedReservation);
         logger.info("Cancelled reservation with ID: {}", id);
 
         return convertToDto(updatedReservation);
@@ -313,6 +368,7 @@ public class ReservationService {
         reservation.setUpdatedAt(OffsetDateTime.now());
 
         Reservation updatedReservation = reservationRepository.save(reservation);
+        availabilityIndex.recordChange(updatedReservation);
         logger.info("Completed reservation with ID: {}", id);
 
         return convertToDto(updatedReservation);
@@ -332,9 +388,31 @@ public class ReservationService {
         }
 
         reservationRepository.deleteById(id);
+        availabilityIndex.recordDelete(id);
         logger.info("Deleted reservation with ID: {}", id);
     }
 
+    /**
+     * Assign tables for the reservation's date (F109)
+     *
+     * Pending reservations are repacked so they can move to tighter tables and
+     * unassigned ones can be seated.
+     *
+     * @param dateString Reservation date (yyyy-MM-dd)
+     * @return Assignment result
+     */
+    public TableAssignmentResultDto assignTables(String dateString) {
+        logger.info("Assigning tables for date: {}", dateString);
+        return tableAssignmentService.assignTables(java.time.LocalDate.parse(dateString));
+    }
+
+    // A cancelled reservation that held a table frees it for pending reservations of the same date
+    private void reassignFreedTables(Reservation reservation) {
+        if (reservation.getTable() != null) {
+            tableAssignmentService.assignTables(reservation.getReservationDate());
+        }
+    }
+
     /**
      * Convert Reservation entity to DTO
      * 
@@ -362,10 +440,15 @@ public class ReservationService {
             dto.setTableNumber(reservation.getTable().getTableNumber());
             dto.setTableLocation(reservation.getTable().getLocationDescription());
         }
+        if (reservation.getJoinedTable() != null) {
+            dto.setJoinedTableId(reservation.getJoinedTable().getId());
+            dto.setJoinedTableNumber(reservation.getJoinedTable().getTableNumber());
+        }
 
         // Reservation details
         dto.setNumberOfGuests(reservation.getNumberOfGuests());
         dto.setReservationDateTime(reservation.getReservationDateTime());
+        dto.setDurationMinutes(reservation.getDurationMinutes());
         dto.setSpecialRequests(reservation.getSpecialRequests());
         dto.setStatus(reservation.getStatus().toString());
 
@@ -410,25 +493,92 @@ public class ReservationService {
             Integer partySize) {
         logger.info("Getting available time slots for date: {} and party size: {}", dateString, partySize);
         java.time.LocalDate date = java.time.LocalDate.parse(dateString);
+        List<java.time.LocalTime> times = seatingTimes();
 
-        List<com.lerestaurant.le_restaurant_backend.dto.TimeSlotDto> timeSlots = new java.util.ArrayList<>();
+        // All slots are answered from the availability index in one pass
+        List<List<RestaurantTable>> freeTables = availabilityIndex.findAvailableTables(
+                date, restaurantTableRepository.findAll(), times, Reservation.DEFAULT_DURATION_MINUTES, partySize,
+                () -> loadAvailability(date));
 
-        // Generate time slots from 17:00 to 21:30 in 30-minute intervals
-        for (int hour = 17; hour <= 21; hour++) {
-            for (int minute = 0; minute < 60; minute += 30) {
-                String timeString = String.format("%02d:%02d", hour, minute);
-                java.time.LocalTime time = java.time.LocalTime.parse(timeString);
+        return toTimeSlots(times, freeTables);
+    }
 
-                List<com.lerestaurant.le_restaurant_backend.dto.TableDto> availableTables = getAvailableTablesForDateTime(
-                        date, time, partySize);
+    /**
+     * Get available time slots for every date in a range (F108)
+     * 
+     * Reads the tables once; dates not cached in the availability index are
+     * loaded with one query for all reservations in the range.
+     * 
+     * @param startDateString First date in yyyy-MM-dd format
+     * @param endDateString   Last date in yyyy-MM-dd format, inclusive
+     * @param partySize       Number of guests
+     * @return One entry per date, in date order
+     * @throws IllegalArgumentException if the range is reversed or longer than MAX_CALENDAR_DAYS
+     */
+    public List<AvailabilityCalendarDayDto> getAvailabilityCalendar(String startDateString, String endDateString,
+            Integer partySize) {
+        logger.info("Getting availability calendar from {} to {} for party size: {}", startDateString,
+                endDateString, partySize);
+        java.time.LocalDate start = java.time.LocalDate.parse(startDateString);
+        java.time.LocalDate end = java.time.LocalDate.parse(endDateString);
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        if (java.time.temporal.ChronoUnit.DAYS.between(start, end) >= MAX_CALENDAR_DAYS) {
+            throw new IllegalArgumentException("Date range must not exceed " + MAX_CALENDAR_DAYS + " days");
+        }
+        List<java.time.LocalDate> dates = start.datesUntil(end.plusDays(1)).collect(Collectors.toList());
+        List<java.time.LocalTime> times = seatingTimes();
+
+        Map<java.time.LocalDate, List<List<RestaurantTable>>> freeTables = availabilityIndex.findAvailableTables(
+                dates, restaurantTableRepository.findAll(), times, Reservation.DEFAULT_DURATION_MINUTES, partySize,
+                this::loadAvailability);
+
+        List<AvailabilityCalendarDayDto> calendar = new java.util.ArrayList<>(dates.size());
+        for (java.time.LocalDate date : dates) {
+            List<com.lerestaurant.le_restaurant_backend.dto.TimeSlotDto> timeSlots = toTimeSlots(times,
+                    freeTables.get(date));
+            boolean available = timeSlots.stream()
+                    .anyMatch(com.lerestaurant.le_restaurant_backend.dto.TimeSlotDto::getIsAvailable);
+            calendar.add(new AvailabilityCalendarDayDto(date.toString(), available, timeSlots));
+        }
+        return calendar;
+    }
 
-                com.lerestaurant.le_restaurant_backend.dto.TimeSlotDto timeSlot = new com.lerestaurant.le_restaurant_backend.dto.TimeSlotDto(
-                        timeString,
-                        !availableTables.isEmpty(),
-                        availableTables);
-                timeSlots.add(timeSlot);
+    /**
+     * Seating times offered to guests: 17:00 to 21:30 in 30-minute intervals
+     */
+    private static List<java.time.LocalTime> seatingTimes() {
+        List<java.time.LocalTime> times = new java.util.ArrayList<>();
+        for (int hour = 17; hour <= 21; hour++) {
+            for (int minute = 0; minute < 60; minute += 30) {
+                times.add(java.time.LocalTime.of(hour, minute));
             }
         }
+        return times;
+    }
+
+    /**
+     * Convert the free tables per seating time to time slots
+     * 
+     * @param times      Seating times
+     * @param freeTables Free tables, one list per time
+     * @return One time slot per time
+     */
+    private List<com.lerestaurant.le_restaurant_backend.dto.TimeSlotDto> toTimeSlots(List<java.time.LocalTime> times,
+            List<List<RestaurantTable>> freeTables) {
+        List<com.lerestaurant.le_restaurant_backend.dto.TimeSlotDto> timeSlots = new java.util.ArrayList<>();
+        for (int i = 0; i < times.size(); i++) {
+            List<com.lerestaurant.le_restaurant_backend.dto.TableDto> availableTables = freeTables.get(i).stream()
+                    .map(this::convertTableToDto)
+                    .collect(Collectors.toList());
+
+            com.lerestaurant.le_restaurant_backend.dto.TimeSlotDto timeSlot = new com.lerestaurant.le_restaurant_backend.dto.TimeSlotDto(
+                    String.format("%02d:%02d", times.get(i).getHour(), times.get(i).getMinute()),
+                    !availableTables.isEmpty(),
+                    availableTables);
+            timeSlots.add(timeSlot);
+        }
 
         return timeSlots;
     }
@@ -443,49 +593,121 @@ public class ReservationService {
      */
     public List<com.lerestaurant.le_restaurant_backend.dto.TableDto> getAvailableTables(String dateString,
             String timeString, Integer partySize) {
+        return getAvailableTables(dateString, timeString, partySize, null);
+    }
+
+    /**
+     * Get available tables for a seating of the given length (F108)
+     * 
+     * @param dateString      Date in yyyy-MM-dd format
+     * @param timeString      Time in HH:mm format
+     * @param partySize       Number of guests
+     * @param durationMinutes Length of the seating, or null for the default
+     * @return List of tables with no reservation overlapping the seating
+     * @throws IllegalArgumentException if the duration is out of range
+     */
+    public List<com.lerestaurant.le_restaurant_backend.dto.TableDto> getAvailableTables(String dateString,
+            String timeString, Integer partySize, Integer durationMinutes) {
         logger.info("Getting available tables for date: {}, time: {}, party size: {}", dateString, timeString,
                 partySize);
         java.time.LocalDate date = java.time.LocalDate.parse(dateString);
         java.time.LocalTime time = java.time.LocalTime.parse(timeString);
+        int duration = durationMinutes != null ? durationMinutes : Reservation.DEFAULT_DURATION_MINUTES;
+        if (duration < 1 || duration > Reservation.MAX_DURATION_MINUTES) {
+            throw new IllegalArgumentException(
+                    "Duration must be between 1 and " + Reservation.MAX_DURATION_MINUTES + " minutes");
+        }
 
-        return getAvailableTablesForDateTime(date, time, partySize);
+        return getAvailableTablesForDateTime(date, time, duration, partySize);
     }
 
     /**
      * Helper method to get available tables for a specific date and time
      * 
-     * @param date      Reservation date
-     * @param time      Reservation time
-     * @param partySize Number of guests
+     * @param date            Reservation date
+     * @param time            Reservation time
+     * @param durationMinutes Length of the seating
+     * @param partySize       Number of guests
      * @return List of available tables
      */
     private List<com.lerestaurant.le_restaurant_backend.dto.TableDto> getAvailableTablesForDateTime(
-            java.time.LocalDate date, java.time.LocalTime time, Integer partySize) {
+            java.time.LocalDate date, java.time.LocalTime time, int durationMinutes, Integer partySize) {
 
-        // Get all tables that can accommodate the party size
-        List<RestaurantTable> allTables = restaurantTableRepository.findAll().stream()
-                .filter(table -> table.getCapacity() >= partySize)
-                .filter(table -> table.getStatus() == RestaurantTable.TableStatus.AVAILABLE)
-                .collect(Collectors.toList());
-
-        // Get all reservations for this date and time
-        List<Reservation> existingReservations = reservationRepository.findByReservationDateAndReservationTime(date,
-                time);
-
-        // Filter out tables that are already reserved and not cancelled
-        List<Long> reservedTableIds = existingReservations.stream()
-                .filter(r -> r.getStatus() != Reservation.ReservationStatus.CANCELLED)
-                .filter(r -> r.getTable() != null)
-                .map(r -> r.getTable().getId())
-                .collect(Collectors.toList());
+        // Tables that fit the party, are AVAILABLE and have no active reservation overlapping the seating
+        List<RestaurantTable> freeTables = availabilityIndex.findAvailableTables(
+                date, restaurantTableRepository.findAll(), List.of(time), durationMinutes, partySize,
+                () -> loadAvailability(date)).get(0);
 
         // Return available tables as DTOs
-        return allTables.stream()
-                .filter(table -> !reservedTableIds.contains(table.getId()))
+        return freeTables.stream()
                 .map(this::convertTableToDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Check whether an active reservation on a table overlaps a seating
+     * 
+     * Reads only the reservations on the table that start less than the longest
+     * allowed seating before this one ends, a range scan on
+     * (table_id, reservation_date, reservation_time).
+     * 
+     * @param tableId         Table ID
+     * @param start           Start of the seating
+     * @param durationMinutes Length of the seating
+     * @return true if the seating would overlap an existing reservation
+     */
+    private boolean hasOverlappingReservation(Long tableId, OffsetDateTime start, int durationMinutes) {
+        java.time.LocalTime startTime = start.toLocalTime();
+        int startMinute = TableAvailabilityIndex.minuteOf(startTime);
+        int endMinute = TableAvailabilityIndex.endMinute(startMinute, durationMinutes);
+        java.time.LocalTime from = startMinute > Reservation.MAX_DURATION_MINUTES
+                ? startTime.minusMinutes(Reservation.MAX_DURATION_MINUTES)
+                : java.time.LocalTime.MIN;
+        java.time.LocalTime to = endMinute < TableAvailabilityIndex.MINUTES_PER_DAY
+                ? startTime.plusMinutes(durationMinutes)
+                : java.time.LocalTime.MAX;
+
+        return reservationRepository.findByTableIdStartingBetween(tableId, start.toLocalDate(), from, to).stream()
+                .filter(r -> r.getStatus() != Reservation.ReservationStatus.CANCELLED)
+                .anyMatch(r -> {
+                    int otherStart = TableAvailabilityIndex.minuteOf(r.getReservationTime());
+                    int otherDuration = r.getDurationMinutes() != null
+                            ? r.getDurationMinutes()
+                            : Reservation.DEFAULT_DURATION_MINUTES;
+                    return otherStart < endMinute
+                            && startMinute < TableAvailabilityIndex.endMinute(otherStart, otherDuration);
+                });
+    }
+
+    /**
+     * Load a date into the availability index: the date's reservations
+     * 
+     * @param date Reservation date
+     * @return Availability of the date
+     */
+    private TableAvailabilityIndex.Day loadAvailability(java.time.LocalDate date) {
+        return TableAvailabilityIndex.Day.of(reservationRepository.findByReservationDate(date));
+    }
+
+    /**
+     * Load several dates into the availability index: the reservations from the
+     * first to the last date in one query
+     * 
+     * @param dates Reservation dates, in ascending order
+     * @return Availability per date
+     */
+    private Map<java.time.LocalDate, TableAvailabilityIndex.Day> loadAvailability(List<java.time.LocalDate> dates) {
+        Map<java.time.LocalDate, List<Reservation>> reservations = reservationRepository
+                .findByReservationDateBetween(dates.get(0), dates.get(dates.size() - 1)).stream()
+                .collect(Collectors.groupingBy(Reservation::getReservationDate));
+
+        Map<java.time.LocalDate, TableAvailabilityIndex.Day> days = new java.util.HashMap<>();
+        for (java.time.LocalDate date : dates) {
+            days.put(date, TableAvailabilityIndex.Day.of(reservations.getOrDefault(date, List.of())));
+        }
+        return days;
+    }
+
     /**
      * Convert RestaurantTable entity to TableDto
      * 
@@ -0,0 +1,307 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.dto.SalesReportDto;
+import com.lerestaurant.le_restaurant_backend.dto.SalesReportRowDto;
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+import com.lerestaurant.le_restaurant_backend.entity.OrderItem;
+import com.lerestaurant.le_restaurant_backend.entity.SalesRollup;
+import com.lerestaurant.le_restaurant_backend.repository.OrderRepository;
+import com.lerestaurant.le_restaurant_backend.repository.SalesRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Incremental Sales Rollups (F105)
+ *
+ * Keeps pre-aggregated sales per hour of order time, per menu item, per order
+ * type and per table, so reports read a bounded number of buckets instead of
+ * scanning orders. The order and payment services call in here inside their
+ * own transactions whenever an order enters or leaves COMPLETED or CANCELLED,
+ * or a payment is refunded; the buckets therefore commit or roll back
+ * together with the order change.
+ *
+ * Each bucket is updated with an in-place increment, which serializes
+ * concurrent writers on the row lock. A missing bucket is inserted in a
+ * separate short transaction first, so two orders racing to create the same
+ * bucket never fail the order change on the unique constraint.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+@Service
+@Transactional
+public class SalesRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalesRollupService.class);
+
+    static final String ALL = "";
+
+    private final SalesRollupRepository rollupRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate bucketTransaction;
+
+    @Autowired
+    public SalesRollupService(SalesRollupRepository rollupRepository,
+                              OrderRepository orderRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.rollupRepository = rollupRepository;
+        this.orderRepository = orderRepository;
+        this.bucketTransaction = new TransactionTemplate(transactionManager);
+        this.bucketTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Record a status change of one order. Only entering or leaving COMPLETED
+     * or CANCELLED changes the rollups; leaving reverses what entering added.
+     * @param order Order after the change, still attached
+     * @param previous Status before the change
+     */
+    public void recordStatusChange(Order order, Order.OrderStatus previous) {
+        Order.OrderStatus current = order.getStatus();
+        if (current == previous) {
+            return;
+        }
+        Map<Bucket, Delta> deltas = new TreeMap<>();
+        addStatus(deltas, order, previous, -1);
+        addStatus(deltas, order, current, 1);
+        apply(deltas);
+    }
+
+    /**
+     * Record orders moved to a status by a bulk UPDATE. The orders are loaded
+     * here, with their tables and items, only when the status affects rollups;
+     * {@link OrderStatusTransitions} never moves an order out of COMPLETED or
+     * CANCELLED, so nothing has to be reversed.
+     * @param orderIds Orders that were updated
+     * @param status Their new status
+     */
+    public void recordStatusChanges(Collection<Long> orderIds, Order.OrderStatus status) {
+        if (orderIds.isEmpty()
+                || (status != Order.OrderStatus.COMPLETED && status != Order.OrderStatus.CANCELLED)) {
+            return;
+        }
+        List<Order> orders = orderRepository.findByIdInWithTable(orderIds);
+        if (!orders.isEmpty()) {
+            orderRepository.fetchItemsWithMenuItems(orders);
+        }
+        Map<Bucket, Delta> deltas = new TreeMap<>();
+        for (Order order : orders) {
+            addStatus(deltas, order, status, 1);
+        }
+        apply(deltas);
+    }
+
+    /**
+     * Record a refund against the hour, order type and table of its order
+     * @param order Order the refunded payment belongs to
+     * @param amount Refunded amount
+     */
+    public void recordRefund(Order order, BigDecimal amount) {
+        Map<Bucket, Delta> deltas = new TreeMap<>();
+        for (Map.Entry<Bucket, String> target : orderBuckets(order).entrySet()) {
+            Delta delta = deltas.computeIfAbsent(target.getKey(), b -> new Delta(target.getValue()));
+            delta.refunded = delta.refunded.add(amount);
+        }
+        apply(deltas);
+    }
+
+    /**
+     * Build a sales report from the rollups
+     *
+     * The range is matched against bucket starts, so it is effectively
+     * rounded to whole UTC hours. At most two queries run, each reading one
+     * row per bucket in the range.
+     *
+     * @param from Start of the range (inclusive)
+     * @param to End of the range (exclusive)
+     * @param groupBy Dimension to group rows by
+     * @return SalesReportDto Rows and totals for the range
+     * @throws IllegalArgumentException if the range is empty or reversed
+     */
+    @Transactional(readOnly = true)
+    public SalesReportDto getReport(OffsetDateTime from, OffsetDateTime to, SalesRollup.Dimension groupBy) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Report range is invalid: 'from' must be before 'to'");
+        }
+        SalesReportDto report = new SalesReportDto(groupBy, from, to);
+        List<SalesReportRowDto> hours = rollupRepository.sumByBucket(SalesRollup.Dimension.HOUR, from, to);
+        for (SalesReportRowDto hour : hours) {
+            report.getTotals().add(hour);
+        }
+        report.setRows(groupBy == SalesRollup.Dimension.HOUR
+            ? hours
+            : rollupRepository.sumByKey(groupBy, from, to));
+        return report;
+    }
+
+    private void addStatus(Map<Bucket, Delta> deltas, Order order, Order.OrderStatus status, int sign) {
+        if (status == Order.OrderStatus.COMPLETED) {
+            addCompletion(deltas, order, sign);
+        } else if (status == Order.OrderStatus.CANCELLED) {
+            addCancellation(deltas, order, sign);
+        }
+    }
+
+    private void addCompletion(Map<Bucket, Delta> deltas, Order order, int sign) {
+        BigDecimal factor = BigDecimal.valueOf(sign);
+        long quantity = 0;
+        OffsetDateTime hour = hourOf(order);
+        Set<Long> countedItems = new HashSet<>();
+        for (OrderItem item : order.getItems()) {
+            quantity += item.getQuantity();
+            if (item.getMenuItem() == null) {
+                continue;
+            }
+            Bucket bucket = new Bucket(SalesRollup.Dimension.MENU_ITEM, item.getMenuItem().getId().toString(), hour);
+            Delta delta = deltas.computeIfAbsent(bucket, b -> new Delta(item.getMenuItem().getName()));
+            if (countedItems.add(item.getMenuItem().getId())) {
+                delta.orders += sign;
+            }
+            delta.quantity += (long) sign * item.getQuantity();
+            BigDecimal line = item.getSubtotal().multiply(factor);
+            delta.sales = delta.sales.add(line);
+            delta.total = delta.total.add(line);
+        }
+        for (Map.Entry<Bucket, String> target : orderBuckets(order).entrySet()) {
+            Delta delta = deltas.computeIfAbsent(target.getKey(), b -> new Delta(target.getValue()));
+            delta.orders += sign;
+            delta.quantity += sign * quantity;
+            delta.sales = delta.sales.add(netSales(order).multiply(factor));
+            delta.tax = delta.tax.add(order.getTaxAmount().multiply(factor));
+            delta.tip = delta.tip.add(order.getTipAmount().multiply(factor));
+            delta.total = delta.total.add(order.getTotalAmount().multiply(factor));
+        }
+    }
+
+    // Subtotal after combo discounts, so sales + tax + tip adds up to the total
+    private static BigDecimal netSales(Order order) {
+        return order.getDiscountAmount() != null
+            ? order.getSubtotal().subtract(order.getDiscountAmount())
+            : order.getSubtotal();
+    }
+
+    private void addCancellation(Map<Bucket, Delta> deltas, Order order, int sign) {
+        OffsetDateTime hour = hourOf(order);
+        Set<Long> countedItems = new HashSet<>();
+        for (OrderItem item : order.getItems()) {
+            // One cancellation per menu item, however many lines the order had for it
+            if (item.getMenuItem() != null && countedItems.add(item.getMenuItem().getId())) {
+                Bucket bucket = new Bucket(SalesRollup.Dimension.MENU_ITEM, item.getMenuItem().getId().toString(), hour);
+                deltas.computeIfAbsent(bucket, b -> new Delta(item.getMenuItem().getName())).cancelled += sign;
+            }
+        }
+        for (Map.Entry<Bucket, String> target : orderBuckets(order).entrySet()) {
+            deltas.computeIfAbsent(target.getKey(), b -> new Delta(target.getValue())).cancelled += sign;
+        }
+    }
+
+    /**
+     * Hour, order type and (for table orders) table buckets of an order, with their labels
+     */
+    private static Map<Bucket, String> orderBuckets(Order order) {
+        OffsetDateTime hour = hourOf(order);
+        Map<Bucket, String> buckets = new TreeMap<>();
+        buckets.put(new Bucket(SalesRollup.Dimension.HOUR, ALL, hour), null);
+        buckets.put(new Bucket(SalesRollup.Dimension.ORDER_TYPE, order.getOrderType().name(), hour),
+                order.getOrderType().name());
+        if (order.getTable() != null) {
+            buckets.put(new Bucket(SalesRollup.Dimension.TABLE, order.getTable().getId().toString(), hour),
+                    order.getTable().getTableNumber());
+        }
+        return buckets;
+    }
+
+    static OffsetDateTime hourOf(Order order) {
+        return order.getOrderTime().withOffsetSameInstant(ZoneOffset.UTC).truncatedTo(ChronoUnit.HOURS);
+    }
+
+    /**
+     * Apply deltas in bucket order, so concurrent transactions lock rows in the same order
+     */
+    private void apply(Map<Bucket, Delta> deltas) {
+        for (Map.Entry<Bucket, Delta> entry : deltas.entrySet()) {
+            Bucket bucket = entry.getKey();
+            Delta delta = entry.getValue();
+            if (delta.isZero()) {
+                continue;
+            }
+            if (increment(bucket, delta) == 0) {
+                createBucket(bucket, delta.label);
+                if (increment(bucket, delta) == 0) {
+                    throw new IllegalStateException("Sales rollup bucket could not be created: " + bucket);
+                }
+            }
+        }
+    }
+
+    private int increment(Bucket bucket, Delta delta) {
+        return rollupRepository.increment(bucket.dimension(), bucket.key(), bucket.start(),
+                delta.orders, delta.cancelled, delta.quantity,
+                delta.sales, delta.tax, delta.tip, delta.total, delta.refunded);
+    }
+
+    private void createBucket(Bucket bucket, String label) {
+        try {
+            bucketTransaction.executeWithoutResult(tx -> rollupRepository.saveAndFlush(
+                    new SalesRollup(bucket.dimension(), bucket.key(), label, bucket.start())));
+            logger.debug("Created sales rollup bucket {}", bucket);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent transaction created it first; incrementing it is all we need
+            logger.debug("Sales rollup bucket {} was created concurrently", bucket);
+        }
+    }
+
+    private record Bucket(SalesRollup.Dimension dimension, String key, OffsetDateTime start)
+            implements Comparable<Bucket> {
+
+        private static final Comparator<Bucket> ORDER = Comparator.comparing(Bucket::dimension)
+                .thenComparing(Bucket::key)
+                .thenComparing(Bucket::start);
+
+        @Override
+        public int compareTo(Bucket other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private static final class Delta {
+        private final String label;
+        private long orders;
+        private long cancelled;
+        private long quantity;
+        private BigDecimal sales = BigDecimal.ZERO;
+        private BigDecimal tax = BigDecimal.ZERO;
+        private BigDecimal tip = BigDecimal.ZERO;
+        private BigDecimal total = BigDecimal.ZERO;
+        private BigDecimal refunded = BigDecimal.ZERO;
+
+        private Delta(String label) {
+            this.label = label;
+        }
+
+        private boolean isZero() {
+            return orders == 0 && cancelled == 0 && quantity == 0
+                    && sales.signum() == 0 && tax.signum() == 0 && tip.signum() == 0
+                    && total.signum() == 0 && refunded.signum() == 0;
+        }
+    }
+}
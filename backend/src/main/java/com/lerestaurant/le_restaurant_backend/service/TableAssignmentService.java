@@ -0,0 +1,274 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.dto.TableAssignmentResultDto;
+import com.lerestaurant.le_restaurant_backend.entity.Reservation;
+import com.lerestaurant.le_restaurant_backend.entity.RestaurantTable;
+import com.lerestaurant.le_restaurant_backend.repository.ReservationRepository;
+import com.lerestaurant.le_restaurant_backend.repository.RestaurantTableRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Automatic Table Assignment (F109)
+ *
+ * Seats the pending reservations of a date that have no table, or whose table
+ * was assigned here, at the tightest fit: the smallest free table that holds
+ * the party, or failing that the smallest free pair of joinable tables.
+ * Largest parties are placed first (best-fit decreasing). Tables chosen by the
+ * guest and tables of confirmed or seated reservations are never moved.
+ *
+ * Every run repacks from scratch, so a cancellation lets pending parties move
+ * to tighter tables. If the repack would leave a reservation without the table
+ * it already had, the run keeps the existing assignments and only seats the
+ * unassigned reservations instead.
+ *
+ * A run reads the tables and the date's reservations in two queries and
+ * solves in memory; the booking locks of every table on the date are held
+ * until the transaction completes.
+ *
+ * @author Le Restaurant Development Team
+ * @module F108-F109-ReservationManagement
+ */
+@Service
+@Transactional
+public class TableAssignmentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TableAssignmentService.class);
+
+    private final ReservationRepository reservationRepository;
+    private final RestaurantTableRepository restaurantTableRepository;
+    private final TableAvailabilityIndex availabilityIndex;
+    private final TableBookingLocks bookingLocks;
+
+    @Autowired
+    public TableAssignmentService(ReservationRepository reservationRepository,
+                                  RestaurantTableRepository restaurantTableRepository,
+                                  TableAvailabilityIndex availabilityIndex,
+                                  TableBookingLocks bookingLocks) {
+        this.reservationRepository = reservationRepository;
+        this.restaurantTableRepository = restaurantTableRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.bookingLocks = bookingLocks;
+    }
+
+    /**
+     * Assign tables to the pending reservations of a date
+     * @param date Reservation date
+     * @return TableAssignmentResultDto Counts and the reservations left without a table
+     */
+    public TableAssignmentResultDto assignTables(LocalDate date) {
+        long started = System.nanoTime();
+        List<RestaurantTable> tables = restaurantTableRepository.findAll();
+        bookingLocks.lockUntilCompletion(tables.stream().map(RestaurantTable::getId).collect(Collectors.toList()), date);
+        List<Reservation> reservations = reservationRepository.findByReservationDate(date);
+
+        List<Reservation> fixed = new ArrayList<>();
+        List<Reservation> movable = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            if (reservation.getStatus() == Reservation.ReservationStatus.CANCELLED) {
+                continue;
+            }
+            if (isMovable(reservation)) {
+                movable.add(reservation);
+            } else if (reservation.getTable() != null) {
+                fixed.add(reservation);
+            }
+        }
+
+        Map<Long, Placement> placements = solve(tables, fixed, movable);
+        if (losesTable(movable, placements)) {
+            // Keep what is already seated and only place the rest
+            List<Reservation> seated = new ArrayList<>(fixed);
+            List<Reservation> unseated = new ArrayList<>();
+            for (Reservation reservation : movable) {
+                (reservation.getTable() != null ? seated : unseated).add(reservation);
+            }
+            placements = solve(tables, seated, unseated);
+            for (Reservation reservation : movable) {
+                if (reservation.getTable() != null) {
+                    placements.put(reservation.getId(), Placement.of(reservation));
+                }
+            }
+        }
+
+        TableAssignmentResultDto result = new TableAssignmentResultDto(date);
+        apply(movable, placements, result);
+        logger.debug("Assigned tables for {}: {} reservations, {} moved, {} unassigned in {} us", date,
+            movable.size(), result.getMovedCount(), result.getUnassignedReservationIds().size(),
+            (System.nanoTime() - started) / 1000);
+        return result;
+    }
+
+    /**
+     * Pending reservations without a table, or with one assigned here, may be (re)assigned
+     */
+    static boolean isMovable(Reservation reservation) {
+        return reservation.getStatus() == Reservation.ReservationStatus.PENDING
+            && (reservation.getTable() == null || reservation.isTableAutoAssigned());
+    }
+
+    /**
+     * Place reservations around fixed ones, largest party first, each at the tightest free fit
+     * @param tables All restaurant tables
+     * @param fixed Active reservations whose tables stay as they are
+     * @param pending Reservations to place
+     * @return Placement per reservation ID; reservations that fit nowhere are missing
+     */
+    static Map<Long, Placement> solve(List<RestaurantTable> tables, List<Reservation> fixed, List<Reservation> pending) {
+        TableAvailabilityIndex.Day day = TableAvailabilityIndex.Day.of(fixed);
+
+        List<RestaurantTable> singles = tables.stream()
+            .filter(TableAssignmentService::isUsable)
+            .sorted(Comparator.comparing(RestaurantTable::getCapacity).thenComparing(RestaurantTable::getId))
+            .collect(Collectors.toList());
+        Map<Long, RestaurantTable> byId = new HashMap<>();
+        singles.forEach(table -> byId.put(table.getId(), table));
+        List<Placement> pairs = new ArrayList<>();
+        Set<List<Long>> paired = new HashSet<>();
+        for (RestaurantTable table : singles) {
+            RestaurantTable other = byId.get(table.getJoinableTableId());
+            if (other == null || other.getId().equals(table.getId())) {
+                continue;
+            }
+            Placement pair = table.getId() < other.getId() ? new Placement(table, other) : new Placement(other, table);
+            if (paired.add(pair.tableIds())) {
+                pairs.add(pair);
+            }
+        }
+        pairs.sort(Comparator.comparingInt(Placement::capacity).thenComparing(p -> p.table.getId()));
+
+        List<Reservation> order = pending.stream()
+            .filter(r -> r.getReservationTime() != null && r.getPartySize() != null)
+            .sorted(Comparator.comparing(Reservation::getPartySize).reversed()
+                .thenComparing(Reservation::getReservationTime)
+                .thenComparing(Reservation::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+            .collect(Collectors.toList());
+
+        Map<Long, Placement> placements = new HashMap<>();
+        for (Reservation reservation : order) {
+            int start = TableAvailabilityIndex.minuteOf(reservation.getReservationTime());
+            int duration = reservation.getDurationMinutes() != null
+                ? reservation.getDurationMinutes() : Reservation.DEFAULT_DURATION_MINUTES;
+            int end = TableAvailabilityIndex.endMinute(start, duration);
+            Placement placement = bestFit(day, singles, pairs, reservation.getPartySize(), start, end);
+            if (placement != null) {
+                day.hold(reservation.getId(), placement.tableIds(), start, end);
+                placements.put(reservation.getId(), placement);
+            }
+        }
+        return placements;
+    }
+
+    private static Placement bestFit(TableAvailabilityIndex.Day day, List<RestaurantTable> singles,
+                                     List<Placement> pairs, int partySize, int start, int end) {
+        for (RestaurantTable table : singles) {
+            if (table.getCapacity() >= partySize && day.isFree(table.getId(), start, end)) {
+                return new Placement(table, null);
+            }
+        }
+        for (Placement pair : pairs) {
+            if (pair.capacity() >= partySize && day.isFree(pair.table.getId(), start, end)
+                    && day.isFree(pair.joined.getId(), start, end)) {
+                return pair;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isUsable(RestaurantTable table) {
+        return table.getCapacity() != null && table.getStatus() == RestaurantTable.TableStatus.AVAILABLE;
+    }
+
+    private static boolean losesTable(List<Reservation> movable, Map<Long, Placement> placements) {
+        for (Reservation reservation : movable) {
+            if (reservation.getTable() != null && !placements.containsKey(reservation.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void apply(List<Reservation> movable, Map<Long, Placement> placements, TableAssignmentResultDto result) {
+        // Take moved reservations off their tables first, so no row overlaps another on the way
+        List<Reservation> moved = new ArrayList<>();
+        boolean cleared = false;
+        for (Reservation reservation : movable) {
+            Placement placement = placements.get(reservation.getId());
+            if (placement != null && !placement.tableIds().equals(Placement.of(reservation).tableIds())) {
+                if (reservation.getTable() != null) {
+                    reservation.setTable(null);
+                    reservation.setJoinedTable(null);
+                    cleared = true;
+                }
+                moved.add(reservation);
+            }
+        }
+        if (cleared) {
+            reservationRepository.flush();
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        for (Reservation reservation : moved) {
+            Placement placement = placements.get(reservation.getId());
+            reservation.setTable(placement.table);
+            reservation.setJoinedTable(placement.joined);
+            reservation.setTableAutoAssigned(true);
+            reservation.setUpdatedAt(now);
+            availabilityIndex.recordChange(reservation);
+        }
+        for (Reservation reservation : movable) {
+            if (placements.containsKey(reservation.getId())) {
+                result.setAssignedCount(result.getAssignedCount() + 1);
+            } else {
+                result.getUnassignedReservationIds().add(reservation.getId());
+            }
+        }
+        result.setMovedCount(moved.size());
+    }
+
+    /**
+     * A table, or a pair of joined tables, for one reservation
+     */
+    static final class Placement {
+
+        final RestaurantTable table;
+        final RestaurantTable joined;
+
+        Placement(RestaurantTable table, RestaurantTable joined) {
+            this.table = table;
+            this.joined = joined;
+        }
+
+        static Placement of(Reservation reservation) {
+            return new Placement(reservation.getTable(), reservation.getJoinedTable());
+        }
+
+        int capacity() {
+            return table.getCapacity() + (joined != null ? joined.getCapacity() : 0);
+        }
+
+        List<Long> tableIds() {
+            List<Long> ids = new ArrayList<>(2);
+            if (table != null) {
+                ids.add(table.getId());
+            }
+            if (joined != null) {
+                ids.add(joined.getId());
+            }
+            return ids;
+        }
+    }
+}
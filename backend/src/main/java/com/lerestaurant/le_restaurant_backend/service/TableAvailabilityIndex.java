@@ -0,0 +1,388 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.entity.Reservation;
+import com.lerestaurant.le_restaurant_backend.entity.RestaurantTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory table availability per reservation date (F108)
+ *
+ * For every cached date each booked table id has a BitSet with one bit per
+ * 15-minute slot of the day, set for every slot an active (not cancelled)
+ * reservation holds the table, from its start for its dining duration. A date
+ * is loaded on first use with one query for its reservations (a range of dates
+ * is loaded with one query for all of them); afterwards the reservation
+ * service feeds every create, approve, reject, cancel, complete and delete
+ * into it when the transaction commits, so a cached date's reservations are
+ * never read again.
+ *
+ * Only bookings are cached, never the tables: callers pass the current tables
+ * with every query, so new or removed tables and changes to capacity or status
+ * apply at once.
+ *
+ * A table is free for a seating when no reservation on it overlaps
+ * [start, start + duration). The bits answer that for most tables with one
+ * range lookup; only when a slot in the range is taken are the table's own
+ * bookings compared minute by minute, so seatings that start or end off the
+ * 15-minute grid are still exact. Seatings are clipped at midnight.
+ *
+ * The least recently used dates are dropped once more than the configured
+ * number are cached; a dropped date is simply loaded again.
+ *
+ * @author Le Restaurant Development Team
+ * @module F108-F109-ReservationManagement
+ */
+@Service
+public class TableAvailabilityIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TableAvailabilityIndex.class);
+
+    static final int SLOT_MINUTES = 15;
+    static final int MINUTES_PER_DAY = 24 * 60;
+    static final int SLOTS_PER_DAY = MINUTES_PER_DAY / SLOT_MINUTES;
+
+    // Guarded by this: days and changes
+    private final Map<LocalDate, Day> days;
+    // Bumped by every applied change; a date loaded while it moved is not cached
+    private long changes;
+
+    public TableAvailabilityIndex(@Value("${app.reservations.availability-cache-days:366}") int maxDays) {
+        this.days = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LocalDate, Day> eldest) {
+                return size() > maxDays;
+            }
+        };
+    }
+
+    /**
+     * Tables free for a seating at each of the given times, filtered by capacity and table status
+     * @param date Reservation date
+     * @param tables Current restaurant tables
+     * @param times Seating start times to check
+     * @param durationMinutes Length of the seating
+     * @param partySize Number of guests
+     * @param loader Loads the date from the database if it is not cached
+     * @return One list of tables per time, in table id order
+     */
+    public List<List<RestaurantTable>> findAvailableTables(LocalDate date, List<RestaurantTable> tables,
+                                                           List<LocalTime> times, int durationMinutes,
+                                                           int partySize, Supplier<Day> loader) {
+        Day day = days(List.of(date), missing -> Map.of(date, loader.get())).get(date);
+        List<RestaurantTable> sorted = sortedById(tables);
+        synchronized (this) {
+            return availableTables(day, sorted, times, durationMinutes, partySize);
+        }
+    }
+
+    /**
+     * Tables free for a seating at each of the given times on each of several dates
+     * @param dates Reservation dates
+     * @param tables Current restaurant tables
+     * @param times Seating start times to check
+     * @param durationMinutes Length of the seating
+     * @param partySize Number of guests
+     * @param loader Loads all dates that are not cached at once
+     * @return Per date, in the order given, one list of tables per time
+     */
+    public Map<LocalDate, List<List<RestaurantTable>>> findAvailableTables(
+            List<LocalDate> dates, List<RestaurantTable> tables, List<LocalTime> times, int durationMinutes,
+            int partySize, Function<List<LocalDate>, Map<LocalDate, Day>> loader) {
+        Map<LocalDate, Day> found = days(dates, loader);
+        List<RestaurantTable> sorted = sortedById(tables);
+        synchronized (this) {
+            Map<LocalDate, List<List<RestaurantTable>>> result = new LinkedHashMap<>();
+            for (LocalDate date : dates) {
+                result.put(date, availableTables(found.get(date), sorted, times, durationMinutes, partySize));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Record a reservation change; applied when the current transaction commits
+     * @param reservation Reservation after the change
+     */
+    public void recordChange(Reservation reservation) {
+        Booking booking = Booking.of(reservation);
+        afterCommit(() -> apply(reservation.getReservationDate(), reservation.getId(), booking));
+    }
+
+    /**
+     * Record a deleted reservation; applied when the current transaction commits
+     * @param reservationId Deleted reservation ID
+     */
+    public void recordDelete(Long reservationId) {
+        afterCommit(() -> remove(reservationId));
+    }
+
+    /**
+     * Minute of the day a time falls in
+     */
+    static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * End minute of a seating, clipped at midnight
+     */
+    static int endMinute(int startMinute, int durationMinutes) {
+        return Math.min(startMinute + durationMinutes, MINUTES_PER_DAY);
+    }
+
+    private static List<List<RestaurantTable>> availableTables(Day day, List<RestaurantTable> tables,
+                                                               List<LocalTime> times, int durationMinutes,
+                                                               int partySize) {
+        List<List<RestaurantTable>> result = new ArrayList<>(times.size());
+        for (LocalTime time : times) {
+            int start = minuteOf(time);
+            result.add(day.availableTables(tables, start, endMinute(start, durationMinutes), partySize));
+        }
+        return result;
+    }
+
+    private static List<RestaurantTable> sortedById(List<RestaurantTable> tables) {
+        List<RestaurantTable> sorted = new ArrayList<>(tables);
+        sorted.sort(Comparator.comparing(RestaurantTable::getId));
+        return sorted;
+    }
+
+    private Map<LocalDate, Day> days(List<LocalDate> dates, Function<List<LocalDate>, Map<LocalDate, Day>> loader) {
+        Map<LocalDate, Day> found = new HashMap<>();
+        List<LocalDate> missing = new ArrayList<>();
+        long seen;
+        synchronized (this) {
+            for (LocalDate date : dates) {
+                Day cached = days.get(date);
+                if (cached != null) {
+                    found.put(date, cached);
+                } else {
+                    missing.add(date);
+                }
+            }
+            seen = changes;
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+        Map<LocalDate, Day> loaded = loader.apply(missing);
+        synchronized (this) {
+            for (LocalDate date : missing) {
+                Day cached = days.get(date);
+                if (cached != null) {
+                    found.put(date, cached);
+                    continue;
+                }
+                Day day = loaded.get(date);
+                if (changes == seen) {
+                    days.put(date, day);
+                }
+                found.put(date, day);
+            }
+            logger.debug("Loaded table availability for {} dates from {}", missing.size(), missing.get(0));
+            return found;
+        }
+    }
+
+    private synchronized void apply(LocalDate date, Long reservationId, Booking booking) {
+        changes++;
+        Day day = days.get(date);
+        if (day != null) {
+            day.put(reservationId, booking);
+        }
+    }
+
+    // The date of a deleted reservation is not known here; no cached date holds it twice
+    private synchronized void remove(Long reservationId) {
+        changes++;
+        for (Day day : days.values()) {
+            day.put(reservationId, null);
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    /**
+     * A reservation holding its table, and the table joined to it if any, from its
+     * start for its duration, in minutes of the day
+     */
+    private static final class Booking {
+
+        final List<Long> tableIds;
+        final int start;
+        final int end;
+
+        private Booking(List<Long> tableIds, int start, int end) {
+            this.tableIds = tableIds;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * The booking a reservation holds, or null if it holds no table
+         */
+        static Booking of(Reservation reservation) {
+            if (reservation.getTable() == null || reservation.getReservationTime() == null
+                    || reservation.getStatus() == Reservation.ReservationStatus.CANCELLED) {
+                return null;
+            }
+            int start = minuteOf(reservation.getReservationTime());
+            int duration = reservation.getDurationMinutes() != null
+                ? reservation.getDurationMinutes() : Reservation.DEFAULT_DURATION_MINUTES;
+            List<Long> tableIds = reservation.getJoinedTable() != null
+                ? List.of(reservation.getTable().getId(), reservation.getJoinedTable().getId())
+                : List.of(reservation.getTable().getId());
+            return new Booking(tableIds, start, endMinute(start, duration));
+        }
+
+        boolean overlaps(int otherStart, int otherEnd) {
+            return start < otherEnd && otherStart < end;
+        }
+
+        int firstSlot() {
+            return start / SLOT_MINUTES;
+        }
+
+        int lastSlot() {
+            return (end + SLOT_MINUTES - 1) / SLOT_MINUTES;
+        }
+    }
+
+    /**
+     * Bookings of one date, by table id. Not thread-safe on its own; the index
+     * accesses it only while holding its lock.
+     */
+    public static final class Day {
+
+        // Per booked table id: slots held by at least one booking, and the bookings themselves by reservation id
+        private final Map<Long, BitSet> booked = new HashMap<>();
+        private final Map<Long, Map<Long, Booking>> tableBookings = new HashMap<>();
+        private final Map<Long, Booking> bookings = new HashMap<>();
+
+        private Day() {
+        }
+
+        /**
+         * Build a date from its reservations
+         * @param reservations Reservations on the date, any status
+         */
+        public static Day of(List<Reservation> reservations) {
+            Day day = new Day();
+            for (Reservation reservation : reservations) {
+                day.put(reservation.getId(), Booking.of(reservation));
+            }
+            return day;
+        }
+
+        List<RestaurantTable> availableTables(List<RestaurantTable> tables, int start, int end, int partySize) {
+            List<RestaurantTable> available = new ArrayList<>();
+            for (RestaurantTable table : tables) {
+                if (table.getCapacity() == null || table.getCapacity() < partySize
+                        || table.getStatus() != RestaurantTable.TableStatus.AVAILABLE) {
+                    continue;
+                }
+                if (isFree(table.getId(), start, end)) {
+                    available.add(table);
+                }
+            }
+            return available;
+        }
+
+        /**
+         * True if no booking holds the table in [start, end), whatever its status and capacity
+         */
+        boolean isFree(Long tableId, int start, int end) {
+            BitSet slots = booked.get(tableId);
+            if (slots == null) {
+                return true;
+            }
+            int taken = slots.nextSetBit(start / SLOT_MINUTES);
+            if (taken < 0 || taken >= (end + SLOT_MINUTES - 1) / SLOT_MINUTES) {
+                return true;
+            }
+            // Exact check against the table's bookings, for ranges that share a slot with one
+            for (Booking booking : tableBookings.get(tableId).values()) {
+                if (booking.overlaps(start, end)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Hold tables for a reservation in [start, end), replacing what it held before
+         */
+        void hold(Long reservationId, List<Long> tableIds, int start, int end) {
+            put(reservationId, new Booking(tableIds, start, end));
+        }
+
+        /**
+         * Set or replace the booking of a reservation; null removes it
+         */
+        void put(Long reservationId, Booking booking) {
+            Booking previous = booking != null ? bookings.put(reservationId, booking) : bookings.remove(reservationId);
+            if (previous != null) {
+                for (Long tableId : previous.tableIds) {
+                    Map<Long, Booking> held = tableBookings.get(tableId);
+                    if (held == null) {
+                        continue;
+                    }
+                    held.remove(reservationId);
+                    if (held.isEmpty()) {
+                        tableBookings.remove(tableId);
+                        booked.remove(tableId);
+                    } else {
+                        release(tableId, held, previous);
+                    }
+                }
+            }
+            if (booking != null) {
+                for (Long tableId : booking.tableIds) {
+                    tableBookings.computeIfAbsent(tableId, id -> new HashMap<>()).put(reservationId, booking);
+                    booked.computeIfAbsent(tableId, id -> new BitSet(SLOTS_PER_DAY))
+                        .set(booking.firstSlot(), booking.lastSlot());
+                }
+            }
+        }
+
+        // Clear the slots of a removed booking, then set back those another booking still holds
+        private void release(Long tableId, Map<Long, Booking> held, Booking removed) {
+            BitSet slots = booked.get(tableId);
+            slots.clear(removed.firstSlot(), removed.lastSlot());
+            for (Booking booking : held.values()) {
+                if (booking.overlaps(removed.firstSlot() * SLOT_MINUTES, removed.lastSlot() * SLOT_MINUTES)) {
+                    slots.set(Math.max(booking.firstSlot(), removed.firstSlot()),
+                              Math.min(booking.lastSlot(), removed.lastSlot()));
+                }
+            }
+        }
+    }
+}
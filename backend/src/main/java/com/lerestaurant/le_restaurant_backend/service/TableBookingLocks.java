@@ -0,0 +1,102 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped locks serializing bookings per table and date (F108)
+ *
+ * A booking checks the table for overlapping reservations and then inserts
+ * its own; two requests for the same table and date must not interleave those
+ * steps. The lock is held until the booking transaction completes, so the next
+ * request's check already sees the committed row. Requests for other tables
+ * or dates take other stripes and run in parallel.
+ *
+ * This only covers one application instance; the reservations_no_overlap
+ * and reservations_joined_no_overlap exclusion constraints and the
+ * reservations_no_cross_overlap trigger (db/postgres/reservation-no-overlap.sql
+ * and reservation-joined-table-no-overlap.sql) are what keep several
+ * instances from double booking, joined tables included.
+ *
+ * @author Le Restaurant Development Team
+ * @module F108-F109-ReservationManagement
+ */
+@Service
+public class TableBookingLocks {
+
+    static final long WAIT_SECONDS = 10;
+
+    private final ReentrantLock[] stripes;
+
+    public TableBookingLocks(@Value("${app.reservations.lock-stripes:64}") int stripes) {
+        this.stripes = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Lock a table's bookings on a date until the current transaction completes
+     *
+     * Outside a transaction there is nothing to hold the lock until, so nothing
+     * is locked.
+     *
+     * @param tableId Table ID
+     * @param date Reservation date
+     * @throws IllegalStateException if another booking holds the table for too long
+     */
+    public void lockUntilCompletion(Long tableId, LocalDate date) {
+        lockUntilCompletion(List.of(tableId), date);
+    }
+
+    /**
+     * Lock several tables' bookings on a date until the current transaction completes
+     *
+     * Stripes are taken in index order, so two callers locking overlapping sets
+     * cannot deadlock.
+     *
+     * @param tableIds Table IDs
+     * @param date Reservation date
+     * @throws IllegalStateException if another booking holds a table for too long
+     */
+    public void lockUntilCompletion(Collection<Long> tableIds, LocalDate date) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        SortedSet<Integer> indexes = new TreeSet<>();
+        for (Long tableId : tableIds) {
+            indexes.add(Math.floorMod(Objects.hash(tableId, date), stripes.length));
+        }
+        List<ReentrantLock> held = new ArrayList<>(indexes.size());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                held.forEach(ReentrantLock::unlock);
+            }
+        });
+        for (int index : indexes) {
+            ReentrantLock lock = stripes[index];
+            try {
+                if (!lock.tryLock(WAIT_SECONDS, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Table is busy with another booking; try again");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the table", e);
+            }
+            held.add(lock);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.lerestaurant.le_restaurant_backend.service;
 
+import com.lerestaurant.le_restaurant_backend.dto.CursorPageDto;
 import com.lerestaurant.le_restaurant_backend.dto.UserDto;
 import com.lerestaurant.le_restaurant_backend.dto.UserCreateRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.UserUpdateRequestDto;
@@ -15,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
+import com.lerestaurant.le_restaurant_backend.util.KeysetCursor;
 import com.lerestaurant.le_restaurant_backend.util.PasswordValidator;
 
 /**
@@ -107,6 +109,15 @@ public class UserService {
         return convertToDto(user);
     }
 
+    public CursorPageDto<UserDto> getUsersPage(String cursor, Integer limit) {
+        int size = KeysetCursor.resolveLimit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<User> rows = userRepository.findPageAfter(after.getTimestamp(), after.getId(), KeysetCursor.window(size));
+        return KeysetCursor.toPage(rows, size,
+                page -> page.stream().map(this::convertToDto).collect(Collectors.toList()),
+                user -> new KeysetCursor(user.getCreatedAt(), user.getId()));
+    }
+
     public List<UserDto> getAllUsers() {
         return userRepository.findAll()
                 .stream()
@@ -0,0 +1,54 @@
+package com.lerestaurant.le_restaurant_backend.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes UTF-8 CSV rows for the export endpoints
+ *
+ * Fields containing a comma, quote or line break are quoted, with quotes
+ * doubled and line breaks folded to spaces so every record stays on one line.
+ * Null fields are written empty.
+ *
+ * @author Le Restaurant Development Team
+ */
+public final class CsvWriter {
+
+    private final Writer writer;
+
+    public CsvWriter(OutputStream out) {
+        this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Write one record
+     * @param fields Field values in column order; nulls are written empty
+     */
+    public void writeRow(String... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(field(fields[i]));
+        }
+        writer.write('\n');
+    }
+
+    /** Flush buffered rows to the underlying stream without closing it */
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private static String field(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"").replace("\r", " ").replace("\n", " ") + '"';
+    }
+}
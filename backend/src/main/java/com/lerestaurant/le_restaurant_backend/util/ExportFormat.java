@@ -0,0 +1,31 @@
+package com.lerestaurant.le_restaurant_backend.util;
+
+import java.util.Locale;
+
+/**
+ * Transfer formats shared by the bulk import and export endpoints
+ *
+ * @author Le Restaurant Development Team
+ */
+public enum ExportFormat {
+    CSV, JSONL;
+
+    /**
+     * Parse a {@code format} request parameter; a missing value means CSV
+     * @throws IllegalArgumentException if the value names no supported format
+     */
+    public static ExportFormat from(String value) {
+        if (value == null) {
+            return CSV;
+        }
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "csv":
+                return CSV;
+            case "jsonl":
+            case "ndjson":
+                return JSONL;
+            default:
+                throw new IllegalArgumentException("Unsupported format: " + value + " (expected csv or jsonl)");
+        }
+    }
+}
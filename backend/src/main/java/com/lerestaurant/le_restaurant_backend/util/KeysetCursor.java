@@ -0,0 +1,121 @@
+package com.lerestaurant.le_restaurant_backend.util;
+
+import com.lerestaurant.le_restaurant_backend.dto.CursorPageDto;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Shared keyset pagination contract for list endpoints
+ *
+ * Listings are ordered newest first by (timestamp, id). A cursor is the opaque,
+ * URL-safe encoding of the last row's position; the next page holds rows
+ * strictly after it: {@code ts < :ts OR (ts = :ts AND id < :id)}. Page sizes
+ * default to 20 and are capped at 100.
+ *
+ * @author Le Restaurant Development Team
+ */
+public final class KeysetCursor {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /** Position before the first row: later than any stored timestamp */
+    public static final KeysetCursor START =
+            new KeysetCursor(OffsetDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC), Long.MAX_VALUE);
+
+    private final OffsetDateTime timestamp;
+    private final long id;
+
+    public KeysetCursor(OffsetDateTime timestamp, long id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    public OffsetDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Encode as base64url: epoch seconds, nanos and id
+     */
+    public String encode() {
+        Instant instant = timestamp.toInstant();
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES + Long.BYTES);
+        buffer.putLong(instant.getEpochSecond()).putInt(instant.getNano()).putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decode a client-supplied cursor
+     * @param cursor Cursor from a previous page, or null/blank for the first page
+     * @return Position to continue after
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+            if (buffer.remaining() != Long.BYTES + Integer.BYTES + Long.BYTES) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            Instant instant = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            return new KeysetCursor(instant.atOffset(ZoneOffset.UTC), buffer.getLong());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Validate and cap a requested page size
+     * @param limit Requested size, or null for the default
+     * @return Page size between 1 and MAX_PAGE_SIZE
+     * @throws IllegalArgumentException if limit is not positive
+     */
+    public static int resolveLimit(Integer limit) {
+        int resolved = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (resolved < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return Math.min(resolved, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Query window for one page: one row more than the page size, so the
+     * presence of a next page is known without a count query
+     */
+    public static Pageable window(int limit) {
+        return PageRequest.of(0, limit + 1);
+    }
+
+    /**
+     * Build a page from rows fetched with {@link #window(int)}
+     * @param rows Rows in keyset order, at most limit + 1
+     * @param limit Page size
+     * @param mapper Row to DTO conversion
+     * @param position Keyset position of a row
+     * @return Page with a next cursor when more rows exist
+     */
+    public static <E, D> CursorPageDto<D> toPage(List<E> rows, int limit,
+                                                 Function<List<E>, List<D>> mapper,
+                                                 Function<E, KeysetCursor> position) {
+        boolean hasMore = rows.size() > limit;
+        List<E> page = hasMore ? new ArrayList<>(rows.subList(0, limit)) : rows;
+        String nextCursor = hasMore ? position.apply(page.get(limit - 1)).encode() : null;
+        return new CursorPageDto<>(mapper.apply(page), limit, nextCursor);
+    }
+}
@@ -0,0 +1,135 @@
+package com.lerestaurant.le_restaurant_backend.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Immutable amount of money in the restaurant's currency, held as a long
+ * number of cents
+ *
+ * Sums and line totals are exact long arithmetic with overflow checks, so
+ * building an order no longer allocates BigDecimals per line. BigDecimal is
+ * only used at the edges: amounts coming from requests and menu prices are
+ * converted with {@link #of(BigDecimal)}, and {@link #toBigDecimal()} gives
+ * the scale-2 value stored in the numeric(10,2) columns and returned in DTOs.
+ *
+ * Rounding policy: converting a BigDecimal or applying a rate rounds to the
+ * nearest cent, half up ({@link #ROUNDING}), which is also what the database
+ * does when a longer value is written to a numeric(10,2) column. Pass another
+ * RoundingMode explicitly where that is not wanted.
+ *
+ * @author Le Restaurant Development Team
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final RoundingMode ROUNDING = RoundingMode.HALF_UP;
+    public static final Money ZERO = new Money(0);
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Convert a decimal amount, rounding to cents with {@link #ROUNDING}
+     *
+     * @throws ArithmeticException if the amount does not fit in a long number of cents
+     */
+    public static Money of(BigDecimal amount) {
+        return of(amount, ROUNDING);
+    }
+
+    /**
+     * Convert a decimal amount, rounding to cents with the given mode
+     *
+     * @throws ArithmeticException if rounding is needed and the mode is UNNECESSARY,
+     *         or the amount does not fit in a long number of cents
+     */
+    public static Money of(BigDecimal amount, RoundingMode rounding) {
+        return ofCents(amount.setScale(SCALE, rounding).unscaledValue().longValueExact());
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money times(int quantity) {
+        return ofCents(Math.multiplyExact(cents, (long) quantity));
+    }
+
+    /**
+     * Multiply by a rate such as a tax rate, rounding to cents with {@link #ROUNDING}
+     */
+    public Money times(BigDecimal rate) {
+        return times(rate, ROUNDING);
+    }
+
+    public Money times(BigDecimal rate, RoundingMode rounding) {
+        return ofCents(BigDecimal.valueOf(cents).multiply(rate).setScale(0, rounding).longValueExact());
+    }
+
+    public Money negate() {
+        return ofCents(Math.negateExact(cents));
+    }
+
+    public int signum() {
+        return Long.signum(cents);
+    }
+
+    public boolean isZero() {
+        return cents == 0;
+    }
+
+    /**
+     * Exact comparison with a decimal amount: true only if it is this many
+     * cents, without rounding (33.00 and 33.0 match 3300 cents, 33.004 does not)
+     */
+    public boolean isEqualTo(BigDecimal amount) {
+        try {
+            return amount.movePointRight(SCALE).longValueExact() == cents;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Value with scale 2, as stored in numeric(10,2) columns
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && cents == other.cents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
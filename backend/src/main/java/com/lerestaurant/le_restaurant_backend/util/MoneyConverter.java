@@ -0,0 +1,31 @@
+package com.lerestaurant.le_restaurant_backend.util;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+
+/**
+ * Maps {@link Money} attributes to the existing numeric(10,2) columns
+ *
+ * Applied per attribute with {@code @Convert(converter = MoneyConverter.class)};
+ * the schema is unchanged. Marked immutable so Hibernate dirty-checks by
+ * equals instead of keeping converted snapshot copies.
+ *
+ * @author Le Restaurant Development Team
+ */
+@Converter
+@Immutable
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money != null ? money.toBigDecimal() : null;
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return amount != null ? Money.of(amount) : null;
+    }
+}
@@ -13,18 +13,27 @@
 -- ('admin@lerestaurant.com', '$2a$10$N9qo8uLOickgx2ZMRZoMye/0cQs4z0b4LT.pZ2VZZQPy0sFpMAF5C', 'Admin', 'User', '0434567890', 'ADMIN', 'ACTIVE', CURRENT_TIMESTAMP);
 
 -- Insert restaurant tables (created_at is required for all records)
-INSERT INTO restaurant_tables (table_number, capacity, table_type, status, location_description, created_at) VALUES
-('A1', 2, 'REGULAR', 'AVAILABLE', 'Window side, romantic setting', CURRENT_TIMESTAMP),
-('A2', 2, 'REGULAR', 'AVAILABLE', 'Window side', CURRENT_TIMESTAMP),
-('A3', 2, 'BOOTH', 'AVAILABLE', 'Cozy corner booth', CURRENT_TIMESTAMP),
-('B1', 4, 'REGULAR', 'AVAILABLE', 'Center area', CURRENT_TIMESTAMP),
-('B2', 4, 'REGULAR', 'AVAILABLE', 'Center area', CURRENT_TIMESTAMP),
-('B3', 4, 'BOOTH', 'AVAILABLE', 'Private booth, family-friendly', CURRENT_TIMESTAMP),
-('B4', 4, 'REGULAR', 'AVAILABLE', 'Near kitchen entrance', CURRENT_TIMESTAMP),
-('C1', 6, 'REGULAR', 'AVAILABLE', 'Large table, center', CURRENT_TIMESTAMP),
-('C2', 6, 'BOOTH', 'AVAILABLE', 'Private dining area', CURRENT_TIMESTAMP),
-('D1', 8, 'REGULAR', 'AVAILABLE', 'Group table, perfect for celebrations', CURRENT_TIMESTAMP),
-('D2', 8, 'REGULAR', 'AVAILABLE', 'Group table with view', CURRENT_TIMESTAMP),
-('E1', 10, 'REGULAR', 'AVAILABLE', 'Large party table, can be split', CURRENT_TIMESTAMP);
+INSERT INTO restaurant_tables (table_id, table_number, capacity, table_type, status, location_description, created_at) VALUES
+(nextval('restaurant_tables_seq'), 'A1', 2, 'REGULAR', 'AVAILABLE', 'Window side, romantic setting', CURRENT_TIMESTAMP),
+(nextval('restaurant_tables_seq'), 'A2', 2, 'REGULAR', 'AVAILABLE', 'Window side', CURRENT_TIMESTAMP),
+(nextval('restaurant_tables_seq'), 'A3', 2, 'BOOTH', 'AVAILABLE', 'Cozy corner booth', CURRENT_TIMESTAMP),
+(nextval('restaurant_tables_seq'), 'B1', 4, 'REGULAR', 'AVAILABLE', 'Center area', CURRENT_TIMESTAMP),
+(nextval('restaurant_tables_seq'), 'B2', 4, 'REGULAR', 'AVAILABLE', 'Center area', CURRENT_TIMESTAMP),
+(nextval('restaurant_tables_seq'), 'B3', 4, 'BOOTH', 'AVAILABLE', 'Private booth, family-friendly', CURRENT_TIMESTAMP),
+(nextval('restaurant_tables_seq'), 'B4', 4, 'REGULAR', 'AVAILABLE', 'Near kitchen entrance', CURRENT_TIMESTAMP),
+(nextval('restaurant_tables_seq'), 'C1', 6, 'REGULAR', 'AVAILABLE', 'Large table, center', CURRENT_TIMESTAMP),
+(nextval('restaurant_tables_seq'), 'C2', 6, 'BOOTH', 'AVAILABLE', 'Private dining area', CURRENT_TIMESTAMP),
+(nextval('restaurant_tables_seq'), 'D1', 8, 'REGULAR', 'AVAILABLE', 'Group table, perfect for celebrations', CURRENT_TIMESTAMP),
+(nextval('restaurant_tables_seq'), 'D2', 8, 'REGULAR', 'AVAILABLE', 'Group table with view', CURRENT_TIMESTAMP),
+(nextval('restaurant_tables_seq'), 'E1', 10, 'REGULAR', 'AVAILABLE', 'Large party table, can be split', CURRENT_TIMESTAMP);
 
--- Note: The table_id column is auto-generated by the database
+-- Note: Ids come from the entity sequences (allocationSize 50); nextval hands each
+-- row its own block, so these rows never collide with Hibernate-assigned ids
+
+-- Neighbouring tables that can be pushed together for a larger party (F109)
+UPDATE restaurant_tables SET joinable_table_id = (SELECT t.table_id FROM restaurant_tables t WHERE t.table_number = 'A2') WHERE table_number = 'A1';
+UPDATE restaurant_tables SET joinable_table_id = (SELECT t.table_id FROM restaurant_tables t WHERE t.table_number = 'A1') WHERE table_number = 'A2';
+UPDATE restaurant_tables SET joinable_table_id = (SELECT t.table_id FROM restaurant_tables t WHERE t.table_number = 'B2') WHERE table_number = 'B1';
+UPDATE restaurant_tables SET joinable_table_id = (SELECT t.table_id FROM restaurant_tables t WHERE t.table_number = 'B1') WHERE table_number = 'B2';
+UPDATE restaurant_tables SET joinable_table_id = (SELECT t.table_id FROM restaurant_tables t WHERE t.table_number = 'D2') WHERE table_number = 'D1';
+UPDATE restaurant_tables SET joinable_table_id = (SELECT t.table_id FROM restaurant_tables t WHERE t.table_number = 'D1') WHERE table_number = 'D2';
@@ -0,0 +1,18 @@
+-- Index idempotency keys by creation time for the retention purge
+--
+-- IdempotencyService deletes keys older than app.idempotency.retention
+-- (default 24 hours) every app.idempotency.purge-interval (default 1 hour)
+-- with one range delete on idx_idempotency_keys_created_at. Run this once
+-- against an existing database BEFORE deploying the new backend version:
+--
+--   psql "$DATABASE_URL" -f idempotency-keys-retention.sql
+--
+-- The first purge after deploying removes the backlog of expired keys.
+-- Re-running is safe.
+
+BEGIN;
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_created_at
+    ON idempotency_keys (created_at);
+
+COMMIT;
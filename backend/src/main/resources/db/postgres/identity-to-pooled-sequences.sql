@@ -0,0 +1,59 @@
+-- Migrate existing PostgreSQL data from IDENTITY ids to pooled-lo sequences
+--
+-- Entities now draw ids from "<table>_seq" sequences with allocationSize 50,
+-- which lets Hibernate batch inserts (hibernate.jdbc.batch_size). Run this once
+-- against an existing database BEFORE deploying the new backend version:
+--
+--   psql "$DATABASE_URL" -f identity-to-pooled-sequences.sql
+--
+-- For every table it
+--   1. creates the sequence (INCREMENT BY must equal allocationSize),
+--   2. moves it past the highest existing id (never backwards, so re-running is safe),
+--   3. drops the IDENTITY property and defaults the column to the new sequence,
+--      so plain INSERTs without an id keep working.
+-- Tables that do not exist yet are skipped; Hibernate creates them with the sequences.
+
+BEGIN;
+
+DO $$
+DECLARE
+    r record;
+BEGIN
+    FOR r IN
+        SELECT * FROM (VALUES
+            ('audit_logs',           'log_id',          'audit_logs_seq'),
+            ('customer_preferences', 'preference_id',   'customer_preferences_seq'),
+            ('delivery',             'delivery_id',     'delivery_seq'),
+            ('delivery_addresses',   'address_id',      'delivery_addresses_seq'),
+            ('delivery_drivers',     'driver_id',       'delivery_drivers_seq'),
+            ('menu_categories',      'category_id',     'menu_categories_seq'),
+            ('menu_items',           'id',              'menu_items_seq'),
+            ('orders',               'order_id',        'orders_seq'),
+            ('order_items',          'order_item_id',   'order_items_seq'),
+            ('payments',             'payment_id',      'payments_seq'),
+            ('payment_refunds',      'refund_id',       'payment_refunds_seq'),
+            ('reservations',         'reservation_id',  'reservations_seq'),
+            ('restaurant_tables',    'table_id',        'restaurant_tables_seq'),
+            ('users',                'user_id',         'users_seq'),
+            ('user_sessions',        'session_id',      'user_sessions_seq')
+        ) AS t(table_name, id_column, sequence_name)
+    LOOP
+        IF to_regclass(r.table_name) IS NULL THEN
+            CONTINUE;
+        END IF;
+
+        EXECUTE format('LOCK TABLE %I IN SHARE ROW EXCLUSIVE MODE', r.table_name);
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I START WITH 1 INCREMENT BY 50', r.sequence_name);
+        EXECUTE format('ALTER SEQUENCE %I INCREMENT BY 50', r.sequence_name);
+        EXECUTE format(
+            'SELECT setval(%L, GREATEST((SELECT COALESCE(MAX(%I), 0) + 1 FROM %I), nextval(%L)), false)',
+            r.sequence_name, r.id_column, r.table_name, r.sequence_name);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN %I DROP IDENTITY IF EXISTS', r.table_name, r.id_column);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN %I SET DEFAULT nextval(%L)',
+            r.table_name, r.id_column, r.sequence_name);
+        EXECUTE format('ALTER SEQUENCE %I OWNED BY %I.%I', r.sequence_name, r.table_name, r.id_column);
+    END LOOP;
+END
+$$;
+
+COMMIT;
@@ -0,0 +1,29 @@
+-- Create the append-only order_status_events table
+--
+-- Every order status change now inserts a row here, in the same transaction as
+-- the change. hibernate.ddl-auto=update would create the table too, but not
+-- with the sequence increment the pooled id generator expects, so run this
+-- once against an existing database BEFORE deploying the new backend version:
+--
+--   psql "$DATABASE_URL" -f order-status-events.sql
+--
+-- Existing orders are not backfilled: their past transitions were never
+-- recorded, so their history starts with the first change after deployment.
+-- Re-running is safe.
+
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS order_status_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS order_status_events (
+    event_id    BIGINT PRIMARY KEY DEFAULT nextval('order_status_events_seq'),
+    order_id    BIGINT      NOT NULL,
+    from_status VARCHAR(20),
+    to_status   VARCHAR(20) NOT NULL,
+    occurred_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_status_events_order ON order_status_events (order_id, occurred_at);
+CREATE INDEX IF NOT EXISTS idx_order_status_events_occurred_at ON order_status_events (occurred_at);
+
+COMMIT;
@@ -0,0 +1,23 @@
+-- Add optimistic locking to orders and the idempotency key store
+--
+-- Order now carries a @Version column. hibernate.ddl-auto=update cannot add a
+-- NOT NULL column to a table that already has rows, so run this once against
+-- an existing database BEFORE deploying the new backend version:
+--
+--   psql "$DATABASE_URL" -f orders-version-and-idempotency-keys.sql
+--
+-- Existing orders start at version 0. Re-running is safe.
+
+BEGIN;
+
+ALTER TABLE IF EXISTS orders ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    request_hash    VARCHAR(64)  NOT NULL,
+    response_status INTEGER,
+    response_body   TEXT,
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+COMMIT;
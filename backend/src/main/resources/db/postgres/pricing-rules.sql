@@ -0,0 +1,41 @@
+-- Add pricing rules and the order discount column
+--
+-- Orders now carry a discount_amount (combo discounts) and prices come from
+-- pricing_rules. hibernate.ddl-auto=update would add the column without a
+-- value for existing orders, so run this once against an existing database
+-- BEFORE deploying the new backend version:
+--
+--   psql "$DATABASE_URL" -f pricing-rules.sql
+--
+-- Existing orders get a discount of 0. With no rules, every item is taxed at
+-- the default 10% as before. Re-running is safe.
+
+BEGIN;
+
+ALTER TABLE IF EXISTS orders ADD COLUMN IF NOT EXISTS discount_amount NUMERIC(10, 2) DEFAULT 0;
+UPDATE orders SET discount_amount = 0 WHERE discount_amount IS NULL;
+
+CREATE SEQUENCE IF NOT EXISTS pricing_rules_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS pricing_rules (
+    pricing_rule_id BIGINT PRIMARY KEY DEFAULT nextval('pricing_rules_seq'),
+    name            VARCHAR(255)  NOT NULL,
+    rule_type       VARCHAR(20)   NOT NULL,
+    category        VARCHAR(255),
+    menu_item_id    BIGINT,
+    rate            NUMERIC(5, 4),
+    amount          NUMERIC(10, 2),
+    start_time      TIME(6),
+    end_time        TIME(6),
+    active          BOOLEAN       NOT NULL,
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at      TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE TABLE IF NOT EXISTS pricing_rule_combo_items (
+    pricing_rule_id BIGINT NOT NULL REFERENCES pricing_rules (pricing_rule_id),
+    menu_item_id    BIGINT NOT NULL,
+    PRIMARY KEY (pricing_rule_id, menu_item_id)
+);
+
+COMMIT;
@@ -0,0 +1,16 @@
+-- Index reservations by (date, time) for the availability calendar
+--
+-- GET /api/reservations/calendar reads every reservation in a date range with
+-- one range scan on idx_reservations_date_time. Run this once against an
+-- existing database BEFORE deploying the new backend version:
+--
+--   psql "$DATABASE_URL" -f reservation-date-index.sql
+--
+-- Re-running is safe.
+
+BEGIN;
+
+CREATE INDEX IF NOT EXISTS idx_reservations_date_time
+    ON reservations (reservation_date, reservation_time);
+
+COMMIT;
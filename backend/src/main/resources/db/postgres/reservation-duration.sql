@@ -0,0 +1,19 @@
+-- Add a dining duration to reservations and index (table, date, time)
+--
+-- Reservation conflicts are now checked for overlapping seatings instead of an
+-- exact start time match, with a range scan on
+-- idx_reservations_table_date_time. Run this once against an existing database
+-- BEFORE deploying the new backend version:
+--
+--   psql "$DATABASE_URL" -f reservation-duration.sql
+--
+-- Existing reservations get the default 90-minute seating. Re-running is safe.
+
+BEGIN;
+
+ALTER TABLE reservations ADD COLUMN IF NOT EXISTS duration_minutes INTEGER NOT NULL DEFAULT 90;
+
+CREATE INDEX IF NOT EXISTS idx_reservations_table_date_time
+    ON reservations (table_id, reservation_date, reservation_time);
+
+COMMIT;
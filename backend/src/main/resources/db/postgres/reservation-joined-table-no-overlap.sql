@@ -0,0 +1,100 @@
+-- Forbid overlapping active reservations on joined tables
+--
+-- reservations_no_overlap only compares table_id with table_id. A reservation
+-- seated at a pair of tables also holds its joined_table_id, so this script
+-- adds:
+--
+--   * reservations_joined_no_overlap, the same exclusion constraint on
+--     joined_table_id, and
+--   * the reservations_no_cross_overlap trigger, which rejects a reservation
+--     holding a table, as either table_id or joined_table_id, that an
+--     overlapping active reservation holds as the other column.
+--
+-- The trigger takes a transaction-scoped advisory lock per table before it
+-- checks, so two instances booking the same table queue behind each
+-- other and the second one sees the first one's row. Violations are raised as
+-- exclusion_violation (23P01), like the constraints, so the backend reports
+-- them the same way. Run this once against an existing database AFTER
+-- reservation-table-assignment.sql and BEFORE deploying the new backend
+-- version:
+--
+--   psql "$DATABASE_URL" -f reservation-joined-table-no-overlap.sql
+--
+-- Adding the constraint fails if overlapping active reservations already
+-- exist; list them with the query at the end of this file, cancel or move
+-- them, and run the script again. Re-running is safe.
+
+BEGIN;
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'reservations_joined_no_overlap') THEN
+        ALTER TABLE reservations ADD CONSTRAINT reservations_joined_no_overlap EXCLUDE USING gist (
+            joined_table_id WITH =,
+            tsrange(reservation_date + reservation_time,
+                    reservation_date + reservation_time + make_interval(mins => duration_minutes)) WITH &&
+        ) WHERE (joined_table_id IS NOT NULL AND status <> 'CANCELLED');
+    END IF;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION reservations_check_cross_overlap() RETURNS trigger AS $$
+DECLARE
+    seating  tsrange;
+    held     BIGINT;
+    conflict BIGINT;
+BEGIN
+    IF NEW.status = 'CANCELLED' OR NEW.table_id IS NULL THEN
+        RETURN NEW;
+    END IF;
+    seating := tsrange(NEW.reservation_date + NEW.reservation_time,
+                       NEW.reservation_date + NEW.reservation_time + make_interval(mins => NEW.duration_minutes));
+
+    -- Lowest table id first, so two bookings of the same pair cannot deadlock
+    FOR held IN SELECT t FROM unnest(ARRAY[NEW.table_id, NEW.joined_table_id]) AS t
+                WHERE t IS NOT NULL ORDER BY t LOOP
+        PERFORM pg_advisory_xact_lock(hashtext('reservations_no_cross_overlap'), held::integer);
+    END LOOP;
+
+    -- Same-column overlaps are left to the exclusion constraints
+    SELECT r.reservation_id INTO conflict
+    FROM reservations r
+    WHERE r.reservation_id <> NEW.reservation_id
+      AND r.status <> 'CANCELLED'
+      AND (r.joined_table_id = NEW.table_id
+           OR (NEW.joined_table_id IS NOT NULL AND r.table_id = NEW.joined_table_id))
+      AND tsrange(r.reservation_date + r.reservation_time,
+                  r.reservation_date + r.reservation_time + make_interval(mins => r.duration_minutes)) && seating
+    LIMIT 1;
+
+    IF conflict IS NOT NULL THEN
+        RAISE EXCEPTION 'Reservation % overlaps reservation % on a joined table', NEW.reservation_id, conflict
+            USING ERRCODE = 'exclusion_violation', CONSTRAINT = 'reservations_no_cross_overlap';
+    END IF;
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS reservations_no_cross_overlap ON reservations;
+CREATE TRIGGER reservations_no_cross_overlap
+    BEFORE INSERT OR UPDATE OF table_id, joined_table_id, reservation_date, reservation_time,
+                               duration_minutes, status
+    ON reservations
+    FOR EACH ROW EXECUTE FUNCTION reservations_check_cross_overlap();
+
+COMMIT;
+
+-- Overlapping active reservations on joined tables, in either column:
+--
+-- SELECT a.reservation_id, b.reservation_id
+-- FROM reservations a
+-- JOIN reservations b ON a.reservation_id < b.reservation_id
+--  AND (a.joined_table_id IN (b.table_id, b.joined_table_id)
+--       OR b.joined_table_id = a.table_id)
+--  AND tsrange(a.reservation_date + a.reservation_time,
+--              a.reservation_date + a.reservation_time + make_interval(mins => a.duration_minutes))
+--   && tsrange(b.reservation_date + b.reservation_time,
+--              b.reservation_date + b.reservation_time + make_interval(mins => b.duration_minutes))
+-- WHERE a.status <> 'CANCELLED' AND b.status <> 'CANCELLED';
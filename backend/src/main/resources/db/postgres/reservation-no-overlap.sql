@@ -0,0 +1,41 @@
+-- Forbid overlapping active reservations on the same table
+--
+-- The backend serializes bookings per table and date within one instance;
+-- this exclusion constraint is the source of truth across instances. Run this
+-- once against an existing database AFTER reservation-duration.sql and BEFORE
+-- deploying the new backend version:
+--
+--   psql "$DATABASE_URL" -f reservation-no-overlap.sql
+--
+-- Adding the constraint fails if overlapping active reservations already
+-- exist; list them with the query at the end of this file, cancel or move
+-- them, and run the script again. Re-running is safe.
+
+BEGIN;
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'reservations_no_overlap') THEN
+        ALTER TABLE reservations ADD CONSTRAINT reservations_no_overlap EXCLUDE USING gist (
+            table_id WITH =,
+            tsrange(reservation_date + reservation_time,
+                    reservation_date + reservation_time + make_interval(mins => duration_minutes)) WITH &&
+        ) WHERE (table_id IS NOT NULL AND status <> 'CANCELLED');
+    END IF;
+END
+$$;
+
+COMMIT;
+
+-- Overlapping active reservations:
+--
+-- SELECT a.reservation_id, b.reservation_id, a.table_id, a.reservation_date
+-- FROM reservations a
+-- JOIN reservations b ON a.table_id = b.table_id AND a.reservation_id < b.reservation_id
+--  AND tsrange(a.reservation_date + a.reservation_time,
+--              a.reservation_date + a.reservation_time + make_interval(mins => a.duration_minutes))
+--   && tsrange(b.reservation_date + b.reservation_time,
+--              b.reservation_date + b.reservation_time + make_interval(mins => b.duration_minutes))
+-- WHERE a.status <> 'CANCELLED' AND b.status <> 'CANCELLED';
@@ -0,0 +1,33 @@
+-- Automatic table assignment: joined tables and joinable table pairs
+--
+-- Pending reservations without a table are now seated automatically at the
+-- tightest free table, or at a pair of neighbouring tables marked joinable.
+-- Run this once against an existing database AFTER reservation-no-overlap.sql
+-- and BEFORE deploying the new backend version:
+--
+--   psql "$DATABASE_URL" -f reservation-table-assignment.sql
+--
+-- Existing reservations keep their tables and are marked as chosen by hand, so
+-- they are never moved. Pair tables with the UPDATE at the end of this file.
+-- Re-running is safe.
+--
+-- reservations_no_overlap covers table_id only; run
+-- reservation-joined-table-no-overlap.sql next to guard joined tables too.
+
+BEGIN;
+
+ALTER TABLE restaurant_tables ADD COLUMN IF NOT EXISTS joinable_table_id BIGINT;
+
+ALTER TABLE reservations ADD COLUMN IF NOT EXISTS joined_table_id BIGINT REFERENCES restaurant_tables (table_id);
+ALTER TABLE reservations ADD COLUMN IF NOT EXISTS table_auto_assigned BOOLEAN NOT NULL DEFAULT false;
+
+CREATE INDEX IF NOT EXISTS idx_reservations_joined_table_date_time
+    ON reservations (joined_table_id, reservation_date, reservation_time);
+
+COMMIT;
+
+-- Mark two tables as joinable (both directions):
+--
+-- UPDATE restaurant_tables a SET joinable_table_id = b.table_id
+-- FROM restaurant_tables b
+-- WHERE (a.table_number, b.table_number) IN (('A1', 'A2'), ('A2', 'A1'));
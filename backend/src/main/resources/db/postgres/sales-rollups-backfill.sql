@@ -0,0 +1,104 @@
+-- Create and backfill the sales_rollups table behind /api/reports
+--
+-- The backend only increments rollups for orders that complete, are cancelled
+-- or are refunded after it is deployed. Run this once against an existing
+-- database while the backend is stopped, AFTER pricing-rules.sql (it reads
+-- orders.discount_amount) and right before starting the new version:
+--
+--   psql "$DATABASE_URL" -f sales-rollups-backfill.sql
+--
+-- It rebuilds every bucket from orders, order items and refunded payments, so
+-- re-running is safe as long as no backend is writing at the same time.
+-- Buckets are UTC hours of order time, and order-level sales are net of combo
+-- discounts (subtotal - discount_amount), as in SalesRollupService.
+
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS sales_rollups_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS sales_rollups (
+    id              BIGINT PRIMARY KEY DEFAULT nextval('sales_rollups_seq'),
+    dimension       VARCHAR(20)    NOT NULL,
+    dimension_key   VARCHAR(64)    NOT NULL,
+    label           VARCHAR(255),
+    bucket_start    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    order_count     BIGINT         NOT NULL,
+    cancelled_count BIGINT         NOT NULL,
+    item_quantity   BIGINT         NOT NULL,
+    sales_amount    NUMERIC(14, 2) NOT NULL,
+    tax_amount      NUMERIC(14, 2) NOT NULL,
+    tip_amount      NUMERIC(14, 2) NOT NULL,
+    total_amount    NUMERIC(14, 2) NOT NULL,
+    refunded_amount NUMERIC(14, 2) NOT NULL,
+    CONSTRAINT uk_sales_rollups_bucket UNIQUE (dimension, dimension_key, bucket_start)
+);
+
+CREATE INDEX IF NOT EXISTS idx_sales_rollups_dimension_bucket ON sales_rollups (dimension, bucket_start);
+
+LOCK TABLE sales_rollups IN EXCLUSIVE MODE;
+TRUNCATE sales_rollups;
+
+-- One row per order that contributes to any bucket
+CREATE TEMP TABLE rollup_orders ON COMMIT DROP AS
+SELECT o.order_id,
+       o.order_type,
+       o.table_id,
+       t.table_number,
+       date_trunc('hour', o.order_time AT TIME ZONE 'UTC') AT TIME ZONE 'UTC' AS bucket_start,
+       CASE WHEN o.status = 'COMPLETED' THEN 1 ELSE 0 END AS completed,
+       CASE WHEN o.status = 'CANCELLED' THEN 1 ELSE 0 END AS cancelled,
+       COALESCE(o.subtotal, 0) - COALESCE(o.discount_amount, 0) AS net_sales,
+       COALESCE(o.tax_amount, 0)   AS tax_amount,
+       COALESCE(o.tip_amount, 0)   AS tip_amount,
+       COALESCE(o.total_amount, 0) AS total_amount,
+       COALESCE((SELECT SUM(i.quantity) FROM order_items i WHERE i.order_id = o.order_id), 0) AS quantity,
+       COALESCE((SELECT SUM(p.amount) FROM payments p
+                 WHERE p.order_id = o.order_id AND p.status = 'REFUNDED'), 0) AS refunded
+FROM orders o
+LEFT JOIN restaurant_tables t ON t.table_id = o.table_id
+WHERE o.status IN ('COMPLETED', 'CANCELLED')
+   OR EXISTS (SELECT 1 FROM payments p WHERE p.order_id = o.order_id AND p.status = 'REFUNDED');
+
+INSERT INTO sales_rollups (dimension, dimension_key, label, bucket_start, order_count, cancelled_count,
+                           item_quantity, sales_amount, tax_amount, tip_amount, total_amount, refunded_amount)
+SELECT 'HOUR', '', NULL, bucket_start, SUM(completed), SUM(cancelled), SUM(quantity * completed),
+       SUM(net_sales * completed), SUM(tax_amount * completed), SUM(tip_amount * completed),
+       SUM(total_amount * completed), SUM(refunded)
+FROM rollup_orders
+GROUP BY bucket_start;
+
+INSERT INTO sales_rollups (dimension, dimension_key, label, bucket_start, order_count, cancelled_count,
+                           item_quantity, sales_amount, tax_amount, tip_amount, total_amount, refunded_amount)
+SELECT 'ORDER_TYPE', order_type, order_type, bucket_start, SUM(completed), SUM(cancelled),
+       SUM(quantity * completed), SUM(net_sales * completed), SUM(tax_amount * completed),
+       SUM(tip_amount * completed), SUM(total_amount * completed), SUM(refunded)
+FROM rollup_orders
+GROUP BY order_type, bucket_start;
+
+INSERT INTO sales_rollups (dimension, dimension_key, label, bucket_start, order_count, cancelled_count,
+                           item_quantity, sales_amount, tax_amount, tip_amount, total_amount, refunded_amount)
+SELECT 'TABLE', table_id::text, MAX(table_number), bucket_start, SUM(completed), SUM(cancelled),
+       SUM(quantity * completed), SUM(net_sales * completed), SUM(tax_amount * completed),
+       SUM(tip_amount * completed), SUM(total_amount * completed), SUM(refunded)
+FROM rollup_orders
+WHERE table_id IS NOT NULL
+GROUP BY table_id, bucket_start;
+
+-- Menu items: line totals of completed orders; orders and cancellations count once per item
+INSERT INTO sales_rollups (dimension, dimension_key, label, bucket_start, order_count, cancelled_count,
+                           item_quantity, sales_amount, tax_amount, tip_amount, total_amount, refunded_amount)
+SELECT 'MENU_ITEM', lines.menu_item_id::text, MAX(m.name), lines.bucket_start,
+       SUM(lines.completed), SUM(lines.cancelled), SUM(lines.quantity * lines.completed),
+       SUM(lines.amount * lines.completed), 0, 0, SUM(lines.amount * lines.completed), 0
+FROM (
+    SELECT r.order_id, i.menu_item_id, r.bucket_start, r.completed, r.cancelled,
+           SUM(i.quantity) AS quantity, SUM(i.quantity * i.unit_price) AS amount
+    FROM rollup_orders r
+    JOIN order_items i ON i.order_id = r.order_id
+    WHERE i.menu_item_id IS NOT NULL AND (r.completed = 1 OR r.cancelled = 1)
+    GROUP BY r.order_id, i.menu_item_id, r.bucket_start, r.completed, r.cancelled
+) lines
+JOIN menu_items m ON m.id = lines.menu_item_id
+GROUP BY lines.menu_item_id, lines.bucket_start;
+
+COMMIT;
@@ -0,0 +1,325 @@
+package com.lerestaurant.le_restaurant_backend.controller;
+
+import com.lerestaurant.le_restaurant_backend.dto.CursorPageDto;
+import com.lerestaurant.le_restaurant_backend.dto.MenuImportResultDto;
+import com.lerestaurant.le_restaurant_backend.dto.MenuItemDto;
+import com.lerestaurant.le_restaurant_backend.dto.MenuItemFilterRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.MenuSearchResponseDto;
+import com.lerestaurant.le_restaurant_backend.service.MenuBulkService;
+import com.lerestaurant.le_restaurant_backend.service.MenuCatalogSnapshot;
+import com.lerestaurant.le_restaurant_backend.service.MenuService;
+import com.lerestaurant.le_restaurant_backend.util.ExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(MenuController.class)
+@Import(MenuResponseCache.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("Menu Controller Tests")
+class MenuControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MenuService menuService;
+
+    @MockBean
+    private MenuBulkService menuBulkService;
+
+    private MenuItemDto testMenuItemDto;
+
+    @BeforeEach
+    void setUp() {
+        testMenuItemDto = new MenuItemDto(1L, "Caesar Salad", "Fresh romaine lettuce",
+                new BigDecimal("12.99"), "STARTER", "caesar-salad.jpg", true);
+        when(menuService.getCatalogVersion()).thenReturn(42L);
+        when(menuService.getCatalogSnapshot()).thenReturn(MenuCatalogSnapshot.of(42L, List.of(testMenuItemDto)));
+    }
+
+    // =================================================================
+    // Conditional GET (ETag / If-None-Match)
+    // =================================================================
+    @Nested
+    @DisplayName("Conditional GET - ETag / If-None-Match")
+    class ConditionalGetTests {
+
+        @Test
+        @DisplayName("Should return catalog ETag with the full menu")
+        void shouldReturnETagWithMenu() throws Exception {
+            mockMvc.perform(get("/api/menu-items"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"menu-42\""))
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].name", is("Caesar Salad")));
+        }
+
+        @Test
+        @DisplayName("Should answer 304 without a body when the menu is unchanged")
+        void shouldReturnNotModifiedForMatchingETag() throws Exception {
+            mockMvc.perform(get("/api/menu-items")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"menu-42\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"menu-42\""))
+                    .andExpect(content().string(""));
+
+            verify(menuService, never()).getCatalogSnapshot();
+        }
+
+        @Test
+        @DisplayName("Should return the full body when the catalog version has changed")
+        void shouldReturnBodyForStaleETag() throws Exception {
+            mockMvc.perform(get("/api/menu-items")
+                            .param("category", "STARTER")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"menu-41\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"menu-42\""))
+                    .andExpect(jsonPath("$[0].category", is("STARTER")));
+        }
+
+        @Test
+        @DisplayName("Should answer 304 for an unchanged menu item")
+        void shouldReturnNotModifiedForMenuItem() throws Exception {
+            mockMvc.perform(get("/api/menu-items/1")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"menu-42\""))
+                    .andExpect(status().isNotModified());
+
+            verify(menuService, never()).findMenuItemById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should answer 304 for unchanged categories")
+        void shouldReturnNotModifiedForCategories() throws Exception {
+            when(menuService.getAllCategories()).thenReturn(Arrays.asList("MAIN", "STARTER"));
+
+            mockMvc.perform(get("/api/menu-items/categories"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"menu-42\""))
+                    .andExpect(jsonPath("$", hasSize(2)));
+
+            mockMvc.perform(get("/api/menu-items/categories")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"menu-42\""))
+                    .andExpect(status().isNotModified());
+
+            verify(menuService, times(1)).getAllCategories();
+            verify(menuService, never()).searchByName(anyString());
+        }
+    }
+
+    // =================================================================
+    // Pre-serialized / pre-compressed payloads
+    // =================================================================
+    @Nested
+    @DisplayName("Cached payloads - Content-Encoding")
+    class CachedPayloadTests {
+
+        @Test
+        @DisplayName("Should serve the gzip payload when the client accepts gzip")
+        void shouldServeGzipPayload() throws Exception {
+            MvcResult result = mockMvc.perform(get("/api/menu-items")
+                            .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                    .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"menu-42-gzip\""))
+                    .andReturn();
+
+            byte[] body = result.getResponse().getContentAsByteArray();
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                assertThat(json).contains("\"name\":\"Caesar Salad\"");
+            }
+        }
+
+        @Test
+        @DisplayName("Should serve the raw payload when gzip is refused")
+        void shouldServeIdentityPayload() throws Exception {
+            mockMvc.perform(get("/api/menu-items")
+                            .param("category", "STARTER")
+                            .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, *"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(jsonPath("$[0].name", is("Caesar Salad")));
+        }
+
+        @Test
+        @DisplayName("Should serialize each catalog version only once")
+        void shouldReusePayloadForSameVersion() throws Exception {
+            MvcResult first = mockMvc.perform(get("/api/menu-items")).andReturn();
+            MvcResult second = mockMvc.perform(get("/api/menu-items")).andReturn();
+
+            assertThat(second.getResponse().getContentAsByteArray())
+                    .isEqualTo(first.getResponse().getContentAsByteArray());
+            verify(menuService, never()).findAllMenuItems();
+        }
+
+        @Test
+        @DisplayName("Should return an empty array for an unknown category")
+        void shouldReturnEmptyArrayForUnknownCategory() throws Exception {
+            mockMvc.perform(get("/api/menu-items").param("category", "UNKNOWN"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(0)));
+        }
+    }
+
+    // =================================================================
+    // Combined filters and keyset pagination
+    // =================================================================
+    @Nested
+    @DisplayName("Combined filters - GET /api/menu-items and /browse")
+    class FilterTests {
+
+        @Test
+        @DisplayName("Should combine category and availability into one filter")
+        void shouldCombineFilters() throws Exception {
+            when(menuService.findMenuItems(any(MenuItemFilterRequestDto.class))).thenReturn(List.of(testMenuItemDto));
+
+            mockMvc.perform(get("/api/menu-items")
+                            .param("category", "STARTER")
+                            .param("available", "true")
+                            .param("maxPrice", "15.00"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)));
+
+            verify(menuService).findMenuItems(argThat(filter ->
+                    "STARTER".equals(filter.getCategory())
+                            && Boolean.TRUE.equals(filter.getAvailable())
+                            && new BigDecimal("15.00").compareTo(filter.getMaxPrice()) == 0));
+        }
+
+        @Test
+        @DisplayName("Should return a page with the next cursor")
+        void shouldReturnBrowsePage() throws Exception {
+            when(menuService.browseMenuItems(any(MenuItemFilterRequestDto.class)))
+                    .thenReturn(new CursorPageDto<>(List.of(testMenuItemDto), 1, "abc"));
+
+            mockMvc.perform(get("/api/menu-items/browse")
+                            .param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items", hasSize(1)))
+                    .andExpect(jsonPath("$.nextCursor", is("abc")))
+                    .andExpect(jsonPath("$.hasMore", is(true)));
+        }
+    }
+
+    // =================================================================
+    // GET /api/menu-items/search - Ranked Search
+    // =================================================================
+    @Nested
+    @DisplayName("GET /api/menu-items/search - Ranked Search")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Should return a page of ranked search results")
+        void shouldReturnSearchPage() throws Exception {
+            when(menuService.searchMenuItems("salad", 10, 0))
+                    .thenReturn(new MenuSearchResponseDto("salad", 1, 10, 0, List.of(testMenuItemDto)));
+
+            mockMvc.perform(get("/api/menu-items/search")
+                            .param("q", "salad")
+                            .param("limit", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"menu-42\""))
+                    .andExpect(jsonPath("$.total", is(1)))
+                    .andExpect(jsonPath("$.items[0].name", is("Caesar Salad")));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for a blank query")
+        void shouldRejectBlankQuery() throws Exception {
+            when(menuService.searchMenuItems(" ", 20, 0))
+                    .thenThrow(new IllegalArgumentException("Search query is required"));
+
+            mockMvc.perform(get("/api/menu-items/search").param("q", " "))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error", is("Search query is required")));
+        }
+    }
+
+    // =================================================================
+    // Bulk import / export
+    // =================================================================
+    @Nested
+    @DisplayName("POST /import, GET /export - Bulk Transfer")
+    class BulkTransferTests {
+
+        @Test
+        @DisplayName("Should stream the request body into the bulk importer")
+        void shouldImportCsvBody() throws Exception {
+            MenuImportResultDto result = new MenuImportResultDto();
+            result.setTotalRows(2);
+            result.setImportedCount(1);
+            result.setFailedCount(1);
+            result.getErrors().add(new MenuImportResultDto.RowError(3, "Caesar Salad", "Duplicate name in import: Caesar Salad"));
+            when(menuBulkService.importMenuItems(any(InputStream.class), eq(ExportFormat.CSV)))
+                    .thenReturn(result);
+
+            mockMvc.perform(post("/api/menu-items/import")
+                            .param("format", "csv")
+                            .contentType("text/csv")
+                            .content("name,price,category\nCaesar Salad,12.99,STARTER\nCaesar Salad,12.99,STARTER\n"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.importedCount", is(1)))
+                    .andExpect(jsonPath("$.errors[0].line", is(3)));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unsupported format")
+        void shouldRejectUnknownFormat() throws Exception {
+            mockMvc.perform(post("/api/menu-items/import").param("format", "xml").content("<menu/>"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(menuBulkService);
+        }
+
+        @Test
+        @DisplayName("Should stream the export as JSON lines")
+        void shouldStreamJsonLinesExport() throws Exception {
+            doAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(0);
+                out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+                return null;
+            }).when(menuBulkService).exportMenuItems(any(), eq(ExportFormat.JSONL));
+
+            MvcResult started = mockMvc.perform(get("/api/menu-items/export").param("format", "jsonl"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_TYPE, org.hamcrest.Matchers.startsWith("application/x-ndjson")))
+                    .andExpect(content().string("{\"id\":1}\n"));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.lerestaurant.le_restaurant_backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.lerestaurant.le_restaurant_backend.dto.MenuItemDto;
+import com.lerestaurant.le_restaurant_backend.service.MenuCatalogSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Micro-benchmark: per-request Jackson + gzip vs pre-serialized menu payloads (F103)
+ *
+ * Excluded from the regular test run; execute with {@code gradle benchmark}.
+ * Reports allocated bytes/op and average latency for a 500-item menu.
+ */
+@Tag("benchmark")
+@DisplayName("Menu response cache benchmark")
+class MenuResponseCacheBenchmarkTest {
+
+    private static final int MENU_SIZE = 500;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    @DisplayName("Cached payload should allocate far less than serialize + gzip per request")
+    void compareFullMenuPaths() throws Exception {
+        MenuCatalogSnapshot snapshot = MenuCatalogSnapshot.of(1L, sampleMenu());
+        MenuResponseCache cache = new MenuResponseCache(objectMapper);
+
+        Result current = measure(() -> MenuResponseCache.gzip(objectMapper.writeValueAsBytes(snapshot.getItems())));
+        Result cached = measure(() -> cache.getFullMenu(snapshot).getGzip());
+
+        MenuResponseCache.Payload payload = cache.getFullMenu(snapshot);
+        System.out.printf("Menu payload: %d bytes raw, %d bytes gzip%n",
+                payload.getIdentity().length, payload.getGzip().length);
+        System.out.printf("Serialize + gzip per request: %,12d bytes/op %,10d ns/op%n",
+                current.bytesPerOp, current.nanosPerOp);
+        System.out.printf("Pre-serialized payload:       %,12d bytes/op %,10d ns/op%n",
+                cached.bytesPerOp, cached.nanosPerOp);
+
+        assertThat(cached.bytesPerOp).isLessThan(current.bytesPerOp / 100);
+    }
+
+    private Result measure(ThrowingSupplier operation) throws Exception {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += operation.get().length;
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += operation.get().length;
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertThat(sink).isPositive();
+        return new Result(allocated / MEASURED_ITERATIONS, elapsed / MEASURED_ITERATIONS);
+    }
+
+    private List<MenuItemDto> sampleMenu() {
+        String[] categories = {"STARTER", "MAIN", "DESSERT", "BEVERAGE"};
+        List<MenuItemDto> items = new ArrayList<>(MENU_SIZE);
+        for (int i = 0; i < MENU_SIZE; i++) {
+            MenuItemDto item = new MenuItemDto((long) i, "Menu Item " + i,
+                    "House speciality number " + i + " with seasonal vegetables and sauce",
+                    new BigDecimal("12.50").add(BigDecimal.valueOf(i % 20)),
+                    categories[i % categories.length], "item-" + i + ".jpg", i % 7 != 0);
+            item.setCreatedAt(OffsetDateTime.now());
+            item.setUpdatedAt(OffsetDateTime.now());
+            items.add(item);
+        }
+        return items;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingSupplier {
+        byte[] get() throws Exception;
+    }
+
+    private static final class Result {
+        private final long bytesPerOp;
+        private final long nanosPerOp;
+
+        private Result(long bytesPerOp, long nanosPerOp) {
+            this.bytesPerOp = bytesPerOp;
+            this.nanosPerOp = nanosPerOp;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.lerestaurant.le_restaurant_backend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lerestaurant.le_restaurant_backend.config.UnboundedListingGuard;
+import com.lerestaurant.le_restaurant_backend.dto.CursorPageDto;
 import com.lerestaurant.le_restaurant_backend.dto.PaymentDto;
 import com.lerestaurant.le_restaurant_backend.dto.PaymentRequestDto;
 import com.lerestaurant.le_restaurant_backend.entity.Payment;
@@ -12,6 +14,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -31,6 +35,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 
 @WebMvcTest(PaymentController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(UnboundedListingGuard.class)
 @DisplayName("Payment Controller Tests")
 class PaymentControllerTest {
 
@@ -43,6 +48,9 @@ class PaymentControllerTest {
     @MockBean
     private PaymentService paymentService;
 
+    @SpyBean
+    private UnboundedListingGuard unboundedListingGuard;
+
     private PaymentDto testPaymentDto;
     private PaymentRequestDto testPaymentRequest;
 
@@ -100,9 +108,10 @@ class PaymentControllerTest {
             );
             List<PaymentDto> payments = Arrays.asList(testPaymentDto, testPaymentDto2);
             when(paymentService.getAllPayments()).thenReturn(payments);
+            doNothing().when(unboundedListingGuard).requireAllowed();
 
             // When & Then
-            mockMvc.perform(get("/api/payments")
+            mockMvc.perform(get("/api/payments").param("all", "true")
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isOk())
@@ -119,14 +128,85 @@ class PaymentControllerTest {
         @DisplayName("Should return empty list when no payments exist")
         void shouldReturnEmptyList() throws Exception {
             // Given
-            when(paymentService.getAllPayments()).thenReturn(Arrays.asList());
+            when(paymentService.getPaymentsPage(null, null)).thenReturn(new CursorPageDto<>(List.of(), 20, null));
 
             // When & Then
             mockMvc.perform(get("/api/payments"))
                     .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(UnboundedListingGuard.NEXT_CURSOR_HEADER))
                     .andExpect(jsonPath("$", hasSize(0)));
 
-            verify(paymentService, times(1)).getAllPayments();
+            verify(paymentService, never()).getAllPayments();
+        }
+
+        @Test
+        @DisplayName("Should return the first cursor page as an array by default")
+        void shouldReturnFirstPageAsArrayByDefault() throws Exception {
+            // Given
+            when(paymentService.getPaymentsPage(null, 1))
+                .thenReturn(new CursorPageDto<>(List.of(testPaymentDto), 1, "next-cursor"));
+
+            // When & Then
+            mockMvc.perform(get("/api/payments").param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(UnboundedListingGuard.NEXT_CURSOR_HEADER, "next-cursor"))
+                    .andExpect(jsonPath("$", hasSize(1)));
+
+            verify(paymentService, never()).getAllPayments();
+        }
+
+        @Test
+        @DisplayName("Should return 403 for all=true when unbounded listing is disabled")
+        void shouldRejectUnboundedListingWhenDisabled() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/payments").param("all", "true"))
+                    .andExpect(status().isForbidden());
+
+            verify(paymentService, never()).getAllPayments();
+        }
+
+        @Test
+        @DisplayName("Should return first cursor page from /page")
+        void shouldReturnFirstPage() throws Exception {
+            // Given
+            when(paymentService.getPaymentsPage(null, null))
+                .thenReturn(new CursorPageDto<>(List.of(testPaymentDto), 20, "next-cursor"));
+
+            // When & Then
+            mockMvc.perform(get("/api/payments/page"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items", hasSize(1)))
+                    .andExpect(jsonPath("$.limit", is(20)))
+                    .andExpect(jsonPath("$.nextCursor", is("next-cursor")))
+                    .andExpect(jsonPath("$.hasMore", is(true)));
+
+            verify(paymentService, never()).getAllPayments();
+        }
+
+        @Test
+        @DisplayName("Should pass cursor and limit to the service")
+        void shouldPassCursorAndLimit() throws Exception {
+            // Given
+            when(paymentService.getPaymentsPage("abc", 5))
+                .thenReturn(new CursorPageDto<>(List.of(), 5, null));
+
+            // When & Then
+            mockMvc.perform(get("/api/payments/page").param("cursor", "abc").param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items", hasSize(0)))
+                    .andExpect(jsonPath("$.hasMore", is(false)));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an invalid cursor")
+        void shouldReturn400ForInvalidCursor() throws Exception {
+            // Given
+            when(paymentService.getPaymentsPage("bogus", null))
+                .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+            // When & Then
+            mockMvc.perform(get("/api/payments/page").param("cursor", "bogus"))
+                    .andExpect(status().isBadRequest());
         }
     }
 
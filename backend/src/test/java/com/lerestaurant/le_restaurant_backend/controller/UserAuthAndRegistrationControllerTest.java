@@ -1,6 +1,7 @@
 package com.lerestaurant.le_restaurant_backend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lerestaurant.le_restaurant_backend.config.UnboundedListingGuard;
 import com.lerestaurant.le_restaurant_backend.dto.AuthRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.UserCreateRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.UserDto;
@@ -40,6 +41,9 @@ public class UserAuthAndRegistrationControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private UnboundedListingGuard unboundedListingGuard;
+
     // --- Auth (Login) Test Data ---
     private UserDto testUserDto;
     private AuthRequestDto authRequest;
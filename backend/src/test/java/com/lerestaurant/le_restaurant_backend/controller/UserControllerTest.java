@@ -1,6 +1,8 @@
 package com.lerestaurant.le_restaurant_backend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lerestaurant.le_restaurant_backend.config.UnboundedListingGuard;
+import com.lerestaurant.le_restaurant_backend.dto.CursorPageDto;
 import com.lerestaurant.le_restaurant_backend.dto.UserDto;
 import com.lerestaurant.le_restaurant_backend.dto.UserCreateRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.UserUpdateRequestDto;
@@ -13,6 +15,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -39,6 +43,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
  */
 @WebMvcTest(UserController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(UnboundedListingGuard.class)
 @DisplayName("UserController Tests (F102)")
 class UserControllerTest {
 
@@ -51,6 +56,9 @@ class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @SpyBean
+    private UnboundedListingGuard unboundedListingGuard;
+
     private UserDto testUserDto;
     private UserCreateRequestDto testUserCreateRequest;
 
@@ -105,9 +113,10 @@ class UserControllerTest {
             );
             List<UserDto> users = Arrays.asList(testUserDto, testUserDto2);
             when(userService.getAllUsers()).thenReturn(users);
+            doNothing().when(unboundedListingGuard).requireAllowed();
 
             // When & Then
-            mockMvc.perform(get("/api/users")
+            mockMvc.perform(get("/api/users").param("all", "true")
                             .contentType(MediaType.APPLICATION_JSON))
                     .andDo(print())
                     .andExpect(status().isOk())
@@ -124,14 +133,85 @@ class UserControllerTest {
         @DisplayName("Should return empty list when no users exist")
         void shouldReturnEmptyList() throws Exception {
             // Given
-            when(userService.getAllUsers()).thenReturn(Arrays.asList());
+            when(userService.getUsersPage(null, null)).thenReturn(new CursorPageDto<>(List.of(), 20, null));
 
             // When & Then
             mockMvc.perform(get("/api/users"))
                     .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(UnboundedListingGuard.NEXT_CURSOR_HEADER))
                     .andExpect(jsonPath("$", hasSize(0)));
 
-            verify(userService, times(1)).getAllUsers();
+            verify(userService, never()).getAllUsers();
+        }
+
+        @Test
+        @DisplayName("Should return the first cursor page as an array by default")
+        void shouldReturnFirstPageAsArrayByDefault() throws Exception {
+            // Given
+            when(userService.getUsersPage(null, 1))
+                .thenReturn(new CursorPageDto<>(List.of(testUserDto), 1, "next-cursor"));
+
+            // When & Then
+            mockMvc.perform(get("/api/users").param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(UnboundedListingGuard.NEXT_CURSOR_HEADER, "next-cursor"))
+                    .andExpect(jsonPath("$", hasSize(1)));
+
+            verify(userService, never()).getAllUsers();
+        }
+
+        @Test
+        @DisplayName("Should return 403 for all=true when unbounded listing is disabled")
+        void shouldRejectUnboundedListingWhenDisabled() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/users").param("all", "true"))
+                    .andExpect(status().isForbidden());
+
+            verify(userService, never()).getAllUsers();
+        }
+
+        @Test
+        @DisplayName("Should return first cursor page from /page")
+        void shouldReturnFirstPage() throws Exception {
+            // Given
+            when(userService.getUsersPage(null, null))
+                .thenReturn(new CursorPageDto<>(List.of(testUserDto), 20, "next-cursor"));
+
+            // When & Then
+            mockMvc.perform(get("/api/users/page"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items", hasSize(1)))
+                    .andExpect(jsonPath("$.limit", is(20)))
+                    .andExpect(jsonPath("$.nextCursor", is("next-cursor")))
+                    .andExpect(jsonPath("$.hasMore", is(true)));
+
+            verify(userService, never()).getAllUsers();
+        }
+
+        @Test
+        @DisplayName("Should pass cursor and limit to the service")
+        void shouldPassCursorAndLimit() throws Exception {
+            // Given
+            when(userService.getUsersPage("abc", 5))
+                .thenReturn(new CursorPageDto<>(List.of(), 5, null));
+
+            // When & Then
+            mockMvc.perform(get("/api/users/page").param("cursor", "abc").param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items", hasSize(0)))
+                    .andExpect(jsonPath("$.hasMore", is(false)));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an invalid cursor")
+        void shouldReturn400ForInvalidCursor() throws Exception {
+            // Given
+            when(userService.getUsersPage("bogus", null))
+                .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+            // When & Then
+            mockMvc.perform(get("/api/users/page").param("cursor", "bogus"))
+                    .andExpect(status().isBadRequest());
         }
     }
 
@@ -0,0 +1,137 @@
+package com.lerestaurant.le_restaurant_backend.integration;
+
+import com.lerestaurant.le_restaurant_backend.dto.*;
+import com.lerestaurant.le_restaurant_backend.entity.Reservation;
+import com.lerestaurant.le_restaurant_backend.entity.RestaurantTable;
+import com.lerestaurant.le_restaurant_backend.repository.ReservationRepository;
+import com.lerestaurant.le_restaurant_backend.repository.RestaurantTableRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Scenario 11: Reservation Booking Rush
+ * Story: Many guests try to book the same tables for the same evening at the
+ * same moment; every seating is booked exactly once and the rest are turned away.
+ *
+ * Runs without a test transaction so every booking commits, as it does in production.
+ *
+ * Tests coverage: F108
+ */
+@DisplayName("Scenario 11: Reservation Booking Rush")
+class Scenario11_ReservationBookingRushTest extends BaseE2ETest {
+
+    private static final int TABLES = 8;
+    private static final LocalTime[] SEATINGS = {
+        LocalTime.of(17, 0), LocalTime.of(18, 30), LocalTime.of(20, 0), LocalTime.of(21, 30)
+    };
+    private static final int GUESTS_PER_SEATING = 6;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private RestaurantTableRepository restaurantTableRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private final List<Long> tableIds = new ArrayList<>();
+    private final LocalDate date = LocalDate.now().plusDays(400);
+    private Long customerId;
+
+    @AfterEach
+    void cleanUp() {
+        reservationRepository.deleteAll(reservationRepository.findByReservationDate(date));
+        restaurantTableRepository.deleteAllById(tableIds);
+        if (customerId != null) {
+            userRepository.deleteById(customerId);
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent bookings for the same seatings never double book a table")
+    void testBookingRush() throws Exception {
+        // Setup: tables and one customer
+        for (int i = 0; i < TABLES; i++) {
+            RestaurantTable table = new RestaurantTable();
+            table.setTableNumber("RUSH-" + i);
+            table.setCapacity(4);
+            tableIds.add(restaurantTableRepository.save(table).getId());
+        }
+        UserDto customer = createTestCustomer("rush@example.com", "Booking", "Rush");
+        customerId = customer.getId();
+
+        // Every seating on every table is requested by several guests at once
+        List<Callable<Boolean>> bookings = new ArrayList<>();
+        for (Long tableId : tableIds) {
+            for (LocalTime seating : SEATINGS) {
+                for (int g = 0; g < GUESTS_PER_SEATING; g++) {
+                    bookings.add(() -> book(customer.getId(), tableId, seating));
+                }
+            }
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (Callable<Boolean> booking : bookings) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                (booking.call() ? booked : rejected).incrementAndGet();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Verify: exactly one booking per table and seating, all others turned away
+        int seatings = TABLES * SEATINGS.length;
+        assertEquals(seatings, booked.get());
+        assertEquals(bookings.size() - seatings, rejected.get());
+
+        List<Reservation> stored = reservationRepository.findByReservationDate(date);
+        assertEquals(seatings, stored.size());
+        for (Long tableId : tableIds) {
+            for (LocalTime seating : SEATINGS) {
+                long count = stored.stream()
+                        .filter(r -> r.getTable().getId().equals(tableId))
+                        .filter(r -> r.getReservationTime().equals(seating))
+                        .count();
+                assertEquals(1, count, "Table " + tableId + " at " + seating);
+            }
+        }
+
+        // Every seating is now shown as taken
+        for (LocalTime seating : SEATINGS) {
+            List<TableDto> free = reservationService.getAvailableTables(date.toString(), seating.toString(), 2);
+            assertTrue(free.stream().noneMatch(t -> tableIds.contains(Long.valueOf(t.getId()))));
+        }
+    }
+
+    private boolean book(Long customerId, Long tableId, LocalTime seating) {
+        ReservationCreateRequestDto request = new ReservationCreateRequestDto();
+        request.setCustomerId(customerId);
+        request.setTableId(tableId);
+        request.setNumberOfGuests(2);
+        request.setReservationDateTime(OffsetDateTime.of(date, seating, ZoneOffset.UTC));
+        try {
+            reservationService.createReservation(request);
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+}
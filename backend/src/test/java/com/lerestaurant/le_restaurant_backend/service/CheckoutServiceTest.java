@@ -0,0 +1,169 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.dto.CheckoutRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.CheckoutResponseDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderCreateRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderItemRequestDto;
+import com.lerestaurant.le_restaurant_backend.entity.DeliveryAddress;
+import com.lerestaurant.le_restaurant_backend.entity.MenuItem;
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+import com.lerestaurant.le_restaurant_backend.entity.Payment;
+import com.lerestaurant.le_restaurant_backend.entity.User;
+import com.lerestaurant.le_restaurant_backend.repository.PaymentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unified checkout (F105)
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({CheckoutService.class, OrderService.class, PaymentService.class, DeliveryService.class,
+         KitchenQueue.class, SalesRollupService.class, PricingService.class, MenuService.class,
+         OrderStatusHistoryService.class})
+@DisplayName("CheckoutService Tests (F105)")
+class CheckoutServiceTest {
+
+    @Autowired
+    private CheckoutService checkoutService;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User customer;
+    private DeliveryAddress address;
+    private List<MenuItem> menuItems;
+
+    @BeforeEach
+    void setUp() {
+        customer = persistCustomer("checkout@lerestaurant.com");
+        address = persistAddress(customer);
+        menuItems = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            MenuItem menuItem = new MenuItem("Dish " + i, "Dish " + i, new BigDecimal("10.00"), "MAIN");
+            entityManager.persist(menuItem);
+            menuItems.add(menuItem);
+        }
+    }
+
+    @Test
+    @DisplayName("Test 1: A delivery checkout should create a confirmed order, a completed payment and a delivery with batched writes")
+    void testDeliveryCheckout() {
+        // Given: a first checkout fetches the id blocks for every table
+        checkoutService.checkout(deliveryCheckout(null));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        CheckoutResponseDto response = checkoutService.checkout(deliveryCheckout(new BigDecimal("33.00")));
+        entityManager.flush();
+
+        // Then
+        assertThat(response.getOrder().getStatus()).isEqualTo(Order.OrderStatus.CONFIRMED);
+        assertThat(response.getOrder().getItems()).hasSize(3);
+        assertThat(response.getOrder().getTotalAmount()).isEqualByComparingTo("33.00");
+        assertThat(response.getPayment().getStatus()).isEqualTo(Payment.PaymentStatus.COMPLETED);
+        assertThat(response.getPayment().getAmount()).isEqualByComparingTo("33.00");
+        assertThat(response.getDelivery().getOrderId()).isEqualTo(response.getOrder().getId());
+        assertThat(response.getDelivery().getDeliveryFee()).isEqualByComparingTo("4.50");
+        // 1 customer + 1 menu items + 1 address lookup, then 1 order + 1 batched items + 1 payment + 1 delivery insert
+        // + 1 batched insert for the two status events (created, confirmed)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Test 2: Another customer's address should be rejected before any payment is taken")
+    void testForeignAddressRejected() {
+        // Given
+        address = persistAddress(persistCustomer("someone.else@lerestaurant.com"));
+
+        // When & Then
+        assertThatThrownBy(() -> checkoutService.checkout(deliveryCheckout(null)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("does not belong");
+        assertThat(paymentRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test 3: Delivery details must match the order type and the amount must match the total")
+    void testInvalidCheckoutsRejected() {
+        // Given
+        CheckoutRequestDto missingDelivery = deliveryCheckout(null);
+        missingDelivery.setDelivery(null);
+        CheckoutRequestDto dineInWithDelivery = deliveryCheckout(null);
+        dineInWithDelivery.getOrder().setOrderType(Order.OrderType.DINE_IN);
+        CheckoutRequestDto wrongAmount = deliveryCheckout(new BigDecimal("30.00"));
+
+        // When & Then
+        assertThatThrownBy(() -> checkoutService.checkout(missingDelivery))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> checkoutService.checkout(dineInWithDelivery))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> checkoutService.checkout(wrongAmount))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("does not match order total");
+    }
+
+    private CheckoutRequestDto deliveryCheckout(BigDecimal amount) {
+        List<OrderItemRequestDto> items = new ArrayList<>();
+        for (MenuItem menuItem : menuItems) {
+            OrderItemRequestDto item = new OrderItemRequestDto();
+            item.setMenuItemId(menuItem.getId());
+            item.setQuantity(1);
+            items.add(item);
+        }
+        OrderCreateRequestDto order = new OrderCreateRequestDto();
+        order.setCustomerId(customer.getId());
+        order.setOrderType(Order.OrderType.DELIVERY);
+        order.setItems(items);
+        return new CheckoutRequestDto(order,
+            new CheckoutRequestDto.PaymentDetails(amount, Payment.PaymentMethod.CREDIT_CARD, null),
+            new CheckoutRequestDto.DeliveryDetails(address.getId(), new BigDecimal("4.50")));
+    }
+
+    private User persistCustomer(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPasswordHash("hash");
+        user.setFirstName("Check");
+        user.setLastName("Out");
+        entityManager.persist(user);
+        return user;
+    }
+
+    private DeliveryAddress persistAddress(User user) {
+        DeliveryAddress deliveryAddress = new DeliveryAddress();
+        deliveryAddress.setUser(user);
+        deliveryAddress.setAddressLine1("1 Main Street");
+        deliveryAddress.setCity("Springfield");
+        deliveryAddress.setState("IL");
+        deliveryAddress.setPostalCode("62701");
+        entityManager.persist(deliveryAddress);
+        return deliveryAddress;
+    }
+}
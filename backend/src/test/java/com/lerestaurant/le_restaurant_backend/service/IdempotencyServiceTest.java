@@ -0,0 +1,125 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.entity.IdempotencyRecord;
+import com.lerestaurant.le_restaurant_backend.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Idempotency-Key handling
+ *
+ * Runs without a test transaction so each request commits like it would in
+ * production; keys are unique per test.
+ *
+ * @author Le Restaurant Development Team
+ */
+@DataJpaTest
+@Import(IdempotencyService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("IdempotencyService Tests")
+class IdempotencyServiceTest {
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private IdempotencyRecordRepository repository;
+
+    @Test
+    @DisplayName("Test 1: A retried request should replay the first response without running the write again")
+    void testRetryReplaysResponse() {
+        // Given
+        AtomicInteger writes = new AtomicInteger();
+        Map<String, Object> request = Map.of("customerId", 1);
+
+        // When
+        ResponseEntity<String> first = idempotencyService.execute("orders", "retry-key", request,
+                HttpStatus.CREATED, () -> Map.of("id", writes.incrementAndGet()));
+        ResponseEntity<String> retry = idempotencyService.execute("orders", "retry-key", request,
+                HttpStatus.CREATED, () -> Map.of("id", writes.incrementAndGet()));
+
+        // Then
+        assertThat(writes).hasValue(1);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getBody()).isEqualTo(first.getBody()).isEqualTo("{\"id\":1}");
+        assertThat(retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeaders().containsKey(IdempotencyService.REPLAYED_HEADER)).isFalse();
+        assertThat(repository.findById("orders:retry-key")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Test 2: Reusing a key with a different request should be rejected")
+    void testKeyReuseWithDifferentBodyRejected() {
+        // Given
+        idempotencyService.execute("orders", "reused-key", Map.of("customerId", 1),
+                HttpStatus.CREATED, () -> Map.of("id", 1));
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyService.execute("orders", "reused-key", Map.of("customerId", 2),
+                HttpStatus.CREATED, () -> Map.of("id", 2)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("different request");
+    }
+
+    @Test
+    @DisplayName("Test 3: A failed write should release the key so the retry runs again")
+    void testFailedWriteIsNotStored() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        Map<String, Object> request = Map.of("customerId", 1);
+
+        // When
+        assertThatThrownBy(() -> idempotencyService.execute("orders", "failing-key", request, HttpStatus.CREATED, () -> {
+            attempts.incrementAndGet();
+            throw new RuntimeException("Menu item not available: Risotto");
+        })).hasMessageContaining("not available");
+        ResponseEntity<String> retry = idempotencyService.execute("orders", "failing-key", request,
+                HttpStatus.CREATED, () -> Map.of("attempt", attempts.incrementAndGet()));
+
+        // Then
+        assertThat(attempts).hasValue(2);
+        assertThat(retry.getBody()).isEqualTo("{\"attempt\":2}");
+    }
+
+    @Test
+    @DisplayName("Test 4: Keys older than the retention window should be purged and run again on retry")
+    void testExpiredKeysPurged() {
+        // Given: a key stored two days ago and one stored now
+        Map<String, Object> request = Map.of("customerId", 1);
+        IdempotencyRecord expired = new IdempotencyRecord(
+                IdempotencyService.storageKey("orders", "expired-key"), idempotencyService.requestHash(request));
+        expired.setResponseStatus(HttpStatus.CREATED.value());
+        expired.setResponseBody("{\"id\":1}");
+        expired.setCreatedAt(OffsetDateTime.now().minusDays(2));
+        repository.save(expired);
+        idempotencyService.execute("orders", "fresh-key", request, HttpStatus.CREATED, () -> Map.of("id", 2));
+
+        // When
+        int deleted = idempotencyService.purgeExpired();
+
+        // Then
+        assertThat(deleted).isPositive();
+        assertThat(repository.findById("orders:expired-key")).isEmpty();
+        assertThat(repository.findById("orders:fresh-key")).isPresent();
+        ResponseEntity<String> retry = idempotencyService.execute("orders", "expired-key", request,
+                HttpStatus.CREATED, () -> Map.of("id", 3));
+        assertThat(retry.getBody()).isEqualTo("{\"id\":3}");
+    }
+}
@@ -0,0 +1,197 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.dto.KitchenTicketDto;
+import com.lerestaurant.le_restaurant_backend.entity.MenuItem;
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+import com.lerestaurant.le_restaurant_backend.entity.OrderItem;
+import com.lerestaurant.le_restaurant_backend.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Tests for KitchenQueue (F105)
+ *
+ * Validates that active orders are kept as tickets, that finished or
+ * cancelled orders leave the queue, and that changes only show up once the
+ * surrounding transaction commits.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KitchenQueue Tests (F105)")
+class KitchenQueueTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private KitchenQueue kitchenQueue;
+
+    @BeforeEach
+    void setUp() {
+        kitchenQueue = new KitchenQueue(orderRepository, 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Test 1: Startup load should seed tickets from active orders with one items query")
+    void testLoadSeedsActiveOrders() {
+        // Given
+        List<Order> active = List.of(order(1L, Order.OrderStatus.PENDING), order(2L, Order.OrderStatus.READY));
+        when(orderRepository.findByStatusInWithTable(anyCollection())).thenReturn(active);
+
+        // When
+        kitchenQueue.load();
+
+        // Then
+        assertThat(kitchenQueue.getTickets()).extracting(KitchenTicketDto::getOrderId).containsExactly(1L, 2L);
+        assertThat(kitchenQueue.getTickets().get(0).getLines()).singleElement()
+                .satisfies(line -> assertThat(line.getMenuItemName()).isEqualTo("Risotto"));
+        verify(orderRepository).fetchItemsWithMenuItems(active);
+        verifyNoMoreInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("Test 2: Status changes should update tickets and drop completed or cancelled orders")
+    void testPublishUpdatesAndRemoves() {
+        // Given
+        kitchenQueue.publish(order(1L, Order.OrderStatus.PENDING));
+        kitchenQueue.publish(order(2L, Order.OrderStatus.CONFIRMED));
+
+        // When
+        kitchenQueue.publish(order(1L, Order.OrderStatus.PREPARING));
+        kitchenQueue.publish(order(2L, Order.OrderStatus.CANCELLED));
+
+        // Then
+        assertThat(kitchenQueue.getTickets()).singleElement().satisfies(ticket -> {
+            assertThat(ticket.getOrderId()).isEqualTo(1L);
+            assertThat(ticket.getStatus()).isEqualTo(Order.OrderStatus.PREPARING);
+        });
+        assertThat(kitchenQueue.getOrderIds(Order.OrderStatus.PREPARING)).containsExactly(1L);
+        assertThat(kitchenQueue.getOrderIds(Order.OrderStatus.CONFIRMED)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test 3: Changes inside a transaction should apply only after commit")
+    void testPublishWaitsForCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        kitchenQueue.publish(order(1L, Order.OrderStatus.PENDING));
+
+        // Then
+        assertThat(kitchenQueue.getTickets()).isEmpty();
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        assertThat(kitchenQueue.getTickets()).extracting(KitchenTicketDto::getOrderId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Test 4: A slow kitchen screen should not hold up order changes")
+    void testSlowScreenDoesNotBlockPublish() throws Exception {
+        // Given: a screen that stalls on every send until released
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch received = new CountDownLatch(3);
+        SseEmitter slowScreen = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                received.countDown();
+            }
+        };
+        kitchenQueue.attach(slowScreen);
+
+        // When
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            kitchenQueue.publish(order(1L, Order.OrderStatus.PENDING));
+            kitchenQueue.publish(order(2L, Order.OrderStatus.CONFIRMED));
+        });
+
+        // Then: the queue moved on; the screen gets the snapshot and both changes once it catches up
+        assertThat(kitchenQueue.getTickets()).extracting(KitchenTicketDto::getOrderId).containsExactly(1L, 2L);
+        release.countDown();
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+        kitchenQueue.shutdown();
+    }
+
+    @Test
+    @DisplayName("Test 5: A change reaching the queue after a newer one for the same order should be dropped")
+    void testStaleChangesAreDropped() {
+        // Given: confirming the order (version 1) commits, but its after-commit runs late
+        TransactionSynchronizationManager.initSynchronization();
+        kitchenQueue.publish(order(1L, Order.OrderStatus.CONFIRMED, 1L));
+        List<TransactionSynchronization> confirmed = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        kitchenQueue.publish(order(1L, Order.OrderStatus.PREPARING, 2L));
+
+        // When
+        confirmed.forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(kitchenQueue.getTickets()).singleElement().satisfies(ticket -> {
+            assertThat(ticket.getStatus()).isEqualTo(Order.OrderStatus.PREPARING);
+            assertThat(ticket.getVersion()).isEqualTo(2L);
+        });
+
+        // When: a bulk completion (version 3) is followed by a late version 2 change
+        kitchenQueue.publishStatusChange(Map.of(1L, 3L), Order.OrderStatus.COMPLETED);
+        kitchenQueue.publish(order(1L, Order.OrderStatus.READY, 2L));
+
+        // Then: the completed order stays off the queue
+        assertThat(kitchenQueue.getTickets()).isEmpty();
+    }
+
+    private static Order order(Long id, Order.OrderStatus status, Long version) {
+        Order order = order(id, status);
+        order.setVersion(version);
+        return order;
+    }
+
+    private static Order order(Long id, Order.OrderStatus status) {
+        MenuItem menuItem = new MenuItem("Risotto", "Mushroom risotto", new BigDecimal("18.00"), "MAIN");
+        Order order = new Order();
+        order.setId(id);
+        order.setStatus(status);
+        OrderItem item = new OrderItem();
+        item.setOrder(order);
+        item.setMenuItem(menuItem);
+        item.setQuantity(2);
+        order.getItems().add(item);
+        return order;
+    }
+}
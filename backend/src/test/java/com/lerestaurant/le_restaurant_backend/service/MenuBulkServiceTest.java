@@ -0,0 +1,252 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.lerestaurant.le_restaurant_backend.dto.MenuImportResultDto;
+import com.lerestaurant.le_restaurant_backend.dto.MenuItemCreateRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.MenuItemDto;
+import com.lerestaurant.le_restaurant_backend.repository.MenuRepository;
+import com.lerestaurant.le_restaurant_backend.util.ExportFormat;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit Tests for MenuBulkService (F104)
+ *
+ * Validates streaming CSV / JSON lines import with per-row error reporting,
+ * chunked duplicate checks and JDBC batch inserts, and streaming export.
+ *
+ * @author Le Restaurant Development Team
+ * @module F104-MenuManagement
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MenuBulkService Tests (F104)")
+class MenuBulkServiceTest {
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private MenuService menuService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private MenuBulkService menuBulkService;
+
+    @BeforeEach
+    void setUp() {
+        menuBulkService = new MenuBulkService(menuRepository, menuService, jdbcTemplate, objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), transactionManager);
+    }
+
+    @Test
+    @DisplayName("Test 1: CSV import should insert valid rows in one batch and report bad rows by line")
+    void testImportCsvReportsRowErrors() {
+        // Given
+        String csv = "name,description,price,category,available\n"
+                + "Caesar Salad,\"Romaine, parmesan\",12.99,STARTER,true\n"
+                + "Garlic Bread,,abc,STARTER,true\n"
+                + ",No name,5.00,STARTER,true\n"
+                + "Caesar Salad,Again,12.99,STARTER,true\n"
+                + "Tiramisu,Dessert,8.99,DESSERT,false\n";
+        when(menuRepository.findExistingNames(anyCollection())).thenReturn(List.of());
+
+        // When
+        MenuImportResultDto result = menuBulkService.importMenuItems(stream(csv), ExportFormat.CSV);
+
+        // Then
+        assertThat(result.getTotalRows()).isEqualTo(5);
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(MenuImportResultDto.RowError::getLine).containsExactly(3, 4, 5);
+        assertThat(result.getErrors().get(1).getMessage()).isEqualTo("Menu item name is required");
+        assertThat(result.getErrors().get(2).getMessage()).contains("Duplicate name");
+
+        List<Object[]> batch = captureBatches().get(0);
+        assertThat(batch).hasSize(2);
+        assertThat(batch.get(0)[0]).isEqualTo("Caesar Salad");
+        assertThat(batch.get(0)[1]).isEqualTo("Romaine, parmesan");
+        assertThat(batch.get(1)[5]).isEqualTo(false);
+        verify(menuRepository, times(1)).findExistingNames(anyCollection());
+        verify(menuService).invalidateCatalogOnCompletion();
+    }
+
+    @Test
+    @DisplayName("Test 2: Import should reject names that already exist in the catalog")
+    void testImportRejectsExistingNames() {
+        // Given
+        String jsonl = "{\"name\":\"Caesar Salad\",\"price\":12.99,\"category\":\"STARTER\"}\n"
+                + "\n"
+                + "{\"name\":\"Greek Salad\",\"price\":13.99,\"category\":\"STARTER\",\"id\":7}\n"
+                + "{not json}\n";
+        when(menuRepository.findExistingNames(anyCollection())).thenReturn(List.of("Caesar Salad"));
+
+        // When
+        MenuImportResultDto result = menuBulkService.importMenuItems(stream(jsonl), ExportFormat.JSONL);
+
+        // Then
+        assertThat(result.getTotalRows()).isEqualTo(3);
+        assertThat(result.getImportedCount()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(MenuImportResultDto.RowError::getLine).containsExactlyInAnyOrder(1, 4);
+        assertThat(captureBatches().get(0)).extracting(row -> row[0]).containsExactly("Greek Salad");
+    }
+
+    @Test
+    @DisplayName("Test 3: Large imports should use one duplicate query and one batch per chunk")
+    void testImportChunksLargeInput() {
+        // Given
+        List<MenuItemCreateRequestDto> items = new ArrayList<>();
+        for (int i = 0; i < MenuBulkService.CHUNK_SIZE * 2 + 10; i++) {
+            items.add(item("Item " + i, "12.00", "MAIN"));
+        }
+        when(menuRepository.findExistingNames(anyCollection())).thenReturn(List.of());
+
+        // When
+        MenuImportResultDto result = menuBulkService.importMenuItems(items);
+
+        // Then
+        assertThat(result.getImportedCount()).isEqualTo(items.size());
+        verify(menuRepository, times(3)).findExistingNames(anyCollection());
+        assertThat(captureBatches()).extracting(List::size)
+                .containsExactly(MenuBulkService.CHUNK_SIZE, MenuBulkService.CHUNK_SIZE, 10);
+    }
+
+    @Test
+    @DisplayName("Test 4: Import without valid rows should not touch the database or the catalog")
+    void testImportNothingValid() {
+        // When
+        MenuImportResultDto result = menuBulkService.importMenuItems(List.of(item("Free Lunch", "0.00", "MAIN")));
+
+        // Then
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        verifyNoInteractions(jdbcTemplate, menuRepository, transactionManager);
+        verify(menuService, never()).invalidateCatalogOnCompletion();
+    }
+
+    @Test
+    @DisplayName("Test 5: CSV without required header columns should be rejected")
+    void testImportRequiresHeader() {
+        assertThatThrownBy(() -> menuBulkService.importMenuItems(stream("Caesar Salad,12.99\n"), ExportFormat.CSV))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("CSV header");
+        assertThatThrownBy(() -> ExportFormat.from("xml"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Test 6: Export should stream CSV that round-trips through the importer")
+    void testExportCsvRoundTrip() throws Exception {
+        // Given
+        MenuItemDto dto = new MenuItemDto(1L, "Caesar Salad", "Romaine, \"house\" dressing",
+                new BigDecimal("12.99"), "STARTER", null, true);
+        when(menuService.getCatalogSnapshot()).thenReturn(MenuCatalogSnapshot.of(1L, List.of(dto)));
+        when(menuRepository.findExistingNames(anyCollection())).thenReturn(List.of());
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        menuBulkService.exportMenuItems(out, ExportFormat.CSV);
+        MenuImportResultDto result = menuBulkService.importMenuItems(
+                new ByteArrayInputStream(out.toByteArray()), ExportFormat.CSV);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).startsWith("id,name,description,price,category,available,imageUrl\n");
+        assertThat(result.getImportedCount()).isEqualTo(1);
+        assertThat(captureBatches().get(0).get(0)[1]).isEqualTo("Romaine, \"house\" dressing");
+    }
+
+    @Test
+    @DisplayName("Test 7: JSON lines export should write one item per line")
+    void testExportJsonLines() throws Exception {
+        // Given
+        when(menuService.getCatalogSnapshot()).thenReturn(MenuCatalogSnapshot.of(1L, List.of(
+                new MenuItemDto(1L, "Caesar Salad", null, new BigDecimal("12.99"), "STARTER", null, true),
+                new MenuItemDto(2L, "Tiramisu", null, new BigDecimal("8.99"), "DESSERT", null, true))));
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        menuBulkService.exportMenuItems(out, ExportFormat.JSONL);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[1], MenuItemDto.class).getName()).isEqualTo("Tiramisu");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Test 8: Import should read the whole upload before opening one write transaction")
+    void testImportParsesBeforeTransaction() {
+        // Given: an upload that fails the test if it is read while a transaction is open
+        StringBuilder csv = new StringBuilder("name,price,category\n");
+        for (int i = 0; i < MenuBulkService.CHUNK_SIZE + 1; i++) {
+            csv.append("Item ").append(i).append(",12.00,MAIN\n");
+        }
+        InputStream upload = new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                verifyNoInteractions(transactionManager);
+                return super.read(b, off, len);
+            }
+        };
+        when(menuRepository.findExistingNames(anyCollection())).thenReturn(List.of());
+
+        // When
+        MenuImportResultDto result = menuBulkService.importMenuItems(upload, ExportFormat.CSV);
+
+        // Then: both chunks are written in the same transaction
+        assertThat(result.getImportedCount()).isEqualTo(MenuBulkService.CHUNK_SIZE + 1);
+        assertThat(captureBatches()).hasSize(2);
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    private List<List<Object[]>> captureBatches() {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MenuItemCreateRequestDto item(String name, String price, String category) {
+        MenuItemCreateRequestDto item = new MenuItemCreateRequestDto();
+        item.setName(name);
+        item.setPrice(new BigDecimal(price));
+        item.setCategory(category);
+        return item;
+    }
+}
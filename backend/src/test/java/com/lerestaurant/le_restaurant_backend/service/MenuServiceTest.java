@@ -1,8 +1,11 @@
 package com.lerestaurant.le_restaurant_backend.service;
 
+import com.lerestaurant.le_restaurant_backend.dto.CursorPageDto;
 import com.lerestaurant.le_restaurant_backend.dto.MenuItemCreateRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.MenuItemDto;
+import com.lerestaurant.le_restaurant_backend.dto.MenuItemFilterRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.MenuItemUpdateRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.MenuSearchResponseDto;
 import com.lerestaurant.le_restaurant_backend.entity.MenuItem;
 import com.lerestaurant.le_restaurant_backend.repository.MenuRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,12 +17,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -190,7 +195,7 @@ class MenuServiceTest {
         item2.setCategory("STARTER");
         
         List<MenuItem> items = Arrays.asList(testMenuItem, item2);
-        when(menuRepository.findByCategory("STARTER")).thenReturn(items);
+        when(menuRepository.findAll()).thenReturn(items);
         
         // When
         List<MenuItemDto> result = menuService.findByCategory("STARTER");
@@ -199,15 +204,21 @@ class MenuServiceTest {
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getCategory()).isEqualTo("STARTER");
         assertThat(result.get(1).getCategory()).isEqualTo("STARTER");
-        verify(menuRepository).findByCategory("STARTER");
+        verify(menuRepository).findAll();
+        verify(menuRepository, never()).findByCategory(anyString());
     }
     
     @Test
     @DisplayName("Test 9: Should search menu items by name")
     void shouldSearchMenuItemsByName() {
         // Given
-        List<MenuItem> items = Arrays.asList(testMenuItem);
-        when(menuRepository.findByNameContainingIgnoreCase("caesar")).thenReturn(items);
+        MenuItem item2 = new MenuItem();
+        item2.setId(2L);
+        item2.setName("Margherita Pizza");
+        item2.setCategory("MAIN");
+        
+        List<MenuItem> items = Arrays.asList(testMenuItem, item2);
+        when(menuRepository.findAll()).thenReturn(items);
         
         // When
         List<MenuItemDto> result = menuService.searchByName("caesar");
@@ -215,7 +226,7 @@ class MenuServiceTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getName()).containsIgnoringCase("caesar");
-        verify(menuRepository).findByNameContainingIgnoreCase("caesar");
+        verify(menuRepository).findAll();
     }
     
     @Test
@@ -227,8 +238,13 @@ class MenuServiceTest {
         availableItem.setName("Available Item");
         availableItem.setAvailable(true);
         
-        List<MenuItem> items = Arrays.asList(testMenuItem, availableItem);
-        when(menuRepository.findByAvailable(true)).thenReturn(items);
+        MenuItem unavailableItem = new MenuItem();
+        unavailableItem.setId(3L);
+        unavailableItem.setName("Sold Out Item");
+        unavailableItem.setAvailable(false);
+        
+        List<MenuItem> items = Arrays.asList(testMenuItem, availableItem, unavailableItem);
+        when(menuRepository.findAll()).thenReturn(items);
         
         // When
         List<MenuItemDto> result = menuService.findByAvailability(true);
@@ -236,7 +252,7 @@ class MenuServiceTest {
         // Then
         assertThat(result).hasSize(2);
         assertThat(result).allMatch(dto -> dto.isAvailable());
-        verify(menuRepository).findByAvailable(true);
+        verify(menuRepository, never()).findByAvailable(anyBoolean());
     }
     
     @Test
@@ -263,8 +279,13 @@ class MenuServiceTest {
     @DisplayName("Test 12: Should get all categories")
     void shouldGetAllCategories() {
         // Given
-        List<String> categories = Arrays.asList("STARTER", "MAIN", "DESSERT", "BEVERAGE");
-        when(menuRepository.findDistinctCategories()).thenReturn(categories);
+        List<MenuItem> items = Arrays.asList(
+            menuItem(1L, "Soup", "STARTER"),
+            menuItem(2L, "Steak", "MAIN"),
+            menuItem(3L, "Pasta", "MAIN"),
+            menuItem(4L, "Tiramisu", "DESSERT"),
+            menuItem(5L, "Lemonade", "BEVERAGE"));
+        when(menuRepository.findAll()).thenReturn(items);
         
         // When
         List<String> result = menuService.getAllCategories();
@@ -272,6 +293,211 @@ class MenuServiceTest {
         // Then
         assertThat(result).hasSize(4);
         assertThat(result).containsExactlyInAnyOrder("STARTER", "MAIN", "DESSERT", "BEVERAGE");
-        verify(menuRepository).findDistinctCategories();
+        verify(menuRepository, never()).findDistinctCategories();
+    }
+    
+    @Test
+    @DisplayName("Test 13: Should serve repeated reads from the catalog snapshot")
+    void shouldServeRepeatedReadsFromSnapshot() {
+        // Given
+        when(menuRepository.findAll()).thenReturn(Arrays.asList(testMenuItem));
+        
+        // When
+        menuService.findAllMenuItems();
+        menuService.findByCategory("STARTER");
+        menuService.searchByName("salad");
+        menuService.findByAvailability(true);
+        menuService.getAllCategories();
+        
+        // Then
+        verify(menuRepository, times(1)).findAll();
+    }
+    
+    @Test
+    @DisplayName("Test 14: Should rebuild the catalog snapshot after a mutation")
+    void shouldRebuildSnapshotAfterMutation() {
+        // Given
+        MenuItem newItem = menuItem(2L, "New Item", "MAIN");
+        when(menuRepository.findAll())
+            .thenReturn(Arrays.asList(testMenuItem))
+            .thenReturn(Arrays.asList(testMenuItem, newItem));
+        when(menuRepository.findByName(anyString())).thenReturn(Optional.empty());
+        when(menuRepository.save(any(MenuItem.class))).thenReturn(newItem);
+        
+        long initialVersion = menuService.getCatalogSnapshot().getVersion();
+        
+        // When
+        menuService.createMenuItem(createRequest);
+        List<MenuItemDto> result = menuService.findAllMenuItems();
+        
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(menuService.getCatalogSnapshot().getVersion()).isGreaterThan(initialVersion);
+        verify(menuRepository, times(2)).findAll();
+    }
+    
+    @Test
+    @DisplayName("Test 15: Should rank name matches above description matches")
+    void shouldRankNameMatchesFirst() {
+        // Given
+        MenuItem soup = menuItem(2L, "Tomato Soup", "STARTER");
+        soup.setDescription("Served with caesar croutons");
+        when(menuRepository.findAll()).thenReturn(Arrays.asList(soup, testMenuItem));
+        
+        // When
+        MenuSearchResponseDto result = menuService.searchMenuItems("caesar", 20, 0);
+        
+        // Then
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getItems()).extracting(MenuItemDto::getName)
+            .containsExactly("Caesar Salad", "Tomato Soup");
+    }
+    
+    @Test
+    @DisplayName("Test 16: Should match prefixes, typos and require every term")
+    void shouldMatchPrefixesAndTypos() {
+        // Given
+        MenuItem pizza = menuItem(2L, "Margherita Pizza", "MAIN");
+        MenuItem pasta = menuItem(3L, "Carbonara Pasta", "MAIN");
+        when(menuRepository.findAll()).thenReturn(Arrays.asList(testMenuItem, pizza, pasta));
+        
+        // When / Then
+        assertThat(menuService.searchMenuItems("marg", 20, 0).getItems())
+            .extracting(MenuItemDto::getName).containsExactly("Margherita Pizza");
+        assertThat(menuService.searchMenuItems("carbonra", 20, 0).getItems())
+            .extracting(MenuItemDto::getName).containsExactly("Carbonara Pasta");
+        assertThat(menuService.searchMenuItems("main pizza", 20, 0).getItems())
+            .extracting(MenuItemDto::getName).containsExactly("Margherita Pizza");
+        assertThat(menuService.searchMenuItems("sushi", 20, 0).getTotal()).isZero();
+        verify(menuRepository, times(1)).findAll();
+    }
+    
+    @Test
+    @DisplayName("Test 17: Should page search results with limit and offset")
+    void shouldPageSearchResults() {
+        // Given
+        when(menuRepository.findAll()).thenReturn(Arrays.asList(
+            menuItem(1L, "Apple Pie", "DESSERT"),
+            menuItem(2L, "Banana Split", "DESSERT"),
+            menuItem(3L, "Cheesecake", "DESSERT")));
+        
+        // When
+        MenuSearchResponseDto result = menuService.searchMenuItems("dessert", 2, 1);
+        
+        // Then
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getItems()).extracting(MenuItemDto::getName)
+            .containsExactly("Banana Split", "Cheesecake");
+        assertThatThrownBy(() -> menuService.searchMenuItems(" ", 20, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    @DisplayName("Test 18: Should combine category, availability, price and name filters")
+    void shouldCombineFilters() {
+        // Given
+        MenuItem steak = menuItem(2L, "Steak Frites", "MAIN");
+        steak.setPrice(new BigDecimal("32.00"));
+        MenuItem burger = menuItem(3L, "Steak Burger", "MAIN");
+        burger.setPrice(new BigDecimal("18.00"));
+        MenuItem soldOut = menuItem(4L, "Steak Tartare", "MAIN");
+        soldOut.setPrice(new BigDecimal("21.00"));
+        soldOut.setAvailable(false);
+        when(menuRepository.findAll()).thenReturn(Arrays.asList(testMenuItem, steak, burger, soldOut));
+        
+        MenuItemFilterRequestDto filter = new MenuItemFilterRequestDto();
+        filter.setCategory("MAIN");
+        filter.setAvailable(true);
+        filter.setMaxPrice(new BigDecimal("25.00"));
+        filter.setSearch("steak");
+        
+        // When
+        List<MenuItemDto> result = menuService.findMenuItems(filter);
+        
+        // Then
+        assertThat(result).extracting(MenuItemDto::getName).containsExactly("Steak Burger");
+    }
+    
+    @Test
+    @DisplayName("Test 19: Should page through filtered items with a keyset cursor")
+    void shouldPageWithKeysetCursor() {
+        // Given
+        when(menuRepository.findAll()).thenReturn(Arrays.asList(
+            menuItem(5L, "Tiramisu", "DESSERT"),
+            menuItem(1L, "Soup", "STARTER"),
+            menuItem(2L, "Steak", "MAIN"),
+            menuItem(3L, "Pasta", "MAIN"),
+            menuItem(4L, "Cheesecake", "DESSERT")));
+        
+        MenuItemFilterRequestDto filter = new MenuItemFilterRequestDto();
+        filter.setLimit(2);
+        
+        // When
+        CursorPageDto<MenuItemDto> first = menuService.browseMenuItems(filter);
+        filter.setCursor(first.getNextCursor());
+        CursorPageDto<MenuItemDto> second = menuService.browseMenuItems(filter);
+        filter.setCursor(second.getNextCursor());
+        CursorPageDto<MenuItemDto> third = menuService.browseMenuItems(filter);
+        
+        // Then
+        assertThat(first.getItems()).extracting(MenuItemDto::getName).containsExactly("Cheesecake", "Tiramisu");
+        assertThat(second.getItems()).extracting(MenuItemDto::getName).containsExactly("Pasta", "Steak");
+        assertThat(third.getItems()).extracting(MenuItemDto::getName).containsExactly("Soup");
+        assertThat(third.getNextCursor()).isNull();
+    }
+    
+    @Test
+    @DisplayName("Test 20: Should reject an invalid cursor or price range")
+    void shouldRejectInvalidBrowseRequests() {
+        // Given
+        MenuItemFilterRequestDto badCursor = new MenuItemFilterRequestDto();
+        badCursor.setCursor("not-a-cursor");
+        MenuItemFilterRequestDto badRange = new MenuItemFilterRequestDto();
+        badRange.setMinPrice(new BigDecimal("20.00"));
+        badRange.setMaxPrice(new BigDecimal("10.00"));
+        
+        // When/Then
+        assertThatThrownBy(() -> menuService.browseMenuItems(badCursor))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Invalid cursor");
+        assertThatThrownBy(() -> menuService.findMenuItems(badRange))
+            .isInstanceOf(IllegalArgumentException.class);
+        verify(menuRepository, never()).findAll();
+    }
+    
+    @Test
+    @DisplayName("Test 21: Should round-trip cursors past items without a category, and treat a blank cursor as the first page")
+    void shouldRoundTripCursorWithNullCategory() {
+        // Given: uncategorised items sort first
+        when(menuRepository.findAll()).thenReturn(Arrays.asList(
+            menuItem(1L, "Soup", "STARTER"),
+            menuItem(2L, "Bread", null),
+            menuItem(3L, "Olives", null),
+            menuItem(4L, "Cheesecake", "DESSERT")));
+        
+        MenuItemFilterRequestDto filter = new MenuItemFilterRequestDto();
+        filter.setLimit(1);
+        filter.setCursor(" ");
+        
+        // When
+        List<String> names = new ArrayList<>();
+        CursorPageDto<MenuItemDto> page;
+        do {
+            page = menuService.browseMenuItems(filter);
+            page.getItems().forEach(item -> names.add(item.getName()));
+            filter.setCursor(page.getNextCursor());
+        } while (page.getNextCursor() != null);
+        
+        // Then: every item exactly once, in browse order
+        assertThat(names).containsExactly("Bread", "Olives", "Cheesecake", "Soup");
+    }
+    
+    private MenuItem menuItem(Long id, String name, String category) {
+        MenuItem item = new MenuItem();
+        item.setId(id);
+        item.setName(name);
+        item.setCategory(category);
+        item.setAvailable(true);
+        return item;
     }
 }
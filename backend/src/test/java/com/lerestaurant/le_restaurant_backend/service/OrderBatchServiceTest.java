@@ -0,0 +1,164 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.dto.OrderBatchRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderBatchResultDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderCreateRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderItemRequestDto;
+import com.lerestaurant.le_restaurant_backend.entity.MenuItem;
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+import com.lerestaurant.le_restaurant_backend.entity.User;
+import com.lerestaurant.le_restaurant_backend.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Batch order submission for offline POS terminals (F105)
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({OrderBatchService.class, OrderService.class, KitchenQueue.class, SalesRollupService.class,
+         PricingService.class, MenuService.class, IdempotencyService.class, OrderStatusHistoryService.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@DisplayName("OrderBatchService Tests (F105)")
+class OrderBatchServiceTest {
+
+    private static final int BATCH_SIZE = 60;
+
+    @Autowired
+    private OrderBatchService orderBatchService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User customer;
+    private MenuItem soup;
+    private MenuItem bread;
+
+    @BeforeEach
+    void setUp() {
+        customer = new User();
+        customer.setEmail("pos@lerestaurant.com");
+        customer.setPasswordHash("hash");
+        customer.setFirstName("Point");
+        customer.setLastName("Ofsale");
+        entityManager.persist(customer);
+
+        soup = new MenuItem("Soup", "Soup", new BigDecimal("6.00"), "STARTER");
+        bread = new MenuItem("Bread", "Bread", new BigDecimal("2.50"), "SIDE");
+        entityManager.persist(soup);
+        entityManager.persist(bread);
+    }
+
+    @Test
+    @DisplayName("Test 1: A large batch should load references once and insert in batches, rejecting invalid orders individually")
+    void testBatchSubmission() {
+        // Given
+        List<OrderBatchRequestDto.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            entries.add(new OrderBatchRequestDto.Entry("till-1:" + i, order(customer.getId(), soup.getId(), bread.getId())));
+        }
+        entries.add(new OrderBatchRequestDto.Entry("till-1:unknown-item", order(customer.getId(), -1L)));
+        entries.add(new OrderBatchRequestDto.Entry("till-1:unknown-customer", order(-1L, soup.getId())));
+        entityManager.flush();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        OrderBatchResultDto result = orderBatchService.submitOrders(new OrderBatchRequestDto(entries));
+        entityManager.flush();
+
+        // Then
+        assertThat(result.getCreatedCount()).isEqualTo(BATCH_SIZE);
+        assertThat(result.getRejectedCount()).isEqualTo(2);
+        assertThat(result.getResults()).hasSize(BATCH_SIZE + 2);
+        assertThat(result.getResults().get(BATCH_SIZE).getError()).contains("Menu item not found");
+        assertThat(result.getResults().get(BATCH_SIZE + 1).getError()).contains("Customer not found");
+        assertThat(result.getResults().get(0).getOrder().getTotalAmount()).isEqualByComparingTo("9.35");
+        // One order, two items, one token and one status event row per order...
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(BATCH_SIZE * 5L);
+        // ...but lookups and inserts are a handful of batched statements, not one per row
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(30);
+    }
+
+    @Test
+    @DisplayName("Test 2: Resubmitting a batch should replay the created orders instead of creating them again")
+    void testResubmissionReplays() {
+        // Given
+        List<OrderBatchRequestDto.Entry> entries = List.of(
+            new OrderBatchRequestDto.Entry("till-2:1", order(customer.getId(), soup.getId())),
+            new OrderBatchRequestDto.Entry("till-2:2", order(customer.getId(), bread.getId())));
+        OrderBatchResultDto first = orderBatchService.submitOrders(new OrderBatchRequestDto(entries));
+        entityManager.flush();
+        entityManager.clear();
+        long orders = orderRepository.count();
+
+        // When
+        OrderBatchResultDto second = orderBatchService.submitOrders(new OrderBatchRequestDto(entries));
+
+        // Then
+        assertThat(second.getReplayedCount()).isEqualTo(2);
+        assertThat(second.getResults()).extracting(r -> r.getOrder().getId())
+            .containsExactlyElementsOf(first.getResults().stream().map(r -> r.getOrder().getId()).toList());
+        assertThat(orderRepository.count()).isEqualTo(orders);
+    }
+
+    @Test
+    @DisplayName("Test 3: Reused tokens with a different order and duplicate tokens in one batch should be rejected")
+    void testTokenMisuseRejected() {
+        // Given
+        orderBatchService.submitOrders(new OrderBatchRequestDto(List.of(
+            new OrderBatchRequestDto.Entry("till-3:1", order(customer.getId(), soup.getId())))));
+        entityManager.flush();
+
+        // When
+        OrderBatchResultDto result = orderBatchService.submitOrders(new OrderBatchRequestDto(List.of(
+            new OrderBatchRequestDto.Entry("till-3:1", order(customer.getId(), bread.getId())),
+            new OrderBatchRequestDto.Entry("till-3:2", order(customer.getId(), bread.getId())),
+            new OrderBatchRequestDto.Entry("till-3:2", order(customer.getId(), bread.getId())))));
+
+        // Then
+        assertThat(result.getResults()).extracting(OrderBatchResultDto.Result::getOutcome).containsExactly(
+            OrderBatchResultDto.Outcome.REJECTED, OrderBatchResultDto.Outcome.CREATED, OrderBatchResultDto.Outcome.REJECTED);
+        assertThat(result.getResults().get(0).getError()).contains("different order");
+        assertThat(result.getResults().get(2).getError()).contains("more than once");
+    }
+
+    private OrderCreateRequestDto order(Long customerId, Long... menuItemIds) {
+        List<OrderItemRequestDto> items = new ArrayList<>();
+        for (Long menuItemId : menuItemIds) {
+            OrderItemRequestDto item = new OrderItemRequestDto();
+            item.setMenuItemId(menuItemId);
+            item.setQuantity(1);
+            items.add(item);
+        }
+        OrderCreateRequestDto request = new OrderCreateRequestDto();
+        request.setCustomerId(customerId);
+        request.setOrderType(Order.OrderType.TAKEOUT);
+        request.setItems(items);
+        return request;
+    }
+}
@@ -0,0 +1,140 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.dto.OrderCreateRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderItemRequestDto;
+import com.lerestaurant.le_restaurant_backend.entity.MenuItem;
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+import com.lerestaurant.le_restaurant_backend.entity.User;
+import com.lerestaurant.le_restaurant_backend.repository.MenuItemRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark: 40-line banquet order through OrderService.createOrder (F105)
+ *
+ * Excluded from the regular test run; execute with {@code gradle benchmark}.
+ * Compares the former per-line findById lookups with the single findAllById
+ * used by createOrder, then reports statements and latency for the full call.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@Import({OrderService.class, KitchenQueue.class, SalesRollupService.class, PricingService.class,
+         MenuService.class, OrderStatusHistoryService.class})
+@DisplayName("Order creation benchmark")
+class OrderCreationBenchmarkTest {
+
+    private static final int ORDER_LINES = 40;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 500;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Banquet order should resolve menu items with one query")
+    void benchmarkBanquetOrder() {
+        OrderCreateRequestDto request = banquetOrder();
+        List<Long> ids = request.getItems().stream().map(OrderItemRequestDto::getMenuItemId).toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Result perLine = measure(statistics, () -> ids.forEach(id -> menuItemRepository.findById(id).orElseThrow()));
+        Result bulk = measure(statistics, () -> menuItemRepository.findAllById(ids));
+        Result createOrder = measure(statistics, () -> orderService.createOrder(request));
+
+        System.out.printf("Menu item lookups, %d lines%n", ORDER_LINES);
+        System.out.printf("  findById per line: %3d statements/op %,10d ns/op%n", perLine.statementsPerOp, perLine.nanosPerOp);
+        System.out.printf("  findAllById:       %3d statements/op %,10d ns/op%n", bulk.statementsPerOp, bulk.nanosPerOp);
+        System.out.printf("createOrder:         %3d statements/op %,10d ns/op%n", createOrder.statementsPerOp, createOrder.nanosPerOp);
+
+        assertThat(bulk.statementsPerOp).isEqualTo(1);
+        assertThat(perLine.statementsPerOp).isEqualTo(ORDER_LINES);
+    }
+
+    private Result measure(Statistics statistics, Runnable operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runIsolated(operation);
+        }
+        statistics.clear();
+        long elapsed = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            runIsolated(operation);
+            elapsed += System.nanoTime() - start;
+        }
+        // Sequence fetches for new ids happen once per 50 rows and are rounded away
+        return new Result(statistics.getPrepareStatementCount() / MEASURED_ITERATIONS, elapsed / MEASURED_ITERATIONS);
+    }
+
+    /**
+     * Flush and clear around each call so every iteration hits the database
+     */
+    private void runIsolated(Runnable operation) {
+        operation.run();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private OrderCreateRequestDto banquetOrder() {
+        User customer = new User();
+        customer.setEmail("banquet@lerestaurant.com");
+        customer.setPasswordHash("hash");
+        customer.setFirstName("Banquet");
+        customer.setLastName("Host");
+        entityManager.persist(customer);
+
+        List<OrderItemRequestDto> items = new ArrayList<>(ORDER_LINES);
+        for (int i = 0; i < ORDER_LINES; i++) {
+            MenuItem menuItem = new MenuItem("Banquet Dish " + i, "Course " + i,
+                    new BigDecimal("15.00").add(BigDecimal.valueOf(i % 5)), "BANQUET");
+            entityManager.persist(menuItem);
+            OrderItemRequestDto item = new OrderItemRequestDto();
+            item.setMenuItemId(menuItem.getId());
+            item.setQuantity(1 + i % 3);
+            items.add(item);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        OrderCreateRequestDto request = new OrderCreateRequestDto();
+        request.setCustomerId(customer.getId());
+        request.setOrderType(Order.OrderType.DINE_IN);
+        request.setItems(items);
+        return request;
+    }
+
+    private static final class Result {
+        private final long statementsPerOp;
+        private final long nanosPerOp;
+
+        private Result(long statementsPerOp, long nanosPerOp) {
+            this.statementsPerOp = statementsPerOp;
+            this.nanosPerOp = nanosPerOp;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+import com.lerestaurant.le_restaurant_backend.entity.User;
+import com.lerestaurant.le_restaurant_backend.util.ExportFormat;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Streaming order export (F105)
+ *
+ * Orders in a half-open time range are streamed oldest first as CSV or JSON
+ * lines, across more than one persistence context chunk.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+@DataJpaTest
+@Import(OrderExportService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@DisplayName("OrderExportService Tests (F105)")
+class OrderExportServiceTest {
+
+    private static final OffsetDateTime MONTH_START = OffsetDateTime.of(2025, 3, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime MONTH_END = MONTH_START.plusMonths(1);
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User customer;
+
+    @BeforeEach
+    void setUp() {
+        customer = new User();
+        customer.setEmail("accounting@lerestaurant.com");
+        customer.setPasswordHash("hash");
+        customer.setFirstName("Ada");
+        customer.setLastName("Ledger");
+        entityManager.persist(customer);
+    }
+
+    @Test
+    @DisplayName("Test 1: CSV export should stream every order in the range across chunks, oldest first")
+    void testExportCsvAcrossChunks() throws Exception {
+        // Given
+        int inRange = OrderExportService.CHUNK_SIZE + 3;
+        for (int i = 0; i < inRange; i++) {
+            persistOrder(MONTH_START.plusMinutes(i), "10.00");
+        }
+        persistOrder(MONTH_START.minusSeconds(1), "99.00");
+        persistOrder(MONTH_END, "99.00");
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = orderExportService.exportOrders(out, MONTH_START, MONTH_END, ExportFormat.CSV);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(inRange);
+        assertThat(lines).hasSize(inRange + 1);
+        assertThat(lines[0]).startsWith("id,orderTime,customerId,customerName");
+        assertThat(lines[1]).contains("Ada Ledger", "accounting@lerestaurant.com", "10.00");
+        assertThat(lines).noneMatch(line -> line.contains("99.00"));
+    }
+
+    @Test
+    @DisplayName("Test 2: JSON lines export should write one order object per line")
+    void testExportJsonLines() throws Exception {
+        // Given
+        persistOrder(MONTH_START.plusDays(1), "12.50");
+        persistOrder(MONTH_START.plusDays(2), "20.00");
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        orderExportService.exportOrders(out, MONTH_START, MONTH_END, ExportFormat.JSONL);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("customerId").asLong()).isEqualTo(customer.getId());
+        assertThat(second.get("totalAmount").decimalValue()).isEqualByComparingTo("20.00");
+        assertThat(second.get("status").asText()).isEqualTo("PENDING");
+    }
+
+    @Test
+    @DisplayName("Test 3: Inverted range should be rejected")
+    void testInvertedRangeRejected() {
+        assertThatThrownBy(() -> orderExportService.exportOrders(
+                new ByteArrayOutputStream(), MONTH_END, MONTH_START, ExportFormat.CSV))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void persistOrder(OffsetDateTime orderTime, String total) {
+        Order order = new Order();
+        order.setCustomer(customer);
+        order.setOrderTime(orderTime);
+        order.setTotalAmount(new BigDecimal(total));
+        entityManager.persist(order);
+    }
+}
@@ -0,0 +1,292 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.dto.CursorPageDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderBulkStatusRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderBulkStatusResultDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderCreateRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderItemRequestDto;
+import com.lerestaurant.le_restaurant_backend.entity.MenuItem;
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+import com.lerestaurant.le_restaurant_backend.entity.RestaurantTable;
+import com.lerestaurant.le_restaurant_backend.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JDBC statement budget for OrderService (F105)
+ *
+ * Entity ids come from pooled-lo sequences, so Hibernate can batch the order
+ * and order item inserts; list endpoints load orders, customers, tables, items
+ * and menu items in a fixed number of queries. Counts are read from Hibernate
+ * statistics; every prepared statement is one database round trip (a batch
+ * counts once).
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({OrderService.class, KitchenQueue.class, SalesRollupService.class, PricingService.class,
+         MenuService.class, OrderStatusHistoryService.class})
+@DisplayName("OrderService JDBC Statement Count (F105)")
+class OrderServiceStatementCountTest {
+
+    private static final int ORDER_LINES = 8;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User customer;
+    private OrderCreateRequestDto request;
+
+    @BeforeEach
+    void setUp() {
+        customer = persistCustomer("statements@lerestaurant.com");
+
+        List<OrderItemRequestDto> items = new ArrayList<>();
+        for (int i = 0; i < ORDER_LINES; i++) {
+            MenuItem menuItem = new MenuItem("Dish " + i, "Dish " + i, new BigDecimal("10.00"), "MAIN");
+            entityManager.persist(menuItem);
+            OrderItemRequestDto item = new OrderItemRequestDto();
+            item.setMenuItemId(menuItem.getId());
+            item.setQuantity(1);
+            items.add(item);
+        }
+
+        request = new OrderCreateRequestDto();
+        request.setCustomerId(customer.getId());
+        request.setOrderType(Order.OrderType.TAKEOUT);
+        request.setItems(items);
+
+        // Warm-up order: fetches the first id block for orders, order_items and status events
+        orderService.createOrder(request);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Order inserts should be batched: one statement for the order, one for all its items")
+    void testCreateOrderBatchesInserts() {
+        // When
+        OrderDto created = orderService.createOrder(request);
+        entityManager.flush();
+
+        // Then
+        assertThat(created.getItems()).hasSize(ORDER_LINES);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2 + ORDER_LINES);
+        // 1 customer lookup + 1 menu item lookup + 1 order insert + 1 batched order_items insert
+        // + 1 status event insert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("getAllOrders should use two queries however many orders exist")
+    void testGetAllOrdersQueryCount() {
+        // Given
+        persistOrders(6);
+
+        // When
+        List<OrderDto> orders = orderService.getAllOrders();
+
+        // Then
+        assertThat(orders).hasSize(7);
+        assertListLoadedCompletely(orders);
+        // 1 order query (customer and table joined) + 1 items query (menu items joined)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getOrdersByCustomerId should use two queries however many orders exist")
+    void testGetOrdersByCustomerIdQueryCount() {
+        // Given
+        persistOrders(6);
+
+        // When
+        List<OrderDto> orders = orderService.getOrdersByCustomerId(customer.getId());
+
+        // Then
+        assertThat(orders).hasSize(4);
+        assertListLoadedCompletely(orders);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getOrdersByStatus should use two queries however many orders exist")
+    void testGetOrdersByStatusQueryCount() {
+        // Given
+        persistOrders(6);
+
+        // When
+        List<OrderDto> orders = orderService.getOrdersByStatus(Order.OrderStatus.CONFIRMED);
+
+        // Then
+        assertThat(orders).hasSize(3);
+        assertListLoadedCompletely(orders);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("List queries should return nothing else when no order matches")
+    void testEmptyListQueryCount() {
+        // When
+        List<OrderDto> orders = orderService.getOrdersByStatus(Order.OrderStatus.CANCELLED);
+
+        // Then
+        assertThat(orders).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Cursor pages should walk every order once, newest first, at two queries per page")
+    void testOrdersPageWalk() {
+        // Given
+        persistOrders(6);
+
+        // When
+        List<OrderDto> seen = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            statistics.clear();
+            CursorPageDto<OrderDto> page = orderService.getOrdersPage(cursor, 3);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            assertListLoadedCompletely(page.getItems());
+            seen.addAll(page.getItems());
+            pageSizes.add(page.getItems().size());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Then
+        assertThat(pageSizes).containsExactly(3, 3, 1);
+        assertThat(seen).extracting(OrderDto::getId).doesNotHaveDuplicates();
+        assertThat(seen).isSortedAccordingTo(
+            Comparator.comparing(OrderDto::getOrderTime).thenComparing(OrderDto::getId).reversed());
+    }
+
+    @Test
+    @DisplayName("Bulk status transitions should read once, update eligible orders with one UPDATE and batch their events")
+    void testBulkStatusTransition() {
+        // Given: orders 0, 2, 4 are PENDING and 1, 3, 5 CONFIRMED
+        persistOrders(6);
+        List<Long> ids = orderService.getAllOrders().stream().map(OrderDto::getId).collect(Collectors.toList());
+        entityManager.clear();
+        statistics.clear();
+        Set<Long> requested = new HashSet<>(ids);
+        requested.add(-1L);
+
+        // When: CONFIRMED -> PREPARING is allowed, PENDING -> COMPLETED is not
+        OrderBulkStatusResultDto result = orderService.updateOrderStatuses(
+            new OrderBulkStatusRequestDto(requested, Order.OrderStatus.PREPARING));
+
+        entityManager.flush();
+
+        // Then: 1 status read + 1 UPDATE + 1 batched status event insert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(result.getUpdatedCount()).isEqualTo(6);
+        assertThat(result.getResults()).first().satisfies(r ->
+            assertThat(r.getOutcome()).isEqualTo(OrderBulkStatusResultDto.Outcome.NOT_FOUND));
+        assertThat(orderService.getOrdersByStatus(Order.OrderStatus.PREPARING)).hasSize(6);
+
+        OrderBulkStatusResultDto completed = orderService.updateOrderStatuses(
+            new OrderBulkStatusRequestDto(new HashSet<>(ids.subList(0, 2)), Order.OrderStatus.COMPLETED));
+        assertThat(completed.getUpdatedCount()).isZero();
+        assertThat(completed.getResults()).extracting(OrderBulkStatusResultDto.Result::getOutcome)
+            .containsOnly(OrderBulkStatusResultDto.Outcome.INVALID_TRANSITION);
+    }
+
+    @Test
+    @DisplayName("Bulk completion should set completedAt and leave other orders alone")
+    void testBulkCompletionSetsCompletedAt() {
+        // Given
+        persistOrders(2);
+        List<Long> ids = orderService.getAllOrders().stream().map(OrderDto::getId).collect(Collectors.toList());
+        orderService.updateOrderStatuses(new OrderBulkStatusRequestDto(new HashSet<>(ids), Order.OrderStatus.PREPARING));
+        orderService.updateOrderStatuses(new OrderBulkStatusRequestDto(new HashSet<>(ids), Order.OrderStatus.READY));
+
+        // When
+        OrderBulkStatusResultDto result = orderService.updateOrderStatuses(
+            new OrderBulkStatusRequestDto(Set.of(ids.get(0)), Order.OrderStatus.COMPLETED));
+
+        // Then
+        assertThat(result.getUpdatedCount()).isEqualTo(1);
+        assertThat(result.getResults()).singleElement().satisfies(r ->
+            assertThat(r.getPreviousStatus()).isEqualTo(Order.OrderStatus.READY));
+        assertThat(orderService.getOrderById(ids.get(0)).getCompletedAt()).isNotNull();
+        assertThat(orderService.getOrderById(ids.get(1)).getCompletedAt()).isNull();
+        assertThat(orderService.getOrderById(ids.get(1)).getStatus()).isEqualTo(Order.OrderStatus.READY);
+    }
+
+    /**
+     * Add orders alternating between two customers and two tables; every
+     * second order is CONFIRMED. The persistence context is cleared afterwards.
+     */
+    private void persistOrders(int count) {
+        User otherCustomer = persistCustomer("other@lerestaurant.com");
+        RestaurantTable[] tables = {persistTable("T1"), persistTable("T2")};
+        for (int i = 0; i < count; i++) {
+            request.setCustomerId(i % 2 == 0 ? customer.getId() : otherCustomer.getId());
+            request.setTableId(tables[i % 2].getId());
+            OrderDto created = orderService.createOrder(request);
+            if (i % 2 == 1) {
+                orderService.updateOrderStatus(created.getId(), Order.OrderStatus.CONFIRMED);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private void assertListLoadedCompletely(List<OrderDto> orders) {
+        for (OrderDto order : orders) {
+            assertThat(order.getCustomerName()).isNotBlank();
+            assertThat(order.getItems()).hasSize(ORDER_LINES);
+            assertThat(order.getItems()).allSatisfy(item -> assertThat(item.getMenuItemName()).startsWith("Dish "));
+        }
+    }
+
+    private User persistCustomer(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPasswordHash("hash");
+        user.setFirstName("Statement");
+        user.setLastName("Counter");
+        entityManager.persist(user);
+        return user;
+    }
+
+    private RestaurantTable persistTable(String tableNumber) {
+        RestaurantTable table = new RestaurantTable();
+        table.setTableNumber(tableNumber);
+        table.setCapacity(4);
+        entityManager.persist(table);
+        return table;
+    }
+}
@@ -3,8 +3,11 @@ package com.lerestaurant.le_restaurant_backend.service;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -14,23 +17,30 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.lerestaurant.le_restaurant_backend.dto.OrderBulkStatusRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderBulkStatusResultDto;
 import com.lerestaurant.le_restaurant_backend.dto.OrderCreateRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.OrderDto;
 import com.lerestaurant.le_restaurant_backend.dto.OrderItemRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderUpdateRequestDto;
 import com.lerestaurant.le_restaurant_backend.entity.MenuItem;
 import com.lerestaurant.le_restaurant_backend.entity.Order;
 import com.lerestaurant.le_restaurant_backend.entity.User;
 import com.lerestaurant.le_restaurant_backend.repository.MenuItemRepository;
 import com.lerestaurant.le_restaurant_backend.repository.OrderRepository;
 import com.lerestaurant.le_restaurant_backend.repository.UserRepository;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 /**
  * OrderService Unit Tests
@@ -53,6 +63,18 @@ class OrderServiceTest {
     @Mock
     private MenuItemRepository menuItemRepository;
 
+    @Mock
+    private KitchenQueue kitchenQueue;
+
+    @Mock
+    private SalesRollupService salesRollupService;
+
+    @Mock
+    private PricingService pricingService;
+
+    @Mock
+    private OrderStatusHistoryService statusHistoryService;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -86,6 +108,11 @@ class OrderServiceTest {
         testOrder.setTotalAmount(new BigDecimal("40.00"));
         testOrder.setStatus(Order.OrderStatus.PENDING);
         testOrder.setOrderTime(OffsetDateTime.now());
+
+        // No pricing rules: every item at its menu price with the default tax rate
+        lenient().when(pricingService.pricingFor(any())).thenAnswer(invocation -> PricingTable.compile(
+            0L, 0L, new ArrayList<>(invocation.<Collection<MenuItem>>getArgument(0)), List.of(),
+            PricingService.DEFAULT_TAX_RATE));
     }
 
     @Test
@@ -101,7 +128,7 @@ class OrderServiceTest {
         requestDto.setItems(List.of(itemDto));
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
-        when(menuItemRepository.findById(1L)).thenReturn(Optional.of(testMenuItem));
+        when(menuItemRepository.findAllById(Set.of(1L))).thenReturn(List.of(testMenuItem));
         when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
 
         // Act
@@ -142,7 +169,7 @@ class OrderServiceTest {
         requestDto.setItems(List.of(itemDto));
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
-        when(menuItemRepository.findById(999L)).thenReturn(Optional.empty());
+        when(menuItemRepository.findAllById(Set.of(999L))).thenReturn(List.of());
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -153,6 +180,64 @@ class OrderServiceTest {
         verify(orderRepository, never()).save(any(Order.class));
     }
 
+    @Test
+    void testCreateOrder_ResolvesMenuItemsInOneQuery() {
+        // Arrange
+        MenuItem salad = new MenuItem();
+        salad.setId(2L);
+        salad.setName("Test Salad");
+        salad.setPrice(new BigDecimal("12.50"));
+        salad.setAvailable(true);
+
+        OrderCreateRequestDto requestDto = new OrderCreateRequestDto();
+        requestDto.setCustomerId(1L);
+        requestDto.setItems(List.of(orderLine(1L, 2), orderLine(2L, 1), orderLine(1L, 1)));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(menuItemRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(testMenuItem, salad));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        OrderDto result = orderService.createOrder(requestDto);
+
+        // Assert
+        assertEquals(3, result.getItems().size());
+        assertEquals(0, new BigDecimal("72.50").compareTo(result.getSubtotal()));
+        assertEquals(0, new BigDecimal("7.25").compareTo(result.getTaxAmount()));
+        verify(menuItemRepository, times(1)).findAllById(any());
+        verify(menuItemRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testCreateOrder_ReportsAllUnavailableItems() {
+        // Arrange
+        MenuItem soldOut = new MenuItem();
+        soldOut.setId(2L);
+        soldOut.setName("Sold Out Soup");
+        soldOut.setPrice(new BigDecimal("9.00"));
+        soldOut.setAvailable(false);
+        MenuItem offMenu = new MenuItem();
+        offMenu.setId(3L);
+        offMenu.setName("Seasonal Tart");
+        offMenu.setPrice(new BigDecimal("7.00"));
+        offMenu.setAvailable(false);
+
+        OrderCreateRequestDto requestDto = new OrderCreateRequestDto();
+        requestDto.setCustomerId(1L);
+        requestDto.setItems(List.of(orderLine(1L, 1), orderLine(2L, 1), orderLine(3L, 1)));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(menuItemRepository.findAllById(Set.of(1L, 2L, 3L))).thenReturn(List.of(testMenuItem, soldOut, offMenu));
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            orderService.createOrder(requestDto);
+        });
+
+        assertEquals("Menu item not available: Sold Out Soup, Seasonal Tart", exception.getMessage());
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
     @Test
     void testCreateOrder_EmptyItems() {
         // Arrange
@@ -224,4 +309,79 @@ class OrderServiceTest {
         assertTrue(exception.getMessage().contains("Order not found"));
         verify(orderRepository, never()).save(any(Order.class));
     }
+
+    @Test
+    void testUpdateOrderStatus_InvalidTransitionRejected() {
+        // Arrange
+        testOrder.setStatus(Order.OrderStatus.COMPLETED);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+            orderService.updateOrderStatus(1L, Order.OrderStatus.PENDING);
+        });
+
+        assertTrue(exception.getMessage().contains("COMPLETED to PENDING"));
+        assertEquals(Order.OrderStatus.COMPLETED, testOrder.getStatus());
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    void testUpdateOrder_StaleVersionRejected() {
+        // Arrange
+        testOrder.setVersion(3L);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(testOrder));
+        OrderUpdateRequestDto requestDto = new OrderUpdateRequestDto();
+        requestDto.setSpecialInstructions("No onions");
+        requestDto.setVersion(2L);
+
+        // Act & Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> {
+            orderService.updateOrder(1L, requestDto);
+        });
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    void testUpdateOrderStatuses_OrderMovedToTargetConcurrentlyCountedOnce() {
+        // Arrange: order 2 was confirmed by another request before this one locked it
+        when(orderRepository.findStatusesByIdInForUpdate(any())).thenReturn(List.<Object[]>of(
+            new Object[] {1L, Order.OrderStatus.PENDING, 3L}, new Object[] {2L, Order.OrderStatus.CONFIRMED, 5L}));
+        when(orderRepository.updateStatusWhereStatusIn(any(), any(), any(), any())).thenReturn(1);
+
+        // Act
+        OrderBulkStatusResultDto result = orderService.updateOrderStatuses(
+            new OrderBulkStatusRequestDto(Set.of(1L, 2L), Order.OrderStatus.CONFIRMED));
+
+        // Assert: only order 1 is recorded as changed by this request
+        assertEquals(1, result.getUpdatedCount());
+        assertEquals(OrderBulkStatusResultDto.Outcome.UNCHANGED, result.getResults().get(1).getOutcome());
+        verify(salesRollupService).recordStatusChanges(List.of(1L), Order.OrderStatus.CONFIRMED);
+        verify(statusHistoryService).recordStatusChanges(eq(List.of(1L)), any(), eq(Order.OrderStatus.CONFIRMED), any());
+        verify(kitchenQueue).publishStatusChange(Map.of(1L, 4L), Order.OrderStatus.CONFIRMED);
+    }
+
+    @Test
+    void testUpdateOrderStatuses_ShortUpdateRecordsNothing() {
+        // Arrange: the UPDATE misses order 2 although it was read as PENDING
+        when(orderRepository.findStatusesByIdInForUpdate(any())).thenReturn(List.<Object[]>of(
+            new Object[] {1L, Order.OrderStatus.PENDING, 3L}, new Object[] {2L, Order.OrderStatus.PENDING, 5L}));
+        when(orderRepository.updateStatusWhereStatusIn(any(), any(), any(), any())).thenReturn(1);
+
+        // Act & Assert: the transaction rolls back instead of recording either order
+        assertThrows(IllegalStateException.class, () -> {
+            orderService.updateOrderStatuses(
+                new OrderBulkStatusRequestDto(Set.of(1L, 2L), Order.OrderStatus.CONFIRMED));
+        });
+        verify(salesRollupService, never()).recordStatusChanges(any(), any());
+        verify(statusHistoryService, never()).recordStatusChanges(any(), any(), any(), any());
+        verify(kitchenQueue, never()).publishStatusChange(any(), any());
+    }
+
+    private OrderItemRequestDto orderLine(Long menuItemId, int quantity) {
+        OrderItemRequestDto itemDto = new OrderItemRequestDto();
+        itemDto.setMenuItemId(menuItemId);
+        itemDto.setQuantity(quantity);
+        return itemDto;
+    }
 }
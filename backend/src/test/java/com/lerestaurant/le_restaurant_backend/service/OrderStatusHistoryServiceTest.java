@@ -0,0 +1,149 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.dto.OrderBulkStatusRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderCreateRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderItemRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderStageLatencyReportDto;
+import com.lerestaurant.le_restaurant_backend.dto.OrderStatusEventDto;
+import com.lerestaurant.le_restaurant_backend.entity.MenuItem;
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+import com.lerestaurant.le_restaurant_backend.entity.OrderStatusEvent;
+import com.lerestaurant.le_restaurant_backend.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Order status event log and stage latencies (F105)
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+@DataJpaTest
+@Import({OrderService.class, KitchenQueue.class, SalesRollupService.class, PricingService.class,
+         MenuService.class, OrderStatusHistoryService.class})
+@DisplayName("OrderStatusHistoryService Tests (F105)")
+class OrderStatusHistoryServiceTest {
+
+    @Autowired
+    private OrderStatusHistoryService statusHistoryService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Test 1: Creation, single and bulk status changes should each append one event")
+    void testStatusChangesAppendEvents() {
+        // Given
+        OrderDto order = orderService.createOrder(orderRequest());
+
+        // When
+        orderService.updateOrderStatus(order.getId(), Order.OrderStatus.CONFIRMED);
+        orderService.updateOrderStatus(order.getId(), Order.OrderStatus.CONFIRMED);
+        orderService.updateOrderStatuses(new OrderBulkStatusRequestDto(Set.of(order.getId()), Order.OrderStatus.PREPARING));
+        orderService.updateOrderStatus(order.getId(), Order.OrderStatus.READY);
+
+        // Then: the unchanged CONFIRMED update records nothing
+        List<OrderStatusEventDto> history = statusHistoryService.getOrderHistory(order.getId());
+        assertThat(history).extracting(OrderStatusEventDto::getFromStatus)
+            .containsExactly(null, Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED, Order.OrderStatus.PREPARING);
+        assertThat(history).extracting(OrderStatusEventDto::getToStatus)
+            .containsExactly(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED,
+                             Order.OrderStatus.PREPARING, Order.OrderStatus.READY);
+        assertThat(history).extracting(OrderStatusEventDto::getOccurredAt).isSorted();
+    }
+
+    @Test
+    @DisplayName("Test 2: Stage percentiles should cover stages that ended in the window, wherever they began")
+    void testStageLatencies() {
+        // Given: ten orders wait 1..10 minutes to be confirmed, then 5 minutes to be prepared
+        OffsetDateTime noon = OffsetDateTime.of(2025, 5, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+        for (long k = 1; k <= 10; k++) {
+            event(k, null, Order.OrderStatus.PENDING, noon);
+            event(k, Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED, noon.plusMinutes(k));
+            event(k, Order.OrderStatus.CONFIRMED, Order.OrderStatus.PREPARING, noon.plusMinutes(k + 5));
+        }
+        // Preparing since before the window, ready inside it
+        event(11L, Order.OrderStatus.CONFIRMED, Order.OrderStatus.PREPARING, noon.minusMinutes(60));
+        event(11L, Order.OrderStatus.PREPARING, Order.OrderStatus.READY, noon.plusMinutes(30));
+        // Entirely before the window
+        event(12L, Order.OrderStatus.PREPARING, Order.OrderStatus.READY, noon.minusHours(2));
+        event(12L, Order.OrderStatus.READY, Order.OrderStatus.COMPLETED, noon.minusHours(1));
+        // History starts inside the window; its CONFIRMED stage ends after it
+        event(13L, Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED, noon.plusMinutes(50));
+        event(13L, Order.OrderStatus.CONFIRMED, Order.OrderStatus.PREPARING, noon.plusMinutes(70));
+
+        // When
+        OrderStageLatencyReportDto report = statusHistoryService.getStageLatencies(noon, noon.plusHours(1));
+
+        // Then
+        assertThat(report.getStages()).extracting(OrderStageLatencyReportDto.Stage::getStatus)
+            .containsExactly(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED, Order.OrderStatus.PREPARING);
+        OrderStageLatencyReportDto.Stage pending = report.getStages().get(0);
+        assertThat(pending.getCount()).isEqualTo(10);
+        assertThat(pending.getP50Millis()).isEqualTo(5 * 60_000L);
+        assertThat(pending.getP90Millis()).isEqualTo(9 * 60_000L);
+        assertThat(pending.getP99Millis()).isEqualTo(10 * 60_000L);
+        assertThat(pending.getMaxMillis()).isEqualTo(10 * 60_000L);
+        OrderStageLatencyReportDto.Stage confirmed = report.getStages().get(1);
+        assertThat(confirmed.getCount()).isEqualTo(10);
+        assertThat(confirmed.getP50Millis()).isEqualTo(5 * 60_000L);
+        assertThat(confirmed.getMaxMillis()).isEqualTo(5 * 60_000L);
+        OrderStageLatencyReportDto.Stage preparing = report.getStages().get(2);
+        assertThat(preparing.getCount()).isEqualTo(1);
+        assertThat(preparing.getP50Millis()).isEqualTo(90 * 60_000L);
+    }
+
+    @Test
+    @DisplayName("Test 3: Invalid ranges and unknown orders should be rejected")
+    void testInvalidRequestsRejected() {
+        OffsetDateTime now = OffsetDateTime.now();
+
+        assertThatThrownBy(() -> statusHistoryService.getStageLatencies(now, now.minusHours(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> statusHistoryService.getOrderHistory(-1L))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("Order not found");
+        assertThat(OrderStatusHistoryService.percentile(new long[] {7}, 99)).isEqualTo(7);
+    }
+
+    private void event(Long orderId, Order.OrderStatus from, Order.OrderStatus to, OffsetDateTime at) {
+        entityManager.persist(new OrderStatusEvent(orderId, from, to, at));
+    }
+
+    private OrderCreateRequestDto orderRequest() {
+        User customer = new User();
+        customer.setEmail("history@lerestaurant.com");
+        customer.setPasswordHash("hash");
+        customer.setFirstName("Status");
+        customer.setLastName("History");
+        entityManager.persist(customer);
+        MenuItem soup = new MenuItem("Soup", "Soup", new BigDecimal("6.00"), "STARTER");
+        entityManager.persist(soup);
+
+        OrderItemRequestDto item = new OrderItemRequestDto();
+        item.setMenuItemId(soup.getId());
+        item.setQuantity(1);
+        OrderCreateRequestDto request = new OrderCreateRequestDto();
+        request.setCustomerId(customer.getId());
+        request.setOrderType(Order.OrderType.TAKEOUT);
+        request.setItems(List.of(item));
+        return request;
+    }
+}
@@ -50,6 +50,15 @@ class PaymentServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private KitchenQueue kitchenQueue;
+
+    @Mock
+    private SalesRollupService salesRollupService;
+
+    @Mock
+    private OrderStatusHistoryService statusHistoryService;
+
     @InjectMocks
     private PaymentService paymentService;
 
@@ -0,0 +1,197 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.dto.PricingRuleRequestDto;
+import com.lerestaurant.le_restaurant_backend.entity.MenuItem;
+import com.lerestaurant.le_restaurant_backend.entity.PricingRule;
+import com.lerestaurant.le_restaurant_backend.repository.MenuItemRepository;
+import com.lerestaurant.le_restaurant_backend.repository.PricingRuleRepository;
+import com.lerestaurant.le_restaurant_backend.util.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Tests for PricingService and PricingTable (F105)
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PricingService Tests (F105)")
+class PricingServiceTest {
+
+    @Mock
+    private PricingRuleRepository pricingRuleRepository;
+
+    @Mock
+    private MenuItemRepository menuItemRepository;
+
+    @Mock
+    private MenuService menuService;
+
+    @InjectMocks
+    private PricingService pricingService;
+
+    private MenuItem burger;
+    private MenuItem fries;
+    private MenuItem beer;
+    private List<PricingRule> rules;
+
+    @BeforeEach
+    void setUp() {
+        burger = menuItem(1L, "12.00", "MAIN");
+        fries = menuItem(2L, "4.00", "SIDE");
+        beer = menuItem(3L, "6.00", "DRINKS");
+        rules = new ArrayList<>();
+        rules.add(rule(PricingRule.RuleType.TAX, r -> {
+            r.setCategory("DRINKS");
+            r.setRate(new BigDecimal("0.20"));
+        }));
+        rules.add(rule(PricingRule.RuleType.HAPPY_HOUR, r -> {
+            r.setCategory("DRINKS");
+            r.setRate(new BigDecimal("0.50"));
+            r.setStartTime(LocalTime.of(17, 0));
+            r.setEndTime(LocalTime.of(19, 0));
+        }));
+        rules.add(rule(PricingRule.RuleType.COMBO, r -> {
+            r.setAmountMoney(Money.ofCents(200));
+            r.setComboMenuItemIds(Set.of(1L, 2L));
+        }));
+    }
+
+    @Test
+    @DisplayName("Test 1: Category tax, happy hour and combo rules should be applied from the compiled table")
+    void testCompiledPricing() {
+        // Given
+        when(menuItemRepository.findAll()).thenReturn(List.of(burger, fries, beer));
+        when(pricingRuleRepository.findActiveWithComboItems()).thenReturn(rules);
+        PricingTable table = pricingService.getPricingTable();
+
+        // When
+        PricingTable.Bill happyHour = table.newBill(LocalTime.of(18, 15));
+        Money happyHourBeer = happyHour.addLine(3L, 2);
+        happyHour.addLine(1L, 1);
+        happyHour.addLine(2L, 1);
+        PricingTable.Bill lunch = table.newBill(LocalTime.of(12, 0));
+        Money lunchBeer = lunch.addLine(3L, 2);
+        lunch.addLine(1L, 1);
+
+        // Then: half-price beer taxed at 20%; the combo takes 2.00 off burger and fries, taxed at 10%
+        assertThat(happyHourBeer).isEqualTo(Money.ofCents(300));
+        assertThat(happyHour.getSubtotal()).isEqualTo(Money.ofCents(2200));
+        assertThat(happyHour.getDiscount()).isEqualTo(Money.ofCents(200));
+        assertThat(happyHour.getTax()).isEqualTo(Money.ofCents(260));
+        assertThat(happyHour.getTotal()).isEqualTo(Money.ofCents(2260));
+        // No fries, no combo; full-price beer
+        assertThat(lunchBeer).isEqualTo(Money.ofCents(600));
+        assertThat(lunch.getDiscount()).isEqualTo(Money.ZERO);
+        assertThat(lunch.getTax()).isEqualTo(Money.ofCents(360));
+    }
+
+    @Test
+    @DisplayName("Test 2: The table should be compiled once and rebuilt only after a menu or rule change")
+    void testTableReusedUntilChange() {
+        // Given
+        when(menuService.getCatalogVersion()).thenReturn(1L);
+        when(menuItemRepository.findAll()).thenReturn(List.of(burger, fries, beer));
+        when(pricingRuleRepository.findActiveWithComboItems()).thenReturn(List.of());
+
+        // When
+        PricingTable first = pricingService.getPricingTable();
+        PricingTable second = pricingService.pricingFor(List.of(burger, beer));
+        when(menuService.getCatalogVersion()).thenReturn(2L);
+        PricingTable afterMenuChange = pricingService.getPricingTable();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(afterMenuChange).isNotSameAs(first);
+        assertThat(afterMenuChange.getMenuVersion()).isEqualTo(2L);
+        verify(menuItemRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Test 3: An item priced differently than the table should trigger a recompile")
+    void testStaleItemRecompiles() {
+        // Given
+        when(menuItemRepository.findAll()).thenReturn(List.of(burger, fries, beer));
+        when(pricingRuleRepository.findActiveWithComboItems()).thenReturn(List.of());
+        PricingTable before = pricingService.getPricingTable();
+        MenuItem repricedBurger = menuItem(1L, "13.50", "MAIN");
+        when(menuItemRepository.findAll()).thenReturn(List.of(repricedBurger, fries, beer));
+
+        // When
+        PricingTable after = pricingService.pricingFor(List.of(repricedBurger));
+        PricingTable.Bill bill = after.newBill(LocalTime.NOON);
+
+        // Then
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.isCurrentFor(repricedBurger)).isTrue();
+        assertThat(bill.addLine(1L, 1)).isEqualTo(Money.ofCents(1350));
+        assertThat(bill.getTax()).isEqualTo(Money.ofCents(135));
+    }
+
+    @Test
+    @DisplayName("Test 4: Creating a rule should invalidate the table; incomplete rules should be rejected")
+    void testCreateRule() {
+        // Given
+        when(menuItemRepository.findAll()).thenReturn(List.of(burger, fries, beer));
+        when(pricingRuleRepository.findActiveWithComboItems()).thenReturn(List.of());
+        PricingTable before = pricingService.getPricingTable();
+        when(menuItemRepository.findAllById(any())).thenReturn(List.of(burger, fries));
+        when(pricingRuleRepository.save(any(PricingRule.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        PricingRuleRequestDto combo = new PricingRuleRequestDto();
+        combo.setName("Burger and fries");
+        combo.setType(PricingRule.RuleType.COMBO);
+        combo.setAmount(new BigDecimal("2.00"));
+        combo.setComboMenuItemIds(Set.of(1L, 2L));
+        PricingRuleRequestDto happyHour = new PricingRuleRequestDto();
+        happyHour.setName("No times");
+        happyHour.setType(PricingRule.RuleType.HAPPY_HOUR);
+        happyHour.setRate(new BigDecimal("0.50"));
+
+        // When
+        pricingService.createRule(combo);
+
+        // Then
+        assertThat(pricingService.getPricingTable()).isNotSameAs(before);
+        assertThatThrownBy(() -> pricingService.createRule(happyHour))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("start and end");
+        combo.setComboMenuItemIds(Set.of(1L));
+        assertThatThrownBy(() -> pricingService.createRule(combo))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("at least two");
+    }
+
+    private static MenuItem menuItem(Long id, String price, String category) {
+        MenuItem menuItem = new MenuItem(category + " " + id, null, new BigDecimal(price), category);
+        menuItem.setId(id);
+        return menuItem;
+    }
+
+    private static PricingRule rule(PricingRule.RuleType type, Consumer<PricingRule> setup) {
+        PricingRule rule = new PricingRule();
+        rule.setName(type.name());
+        rule.setType(type);
+        setup.accept(rule);
+        return rule;
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.OffsetDateTime;
@@ -50,6 +51,15 @@ class ReservationManagementServiceTest {
     @Mock
     private RestaurantTableRepository restaurantTableRepository;
 
+    @Spy
+    private TableAvailabilityIndex availabilityIndex = new TableAvailabilityIndex(366);
+
+    @Spy
+    private TableBookingLocks bookingLocks = new TableBookingLocks(64);
+
+    @Mock
+    private TableAssignmentService tableAssignmentService;
+
     @InjectMocks
     private ReservationService reservationService;
 
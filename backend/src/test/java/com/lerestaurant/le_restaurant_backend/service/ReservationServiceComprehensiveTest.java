@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
@@ -112,6 +113,15 @@ class ReservationServiceComprehensiveTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private TableAvailabilityIndex availabilityIndex = new TableAvailabilityIndex(366);
+
+    @Spy
+    private TableBookingLocks bookingLocks = new TableBookingLocks(64);
+
+    @Mock
+    private TableAssignmentService tableAssignmentService;
+
     @InjectMocks
     private ReservationService reservationService;
 
@@ -388,8 +398,8 @@ class ReservationServiceComprehensiveTest {
             when(userRepository.findByEmail(GUEST_EMAIL)).thenReturn(Optional.empty());
             when(userRepository.save(any(User.class))).thenReturn(guestUser);
             when(restaurantTableRepository.findById(2L)).thenReturn(Optional.of(table4Seater));
-            when(reservationRepository.findByTableIdAndReservationDateTime(
-                    eq(2L), any(OffsetDateTime.class)))
+            when(reservationRepository.findByTableIdStartingBetween(
+                    eq(2L), any(LocalDate.class), any(LocalTime.class), any(LocalTime.class)))
                     .thenReturn(List.of());
             when(reservationRepository.save(any(Reservation.class))).thenReturn(savedReservation);
 
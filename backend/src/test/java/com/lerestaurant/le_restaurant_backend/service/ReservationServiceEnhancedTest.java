@@ -1,5 +1,6 @@
 package com.lerestaurant.le_restaurant_backend.service;
 
+import com.lerestaurant.le_restaurant_backend.dto.AvailabilityCalendarDayDto;
 import com.lerestaurant.le_restaurant_backend.dto.ReservationCreateRequestDto;
 import com.lerestaurant.le_restaurant_backend.dto.ReservationDto;
 import com.lerestaurant.le_restaurant_backend.dto.TableDto;
@@ -17,6 +18,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
@@ -59,6 +61,15 @@ class ReservationServiceEnhancedTest {
     @Mock
     private RestaurantTableRepository restaurantTableRepository;
 
+    @Spy
+    private TableAvailabilityIndex availabilityIndex = new TableAvailabilityIndex(366);
+
+    @Spy
+    private TableBookingLocks bookingLocks = new TableBookingLocks(64);
+
+    @Mock
+    private TableAssignmentService tableAssignmentService;
+
     @InjectMocks
     private ReservationService reservationService;
 
@@ -284,11 +295,13 @@ class ReservationServiceEnhancedTest {
             existingReservation.setId(2L);
             existingReservation.setCustomer(testCustomer);
             existingReservation.setTable(testTable);
+            existingReservation.setReservationTime(LocalTime.of(19, 0));
             existingReservation.setStatus(Reservation.ReservationStatus.CONFIRMED);
 
             when(userRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
             when(restaurantTableRepository.findById(1L)).thenReturn(Optional.of(testTable));
-            when(reservationRepository.findByTableIdAndReservationDateTime(anyLong(), any(OffsetDateTime.class)))
+            when(reservationRepository.findByTableIdStartingBetween(anyLong(), any(LocalDate.class),
+                    any(LocalTime.class), any(LocalTime.class)))
                     .thenReturn(Arrays.asList(existingReservation));
 
             // When & Then
@@ -299,6 +312,70 @@ class ReservationServiceEnhancedTest {
             verify(reservationRepository, never()).save(any(Reservation.class));
         }
 
+        @Test
+        @DisplayName("Should reject a booking that overlaps an earlier seating on the table")
+        void createReservation_OverlappingEarlierSeating_ThrowsException() {
+            // Given: 18:00 for 90 minutes still holds the table at 19:00
+            ReservationCreateRequestDto request = new ReservationCreateRequestDto();
+            request.setCustomerId(1L);
+            request.setTableId(1L);
+            request.setNumberOfGuests(2);
+            request.setReservationDateTime(
+                    LocalDate.now().plusDays(1).atTime(19, 0).atOffset(java.time.ZoneOffset.UTC));
+
+            Reservation earlier = new Reservation();
+            earlier.setId(2L);
+            earlier.setTable(testTable);
+            earlier.setReservationTime(LocalTime.of(18, 0));
+            earlier.setStatus(Reservation.ReservationStatus.CONFIRMED);
+
+            when(userRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+            when(restaurantTableRepository.findById(1L)).thenReturn(Optional.of(testTable));
+            when(reservationRepository.findByTableIdStartingBetween(1L, request.getReservationDateTime().toLocalDate(),
+                    LocalTime.of(13, 0), LocalTime.of(20, 30)))
+                    .thenReturn(Arrays.asList(earlier));
+
+            // When & Then
+            assertThatThrownBy(() -> reservationService.createReservation(request))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("already reserved");
+
+            verify(reservationRepository, never()).save(any(Reservation.class));
+        }
+
+        @Test
+        @DisplayName("Should allow a booking that starts when the previous seating ends")
+        void createReservation_AfterPreviousSeatingEnds_Succeeds() {
+            // Given: 17:30 for 90 minutes ends at 19:00
+            ReservationCreateRequestDto request = new ReservationCreateRequestDto();
+            request.setCustomerId(1L);
+            request.setTableId(1L);
+            request.setNumberOfGuests(2);
+            request.setDurationMinutes(120);
+            request.setReservationDateTime(
+                    LocalDate.now().plusDays(1).atTime(19, 0).atOffset(java.time.ZoneOffset.UTC));
+
+            Reservation earlier = new Reservation();
+            earlier.setId(2L);
+            earlier.setTable(testTable);
+            earlier.setReservationTime(LocalTime.of(17, 30));
+            earlier.setStatus(Reservation.ReservationStatus.CONFIRMED);
+
+            when(userRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+            when(restaurantTableRepository.findById(1L)).thenReturn(Optional.of(testTable));
+            when(reservationRepository.findByTableIdStartingBetween(anyLong(), any(LocalDate.class),
+                    any(LocalTime.class), any(LocalTime.class)))
+                    .thenReturn(Arrays.asList(earlier));
+            when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            ReservationDto result = reservationService.createReservation(request);
+
+            // Then
+            assertThat(result.getDurationMinutes()).isEqualTo(120);
+            verify(reservationRepository, times(1)).save(any(Reservation.class));
+        }
+
         @Test
         @DisplayName("Should allow booking when previous reservation is cancelled")
         void createReservation_WithCancelledReservationAtSameTime_Succeeds() {
@@ -318,7 +395,8 @@ class ReservationServiceEnhancedTest {
 
             when(userRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
             when(restaurantTableRepository.findById(1L)).thenReturn(Optional.of(testTable));
-            when(reservationRepository.findByTableIdAndReservationDateTime(anyLong(), any(OffsetDateTime.class)))
+            when(reservationRepository.findByTableIdStartingBetween(anyLong(), any(LocalDate.class),
+                    any(LocalTime.class), any(LocalTime.class)))
                     .thenReturn(Arrays.asList(cancelledReservation));
             when(reservationRepository.save(any(Reservation.class))).thenReturn(testReservation);
 
@@ -354,6 +432,7 @@ class ReservationServiceEnhancedTest {
             assertThat(result.getTableId()).isNull();
             verify(restaurantTableRepository, never()).findById(anyLong());
             verify(reservationRepository, times(1)).save(any(Reservation.class));
+            verify(tableAssignmentService, times(1)).assignTables(testReservation.getReservationDate());
         }
 
         @Test
@@ -374,7 +453,8 @@ class ReservationServiceEnhancedTest {
 
             when(userRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
             when(restaurantTableRepository.findById(1L)).thenReturn(Optional.of(testTable));
-            when(reservationRepository.findByTableIdAndReservationDateTime(anyLong(), any(OffsetDateTime.class)))
+            when(reservationRepository.findByTableIdStartingBetween(anyLong(), any(LocalDate.class),
+                    any(LocalTime.class), any(LocalTime.class)))
                     .thenReturn(Arrays.asList(cancelled1, cancelled2));
             when(reservationRepository.save(any(Reservation.class))).thenReturn(testReservation);
 
@@ -462,8 +542,7 @@ class ReservationServiceEnhancedTest {
             Integer partySize = 2;
 
             when(restaurantTableRepository.findAll()).thenReturn(Arrays.asList(testTable));
-            when(reservationRepository.findByReservationDateAndReservationTime(any(LocalDate.class),
-                    any(LocalTime.class)))
+            when(reservationRepository.findByReservationDate(any(LocalDate.class)))
                     .thenReturn(Arrays.asList());
 
             // When
@@ -503,15 +582,15 @@ class ReservationServiceEnhancedTest {
             LocalTime bookedTime = LocalTime.of(19, 0);
 
             Reservation bookedReservation = new Reservation();
+            bookedReservation.setId(5L);
             bookedReservation.setTable(testTable);
+            bookedReservation.setReservationDate(date);
+            bookedReservation.setReservationTime(bookedTime);
             bookedReservation.setStatus(Reservation.ReservationStatus.CONFIRMED);
 
             when(restaurantTableRepository.findAll()).thenReturn(Arrays.asList(testTable));
-            when(reservationRepository.findByReservationDateAndReservationTime(date, bookedTime))
+            when(reservationRepository.findByReservationDate(date))
                     .thenReturn(Arrays.asList(bookedReservation));
-            when(reservationRepository.findByReservationDateAndReservationTime(eq(date),
-                    argThat(time -> !time.equals(bookedTime))))
-                    .thenReturn(Arrays.asList());
 
             // When
             List<TimeSlotDto> timeSlots = reservationService.getAvailableTimeSlots(dateString, partySize);
@@ -524,6 +603,13 @@ class ReservationServiceEnhancedTest {
                     .orElse(null);
             assertThat(slot19).isNotNull();
             assertThat(slot19.getIsAvailable()).isFalse();
+            // A 90-minute seating overlaps the 19:00 - 20:30 booking from 18:00 to 20:00
+            assertThat(timeSlots).filteredOn(slot -> !slot.getIsAvailable())
+                    .extracting(TimeSlotDto::getTime)
+                    .containsExactly("18:00", "18:30", "19:00", "19:30", "20:00");
+            // One table query and one reservation query for the whole day
+            verify(restaurantTableRepository, times(1)).findAll();
+            verify(reservationRepository, times(1)).findByReservationDate(date);
         }
 
         @Test
@@ -534,8 +620,7 @@ class ReservationServiceEnhancedTest {
             Integer partySize = 2;
 
             when(restaurantTableRepository.findAll()).thenReturn(Arrays.asList(testTable));
-            when(reservationRepository.findByReservationDateAndReservationTime(any(LocalDate.class),
-                    any(LocalTime.class)))
+            when(reservationRepository.findByReservationDate(any(LocalDate.class)))
                     .thenReturn(Arrays.asList());
 
             // When
@@ -550,6 +635,58 @@ class ReservationServiceEnhancedTest {
         }
     }
 
+    // =================================================================
+    // Availability Calendar Tests (F108)
+    // =================================================================
+    @Nested
+    @DisplayName("Availability Calendar Tests (F108)")
+    class AvailabilityCalendarTests {
+
+        @Test
+        @DisplayName("Should return every date in the range from one table and one reservation query")
+        void getAvailabilityCalendar_WithBookedDay_MarksOnlyThatDayUnavailable() {
+            // Given: the only table is booked for the whole evening on the second day
+            LocalDate start = LocalDate.parse("2025-11-01");
+            LocalDate end = LocalDate.parse("2025-11-03");
+
+            Reservation bookedReservation = new Reservation();
+            bookedReservation.setId(5L);
+            bookedReservation.setTable(testTable);
+            bookedReservation.setReservationDate(start.plusDays(1));
+            bookedReservation.setReservationTime(LocalTime.of(17, 0));
+            bookedReservation.setDurationMinutes(Reservation.MAX_DURATION_MINUTES);
+            bookedReservation.setStatus(Reservation.ReservationStatus.CONFIRMED);
+
+            when(restaurantTableRepository.findAll()).thenReturn(Arrays.asList(testTable));
+            when(reservationRepository.findByReservationDateBetween(start, end))
+                    .thenReturn(Arrays.asList(bookedReservation));
+
+            // When
+            List<AvailabilityCalendarDayDto> calendar = reservationService.getAvailabilityCalendar(
+                    start.toString(), end.toString(), 2);
+
+            // Then
+            assertThat(calendar).extracting(AvailabilityCalendarDayDto::getDate)
+                    .containsExactly("2025-11-01", "2025-11-02", "2025-11-03");
+            assertThat(calendar).extracting(AvailabilityCalendarDayDto::getIsAvailable)
+                    .containsExactly(true, false, true);
+            assertThat(calendar.get(0).getTimeSlots()).hasSize(10).allMatch(TimeSlotDto::getIsAvailable);
+            verify(restaurantTableRepository, times(1)).findAll();
+            verify(reservationRepository, times(1)).findByReservationDateBetween(start, end);
+            verify(reservationRepository, never()).findByReservationDate(any(LocalDate.class));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "2025-10-31", "2026-01-02" })
+        @DisplayName("Should reject reversed or overlong ranges")
+        void getAvailabilityCalendar_WithInvalidRange_ThrowsException(String end) {
+            // When & Then
+            assertThatThrownBy(() -> reservationService.getAvailabilityCalendar("2025-11-01", end, 2))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(reservationRepository, restaurantTableRepository);
+        }
+    }
+
     // =================================================================
     // Available Tables Tests (F108)
     // =================================================================
@@ -566,8 +703,7 @@ class ReservationServiceEnhancedTest {
             Integer partySize = 2;
 
             when(restaurantTableRepository.findAll()).thenReturn(Arrays.asList(testTable));
-            when(reservationRepository.findByReservationDateAndReservationTime(any(LocalDate.class),
-                    any(LocalTime.class)))
+            when(reservationRepository.findByReservationDate(any(LocalDate.class)))
                     .thenReturn(Arrays.asList());
 
             // When
@@ -588,12 +724,14 @@ class ReservationServiceEnhancedTest {
             Integer partySize = 2;
 
             Reservation existingReservation = new Reservation();
+            existingReservation.setId(5L);
             existingReservation.setTable(testTable);
+            existingReservation.setReservationDate(LocalDate.parse(dateString));
+            existingReservation.setReservationTime(LocalTime.parse(timeString));
             existingReservation.setStatus(Reservation.ReservationStatus.CONFIRMED);
 
             when(restaurantTableRepository.findAll()).thenReturn(Arrays.asList(testTable));
-            when(reservationRepository.findByReservationDateAndReservationTime(any(LocalDate.class),
-                    any(LocalTime.class)))
+            when(reservationRepository.findByReservationDate(any(LocalDate.class)))
                     .thenReturn(Arrays.asList(existingReservation));
 
             // When
@@ -612,12 +750,14 @@ class ReservationServiceEnhancedTest {
             Integer partySize = 2;
 
             Reservation cancelledReservation = new Reservation();
+            cancelledReservation.setId(5L);
             cancelledReservation.setTable(testTable);
+            cancelledReservation.setReservationDate(LocalDate.parse(dateString));
+            cancelledReservation.setReservationTime(LocalTime.parse(timeString));
             cancelledReservation.setStatus(Reservation.ReservationStatus.CANCELLED);
 
             when(restaurantTableRepository.findAll()).thenReturn(Arrays.asList(testTable));
-            when(reservationRepository.findByReservationDateAndReservationTime(any(LocalDate.class),
-                    any(LocalTime.class)))
+            when(reservationRepository.findByReservationDate(any(LocalDate.class)))
                     .thenReturn(Arrays.asList(cancelledReservation));
 
             // When
@@ -669,8 +809,7 @@ class ReservationServiceEnhancedTest {
 
             when(restaurantTableRepository.findAll())
                     .thenReturn(Arrays.asList(availableTable, occupiedTable, maintenanceTable));
-            when(reservationRepository.findByReservationDateAndReservationTime(any(LocalDate.class),
-                    any(LocalTime.class)))
+            when(reservationRepository.findByReservationDate(any(LocalDate.class)))
                     .thenReturn(Arrays.asList());
 
             // When
@@ -689,8 +828,7 @@ class ReservationServiceEnhancedTest {
             Integer partySize = 4; // Exact match with table capacity
 
             when(restaurantTableRepository.findAll()).thenReturn(Arrays.asList(testTable)); // Capacity 4
-            when(reservationRepository.findByReservationDateAndReservationTime(any(LocalDate.class),
-                    any(LocalTime.class)))
+            when(reservationRepository.findByReservationDate(any(LocalDate.class)))
                     .thenReturn(Arrays.asList());
 
             // When
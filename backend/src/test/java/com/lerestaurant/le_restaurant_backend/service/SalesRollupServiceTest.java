@@ -0,0 +1,230 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.dto.OrderBulkStatusRequestDto;
+import com.lerestaurant.le_restaurant_backend.dto.SalesReportDto;
+import com.lerestaurant.le_restaurant_backend.dto.SalesReportRowDto;
+import com.lerestaurant.le_restaurant_backend.entity.MenuItem;
+import com.lerestaurant.le_restaurant_backend.entity.Order;
+import com.lerestaurant.le_restaurant_backend.entity.OrderItem;
+import com.lerestaurant.le_restaurant_backend.entity.RestaurantTable;
+import com.lerestaurant.le_restaurant_backend.entity.SalesRollup;
+import com.lerestaurant.le_restaurant_backend.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Incremental sales rollups (F105)
+ *
+ * Buckets are created in their own transactions and outlive each test, so
+ * every test places its orders in a different day.
+ *
+ * @author Le Restaurant Development Team
+ * @module F105-OrderManagement
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({OrderService.class, KitchenQueue.class, SalesRollupService.class, PricingService.class,
+         MenuService.class, OrderStatusHistoryService.class})
+@DisplayName("SalesRollupService Tests (F105)")
+class SalesRollupServiceTest {
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User customer;
+    private RestaurantTable table;
+    private MenuItem soup;
+    private MenuItem steak;
+
+    @BeforeEach
+    void setUp() {
+        customer = new User();
+        customer.setEmail("rollups@lerestaurant.com");
+        customer.setPasswordHash("hash");
+        customer.setFirstName("Roll");
+        customer.setLastName("Up");
+        entityManager.persist(customer);
+
+        table = new RestaurantTable();
+        table.setTableNumber("R1");
+        table.setCapacity(4);
+        entityManager.persist(table);
+
+        soup = new MenuItem("Soup", "Soup", new BigDecimal("6.00"), "STARTER");
+        steak = new MenuItem("Steak", "Steak", new BigDecimal("25.00"), "MAIN");
+        entityManager.persist(soup);
+        entityManager.persist(steak);
+    }
+
+    @Test
+    @DisplayName("Test 1: Completed orders should be summed per hour, menu item, order type and table")
+    void testCompletionsRolledUp() {
+        // Given
+        OffsetDateTime day = OffsetDateTime.of(2025, 4, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        Order first = persistOrder(day.plusHours(12).plusMinutes(5), table, Order.OrderType.DINE_IN, 2, 1);
+        Order second = persistOrder(day.plusHours(12).plusMinutes(40), null, Order.OrderType.TAKEOUT, 1, 0);
+        Order third = persistOrder(day.plusHours(13).plusMinutes(10), table, Order.OrderType.DINE_IN, 0, 2);
+
+        // When
+        complete(first);
+        complete(second);
+        complete(third);
+
+        // Then
+        SalesReportDto hourly = salesRollupService.getReport(day, day.plusDays(1), SalesRollup.Dimension.HOUR);
+        assertThat(hourly.getRows()).extracting(row -> row.getBucketStart().toInstant())
+            .containsExactly(day.plusHours(12).toInstant(), day.plusHours(13).toInstant());
+        assertThat(hourly.getRows()).extracting(SalesReportRowDto::getOrderCount).containsExactly(2L, 1L);
+        // 2 x 6 + 25, 6, 2 x 25
+        assertThat(hourly.getTotals().getOrderCount()).isEqualTo(3);
+        assertThat(hourly.getTotals().getSalesAmount()).isEqualByComparingTo("93.00");
+        assertThat(hourly.getTotals().getTotalAmount()).isEqualByComparingTo("102.30");
+        assertThat(hourly.getTotals().getItemQuantity()).isEqualTo(6);
+
+        SalesReportDto byItem = salesRollupService.getReport(day, day.plusDays(1), SalesRollup.Dimension.MENU_ITEM);
+        assertThat(byItem.getRows()).extracting(SalesReportRowDto::getLabel).containsExactly("Steak", "Soup");
+        assertThat(byItem.getRows().get(0).getOrderCount()).isEqualTo(2);
+        assertThat(byItem.getRows().get(0).getItemQuantity()).isEqualTo(3);
+        assertThat(byItem.getRows().get(0).getSalesAmount()).isEqualByComparingTo("75.00");
+        assertThat(byItem.getRows().get(1).getSalesAmount()).isEqualByComparingTo("18.00");
+
+        SalesReportDto byType = salesRollupService.getReport(day, day.plusDays(1), SalesRollup.Dimension.ORDER_TYPE);
+        assertThat(byType.getRows()).extracting(SalesReportRowDto::getKey).containsExactly("DINE_IN", "TAKEOUT");
+
+        SalesReportDto byTable = salesRollupService.getReport(day, day.plusDays(1), SalesRollup.Dimension.TABLE);
+        assertThat(byTable.getRows()).singleElement().satisfies(row -> {
+            assertThat(row.getLabel()).isEqualTo("R1");
+            assertThat(row.getOrderCount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("Test 2: Cancellations and refunds should adjust the same buckets; completed orders stay completed")
+    void testCancellationRefundAndFinalCompletion() {
+        // Given
+        OffsetDateTime day = OffsetDateTime.of(2025, 4, 2, 0, 0, 0, 0, ZoneOffset.UTC);
+        Order kept = persistOrder(day.plusHours(18), table, Order.OrderType.DINE_IN, 1, 1);
+        Order finished = persistOrder(day.plusHours(18), table, Order.OrderType.DINE_IN, 0, 1);
+        Order cancelled = persistOrder(day.plusHours(19), table, Order.OrderType.DINE_IN, 3, 0);
+        Order bulkCancelled = persistOrder(day.plusHours(19), table, Order.OrderType.DINE_IN, 1, 0);
+
+        // When
+        complete(kept);
+        complete(finished);
+        assertThatThrownBy(() -> orderService.updateOrderStatus(finished.getId(), Order.OrderStatus.READY))
+            .isInstanceOf(IllegalStateException.class);
+        orderService.deleteOrder(cancelled.getId());
+        orderService.updateOrderStatuses(
+            new OrderBulkStatusRequestDto(Set.of(bulkCancelled.getId()), Order.OrderStatus.CANCELLED));
+        salesRollupService.recordRefund(entityManager.find(Order.class, kept.getId()), new BigDecimal("5.00"));
+
+        // Then
+        SalesReportDto report = salesRollupService.getReport(day, day.plusDays(1), SalesRollup.Dimension.HOUR);
+        assertThat(report.getTotals().getOrderCount()).isEqualTo(2);
+        assertThat(report.getTotals().getCancelledCount()).isEqualTo(2);
+        assertThat(report.getTotals().getSalesAmount()).isEqualByComparingTo("56.00");
+        assertThat(report.getTotals().getRefundedAmount()).isEqualByComparingTo("5.00");
+
+        SalesReportDto byItem = salesRollupService.getReport(day, day.plusDays(1), SalesRollup.Dimension.MENU_ITEM);
+        assertThat(byItem.getRows()).filteredOn(row -> row.getLabel().equals("Soup")).singleElement()
+            .satisfies(row -> {
+                assertThat(row.getOrderCount()).isEqualTo(1);
+                assertThat(row.getCancelledCount()).isEqualTo(2);
+            });
+    }
+
+    @Test
+    @DisplayName("Test 3: Reports should take two queries however many orders the range holds")
+    void testReportQueryCount() {
+        // Given
+        OffsetDateTime day = OffsetDateTime.of(2025, 4, 3, 0, 0, 0, 0, ZoneOffset.UTC);
+        for (int i = 0; i < 10; i++) {
+            Order order = persistOrder(day.plusHours(i % 3).plusMinutes(i), table, Order.OrderType.DINE_IN, 1, 1);
+            complete(order);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        SalesReportDto report = salesRollupService.getReport(day, day.plusDays(1), SalesRollup.Dimension.MENU_ITEM);
+
+        // Then
+        assertThat(report.getTotals().getOrderCount()).isEqualTo(10);
+        assertThat(report.getRows()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test 4: An empty or reversed report range should be rejected")
+    void testInvalidRangeRejected() {
+        OffsetDateTime now = OffsetDateTime.now();
+
+        assertThatThrownBy(() -> salesRollupService.getReport(now, now, SalesRollup.Dimension.HOUR))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SalesRollup.Dimension.from("waiter"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(SalesRollup.Dimension.from("menu-item")).isEqualTo(SalesRollup.Dimension.MENU_ITEM);
+    }
+
+    /** Walk an order through the kitchen to COMPLETED */
+    private void complete(Order order) {
+        orderService.updateOrderStatus(order.getId(), Order.OrderStatus.PREPARING);
+        orderService.updateOrderStatus(order.getId(), Order.OrderStatus.READY);
+        orderService.updateOrderStatus(order.getId(), Order.OrderStatus.COMPLETED);
+    }
+
+    private Order persistOrder(OffsetDateTime orderTime, RestaurantTable orderTable, Order.OrderType type,
+                               int soups, int steaks) {
+        Order order = new Order();
+        order.setCustomer(customer);
+        order.setTable(orderTable);
+        order.setOrderType(type);
+        order.setOrderTime(orderTime);
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (Object[] line : new Object[][] {{soup, soups}, {steak, steaks}}) {
+            int quantity = (Integer) line[1];
+            if (quantity == 0) {
+                continue;
+            }
+            OrderItem item = new OrderItem();
+            item.setOrder(order);
+            item.setMenuItem((MenuItem) line[0]);
+            item.setQuantity(quantity);
+            item.setUnitPrice(((MenuItem) line[0]).getPrice());
+            order.getItems().add(item);
+            subtotal = subtotal.add(item.getSubtotal());
+        }
+        BigDecimal tax = subtotal.multiply(new BigDecimal("0.10"));
+        order.setSubtotal(subtotal);
+        order.setTaxAmount(tax);
+        order.setTotalAmount(subtotal.add(tax));
+        entityManager.persist(order);
+        return order;
+    }
+}
@@ -0,0 +1,126 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.entity.Reservation;
+import com.lerestaurant.le_restaurant_backend.entity.RestaurantTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Best-fit table assignment solver (F109)
+ *
+ * @author Le Restaurant Development Team
+ * @module F108-F109-ReservationManagement
+ */
+@DisplayName("TableAssignmentService Solver Tests (F109)")
+class TableAssignmentServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 1);
+    private static final LocalTime SEVEN = LocalTime.of(19, 0);
+
+    private List<RestaurantTable> tables;
+
+    @BeforeEach
+    void setUp() {
+        // Tables 3 and 4 stand next to each other and can be pushed together
+        tables = List.of(table(1L, 2), table(2L, 4), table(3L, 4), table(4L, 4), table(5L, 6));
+        tables.get(2).setJoinableTableId(4L);
+        tables.get(3).setJoinableTableId(3L);
+    }
+
+    @Test
+    @DisplayName("Test 1: Each party should get the smallest free table that holds it")
+    void testTightestFit() {
+        // Given: a booked 4-top at 19:00
+        Reservation fixed = reservation(10L, 2L, SEVEN, 4, Reservation.ReservationStatus.CONFIRMED);
+        List<Reservation> pending = List.of(
+            reservation(11L, null, SEVEN, 2, Reservation.ReservationStatus.PENDING),
+            reservation(12L, null, SEVEN, 3, Reservation.ReservationStatus.PENDING),
+            reservation(13L, null, SEVEN, 5, Reservation.ReservationStatus.PENDING),
+            reservation(14L, null, LocalTime.of(21, 0), 3, Reservation.ReservationStatus.PENDING));
+
+        // When
+        Map<Long, TableAssignmentService.Placement> placements =
+            TableAssignmentService.solve(tables, List.of(fixed), pending);
+
+        // Then: 21:00 starts after the 19:00 seating on table 2 ends
+        assertThat(placements.get(11L).tableIds()).containsExactly(1L);
+        assertThat(placements.get(12L).tableIds()).containsExactly(3L);
+        assertThat(placements.get(13L).tableIds()).containsExactly(5L);
+        assertThat(placements.get(14L).tableIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Test 2: A party larger than any table should get a free pair of joinable tables")
+    void testJoinedTablesForLargeParty() {
+        // Given
+        Reservation large = reservation(11L, null, SEVEN, 8, Reservation.ReservationStatus.PENDING);
+
+        // When
+        Map<Long, TableAssignmentService.Placement> placements =
+            TableAssignmentService.solve(tables, List.of(), List.of(large));
+
+        // Then
+        assertThat(placements.get(11L).tableIds()).containsExactly(3L, 4L);
+        assertThat(placements.get(11L).capacity()).isEqualTo(8);
+
+        // When: one half of the pair is taken for an overlapping seating
+        Reservation fixed = reservation(10L, 4L, LocalTime.of(18, 0), 2, Reservation.ReservationStatus.SEATED);
+        placements = TableAssignmentService.solve(tables, List.of(fixed), List.of(large));
+
+        // Then: nothing fits
+        assertThat(placements).doesNotContainKey(11L);
+    }
+
+    @Test
+    @DisplayName("Test 3: Cancelling a reservation should let pending parties move to a tighter table")
+    void testRepackAfterCancellation() {
+        // Given: the 2-top is booked, so a couple is placed at a 4-top
+        Reservation fixed = reservation(10L, 1L, SEVEN, 2, Reservation.ReservationStatus.CONFIRMED);
+        Reservation couple = reservation(11L, null, SEVEN, 2, Reservation.ReservationStatus.PENDING);
+        assertThat(TableAssignmentService.solve(tables, List.of(fixed), List.of(couple)).get(11L).tableIds())
+            .containsExactly(2L);
+        couple.setTable(tables.get(1));
+        couple.setTableAutoAssigned(true);
+        assertThat(TableAssignmentService.isMovable(couple)).isTrue();
+
+        // When: the 2-top is cancelled
+        fixed.setStatus(Reservation.ReservationStatus.CANCELLED);
+        Map<Long, TableAssignmentService.Placement> placements =
+            TableAssignmentService.solve(tables, List.of(), List.of(couple));
+
+        // Then
+        assertThat(placements.get(11L).tableIds()).containsExactly(1L);
+    }
+
+    private RestaurantTable table(Long id, int capacity) {
+        RestaurantTable table = new RestaurantTable();
+        table.setId(id);
+        table.setTableNumber("T" + id);
+        table.setCapacity(capacity);
+        table.setStatus(RestaurantTable.TableStatus.AVAILABLE);
+        return table;
+    }
+
+    private Reservation reservation(Long id, Long tableId, LocalTime time, int partySize,
+                                    Reservation.ReservationStatus status) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        if (tableId != null) {
+            reservation.setTable(tables.stream().filter(t -> t.getId().equals(tableId)).findFirst().orElseThrow());
+        }
+        reservation.setReservationDate(DATE);
+        reservation.setReservationTime(time);
+        reservation.setDurationMinutes(Reservation.DEFAULT_DURATION_MINUTES);
+        reservation.setPartySize(partySize);
+        reservation.setStatus(status);
+        return reservation;
+    }
+}
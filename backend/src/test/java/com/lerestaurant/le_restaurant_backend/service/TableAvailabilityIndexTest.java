@@ -0,0 +1,188 @@
+package com.lerestaurant.le_restaurant_backend.service;
+
+import com.lerestaurant.le_restaurant_backend.entity.Reservation;
+import com.lerestaurant.le_restaurant_backend.entity.RestaurantTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * In-memory table availability index (F108)
+ *
+ * @author Le Restaurant Development Team
+ * @module F108-F109-ReservationManagement
+ */
+@DisplayName("TableAvailabilityIndex Tests (F108)")
+class TableAvailabilityIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 1);
+    private static final LocalTime SEVEN = LocalTime.of(19, 0);
+
+    private TableAvailabilityIndex index;
+    private List<RestaurantTable> tables;
+    private List<Reservation> stored;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        index = new TableAvailabilityIndex(366);
+        tables = List.of(table(2L, 4), table(1L, 2), table(3L, 8));
+        stored = new ArrayList<>();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Test 1: A date should be loaded once and answer every seating from memory")
+    void testDateLoadedOnce() {
+        // Given
+        stored.add(reservation(10L, 2L, SEVEN, 90, Reservation.ReservationStatus.CONFIRMED));
+        stored.add(reservation(11L, 3L, SEVEN, 90, Reservation.ReservationStatus.CANCELLED));
+
+        // When: 17:30 ends as 19:00 starts, 18:00 runs into it, 20:30 starts as it ends
+        List<List<RestaurantTable>> free = find(List.of(LocalTime.of(17, 30), LocalTime.of(18, 0),
+                                                        LocalTime.of(20, 30)), 90, 2);
+        find(List.of(SEVEN), 90, 2);
+
+        // Then: sorted by id, cancelled booking ignored
+        assertThat(ids(free.get(0))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(free.get(1))).containsExactly(1L, 3L);
+        assertThat(ids(free.get(2))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(find(List.of(SEVEN), 90, 5).get(0))).containsExactly(3L);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test 2: Status changes and deletes should free slots only where no booking holds them")
+    void testChangesKeepBitsInStep() {
+        // Given: overlapping active reservations on table 1, 19:00-20:30 and 20:00-21:00
+        Reservation first = reservation(10L, 1L, SEVEN, 90, Reservation.ReservationStatus.PENDING);
+        Reservation second = reservation(11L, 1L, LocalTime.of(20, 0), 60, Reservation.ReservationStatus.PENDING);
+        stored.add(first);
+        find(List.of(SEVEN), 90, 2);
+        index.recordChange(second);
+
+        // When: the first is rejected
+        first.setStatus(Reservation.ReservationStatus.CANCELLED);
+        index.recordChange(first);
+
+        // Then: the second still holds the table from 20:00
+        List<List<RestaurantTable>> free = find(List.of(SEVEN, LocalTime.of(19, 30)), 60, 2);
+        assertThat(ids(free.get(0))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(free.get(1))).containsExactly(2L, 3L);
+
+        // When: the second is deleted
+        index.recordDelete(11L);
+
+        // Then
+        assertThat(ids(find(List.of(LocalTime.of(19, 30)), 60, 2).get(0))).containsExactly(1L, 2L, 3L);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test 3: Seatings off the 15-minute grid should be compared to the minute")
+    void testOffGridTimes() {
+        // Given: 19:10 - 20:40 shares the 19:00 and 20:30 slots with its neighbours
+        stored.add(reservation(10L, 1L, LocalTime.of(19, 10), 90, Reservation.ReservationStatus.CONFIRMED));
+
+        // When
+        List<List<RestaurantTable>> free = find(List.of(LocalTime.of(17, 40), LocalTime.of(17, 41),
+                                                        LocalTime.of(20, 40), LocalTime.of(20, 39)), 90, 1);
+
+        // Then
+        assertThat(ids(free.get(0))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(free.get(1))).containsExactly(2L, 3L);
+        assertThat(ids(free.get(2))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(free.get(3))).containsExactly(2L, 3L);
+        assertThat(TableAvailabilityIndex.endMinute(TableAvailabilityIndex.minuteOf(LocalTime.of(23, 0)), 90))
+            .isEqualTo(TableAvailabilityIndex.MINUTES_PER_DAY);
+    }
+
+    @Test
+    @DisplayName("Test 4: A range of dates should load only the uncached dates, in one call")
+    void testRangeLoadsMissingDatesOnce() {
+        // Given: the first date is already cached
+        stored.add(reservation(10L, 1L, SEVEN, 90, Reservation.ReservationStatus.CONFIRMED));
+        find(List.of(SEVEN), 90, 1);
+        List<LocalDate> dates = List.of(DATE, DATE.plusDays(1), DATE.plusDays(2));
+        List<List<LocalDate>> requested = new ArrayList<>();
+
+        // When
+        Map<LocalDate, List<List<RestaurantTable>>> free = index.findAvailableTables(dates, tables, List.of(SEVEN),
+            90, 1, missing -> {
+                requested.add(missing);
+                Map<LocalDate, TableAvailabilityIndex.Day> days = new HashMap<>();
+                missing.forEach(date -> days.put(date, TableAvailabilityIndex.Day.of(List.of())));
+                return days;
+            });
+        index.findAvailableTables(dates, tables, List.of(SEVEN), 90, 1, missing -> {
+            throw new AssertionError("Loaded " + missing);
+        });
+
+        // Then
+        assertThat(requested).containsExactly(List.of(DATE.plusDays(1), DATE.plusDays(2)));
+        assertThat(free.keySet()).containsExactlyElementsOf(dates);
+        assertThat(ids(free.get(DATE).get(0))).containsExactly(2L, 3L);
+        assertThat(ids(free.get(DATE.plusDays(2)).get(0))).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Test 5: Table changes should apply to a cached date without reloading it")
+    void testTableChangesApplyToCachedDate() {
+        // Given: table 1 is booked at 19:00 and the date is cached
+        stored.add(reservation(10L, 1L, SEVEN, 90, Reservation.ReservationStatus.CONFIRMED));
+        assertThat(ids(find(List.of(SEVEN), 90, 1).get(0))).containsExactly(2L, 3L);
+
+        // When: table 2 goes into maintenance, table 3 is enlarged and table 4 is added
+        RestaurantTable added = table(4L, 2);
+        tables.get(0).setStatus(RestaurantTable.TableStatus.MAINTENANCE);
+        tables.get(2).setCapacity(10);
+        tables = List.of(tables.get(0), tables.get(1), tables.get(2), added);
+
+        // Then
+        assertThat(ids(find(List.of(SEVEN), 90, 1).get(0))).containsExactly(3L, 4L);
+        assertThat(ids(find(List.of(SEVEN), 90, 10).get(0))).containsExactly(3L);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private List<List<RestaurantTable>> find(List<LocalTime> times, int durationMinutes, int partySize) {
+        return index.findAvailableTables(DATE, tables, times, durationMinutes, partySize, () -> {
+            loads.incrementAndGet();
+            return TableAvailabilityIndex.Day.of(stored);
+        });
+    }
+
+    private static List<Long> ids(List<RestaurantTable> tables) {
+        return tables.stream().map(RestaurantTable::getId).toList();
+    }
+
+    private RestaurantTable table(Long id, int capacity) {
+        RestaurantTable table = new RestaurantTable();
+        table.setId(id);
+        table.setTableNumber("T" + id);
+        table.setCapacity(capacity);
+        table.setStatus(RestaurantTable.TableStatus.AVAILABLE);
+        return table;
+    }
+
+    private Reservation reservation(Long id, Long tableId, LocalTime time, int durationMinutes,
+                                    Reservation.ReservationStatus status) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setTable(tables.stream().filter(t -> t.getId().equals(tableId)).findFirst().orElseThrow());
+        reservation.setReservationDate(DATE);
+        reservation.setReservationTime(time);
+        reservation.setDurationMinutes(durationMinutes);
+        reservation.setStatus(status);
+        return reservation;
+    }
+}
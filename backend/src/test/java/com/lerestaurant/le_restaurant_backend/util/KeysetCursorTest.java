@@ -0,0 +1,63 @@
+package com.lerestaurant.le_restaurant_backend.util;
+
+import com.lerestaurant.le_restaurant_backend.dto.CursorPageDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class KeysetCursorTest {
+
+    @Test
+    public void encodedCursor_roundTrips() {
+        OffsetDateTime time = OffsetDateTime.of(2025, 3, 14, 18, 30, 15, 123_456_789, ZoneOffset.UTC);
+        KeysetCursor decoded = KeysetCursor.decode(new KeysetCursor(time, 42L).encode());
+
+        assertThat(decoded.getTimestamp()).isEqualTo(time);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    public void missingCursor_startsFromTheTop() {
+        assertThat(KeysetCursor.decode(null)).isSameAs(KeysetCursor.START);
+        assertThat(KeysetCursor.decode(" ")).isSameAs(KeysetCursor.START);
+    }
+
+    @Test
+    public void malformedCursor_isRejected() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> KeysetCursor.decode("AAAA"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    public void limit_defaultsAndIsCapped() {
+        assertThat(KeysetCursor.resolveLimit(null)).isEqualTo(KeysetCursor.DEFAULT_PAGE_SIZE);
+        assertThat(KeysetCursor.resolveLimit(5)).isEqualTo(5);
+        assertThat(KeysetCursor.resolveLimit(10_000)).isEqualTo(KeysetCursor.MAX_PAGE_SIZE);
+        assertThatThrownBy(() -> KeysetCursor.resolveLimit(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void extraRow_signalsNextPage() {
+        OffsetDateTime time = OffsetDateTime.now(ZoneOffset.UTC);
+        Function<Long, KeysetCursor> position = id -> new KeysetCursor(time, id);
+
+        CursorPageDto<Long> full = KeysetCursor.toPage(List.of(9L, 8L, 7L), 2, Function.identity(), position);
+        CursorPageDto<Long> last = KeysetCursor.toPage(List.of(6L), 2, Function.identity(), position);
+
+        assertThat(full.getItems()).containsExactly(9L, 8L);
+        assertThat(KeysetCursor.decode(full.getNextCursor()).getId()).isEqualTo(8L);
+        assertThat(last.getItems()).containsExactly(6L);
+        assertThat(last.getNextCursor()).isNull();
+    }
+}
@@ -0,0 +1,84 @@
+package com.lerestaurant.le_restaurant_backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark: order totals for a 500-line order, BigDecimal vs Money
+ *
+ * Excluded from the regular test run; execute with {@code gradle benchmark}.
+ * Both variants compute line totals, subtotal, 10% tax rounded half up, tip
+ * and total the way OrderService.buildOrder does, before and after the move
+ * to Money. Timings are printed for comparison, not asserted.
+ */
+@Tag("benchmark")
+@DisplayName("Money arithmetic benchmark")
+class MoneyBenchmarkTest {
+
+    private static final int ORDER_LINES = 500;
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 20_000;
+    private static final BigDecimal TAX_RATE = new BigDecimal("0.10");
+    private static final BigDecimal TIP = new BigDecimal("12.50");
+
+    private final BigDecimal[] prices = new BigDecimal[ORDER_LINES];
+    private final Money[] moneyPrices = new Money[ORDER_LINES];
+    private final int[] quantities = new int[ORDER_LINES];
+
+    // Keeps the JIT from discarding the computed totals
+    private long sink;
+
+    @Test
+    @DisplayName("Money totals should match BigDecimal totals")
+    void benchmarkOrderTotals() {
+        for (int i = 0; i < ORDER_LINES; i++) {
+            prices[i] = new BigDecimal("7.95").add(BigDecimal.valueOf(i % 13, 1));
+            moneyPrices[i] = Money.of(prices[i]);
+            quantities[i] = 1 + i % 4;
+        }
+
+        assertThat(Money.of(bigDecimalTotal())).isEqualTo(moneyTotal());
+
+        long bigDecimal = measure(() -> sink += bigDecimalTotal().unscaledValue().longValue());
+        long money = measure(() -> sink += moneyTotal().getCents());
+
+        System.out.printf("Order totals, %d lines%n", ORDER_LINES);
+        System.out.printf("  BigDecimal: %,10d ns/op%n", bigDecimal);
+        System.out.printf("  Money:      %,10d ns/op%n", money);
+    }
+
+    private BigDecimal bigDecimalTotal() {
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (int i = 0; i < ORDER_LINES; i++) {
+            subtotal = subtotal.add(prices[i].multiply(new BigDecimal(quantities[i])));
+        }
+        BigDecimal tax = subtotal.multiply(TAX_RATE).setScale(2, RoundingMode.HALF_UP);
+        return subtotal.add(tax).add(TIP);
+    }
+
+    private Money moneyTotal() {
+        Money subtotal = Money.ZERO;
+        for (int i = 0; i < ORDER_LINES; i++) {
+            subtotal = subtotal.plus(moneyPrices[i].times(quantities[i]));
+        }
+        Money tax = subtotal.times(TAX_RATE);
+        return subtotal.plus(tax).plus(Money.of(TIP));
+    }
+
+    private long measure(Runnable operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            operation.run();
+        }
+        return (System.nanoTime() - start) / MEASURED_ITERATIONS;
+    }
+}
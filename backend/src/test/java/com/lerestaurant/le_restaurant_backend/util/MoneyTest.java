@@ -0,0 +1,103 @@
+package com.lerestaurant.le_restaurant_backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit Tests for Money and MoneyConverter
+ *
+ * Amounts are whole cents; decimals and rates round half up unless another
+ * rounding mode is given, and the column mapping keeps scale two.
+ *
+ * @author Le Restaurant Development Team
+ */
+@DisplayName("Money Tests")
+class MoneyTest {
+
+    @Test
+    @DisplayName("Test 1: Decimal amounts should round to cents half up")
+    void testDecimalAmountsRoundToCents() {
+        // Given
+        BigDecimal halfCent = new BigDecimal("0.005");
+
+        // When & Then
+        assertThat(Money.of(new BigDecimal("12.34")).getCents()).isEqualTo(1234);
+        assertThat(Money.of(new BigDecimal("12.5")).getCents()).isEqualTo(1250);
+        assertThat(Money.of(halfCent).getCents()).isEqualTo(1);
+        assertThat(Money.of(halfCent.negate()).getCents()).isEqualTo(-1);
+        assertThat(Money.of(halfCent, RoundingMode.DOWN)).isEqualTo(Money.ZERO);
+        assertThatThrownBy(() -> Money.of(halfCent, RoundingMode.UNNECESSARY))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("Test 2: Arithmetic should be exact in cents and reject overflow")
+    void testArithmeticIsExact() {
+        // Given
+        Money price = Money.of(new BigDecimal("14.99"));
+
+        // When
+        Money tripled = price.times(3);
+        Money adjusted = price.plus(Money.ofCents(1)).minus(Money.ofCents(100));
+
+        // Then
+        assertThat(tripled).isEqualTo(Money.ofCents(4497));
+        assertThat(adjusted).isEqualTo(Money.ofCents(1400));
+        assertThat(price.negate().signum()).isEqualTo(-1);
+        assertThatThrownBy(() -> Money.ofCents(Long.MAX_VALUE).plus(Money.ofCents(1)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("Test 3: Rates should round to cents half up unless told otherwise")
+    void testRatesRoundToCents() {
+        // Given
+        BigDecimal taxRate = new BigDecimal("0.10");
+
+        // When & Then
+        assertThat(Money.ofCents(725).times(taxRate)).isEqualTo(Money.ofCents(73));
+        assertThat(Money.ofCents(724).times(taxRate)).isEqualTo(Money.ofCents(72));
+        assertThat(Money.ofCents(725).times(taxRate, RoundingMode.DOWN)).isEqualTo(Money.ofCents(72));
+    }
+
+    @Test
+    @DisplayName("Test 4: Comparison with a decimal should ignore scale but not fractions of a cent")
+    void testDecimalComparisonIsExact() {
+        // Given
+        Money total = Money.ofCents(3300);
+
+        // When & Then
+        assertThat(total.isEqualTo(new BigDecimal("33.00"))).isTrue();
+        assertThat(total.isEqualTo(new BigDecimal("33"))).isTrue();
+        assertThat(total.isEqualTo(new BigDecimal("33.004"))).isFalse();
+        assertThat(total.isEqualTo(new BigDecimal("33.01"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test 5: The decimal view should always have scale two")
+    void testDecimalViewHasScaleTwo() {
+        // When & Then
+        assertThat(Money.ofCents(1050).toBigDecimal()).isEqualTo(new BigDecimal("10.50"));
+        assertThat(Money.ZERO.toBigDecimal()).isEqualTo(new BigDecimal("0.00"));
+        assertThat(Money.ofCents(-5).toString()).isEqualTo("-0.05");
+    }
+
+    @Test
+    @DisplayName("Test 6: The converter should map to a numeric column and pass nulls through")
+    void testConverterMapsToNumericColumn() {
+        // Given
+        MoneyConverter converter = new MoneyConverter();
+
+        // When & Then
+        assertThat(converter.convertToDatabaseColumn(Money.ofCents(999))).isEqualTo(new BigDecimal("9.99"));
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("9.99"))).isEqualTo(Money.ofCents(999));
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}